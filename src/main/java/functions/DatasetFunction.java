@@ -0,0 +1,64 @@
+package functions;
+
+import linear.linalg.Parallelism;
+import linear.matrix.Matrix;
+import linear.vector.Vector;
+
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
+
+/**
+ * Multivariate function which is the sum of an observation function over the rows of a data matrix,
+ * e.g. the least squares objective of a model fitted to a data set
+ * <p>
+ * Rows are passed to the observation function as views (see {@code Matrix.rowView}), so nothing is copied for
+ * dense and buffer matrices. Rows are summed in blocks of fixed size and block sums are added in order. If parallel
+ * execution is enabled (see {@code Parallelism}) blocks are summed in parallel, which gives the same value, so the
+ * observation function must then be safe to call from multiple threads.
+ */
+public class DatasetFunction implements MultivariateFunction {
+
+    private static final int BLOCK_ROWS = 4096;
+
+    private final Matrix data;
+    private final ObservationFunction function;
+
+    public DatasetFunction(Matrix data, ObservationFunction function) {
+        this.data = data;
+        this.function = function;
+    }
+
+    public Matrix getData() {
+        return data;
+    }
+
+    @Override
+    public double valueAt(Vector x) {
+        int rows = data.getRowDimension();
+        int blocks = (rows + BLOCK_ROWS - 1) / BLOCK_ROWS;
+        double[] sums = new double[blocks];
+
+        if (Parallelism.isEnabled() && blocks > 1 && (long) rows * data.getColumnDimension() >= Parallelism.getThreshold()) {
+            Parallelism.getPool().invoke(ForkJoinTask.adapt(() -> IntStream.range(0, blocks).parallel()
+                    .forEach(block -> sums[block] = sum(x, block))));
+        } else {
+            for (int block = 0; block < blocks; block++) {
+                sums[block] = sum(x, block);
+            }
+        }
+
+        double sum = 0.;
+        for (double blockSum : sums) {
+            sum += blockSum;
+        }
+        return sum;
+    }
+
+    private double sum(Vector x, int block) {
+        double sum = 0.;
+        for (int i = block * BLOCK_ROWS, last = Math.min(data.getRowDimension(), i + BLOCK_ROWS); i < last; i++) {
+            sum += function.valueAt(x, data.rowView(i));
+        }
+        return sum;
+    }
+}
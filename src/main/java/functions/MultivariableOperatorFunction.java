@@ -0,0 +1,20 @@
+package functions;
+
+import linear.operator.LinearOperator;
+import linear.vector.Vector;
+
+/**
+ * Represents a multivariate function which takes an n-dimensional vector as argument and returns a linear operator,
+ * such as the Hessian of a function given only through Hessian-vector products
+ */
+@FunctionalInterface
+public interface MultivariableOperatorFunction {
+
+    /**
+     * Calculates operator at given point
+     *
+     * @param x point
+     * @return operator
+     */
+    LinearOperator valueAt(Vector x);
+}
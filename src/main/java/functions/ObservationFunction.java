@@ -0,0 +1,20 @@
+package functions;
+
+import linear.vector.Vector;
+
+/**
+ * Represents a term of an objective which depends on a single observation, such as the squared residual
+ * of a model at one data point
+ */
+@FunctionalInterface
+public interface ObservationFunction {
+
+    /**
+     * Calculates value at given point for given observation
+     *
+     * @param x           point
+     * @param observation observation (row of a data matrix)
+     * @return real number in double precision
+     */
+    double valueAt(Vector x, Vector observation);
+}
@@ -1,10 +1,14 @@
 package linear;
 
+import linear.matrix.BandMatrix;
+import linear.matrix.DenseMatrix;
+import linear.matrix.DiagonalMatrix;
 import linear.matrix.Matrix;
-import linear.matrix.ArrayMatrix;
+import linear.matrix.SymmetricPackedMatrix;
 import linear.linalg.LinearAlgebra;
 import linear.linalg.Mutability;
 
+import java.util.Arrays;
 import java.util.function.DoubleSupplier;
 
 /**
@@ -30,11 +34,11 @@ public class Matrices {
      * @return new empty matrix
      */
     public static Matrix empty(int rows, int columns) {
-        return new ArrayMatrix(rows, columns);
+        return new DenseMatrix(rows, columns);
     }
 
     /**
-     * Builds a new identity matrix
+     * Builds a new identity matrix, only the diagonal is stored
      *
      * @param dimension dimension of new matrix
      * @return new identity matrix
@@ -44,17 +48,16 @@ public class Matrices {
     }
 
     /**
-     * Builds a new diagonal matrix
+     * Builds a new diagonal matrix, only the diagonal is stored
      *
      * @param dimension dimension of new matrix
-     * @return new identity matrix
+     * @param value     value of diagonal elements
+     * @return new diagonal matrix
      */
     public static Matrix diagonal(int dimension, double value) {
-        Matrix matrix = empty(dimension);
-        for (int i = 0; i < dimension; i++) {
-            matrix.set(i, i, value);
-        }
-        return matrix;
+        double[] diagonal = new double[dimension];
+        Arrays.fill(diagonal, value);
+        return new DiagonalMatrix(diagonal);
     }
 
     /**
@@ -122,4 +125,26 @@ public class Matrices {
         }
         return true;
     }
+
+    /**
+     * Tests if given matrix is symmetric
+     *
+     * @param matrix matrix to be tested
+     * @return true if matrix is symmetric, else otherwise
+     */
+    public static boolean isSymmetricMatrix(Matrix matrix) {
+        if (matrix instanceof SymmetricPackedMatrix) return true;
+        if (!isSquareMatrix(matrix)) return false;
+
+        // elements outside of a band are zero, so only the band is compared
+        int bandwidth = (matrix instanceof BandMatrix band)
+                ? Math.max(band.getLowerBandwidth(), band.getUpperBandwidth())
+                : matrix.getRowDimension();
+        for (int i = 0, n = matrix.getRowDimension(); i < n; i++) {
+            for (int j = Math.max(0, i - bandwidth); j < i; j++) {
+                if (Math.abs(matrix.get(i, j) - matrix.get(j, i)) > LinearAlgebra.EPSILON) return false;
+            }
+        }
+        return true;
+    }
 }
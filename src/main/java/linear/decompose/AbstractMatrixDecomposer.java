@@ -1,18 +1,41 @@
 package linear.decompose;
 
+import linear.matrix.BandMatrix;
+import linear.matrix.DenseMatrix;
 import linear.matrix.Matrix;
+import linear.matrix.OffHeapMatrix;
+import linear.matrix.SymmetricPackedMatrix;
 
 /**
  * Abstract class implementing the IMatrixDecomposer interface
  */
 public abstract class AbstractMatrixDecomposer implements MatrixDecomposer {
 
+    private static final long MAX_DENSE_ELEMENTS = Integer.MAX_VALUE - 8;
+
     protected final Matrix matrix;
 
     public AbstractMatrixDecomposer(Matrix matrix) {
         if (!isApplicable(matrix))
             throw new IllegalArgumentException("Given matrix is not applicable for this decomposition");
 
-        this.matrix = matrix.copy();
+        this.matrix = workingCopy(matrix);
+    }
+
+    /**
+     * Copies the given matrix into the matrix which is decomposed in place, this is called from the constructor
+     * <p>
+     * Structured matrices keep their compact storage. All other matrices, off-heap ones included, are copied into
+     * a dense matrix, so the decomposition runs the array kernels instead of element accessors. Only an off-heap
+     * matrix too large for a single array is copied within its own arena.
+     *
+     * @param matrix matrix to be decomposed
+     * @return working copy
+     */
+    protected Matrix workingCopy(Matrix matrix) {
+        if (matrix instanceof BandMatrix || matrix instanceof SymmetricPackedMatrix) return matrix.copy();
+        if (matrix instanceof OffHeapMatrix && (long) matrix.getRowDimension() * matrix.getColumnDimension() > MAX_DENSE_ELEMENTS)
+            return matrix.copy();
+        return DenseMatrix.copyOf(matrix);
     }
 }
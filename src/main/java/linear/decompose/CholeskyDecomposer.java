@@ -0,0 +1,291 @@
+package linear.decompose;
+
+import linear.Matrices;
+import linear.exceptions.DimensionMismatchException;
+import linear.exceptions.NonPositiveDefiniteMatrixException;
+import linear.matrix.BandMatrix;
+import linear.matrix.DenseMatrix;
+import linear.matrix.Matrix;
+import linear.vector.Vector;
+
+/**
+ * Implementation of Cholesky decomposition (A = L * L^T) of a symmetric positive definite matrix
+ * <p>
+ * Only the lower triangle of the matrix is read, the factor L overwrites it in place. Decomposition fails with
+ * {@code NonPositiveDefiniteMatrixException} as soon as a non-positive pivot is encountered, so it can also be used
+ * as a cheap test of positive definiteness.
+ * <p>
+ * Band (including diagonal) matrices are factored inside their band in O(n * b^2), and symmetric packed matrices
+ * in their packed storage, so neither is ever expanded into a dense matrix.
+ */
+public class CholeskyDecomposer extends AbstractMatrixDecomposer {
+
+    private static final int BLOCK_SIZE = 64;
+
+    private Matrix L;
+    private final int dimension;
+
+    public CholeskyDecomposer(Matrix matrix) {
+        super(matrix);
+        dimension = matrix.getRowDimension();
+        decompose();
+    }
+
+    @Override
+    public boolean isApplicable(Matrix matrix) {
+        return Matrices.isSymmetricMatrix(matrix);
+    }
+
+    /**
+     * Performs Cholesky decomposition, for a band matrix the factor stays inside the lower band
+     */
+    private void decompose() {
+        if (matrix instanceof DenseMatrix dense) {
+            decompose(dense);
+            return;
+        }
+
+        int bandwidth = bandwidth(matrix);
+        for (int j = 0; j < dimension; j++) {
+            int first = Math.max(0, j - bandwidth);
+            double pivot = matrix.get(j, j);
+            for (int p = first; p < j; p++) {
+                pivot -= matrix.get(j, p) * matrix.get(j, p);
+            }
+            if (!(pivot > 0.)) throw new NonPositiveDefiniteMatrixException();
+
+            double diagonal = Math.sqrt(pivot);
+            matrix.set(j, j, diagonal);
+
+            for (int i = j + 1, last = Math.min(dimension, j + bandwidth + 1); i < last; i++) {
+                double sum = matrix.get(i, j);
+                for (int p = Math.max(first, i - bandwidth); p < j; p++) {
+                    sum -= matrix.get(i, p) * matrix.get(j, p);
+                }
+                matrix.set(i, j, sum / diagonal);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of diagonals below the main diagonal which can hold non-zero elements of the factor
+     */
+    private static int bandwidth(Matrix matrix) {
+        return (matrix instanceof BandMatrix band) ? band.getLowerBandwidth() : matrix.getRowDimension();
+    }
+
+    /**
+     * Performs blocked Cholesky decomposition directly on the underlying array of a dense matrix
+     * <p>
+     * For every block of columns, the block column is factored using only updates from within the block,
+     * after which the trailing lower triangle is updated with the whole block at once, so inner loops run
+     * over contiguous row segments.
+     *
+     * @param l matrix to be decomposed in place
+     */
+    private void decompose(DenseMatrix l) {
+        double[] a = l.getData();
+        int offset = l.getOffset();
+        int stride = l.getStride();
+        int n = dimension;
+
+        for (int k = 0; k < n; k += BLOCK_SIZE) {
+            int end = Math.min(k + BLOCK_SIZE, n);
+
+            for (int j = k; j < end; j++) {
+                int rowJ = offset + j * stride;
+
+                double pivot = a[rowJ + j];
+                for (int p = k; p < j; p++) {
+                    pivot -= a[rowJ + p] * a[rowJ + p];
+                }
+                if (!(pivot > 0.)) throw new NonPositiveDefiniteMatrixException();
+
+                double diagonal = Math.sqrt(pivot);
+                a[rowJ + j] = diagonal;
+
+                for (int i = j + 1; i < n; i++) {
+                    int rowI = offset + i * stride;
+                    double sum = a[rowI + j];
+                    for (int p = k; p < j; p++) {
+                        sum -= a[rowI + p] * a[rowJ + p];
+                    }
+                    a[rowI + j] = sum / diagonal;
+                }
+            }
+
+            for (int i = end; i < n; i++) {
+                int rowI = offset + i * stride;
+                for (int j = end; j <= i; j++) {
+                    int rowJ = offset + j * stride;
+                    double sum = 0.;
+                    for (int p = k; p < end; p++) {
+                        sum += a[rowI + p] * a[rowJ + p];
+                    }
+                    a[rowI + j] -= sum;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the cached L matrix
+     *
+     * @return L matrix
+     */
+    public Matrix getL() {
+        if (L != null) return L;
+
+        L = Matrices.empty(dimension);
+        for (int i = 0; i < dimension; i++) {
+            for (int j = 0; j <= i; j++) {
+                L.set(i, j, matrix.get(i, j));
+            }
+        }
+        return L;
+    }
+
+    /**
+     * Updates the decomposition in place to the decomposition of A + u * u^T in O(n^2),
+     * solvers obtained from this decomposer observe the update
+     *
+     * @param u update vector
+     */
+    public void update(Vector u) {
+        if (u.getDimension() != dimension) throw new DimensionMismatchException(u.getDimension(), dimension);
+        if (matrix instanceof BandMatrix)
+            throw new UnsupportedOperationException("Rank-one change of a band factor would fill in the band");
+
+        double[] x = new double[dimension];
+        for (int i = 0; i < dimension; i++) {
+            x[i] = u.get(i);
+        }
+
+        for (int k = 0; k < dimension; k++) {
+            double lkk = matrix.get(k, k);
+            double r = Math.hypot(lkk, x[k]);
+            double c = r / lkk;
+            double s = x[k] / lkk;
+            matrix.set(k, k, r);
+
+            for (int i = k + 1; i < dimension; i++) {
+                double lik = (matrix.get(i, k) + s * x[i]) / c;
+                matrix.set(i, k, lik);
+                x[i] = c * x[i] - s * lik;
+            }
+        }
+        L = null;
+    }
+
+    /**
+     * Updates the decomposition in place to the decomposition of A - u * u^T in O(n^2),
+     * solvers obtained from this decomposer observe the update
+     * <p>
+     * Positive definiteness of the result is tested before the factor is modified, so the decomposition
+     * stays valid if {@code NonPositiveDefiniteMatrixException} is thrown.
+     *
+     * @param u downdate vector
+     */
+    public void downdate(Vector u) {
+        if (u.getDimension() != dimension) throw new DimensionMismatchException(u.getDimension(), dimension);
+        if (matrix instanceof BandMatrix)
+            throw new UnsupportedOperationException("Rank-one change of a band factor would fill in the band");
+
+        // A - u * u^T is positive definite if and only if ||p|| < 1, where L * p = u
+        double[] x = new double[dimension];
+        double norm = 0.;
+        for (int i = 0; i < dimension; i++) {
+            double sum = u.get(i);
+            for (int p = 0; p < i; p++) {
+                sum -= matrix.get(i, p) * x[p];
+            }
+            x[i] = sum / matrix.get(i, i);
+            norm += x[i] * x[i];
+        }
+        if (!(norm < 1.)) throw new NonPositiveDefiniteMatrixException();
+
+        for (int i = 0; i < dimension; i++) {
+            x[i] = u.get(i);
+        }
+
+        for (int k = 0; k < dimension; k++) {
+            double lkk = matrix.get(k, k);
+            double r = Math.sqrt((lkk - x[k]) * (lkk + x[k]));
+            if (!(r > 0.)) throw new NonPositiveDefiniteMatrixException();
+
+            double c = r / lkk;
+            double s = x[k] / lkk;
+            matrix.set(k, k, r);
+
+            for (int i = k + 1; i < dimension; i++) {
+                double lik = (matrix.get(i, k) - s * x[i]) / c;
+                matrix.set(i, k, lik);
+                x[i] = c * x[i] - s * lik;
+            }
+        }
+        L = null;
+    }
+
+    @Override
+    public double getDeterminant() {
+        double det = 1.;
+        for (int i = 0; i < dimension; i++) {
+            double diagonal = matrix.get(i, i);
+            det *= diagonal * diagonal;
+        }
+        return det;
+    }
+
+    @Override
+    public LinearEquationSolver solver() {
+        return new CholeskySolver(matrix, dimension, bandwidth(matrix));
+    }
+
+    /**
+     * Private static class implementing the LinearEquationSolver interface by using Cholesky decomposition
+     */
+    private static class CholeskySolver implements LinearEquationSolver {
+
+        private final Matrix L;
+        private final int n;
+        private final int bandwidth;
+
+        public CholeskySolver(Matrix L, int n, int bandwidth) {
+            this.L = L;
+            this.n = n;
+            this.bandwidth = bandwidth;
+        }
+
+        @Override
+        public Vector solve(Vector b) {
+            if (b.getDimension() != n) throw new DimensionMismatchException(b.getDimension(), n);
+
+            double[] x = new double[n];
+            for (int i = 0; i < n; i++) {
+                double sum = b.get(i);
+                for (int p = Math.max(0, i - bandwidth); p < i; p++) {
+                    sum -= L.get(i, p) * x[p];
+                }
+                x[i] = sum / L.get(i, i);
+            }
+            for (int i = n - 1; i >= 0; i--) {
+                double sum = x[i];
+                for (int p = i + 1, last = Math.min(n, i + bandwidth + 1); p < last; p++) {
+                    sum -= L.get(p, i) * x[p];
+                }
+                x[i] = sum / L.get(i, i);
+            }
+
+            Vector result = b.copy();
+            for (int i = 0; i < n; i++) {
+                result.set(i, x[i]);
+            }
+            return result;
+        }
+
+        @Override
+        public Matrix invert() {
+            return solve(Matrices.identity(n));
+        }
+    }
+}
@@ -0,0 +1,407 @@
+package linear.decompose;
+
+import linear.Matrices;
+import linear.Vectors;
+import linear.exceptions.DimensionMismatchException;
+import linear.exceptions.NonConvergenceException;
+import linear.exceptions.SingularMatrixException;
+import linear.linalg.LinearAlgebra;
+import linear.matrix.DenseMatrix;
+import linear.matrix.DiagonalMatrix;
+import linear.matrix.Matrix;
+import linear.vector.Vector;
+
+import java.util.Arrays;
+
+/**
+ * Implementation of eigendecomposition (A = V * D * V^T) of a symmetric matrix
+ * <p>
+ * The matrix is reduced to tridiagonal form by Householder reflections, after which the tridiagonal matrix is
+ * diagonalized by the implicit QL algorithm with Wilkinson shifts. Eigenvalues are sorted in ascending order.
+ * <p>
+ * Decomposition works on the flat array of a dense copy of the matrix, which holds V^T: every eigenvector is a
+ * contiguous row, so both the accumulation of reflections and the plane rotations of the QL sweeps run over
+ * contiguous memory. When only eigenvalues are requested the reflections are not accumulated and rotations are
+ * not applied, which leaves only the reduction as O(n^3) work.
+ */
+public class EigenDecomposer extends AbstractMatrixDecomposer {
+
+    /**
+     * Limit of QL sweeps per eigenvalue, on average
+     */
+    private static final int MAX_SWEEPS = 30;
+
+    private final double[] eigenvalues;
+    private final boolean hasEigenvectors;
+    private final int dimension;
+
+    public EigenDecomposer(Matrix matrix) {
+        this(matrix, true);
+    }
+
+    /**
+     * @param matrix              symmetric matrix
+     * @param computeEigenvectors whether eigenvectors should be computed, if not only eigenvalues are available
+     */
+    public EigenDecomposer(Matrix matrix, boolean computeEigenvectors) {
+        super(matrix);
+        dimension = matrix.getRowDimension();
+        eigenvalues = new double[dimension];
+        hasEigenvectors = computeEigenvectors;
+        decompose();
+    }
+
+    @Override
+    public boolean isApplicable(Matrix matrix) {
+        return Matrices.isSymmetricMatrix(matrix);
+    }
+
+    /**
+     * Every matrix is copied into a compact dense matrix, whose array is worked on directly
+     */
+    @Override
+    protected Matrix workingCopy(Matrix matrix) {
+        return DenseMatrix.copyOf(matrix);
+    }
+
+    /**
+     * Performs eigendecomposition
+     */
+    private void decompose() {
+        if (dimension == 0) return;
+
+        double[] a = ((DenseMatrix) matrix).getData();
+        double[] e = new double[dimension];
+        tridiagonalize(a, eigenvalues, e);
+        diagonalize(a, eigenvalues, e);
+    }
+
+    /**
+     * Reduces the matrix to symmetric tridiagonal form by Householder reflections, accumulating the reflections
+     * if eigenvectors are computed (Householder tridiagonalization as in EISPACK tred2)
+     * <p>
+     * Element [r, c] of V is kept at index {@code c * n + r}, so the loops over rows of V run over contiguous
+     * memory. The matrix is symmetric, so initially this is the matrix itself.
+     *
+     * @param a array of the matrix, overwritten by V^T
+     * @param d diagonal of the tridiagonal matrix
+     * @param e subdiagonal of the tridiagonal matrix, element i couples elements i - 1 and i
+     */
+    private void tridiagonalize(double[] a, double[] d, double[] e) {
+        int n = dimension;
+
+        for (int j = 0; j < n; j++) {
+            d[j] = a[j * n + n - 1];
+        }
+
+        for (int i = n - 1; i > 0; i--) {
+            double scale = 0.;
+            double h = 0.;
+            for (int k = 0; k < i; k++) {
+                scale += Math.abs(d[k]);
+            }
+
+            if (scale == 0.) {
+                e[i] = d[i - 1];
+                for (int j = 0; j < i; j++) {
+                    d[j] = a[j * n + i - 1];
+                    a[j * n + i] = 0.;
+                    a[i * n + j] = 0.;
+                }
+            } else {
+                for (int k = 0; k < i; k++) {
+                    d[k] /= scale;
+                    h += d[k] * d[k];
+                }
+                double f = d[i - 1];
+                double g = Math.sqrt(h);
+                if (f > 0) g = -g;
+                e[i] = scale * g;
+                h -= f * g;
+                d[i - 1] = f - g;
+                Arrays.fill(e, 0, i, 0.);
+
+                for (int j = 0; j < i; j++) {
+                    int column = j * n;
+                    f = d[j];
+                    a[i * n + j] = f;
+                    g = e[j] + a[column + j] * f;
+                    for (int k = j + 1; k < i; k++) {
+                        g += a[column + k] * d[k];
+                        e[k] += a[column + k] * f;
+                    }
+                    e[j] = g;
+                }
+
+                f = 0.;
+                for (int j = 0; j < i; j++) {
+                    e[j] /= h;
+                    f += e[j] * d[j];
+                }
+                double hh = f / (h + h);
+                for (int j = 0; j < i; j++) {
+                    e[j] -= hh * d[j];
+                }
+
+                for (int j = 0; j < i; j++) {
+                    int column = j * n;
+                    f = d[j];
+                    g = e[j];
+                    for (int k = j; k < i; k++) {
+                        a[column + k] -= f * e[k] + g * d[k];
+                    }
+                    d[j] = a[column + i - 1];
+                    a[column + i] = 0.;
+                }
+            }
+            d[i] = h;
+        }
+
+        if (!hasEigenvectors) {
+            for (int j = 0; j < n; j++) {
+                d[j] = a[j * n + j];
+            }
+            e[0] = 0.;
+            return;
+        }
+
+        for (int i = 0; i < n - 1; i++) {
+            int column = i * n;
+            int next = column + n;
+            a[column + n - 1] = a[column + i];
+            a[column + i] = 1.;
+            double h = d[i + 1];
+            if (h != 0.) {
+                for (int k = 0; k <= i; k++) {
+                    d[k] = a[next + k] / h;
+                }
+                for (int j = 0; j <= i; j++) {
+                    int other = j * n;
+                    double g = 0.;
+                    for (int k = 0; k <= i; k++) {
+                        g += a[next + k] * a[other + k];
+                    }
+                    for (int k = 0; k <= i; k++) {
+                        a[other + k] -= g * d[k];
+                    }
+                }
+            }
+            Arrays.fill(a, next, next + i + 1, 0.);
+        }
+        for (int j = 0; j < n; j++) {
+            d[j] = a[j * n + n - 1];
+            a[j * n + n - 1] = 0.;
+        }
+        a[n * n - 1] = 1.;
+        e[0] = 0.;
+    }
+
+    /**
+     * Diagonalizes the symmetric tridiagonal matrix by the implicit QL algorithm (as in EISPACK tql2),
+     * rotating the rows of V^T if eigenvectors are computed, and sorts the eigenvalues
+     *
+     * @param a V^T
+     * @param d diagonal, overwritten by eigenvalues
+     * @param e subdiagonal, destroyed
+     */
+    private void diagonalize(double[] a, double[] d, double[] e) {
+        int n = dimension;
+        System.arraycopy(e, 1, e, 0, n - 1);
+        e[n - 1] = 0.;
+
+        double eps = Math.ulp(1.);
+        double f = 0.;
+        double tst1 = 0.;
+        int sweeps = 0;
+        for (int l = 0; l < n; l++) {
+            tst1 = Math.max(tst1, Math.abs(d[l]) + Math.abs(e[l]));
+            int m = l;
+            while (m < n - 1 && Math.abs(e[m]) > eps * tst1) {
+                m++;
+            }
+
+            if (m > l) {
+                do {
+                    if (++sweeps > MAX_SWEEPS * n) throw new NonConvergenceException(sweeps, Math.abs(e[l]) / tst1);
+
+                    double g = d[l];
+                    double p = (d[l + 1] - g) / (2. * e[l]);
+                    double r = Math.hypot(p, 1.);
+                    if (p < 0) r = -r;
+                    d[l] = e[l] / (p + r);
+                    d[l + 1] = e[l] * (p + r);
+                    double dl1 = d[l + 1];
+                    double h = g - d[l];
+                    for (int i = l + 2; i < n; i++) {
+                        d[i] -= h;
+                    }
+                    f += h;
+
+                    p = d[m];
+                    double c = 1.;
+                    double c2 = c;
+                    double c3 = c;
+                    double el1 = e[l + 1];
+                    double s = 0.;
+                    double s2 = 0.;
+                    for (int i = m - 1; i >= l; i--) {
+                        c3 = c2;
+                        c2 = c;
+                        s2 = s;
+                        g = c * e[i];
+                        h = c * p;
+                        r = Math.hypot(p, e[i]);
+                        e[i + 1] = s * r;
+                        s = e[i] / r;
+                        c = p / r;
+                        p = c * d[i] - s * g;
+                        d[i + 1] = h + s * (c * g + s * d[i]);
+
+                        if (hasEigenvectors) rotate(a, i * n, i * n + n, c, s);
+                    }
+                    p = -s * s2 * c3 * el1 * e[l] / dl1;
+                    e[l] = s * p;
+                    d[l] = c * p;
+                } while (Math.abs(e[l]) > eps * tst1);
+            }
+            d[l] += f;
+            e[l] = 0.;
+        }
+
+        for (int i = 0; i < n - 1; i++) {
+            int k = i;
+            for (int j = i + 1; j < n; j++) {
+                if (d[j] < d[k]) k = j;
+            }
+            if (k == i) continue;
+
+            double temp = d[k];
+            d[k] = d[i];
+            d[i] = temp;
+            if (hasEigenvectors) {
+                for (int j = 0, first = i * n, second = k * n; j < n; j++) {
+                    temp = a[first + j];
+                    a[first + j] = a[second + j];
+                    a[second + j] = temp;
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies a plane rotation to two rows of V^T
+     */
+    private void rotate(double[] a, int first, int second, double c, double s) {
+        for (int k = 0; k < dimension; k++) {
+            double h = a[second + k];
+            a[second + k] = s * a[first + k] + c * h;
+            a[first + k] = c * a[first + k] - s * h;
+        }
+    }
+
+    /**
+     * Tests whether eigenvectors were computed
+     *
+     * @return true if eigenvectors are available, false if only eigenvalues are
+     */
+    public boolean hasEigenvectors() {
+        return hasEigenvectors;
+    }
+
+    /**
+     * Gets the eigenvalues in ascending order
+     *
+     * @return new vector of eigenvalues
+     */
+    public Vector getEigenvalues() {
+        return Vectors.asVector(Arrays.copyOf(eigenvalues, dimension));
+    }
+
+    /**
+     * Gets the diagonal matrix D of eigenvalues in ascending order
+     *
+     * @return new diagonal matrix
+     */
+    public DiagonalMatrix getD() {
+        return new DiagonalMatrix(Arrays.copyOf(eigenvalues, dimension));
+    }
+
+    /**
+     * Gets the orthogonal matrix V whose columns are the eigenvectors, in the order of eigenvalues
+     * <p>
+     * This is a transposed view of the decomposed array, so it is not copied.
+     *
+     * @return V matrix
+     */
+    public Matrix getV() {
+        checkEigenvectors();
+        return matrix.transpose();
+    }
+
+    private void checkEigenvectors() {
+        if (!hasEigenvectors) throw new IllegalStateException("Eigenvectors were not computed");
+    }
+
+    @Override
+    public double getDeterminant() {
+        double det = 1.;
+        for (double eigenvalue : eigenvalues) {
+            det *= eigenvalue;
+        }
+        return det;
+    }
+
+    @Override
+    public LinearEquationSolver solver() {
+        checkEigenvectors();
+        return new EigenSolver(((DenseMatrix) matrix).getData(), eigenvalues, dimension);
+    }
+
+    /**
+     * Private static class implementing the LinearEquationSolver interface by using eigendecomposition,
+     * x = V * D^-1 * V^T * b
+     */
+    private static class EigenSolver implements LinearEquationSolver {
+
+        private final double[] vt;
+        private final double[] eigenvalues;
+        private final int n;
+
+        public EigenSolver(double[] vt, double[] eigenvalues, int n) {
+            this.vt = vt;
+            this.eigenvalues = eigenvalues;
+            this.n = n;
+        }
+
+        @Override
+        public Vector solve(Vector b) {
+            if (b.getDimension() != n) throw new DimensionMismatchException(b.getDimension(), n);
+
+            double[] y = new double[n];
+            for (int i = 0; i < n; i++) {
+                y[i] = b.get(i);
+            }
+
+            double[] x = new double[n];
+            for (int j = 0; j < n; j++) {
+                if (Math.abs(eigenvalues[j]) < LinearAlgebra.EPSILON) throw new SingularMatrixException();
+
+                int row = j * n;
+                double sum = 0.;
+                for (int k = 0; k < n; k++) {
+                    sum += vt[row + k] * y[k];
+                }
+                sum /= eigenvalues[j];
+                for (int k = 0; k < n; k++) {
+                    x[k] += sum * vt[row + k];
+                }
+            }
+            return Vectors.asVector(x);
+        }
+
+        @Override
+        public Matrix invert() {
+            return solve(Matrices.identity(n));
+        }
+    }
+}
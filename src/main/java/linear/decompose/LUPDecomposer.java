@@ -2,9 +2,13 @@ package linear.decompose;
 
 import linear.Matrices;
 import linear.Vectors;
+import linear.exceptions.DimensionMismatchException;
 import linear.exceptions.SingularMatrixException;
 import linear.linalg.LinearAlgebra;
+import linear.matrix.BandMatrix;
+import linear.matrix.DenseMatrix;
 import linear.matrix.Matrix;
+import linear.matrix.SymmetricPackedMatrix;
 import linear.vector.Vector;
 
 
@@ -13,9 +17,20 @@ import linear.vector.Vector;
  */
 public class LUPDecomposer extends AbstractMatrixDecomposer {
 
+    /**
+     * Dimension from which dense matrices are decomposed by the blocked algorithm
+     */
+    private static final int BLOCKED_THRESHOLD = 128;
+
+    /**
+     * Number of columns in one panel of the blocked algorithm
+     */
+    private static final int BLOCK_SIZE = 64;
+
     private Matrix L;
     private Matrix U;
     private Vector P;
+    private int[] interchanges;
     private boolean isSwapCountEven = true;
     private final int dimension;
 
@@ -30,12 +45,41 @@ public class LUPDecomposer extends AbstractMatrixDecomposer {
         return Matrices.isSquareMatrix(matrix);
     }
 
+    /**
+     * Band matrices are copied with the upper band widened by the lower bandwidth, which makes room for the
+     * fill-in caused by row interchanges. Symmetric packed matrices are copied into a dense matrix, since row
+     * interchanges do not preserve symmetry.
+     */
+    @Override
+    protected Matrix workingCopy(Matrix matrix) {
+        if (matrix instanceof BandMatrix band) {
+            int lower = band.getLowerBandwidth();
+            int upper = Math.min(Math.max(0, band.getRowDimension() - 1), lower + band.getUpperBandwidth());
+            return band.copy(lower, Math.max(upper, band.getUpperBandwidth()));
+        }
+        if (matrix instanceof SymmetricPackedMatrix) return DenseMatrix.copyOf(matrix);
+        return super.workingCopy(matrix);
+    }
+
     /**
      * Performs LUP decomposition
      */
     private void decompose() {
         P = Vectors.range(0, dimension);
 
+        if (matrix instanceof DenseMatrix dense) {
+            if (dimension >= BLOCKED_THRESHOLD) {
+                decomposeBlocked(dense);
+            } else {
+                decompose(dense);
+            }
+            return;
+        }
+        if (matrix instanceof BandMatrix band) {
+            decompose(band);
+            return;
+        }
+
         for (int i = 0, n = dimension - 1; i < n; i++) {
             int pivot = i;
             for (int j = i + 1, m = n + 1; j < m; j++) {
@@ -61,6 +105,178 @@ public class LUPDecomposer extends AbstractMatrixDecomposer {
         }
     }
 
+    /**
+     * Performs LUP decomposition directly on the underlying array of a dense matrix
+     *
+     * @param lu matrix to be decomposed in place
+     */
+    private void decompose(DenseMatrix lu) {
+        double[] a = lu.getData();
+        int offset = lu.getOffset();
+        int stride = lu.getStride();
+
+        for (int i = 0, n = dimension - 1; i < n; i++) {
+            int pivot = i;
+            double max = Math.abs(a[offset + i * stride + i]);
+            for (int j = i + 1; j <= n; j++) {
+                double value = Math.abs(a[offset + j * stride + i]);
+                if (value > max) {
+                    max = value;
+                    pivot = j;
+                }
+            }
+
+            if (pivot != i) {
+                P.swap(i, pivot);
+                lu.swapRows(i, pivot);
+                isSwapCountEven = !isSwapCountEven;
+            }
+
+            int rowI = offset + i * stride;
+            double diagonal = a[rowI + i];
+            if (Math.abs(diagonal) < LinearAlgebra.EPSILON) throw new SingularMatrixException();
+
+            for (int j = i + 1; j <= n; j++) {
+                int rowJ = offset + j * stride;
+                double factor = a[rowJ + i] /= diagonal;
+                if (factor == 0.) continue;
+
+                for (int k = i + 1; k <= n; k++) {
+                    a[rowJ + k] -= factor * a[rowI + k];
+                }
+            }
+        }
+    }
+
+    /**
+     * Performs right-looking blocked LUP decomposition directly on the underlying array of a dense matrix
+     * <p>
+     * Every panel of columns is factored with partial pivoting, the rows to its right are solved against its
+     * unit lower triangle, and the trailing submatrix receives the whole rank-k update in a single matrix
+     * multiply-accumulate, which is cache blocked and runs in parallel when {@code Parallelism} is enabled.
+     *
+     * @param lu matrix to be decomposed in place
+     */
+    private void decomposeBlocked(DenseMatrix lu) {
+        double[] a = lu.getData();
+        int offset = lu.getOffset();
+        int stride = lu.getStride();
+        int n = dimension;
+
+        for (int k = 0; k < n; k += BLOCK_SIZE) {
+            int end = Math.min(k + BLOCK_SIZE, n);
+
+            for (int i = k; i < end; i++) {
+                int pivot = i;
+                double max = Math.abs(a[offset + i * stride + i]);
+                for (int j = i + 1, index = offset + j * stride + i; j < n; j++, index += stride) {
+                    double value = Math.abs(a[index]);
+                    if (value > max) {
+                        max = value;
+                        pivot = j;
+                    }
+                }
+
+                if (pivot != i) {
+                    P.swap(i, pivot);
+                    lu.swapRows(i, pivot);
+                    isSwapCountEven = !isSwapCountEven;
+                }
+
+                int rowI = offset + i * stride;
+                double diagonal = a[rowI + i];
+                if (i < n - 1 && Math.abs(diagonal) < LinearAlgebra.EPSILON) throw new SingularMatrixException();
+
+                for (int j = i + 1; j < n; j++) {
+                    int rowJ = offset + j * stride;
+                    double factor = a[rowJ + i] /= diagonal;
+                    if (factor == 0.) continue;
+
+                    for (int c = i + 1; c < end; c++) {
+                        a[rowJ + c] -= factor * a[rowI + c];
+                    }
+                }
+            }
+            if (end == n) break;
+
+            for (int i = k; i < end; i++) {
+                int rowI = offset + i * stride;
+                for (int j = i + 1; j < end; j++) {
+                    int rowJ = offset + j * stride;
+                    double factor = a[rowJ + i];
+                    if (factor == 0.) continue;
+
+                    for (int c = end; c < n; c++) {
+                        a[rowJ + c] -= factor * a[rowI + c];
+                    }
+                }
+            }
+
+            int trailing = n - end;
+            int size = end - k;
+            LinearAlgebra.multiplyAdd(
+                    new DenseMatrix(trailing, size, a, lu.index(end, k), stride),
+                    new DenseMatrix(size, trailing, a, lu.index(k, end), stride),
+                    -1.,
+                    new DenseMatrix(trailing, trailing, a, lu.index(end, end), stride));
+        }
+    }
+
+    /**
+     * Performs LUP decomposition of a band matrix within its band, in O(n * lower * upper)
+     * <p>
+     * Only the part of a row inside the band is interchanged, so multipliers of earlier columns stay in place
+     * and the interchange made at every step is recorded, as they have to be replayed in the same order when solving.
+     *
+     * @param lu band matrix to be decomposed in place, with the upper band widened for fill-in
+     */
+    private void decompose(BandMatrix lu) {
+        double[] a = lu.getData();
+        int lower = lu.getLowerBandwidth();
+        int upper = lu.getUpperBandwidth();
+        interchanges = new int[dimension];
+
+        for (int i = 0; i < dimension; i++) {
+            int last = Math.min(dimension - 1, i + lower);
+            int end = Math.min(dimension - 1, i + upper);
+
+            int pivot = i;
+            double max = Math.abs(a[lu.index(i, i)]);
+            for (int j = i + 1; j <= last; j++) {
+                double value = Math.abs(a[lu.index(j, i)]);
+                if (value > max) {
+                    max = value;
+                    pivot = j;
+                }
+            }
+
+            interchanges[i] = pivot;
+            if (pivot != i) {
+                P.swap(i, pivot);
+                for (int k = i; k <= end; k++) {
+                    int first = lu.index(i, k);
+                    int second = lu.index(pivot, k);
+                    double temp = a[first];
+                    a[first] = a[second];
+                    a[second] = temp;
+                }
+                isSwapCountEven = !isSwapCountEven;
+            }
+
+            double diagonal = a[lu.index(i, i)];
+            if (i < dimension - 1 && Math.abs(diagonal) < LinearAlgebra.EPSILON) throw new SingularMatrixException();
+
+            for (int j = i + 1; j <= last; j++) {
+                double factor = a[lu.index(j, i)] /= diagonal;
+                if (factor == 0.) continue;
+
+                for (int k = i + 1, rowJ = lu.index(j, k), rowI = lu.index(i, k); k <= end; k++) {
+                    a[rowJ++] -= factor * a[rowI++];
+                }
+            }
+        }
+    }
+
     /**
      * Gets the cached L matrix
      *
@@ -70,6 +286,20 @@ public class LUPDecomposer extends AbstractMatrixDecomposer {
         if (L != null) return L;
 
         L = Matrices.empty(dimension);
+        if (matrix instanceof BandMatrix band) {
+            // multipliers of a band decomposition are moved by the interchanges made after their column
+            for (int i = 0; i < dimension; i++) {
+                L.swapRows(i, interchanges[i]);
+                for (int j = i + 1, last = Math.min(dimension, i + band.getLowerBandwidth() + 1); j < last; j++) {
+                    L.set(j, i, matrix.get(j, i));
+                }
+            }
+            for (int i = 0; i < dimension; i++) {
+                L.set(i, i, 1);
+            }
+            return L;
+        }
+
         for (int i = 0; i < dimension; i++) {
             L.set(i, i, 1);
             for (int j = 0; j < i; j++) {
@@ -121,42 +351,183 @@ public class LUPDecomposer extends AbstractMatrixDecomposer {
 
     /**
      * Private static class implementing the LinearEquationSolver interface by using LUP decomposition
+     * <p>
+     * Substitutions work directly on the packed factors, which are triangular by construction, so they are not
+     * validated again on every solve.
      */
     private static class LUPSolver implements LinearEquationSolver {
 
-        private final Matrix L;
-        private final Matrix U;
+        /**
+         * Number of rows of the right-hand side solved before the remaining rows are updated by one multiplication
+         */
+        private static final int BLOCK_SIZE = 64;
+
+        private final Matrix LU;
         private final Vector P;
+        private final int[] interchanges;
         private final int n;
 
         public LUPSolver(LUPDecomposer decomposer) {
-            L = decomposer.getL();
-            U = decomposer.getU();
+            LU = decomposer.matrix;
             P = decomposer.getPivot();
+            interchanges = decomposer.interchanges;
             n = P.getDimension();
         }
 
         @Override
         public Vector solve(Vector b) {
-            return LinearAlgebra.backwardSubstitution(U, LinearAlgebra.forwardSubstitution(L, LinearAlgebra.permute(b, P)));
+            if (b.getDimension() != n) throw new DimensionMismatchException(b.getDimension(), n);
+            if (LU instanceof BandMatrix band) return solve(band, b);
+
+            double[] x = new double[n];
+            for (int i = 0; i < n; i++) {
+                x[i] = b.get((int) P.get(i));
+            }
+
+            for (int i = 0; i < n - 1; i++) {
+                double xi = x[i];
+                for (int j = i + 1; j < n; j++) {
+                    x[j] -= LU.get(j, i) * xi;
+                }
+            }
+            for (int i = n - 1; i >= 0; i--) {
+                double diagonal = LU.get(i, i);
+                if (Math.abs(diagonal) < LinearAlgebra.EPSILON) throw new SingularMatrixException();
+
+                double xi = x[i] /= diagonal;
+                for (int j = 0; j < i; j++) {
+                    x[j] -= LU.get(j, i) * xi;
+                }
+            }
+
+            Vector result = b.copy();
+            for (int i = 0; i < n; i++) {
+                result.set(i, x[i]);
+            }
+            return result;
         }
 
-        @Override
-        public Matrix invert() {
-            Matrix identity = Matrices.identity(n);
+        /**
+         * Solves equation Ax = b with band factors, replaying the recorded interchanges during forward substitution
+         */
+        private Vector solve(BandMatrix lu, Vector b) {
+            double[] a = lu.getData();
+            int lower = lu.getLowerBandwidth();
+            int upper = lu.getUpperBandwidth();
 
-            Vector[] x = new Vector[n];
+            double[] x = new double[n];
             for (int i = 0; i < n; i++) {
-                x[i] = solve(identity.getColumn(i));
+                x[i] = b.get(i);
             }
 
-            Matrix result = identity.newInstance(n, n);
             for (int i = 0; i < n; i++) {
-                for (int j = 0; j < n; j++) {
-                    result.set(i, j, x[j].get(i));
+                int pivot = interchanges[i];
+                double xi = x[pivot];
+                x[pivot] = x[i];
+                x[i] = xi;
+
+                for (int j = i + 1, last = Math.min(n, i + lower + 1); j < last; j++) {
+                    x[j] -= a[lu.index(j, i)] * xi;
                 }
             }
+            for (int i = n - 1; i >= 0; i--) {
+                double diagonal = a[lu.index(i, i)];
+                if (Math.abs(diagonal) < LinearAlgebra.EPSILON) throw new SingularMatrixException();
+
+                double xi = x[i] /= diagonal;
+                for (int j = Math.max(0, i - upper); j < i; j++) {
+                    x[j] -= a[lu.index(j, i)] * xi;
+                }
+            }
+
+            Vector result = b.copy();
+            for (int i = 0; i < n; i++) {
+                result.set(i, x[i]);
+            }
             return result;
         }
+
+        /**
+         * Solves equation AX = B for all columns of B at once, the substitutions proceed in blocks of rows
+         * and the rows below (or above) a solved block are updated by a single matrix multiplication
+         *
+         * @param B matrix on the right side of the equation
+         * @return solution matrix
+         */
+        @Override
+        public Matrix solve(Matrix B) {
+            if (B.getRowDimension() != n) throw new DimensionMismatchException(B.getRowDimension(), n);
+            if (!(LU instanceof DenseMatrix lu)) return LinearEquationSolver.super.solve(B);
+
+            int k = B.getColumnDimension();
+            DenseMatrix X = new DenseMatrix(n, k);
+            double[] x = X.getData();
+            for (int i = 0; i < n; i++) {
+                int source = (int) P.get(i);
+                if (B instanceof DenseMatrix dense) {
+                    System.arraycopy(dense.getData(), dense.index(source, 0), x, i * k, k);
+                } else {
+                    for (int j = 0; j < k; j++) {
+                        x[i * k + j] = B.get(source, j);
+                    }
+                }
+            }
+
+            double[] a = lu.getData();
+            for (int start = 0; start < n; start += BLOCK_SIZE) {
+                int end = Math.min(start + BLOCK_SIZE, n);
+                for (int i = start; i < end; i++) {
+                    for (int j = i + 1; j < end; j++) {
+                        double factor = a[lu.index(j, i)];
+                        if (factor == 0.) continue;
+
+                        for (int c = 0, ri = i * k, rj = j * k; c < k; c++) {
+                            x[rj + c] -= factor * x[ri + c];
+                        }
+                    }
+                }
+                if (end < n) {
+                    LinearAlgebra.multiplyAdd(
+                            new DenseMatrix(n - end, end - start, a, lu.index(end, start), lu.getStride()),
+                            new DenseMatrix(end - start, k, x, start * k, k),
+                            -1.,
+                            new DenseMatrix(n - end, k, x, end * k, k));
+                }
+            }
+
+            for (int end = n; end > 0; end -= BLOCK_SIZE) {
+                int start = Math.max(end - BLOCK_SIZE, 0);
+                for (int i = end - 1; i >= start; i--) {
+                    double diagonal = a[lu.index(i, i)];
+                    if (Math.abs(diagonal) < LinearAlgebra.EPSILON) throw new SingularMatrixException();
+
+                    int ri = i * k;
+                    for (int c = 0; c < k; c++) {
+                        x[ri + c] /= diagonal;
+                    }
+                    for (int j = start; j < i; j++) {
+                        double factor = a[lu.index(j, i)];
+                        if (factor == 0.) continue;
+
+                        for (int c = 0, rj = j * k; c < k; c++) {
+                            x[rj + c] -= factor * x[ri + c];
+                        }
+                    }
+                }
+                if (start > 0) {
+                    LinearAlgebra.multiplyAdd(
+                            new DenseMatrix(start, end - start, a, lu.index(0, start), lu.getStride()),
+                            new DenseMatrix(end - start, k, x, start * k, k),
+                            -1.,
+                            new DenseMatrix(start, k, x, 0, k));
+                }
+            }
+            return X;
+        }
+
+        @Override
+        public Matrix invert() {
+            return solve(Matrices.identity(n));
+        }
     }
 }
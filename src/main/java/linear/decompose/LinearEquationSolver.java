@@ -1,5 +1,6 @@
 package linear.decompose;
 
+import linear.Matrices;
 import linear.matrix.Matrix;
 import linear.vector.Vector;
 
@@ -16,6 +17,27 @@ public interface LinearEquationSolver {
      */
     Vector solve(Vector b);
 
+    /**
+     * Solves equation AX = B, column by column
+     *
+     * @param B matrix on the right side of the equation
+     * @return solution matrix
+     */
+    default Matrix solve(Matrix B) {
+        int columns = B.getColumnDimension();
+
+        Matrix result = null;
+        for (int j = 0; j < columns; j++) {
+            Vector x = solve(B.getColumn(j));
+            if (result == null) result = Matrices.empty(x.getDimension(), columns);
+
+            for (int i = 0, n = x.getDimension(); i < n; i++) {
+                result.set(i, j, x.get(i));
+            }
+        }
+        return (result != null) ? result : Matrices.empty(B.getRowDimension(), 0);
+    }
+
     /**
      * Inverts matrix
      *
@@ -0,0 +1,375 @@
+package linear.decompose;
+
+import linear.Matrices;
+import linear.Vectors;
+import linear.exceptions.DimensionMismatchException;
+import linear.exceptions.NonSquareMatrixException;
+import linear.exceptions.SingularMatrixException;
+import linear.linalg.LinearAlgebra;
+import linear.matrix.DenseMatrix;
+import linear.matrix.Matrix;
+import linear.vector.Vector;
+
+import java.util.Arrays;
+
+/**
+ * Implementation of QR decomposition by Householder reflections, for matrices with at least as many rows as columns
+ * <p>
+ * The matrix is overwritten in place: R is stored in the upper triangle and the Householder vectors below the
+ * diagonal (with an implicit unit leading element), so Q is never formed unless requested. Dense matrices are
+ * factored in column panels, and every panel is applied to the trailing columns at once in compact WY form
+ * (I - V * T * V^T), which keeps the inner loops running over contiguous rows.
+ */
+public class QRDecomposer extends AbstractMatrixDecomposer {
+
+    private static final int BLOCK_SIZE = 32;
+
+    private Matrix Q;
+    private Matrix R;
+    private final double[] tau;
+    private final int rowDimension;
+    private final int columnDimension;
+
+    public QRDecomposer(Matrix matrix) {
+        super(matrix);
+        rowDimension = matrix.getRowDimension();
+        columnDimension = matrix.getColumnDimension();
+        tau = new double[columnDimension];
+        decompose();
+    }
+
+    @Override
+    public boolean isApplicable(Matrix matrix) {
+        return matrix.getRowDimension() >= matrix.getColumnDimension();
+    }
+
+    /**
+     * Performs QR decomposition
+     */
+    private void decompose() {
+        if (matrix instanceof DenseMatrix dense) {
+            decompose(dense);
+            return;
+        }
+
+        double[] w = new double[columnDimension];
+        for (int j = 0; j < columnDimension; j++) {
+            double alpha = matrix.get(j, j);
+            double sigma = 0.;
+            for (int i = j + 1; i < rowDimension; i++) {
+                sigma += matrix.get(i, j) * matrix.get(i, j);
+            }
+            if (sigma == 0.) continue;
+
+            double beta = -Math.copySign(Math.sqrt(alpha * alpha + sigma), alpha);
+            double scale = 1. / (alpha - beta);
+            tau[j] = (beta - alpha) / beta;
+            matrix.set(j, j, beta);
+            for (int i = j + 1; i < rowDimension; i++) {
+                matrix.set(i, j, matrix.get(i, j) * scale);
+            }
+
+            for (int k = j + 1; k < columnDimension; k++) {
+                w[k] = matrix.get(j, k);
+            }
+            for (int i = j + 1; i < rowDimension; i++) {
+                double v = matrix.get(i, j);
+                for (int k = j + 1; k < columnDimension; k++) {
+                    w[k] += v * matrix.get(i, k);
+                }
+            }
+            for (int k = j + 1; k < columnDimension; k++) {
+                w[k] *= tau[j];
+                matrix.set(j, k, matrix.get(j, k) - w[k]);
+            }
+            for (int i = j + 1; i < rowDimension; i++) {
+                double v = matrix.get(i, j);
+                for (int k = j + 1; k < columnDimension; k++) {
+                    matrix.set(i, k, matrix.get(i, k) - v * w[k]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Performs blocked QR decomposition directly on the underlying array of a dense matrix
+     *
+     * @param qr matrix to be decomposed in place
+     */
+    private void decompose(DenseMatrix qr) {
+        double[] a = qr.getData();
+        int offset = qr.getOffset();
+        int stride = qr.getStride();
+        int m = rowDimension;
+        int n = columnDimension;
+
+        double[] w = new double[n];
+        double[][] t = new double[BLOCK_SIZE][BLOCK_SIZE];
+        double[][] block = new double[BLOCK_SIZE][n];
+
+        for (int k = 0; k < n; k += BLOCK_SIZE) {
+            int end = Math.min(k + BLOCK_SIZE, n);
+            int size = end - k;
+
+            for (int j = k; j < end; j++) {
+                reflect(a, offset, stride, j, end, w);
+            }
+            if (end == n) break;
+
+            // T is upper triangular and satisfies H(k) * ... * H(end - 1) = I - V * T * V^T
+            for (int j = 0; j < size; j++) {
+                int column = k + j;
+                double tauJ = tau[column];
+                double[] tj = t[j];
+                for (int p = 0; p < j; p++) {
+                    double sum = a[offset + column * stride + k + p];
+                    for (int i = column + 1, row = offset + i * stride; i < m; i++, row += stride) {
+                        sum += a[row + k + p] * a[row + column];
+                    }
+                    w[p] = -tauJ * sum;
+                }
+                for (int p = 0; p < j; p++) {
+                    double sum = 0.;
+                    for (int q = p; q < j; q++) {
+                        sum += t[p][q] * w[q];
+                    }
+                    t[p][j] = sum;
+                }
+                tj[j] = tauJ;
+            }
+
+            // trailing update A2 := (I - V * T^T * V^T) * A2, computed as W = V^T * A2, W := T^T * W, A2 -= V * W
+            int columns = n - end;
+            for (int p = 0; p < size; p++) {
+                Arrays.fill(block[p], 0, columns, 0.);
+            }
+            for (int i = k, row = offset + k * stride; i < m; i++, row += stride) {
+                int last = Math.min(i - k, size - 1);
+                for (int p = 0; p <= last; p++) {
+                    double v = (i == k + p) ? 1. : a[row + k + p];
+                    if (v == 0.) continue;
+
+                    double[] wp = block[p];
+                    for (int c = 0, s = row + end; c < columns; c++, s++) {
+                        wp[c] += v * a[s];
+                    }
+                }
+            }
+            for (int p = size - 1; p >= 0; p--) {
+                double[] wp = block[p];
+                double tpp = t[p][p];
+                for (int c = 0; c < columns; c++) {
+                    wp[c] *= tpp;
+                }
+                for (int q = 0; q < p; q++) {
+                    double tqp = t[q][p];
+                    if (tqp == 0.) continue;
+
+                    double[] wq = block[q];
+                    for (int c = 0; c < columns; c++) {
+                        wp[c] += tqp * wq[c];
+                    }
+                }
+            }
+            for (int i = k, row = offset + k * stride; i < m; i++, row += stride) {
+                int last = Math.min(i - k, size - 1);
+                for (int p = 0; p <= last; p++) {
+                    double v = (i == k + p) ? 1. : a[row + k + p];
+                    if (v == 0.) continue;
+
+                    double[] wp = block[p];
+                    for (int c = 0, d = row + end; c < columns; c++, d++) {
+                        a[d] -= v * wp[c];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the Householder reflection of column j and applies it to columns (j, end)
+     */
+    private void reflect(double[] a, int offset, int stride, int j, int end, double[] w) {
+        int m = rowDimension;
+        int rowJ = offset + j * stride;
+
+        double alpha = a[rowJ + j];
+        double sigma = 0.;
+        for (int i = j + 1, row = rowJ + stride; i < m; i++, row += stride) {
+            sigma += a[row + j] * a[row + j];
+        }
+        if (sigma == 0.) return;
+
+        double beta = -Math.copySign(Math.sqrt(alpha * alpha + sigma), alpha);
+        double scale = 1. / (alpha - beta);
+        double tauJ = tau[j] = (beta - alpha) / beta;
+        a[rowJ + j] = beta;
+        for (int i = j + 1, row = rowJ + stride; i < m; i++, row += stride) {
+            a[row + j] *= scale;
+        }
+
+        if (j + 1 == end) return;
+
+        System.arraycopy(a, rowJ + j + 1, w, j + 1, end - j - 1);
+        for (int i = j + 1, row = rowJ + stride; i < m; i++, row += stride) {
+            double v = a[row + j];
+            for (int k = j + 1; k < end; k++) {
+                w[k] += v * a[row + k];
+            }
+        }
+        for (int k = j + 1; k < end; k++) {
+            w[k] *= tauJ;
+            a[rowJ + k] -= w[k];
+        }
+        for (int i = j + 1, row = rowJ + stride; i < m; i++, row += stride) {
+            double v = a[row + j];
+            for (int k = j + 1; k < end; k++) {
+                a[row + k] -= v * w[k];
+            }
+        }
+    }
+
+    /**
+     * Gets the cached (thin) Q matrix, with orthonormal columns
+     *
+     * @return Q matrix
+     */
+    public Matrix getQ() {
+        if (Q != null) return Q;
+
+        Q = Matrices.empty(rowDimension, columnDimension);
+        for (int j = 0; j < columnDimension; j++) {
+            Q.set(j, j, 1.);
+        }
+        for (int j = columnDimension - 1; j >= 0; j--) {
+            if (tau[j] == 0.) continue;
+
+            for (int k = j; k < columnDimension; k++) {
+                double sum = Q.get(j, k);
+                for (int i = j + 1; i < rowDimension; i++) {
+                    sum += matrix.get(i, j) * Q.get(i, k);
+                }
+                sum *= tau[j];
+                Q.set(j, k, Q.get(j, k) - sum);
+                for (int i = j + 1; i < rowDimension; i++) {
+                    Q.set(i, k, Q.get(i, k) - sum * matrix.get(i, j));
+                }
+            }
+        }
+        return Q;
+    }
+
+    /**
+     * Gets the cached R matrix
+     *
+     * @return R matrix
+     */
+    public Matrix getR() {
+        if (R != null) return R;
+
+        R = Matrices.empty(columnDimension);
+        for (int i = 0; i < columnDimension; i++) {
+            for (int j = i; j < columnDimension; j++) {
+                R.set(i, j, matrix.get(i, j));
+            }
+        }
+        return R;
+    }
+
+    /**
+     * Gets the determinant of the given matrix, which must be square
+     *
+     * @return determinant of the given matrix
+     */
+    @Override
+    public double getDeterminant() {
+        if (rowDimension != columnDimension) throw new NonSquareMatrixException(rowDimension, columnDimension);
+
+        double det = 1.;
+        for (int i = 0; i < columnDimension; i++) {
+            det *= (tau[i] == 0.) ? matrix.get(i, i) : -matrix.get(i, i);
+        }
+        return det;
+    }
+
+    /**
+     * Gets a linear equation solver, which solves overdetermined systems in the least squares sense
+     *
+     * @return solver object
+     */
+    @Override
+    public LinearEquationSolver solver() {
+        return new QRSolver(this);
+    }
+
+    /**
+     * Private static class implementing the LinearEquationSolver interface by using QR decomposition
+     */
+    private static class QRSolver implements LinearEquationSolver {
+
+        private final Matrix qr;
+        private final double[] tau;
+        private final int m;
+        private final int n;
+
+        public QRSolver(QRDecomposer decomposer) {
+            qr = decomposer.matrix;
+            tau = decomposer.tau;
+            m = decomposer.rowDimension;
+            n = decomposer.columnDimension;
+        }
+
+        /**
+         * Solves equation Ax = b, minimizing ||Ax - b|| when A has more rows than columns
+         *
+         * @param b vector on the right side of the equation
+         * @return solution vector
+         */
+        @Override
+        public Vector solve(Vector b) {
+            if (b.getDimension() != m) throw new DimensionMismatchException(b.getDimension(), m);
+
+            double[] y = new double[m];
+            for (int i = 0; i < m; i++) {
+                y[i] = b.get(i);
+            }
+
+            for (int j = 0; j < n; j++) {
+                if (tau[j] == 0.) continue;
+
+                double sum = y[j];
+                for (int i = j + 1; i < m; i++) {
+                    sum += qr.get(i, j) * y[i];
+                }
+                sum *= tau[j];
+                y[j] -= sum;
+                for (int i = j + 1; i < m; i++) {
+                    y[i] -= sum * qr.get(i, j);
+                }
+            }
+
+            double[] x = new double[n];
+            for (int i = n - 1; i >= 0; i--) {
+                double diagonal = qr.get(i, i);
+                if (Math.abs(diagonal) < LinearAlgebra.EPSILON) throw new SingularMatrixException();
+
+                double sum = y[i];
+                for (int j = i + 1; j < n; j++) {
+                    sum -= qr.get(i, j) * x[j];
+                }
+                x[i] = sum / diagonal;
+            }
+            return Vectors.asVector(x);
+        }
+
+        /**
+         * Inverts matrix, for a matrix with more rows than columns the Moore-Penrose pseudoinverse is returned
+         *
+         * @return inverted matrix
+         */
+        @Override
+        public Matrix invert() {
+            return solve(Matrices.identity(m));
+        }
+    }
+}
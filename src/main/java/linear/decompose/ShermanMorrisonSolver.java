@@ -0,0 +1,53 @@
+package linear.decompose;
+
+import linear.Matrices;
+import linear.exceptions.DimensionMismatchException;
+import linear.exceptions.SingularMatrixException;
+import linear.linalg.LinearAlgebra;
+import linear.matrix.Matrix;
+import linear.vector.Vector;
+
+/**
+ * Linear equation solver for A + u * v^T, built on top of a solver for A by the Sherman-Morrison formula
+ * <p>
+ * Creating the solver costs one solve with A, and every following solve costs one solve with A plus O(n),
+ * so a rank-one change of the system needs no new decomposition. Solvers can be stacked for several rank-one
+ * changes, although every level adds one solve with A to the cost of creating the next one.
+ */
+public class ShermanMorrisonSolver implements LinearEquationSolver {
+
+    private final LinearEquationSolver solver;
+    private final Vector v;
+    private final Vector z;
+    private final double denominator;
+    private final int n;
+
+    /**
+     * Creates a solver for A + u * v^T
+     *
+     * @param solver solver for A
+     * @param u      first update vector
+     * @param v      second update vector
+     */
+    public ShermanMorrisonSolver(LinearEquationSolver solver, Vector u, Vector v) {
+        if (u.getDimension() != v.getDimension()) throw new DimensionMismatchException(v.getDimension(), u.getDimension());
+
+        this.solver = solver;
+        this.v = v.copy();
+        n = u.getDimension();
+        z = solver.solve(u);
+        denominator = 1. + LinearAlgebra.inner(v, z);
+        if (Math.abs(denominator) < LinearAlgebra.EPSILON) throw new SingularMatrixException();
+    }
+
+    @Override
+    public Vector solve(Vector b) {
+        Vector y = solver.solve(b);
+        return LinearAlgebra.axpy(-LinearAlgebra.inner(v, y) / denominator, z, y);
+    }
+
+    @Override
+    public Matrix invert() {
+        return solve(Matrices.identity(n));
+    }
+}
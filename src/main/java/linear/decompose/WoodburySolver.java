@@ -0,0 +1,61 @@
+package linear.decompose;
+
+import linear.Matrices;
+import linear.exceptions.DimensionMismatchException;
+import linear.linalg.LinearAlgebra;
+import linear.linalg.Mutability;
+import linear.matrix.Matrix;
+import linear.vector.Vector;
+
+/**
+ * Linear equation solver for A + U * V^T, built on top of a solver for A by the Sherman-Morrison-Woodbury formula
+ * <p>
+ * U and V are n x k matrices. Creating the solver costs k solves with A and a decomposition of a k x k matrix,
+ * every following solve costs one solve with A plus O(nk), so a low-rank change of the system needs no new
+ * decomposition of A.
+ */
+public class WoodburySolver implements LinearEquationSolver {
+
+    private final LinearEquationSolver solver;
+    private final LinearEquationSolver capacitance;
+    private final Matrix V;
+    private final Matrix Z;
+    private final int n;
+
+    /**
+     * Creates a solver for A + U * V^T
+     *
+     * @param solver solver for A
+     * @param U      first update matrix
+     * @param V      second update matrix
+     */
+    public WoodburySolver(LinearEquationSolver solver, Matrix U, Matrix V) {
+        if (U.getRowDimension() != V.getRowDimension())
+            throw new DimensionMismatchException(V.getRowDimension(), U.getRowDimension());
+        if (U.getColumnDimension() != V.getColumnDimension())
+            throw new DimensionMismatchException(V.getColumnDimension(), U.getColumnDimension());
+
+        this.solver = solver;
+        this.V = V.copy();
+        n = U.getRowDimension();
+        Z = solver.solve(U);
+
+        Matrix C = LinearAlgebra.multiply(V.transpose(), Z);
+        for (int i = 0, k = C.getRowDimension(); i < k; i++) {
+            C.set(i, i, C.get(i, i) + 1.);
+        }
+        capacitance = new LUPDecomposer(C).solver();
+    }
+
+    @Override
+    public Vector solve(Vector b) {
+        Vector y = solver.solve(b);
+        Vector w = capacitance.solve(LinearAlgebra.multiply(y, V));
+        return LinearAlgebra.subtract(y, LinearAlgebra.multiply(Z, w), Mutability.MUTABLE);
+    }
+
+    @Override
+    public Matrix invert() {
+        return solve(Matrices.identity(n));
+    }
+}
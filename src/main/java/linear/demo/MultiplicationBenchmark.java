@@ -0,0 +1,76 @@
+package linear.demo;
+
+import linear.linalg.LinearAlgebra;
+import linear.matrix.ArrayMatrix;
+import linear.matrix.DenseMatrix;
+import linear.matrix.Matrix;
+
+import java.util.Random;
+
+/**
+ * Compares matrix-matrix multiplication throughput (GFLOP/s) of the generic implementation, used for
+ * {@code ArrayMatrix} operands, and the blocked kernel used for {@code DenseMatrix} operands
+ * <p>
+ * Matrix sizes can be passed as arguments, defaults are 256, 1024 and 4096. The generic implementation is measured
+ * only up to size 1024, above which a single multiplication takes minutes.
+ */
+public class MultiplicationBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 2;
+    private static final int MEASURED_ITERATIONS = 3;
+    private static final int MAX_GENERIC_SIZE = 1024;
+
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0 ? new int[]{256, 1024, 4096} : new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+
+        System.out.printf("%8s %16s %16s%n", "n", "generic GFLOP/s", "blocked GFLOP/s");
+        for (int n : sizes) {
+            double[][] a = random(n);
+            double[][] b = random(n);
+
+            String generic = (n <= MAX_GENERIC_SIZE)
+                    ? String.format("%.3f", measure(new ArrayMatrix(a), new ArrayMatrix(b)))
+                    : "skipped";
+            double blocked = measure(new DenseMatrix(a), new DenseMatrix(b));
+
+            System.out.printf("%8d %16s %16.3f%n", n, generic, blocked);
+        }
+    }
+
+    private static double measure(Matrix a, Matrix b) {
+        int n = a.getRowDimension();
+        int iterations = MEASURED_ITERATIONS;
+        int warmup = WARMUP_ITERATIONS;
+        if (n >= 2048) {
+            iterations = 1;
+            warmup = 0;
+        }
+
+        for (int i = 0; i < warmup; i++) {
+            LinearAlgebra.multiply(a, b);
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            LinearAlgebra.multiply(a, b);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        return 2. * n * n * n / best;
+    }
+
+    private static double[][] random(int n) {
+        Random random = new Random(n);
+        double[][] array = new double[n][n];
+        for (double[] row : array) {
+            for (int j = 0; j < n; j++) {
+                row[j] = random.nextDouble();
+            }
+        }
+        return array;
+    }
+}
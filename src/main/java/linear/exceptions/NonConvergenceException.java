@@ -0,0 +1,11 @@
+package linear.exceptions;
+
+/**
+ * Exception class used when an iterative method does not reach the required accuracy within its iteration limit
+ */
+public class NonConvergenceException extends RuntimeException {
+
+    public NonConvergenceException(int iterations, double residual) {
+        super("Method did not converge in " + iterations + " iterations (relative residual " + residual + ")");
+    }
+}
@@ -0,0 +1,11 @@
+package linear.exceptions;
+
+/**
+ * Exception class used when given matrix is not positive definite
+ */
+public class NonPositiveDefiniteMatrixException extends RuntimeException {
+
+    public NonPositiveDefiniteMatrixException() {
+        super("Matrix is not positive definite");
+    }
+}
@@ -0,0 +1,138 @@
+package linear.expression;
+
+import linear.matrix.BlockViewMatrix;
+import linear.matrix.BufferMatrix;
+import linear.matrix.DenseMatrix;
+import linear.matrix.FloatMatrix;
+import linear.matrix.Matrix;
+import linear.matrix.TransposedViewMatrix;
+import linear.vector.ArrayVector;
+import linear.vector.BufferViewVector;
+import linear.vector.ColumnViewVector;
+import linear.vector.FloatVector;
+import linear.vector.SliceViewVector;
+import linear.vector.StridedViewVector;
+import linear.vector.Vector;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Detects operands of an expression which share storage with the target of evaluation under a different layout
+ * (views such as transposes, blocks, slices or strided views), since writing such a target element by element
+ * overwrites operand elements which are yet to be read
+ * <p>
+ * The target itself, and a dense view with exactly the same layout, are not aliases: element [i, j] is read before
+ * it is written. Expressions of unknown type may depend on anything, so they are always treated as aliased.
+ */
+final class Aliasing {
+
+    private Aliasing() {
+    }
+
+    /**
+     * Tests whether evaluating the expression directly into the target may read overwritten elements
+     *
+     * @param expression expression
+     * @param target     target of evaluation
+     * @return true if the expression should be evaluated into a temporary matrix first, false otherwise
+     */
+    static boolean isAliased(MatrixExpression expression, Matrix target) {
+        if (expression instanceof LinearMatrixCombination combination) {
+            for (Matrix operand : combination.getMatrices()) {
+                if (isAliased(operand, target)) return true;
+            }
+            return false;
+        }
+        if (expression instanceof ZippedMatrixExpression zipped)
+            return isAliased(zipped.first(), target) || isAliased(zipped.second(), target);
+        if (expression instanceof MappedMatrixExpression mapped) return isAliased(mapped.source(), target);
+        return true;
+    }
+
+    /**
+     * Tests whether evaluating the expression directly into the target may read overwritten elements
+     *
+     * @param expression expression
+     * @param target     target of evaluation
+     * @return true if the expression should be evaluated into a temporary vector first, false otherwise
+     */
+    static boolean isAliased(VectorExpression expression, Vector target) {
+        if (expression instanceof LinearVectorCombination combination) {
+            for (Vector operand : combination.getVectors()) {
+                if (isAliased(operand, target)) return true;
+            }
+            return false;
+        }
+        if (expression instanceof ZippedVectorExpression zipped)
+            return isAliased(zipped.first(), target) || isAliased(zipped.second(), target);
+        if (expression instanceof MappedVectorExpression mapped) return isAliased(mapped.source(), target);
+        return true;
+    }
+
+    private static boolean isAliased(Matrix operand, Matrix target) {
+        if (operand == target) return false;
+        if (operand instanceof DenseMatrix x && target instanceof DenseMatrix y && x.getData() == y.getData()
+                && x.getOffset() == y.getOffset() && x.getStride() == y.getStride()) return false;
+        return sharesStorage(storage(operand), storage(target));
+    }
+
+    private static boolean isAliased(Vector operand, Vector target) {
+        if (operand == target) return false;
+        if (offset(operand) >= 0 && offset(operand) == offset(target) && stride(operand) == stride(target)
+                && storage(operand) == storage(target)) return false;
+        return sharesStorage(storage(operand), storage(target));
+    }
+
+    private static boolean sharesStorage(Object first, Object second) {
+        if (first == second) return true;
+        if (first instanceof DoubleBuffer buffer && second instanceof BufferMatrix matrix) return isChunk(buffer, matrix);
+        if (second instanceof DoubleBuffer buffer && first instanceof BufferMatrix matrix) return isChunk(buffer, matrix);
+        return false;
+    }
+
+    private static boolean isChunk(DoubleBuffer buffer, BufferMatrix matrix) {
+        for (int k = 0, n = matrix.getChunkCount(); k < n; k++) {
+            if (matrix.getChunk(k) == buffer) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the object holding the elements of the matrix, which is the matrix itself unless it is a known view
+     * or array-backed
+     */
+    private static Object storage(Matrix matrix) {
+        if (matrix instanceof DenseMatrix dense) return dense.getData();
+        if (matrix instanceof FloatMatrix floats) return floats.getData();
+        if (matrix instanceof TransposedViewMatrix transposed) return storage(transposed.getView());
+        if (matrix instanceof BlockViewMatrix block) return storage(block.getView());
+        return matrix;
+    }
+
+    /**
+     * Gets the object holding the elements of the vector, which is the vector itself unless it is a known view
+     * or array-backed
+     */
+    private static Object storage(Vector vector) {
+        if (vector instanceof ArrayVector array) return array.getData();
+        if (vector instanceof StridedViewVector strided) return strided.getData();
+        if (vector instanceof FloatVector floats) return floats.getData();
+        if (vector instanceof SliceViewVector slice) return storage(slice.getView());
+        if (vector instanceof ColumnViewVector column) return storage(column.getMatrix());
+        if (vector instanceof BufferViewVector view) return view.getBuffer();
+        return vector;
+    }
+
+    /**
+     * Gets the index of the first element of an array-backed vector in its array, or -1 for other vectors
+     */
+    private static int offset(Vector vector) {
+        if (vector instanceof ArrayVector) return 0;
+        if (vector instanceof StridedViewVector strided) return strided.getOffset();
+        return -1;
+    }
+
+    private static int stride(Vector vector) {
+        return (vector instanceof StridedViewVector strided) ? strided.getStride() : 1;
+    }
+}
@@ -0,0 +1,151 @@
+package linear.expression;
+
+import linear.exceptions.MatrixDimensionMismatchException;
+import linear.matrix.DenseMatrix;
+import linear.matrix.Matrix;
+import linear.matrix.SparseMatrix;
+
+import java.util.Arrays;
+
+/**
+ * Expression c[0] * m[0] + c[1] * m[1] + ... + c[n - 1] * m[n - 1]
+ * <p>
+ * When the target is a dense matrix, all dense operands are combined in one loop per row
+ * and the stored elements of sparse operands are added afterwards. This overwrites the target before the other
+ * operands are read, so a target which is aliased by an operand view is evaluated through a temporary matrix.
+ */
+final class LinearMatrixCombination implements MatrixExpression {
+
+    private final double[] coefficients;
+    private final Matrix[] matrices;
+
+    LinearMatrixCombination(double[] coefficients, Matrix[] matrices) {
+        this.coefficients = coefficients;
+        this.matrices = matrices;
+    }
+
+    /**
+     * Creates combination x + sign * y
+     *
+     * @param x    first combination
+     * @param y    second combination
+     * @param sign coefficient by which the terms of y are multiplied
+     * @return merged combination
+     */
+    static LinearMatrixCombination merge(LinearMatrixCombination x, LinearMatrixCombination y, double sign) {
+        int m = x.matrices.length;
+        int n = y.matrices.length;
+        double[] coefficients = Arrays.copyOf(x.coefficients, m + n);
+        Matrix[] matrices = Arrays.copyOf(x.matrices, m + n);
+        for (int k = 0; k < n; k++) {
+            coefficients[m + k] = sign * y.coefficients[k];
+            matrices[m + k] = y.matrices[k];
+        }
+        return new LinearMatrixCombination(coefficients, matrices);
+    }
+
+    Matrix[] getMatrices() {
+        return matrices;
+    }
+
+    @Override
+    public LinearMatrixCombination scale(double scalar) {
+        double[] scaled = new double[coefficients.length];
+        for (int k = 0; k < scaled.length; k++) {
+            scaled[k] = coefficients[k] * scalar;
+        }
+        return new LinearMatrixCombination(scaled, matrices);
+    }
+
+    @Override
+    public int getRowDimension() {
+        return matrices[0].getRowDimension();
+    }
+
+    @Override
+    public int getColumnDimension() {
+        return matrices[0].getColumnDimension();
+    }
+
+    @Override
+    public double get(int i, int j) {
+        double sum = coefficients[0] * matrices[0].get(i, j);
+        for (int k = 1; k < matrices.length; k++) {
+            sum += coefficients[k] * matrices[k].get(i, j);
+        }
+        return sum;
+    }
+
+    @Override
+    public Matrix evaluateInto(Matrix target) {
+        if (Aliasing.isAliased(this, target)) return MatrixExpression.of(evaluate()).evaluateInto(target);
+        if (!(target instanceof DenseMatrix result)) return MatrixExpression.super.evaluateInto(target);
+
+        int rows = getRowDimension();
+        int columns = getColumnDimension();
+        if (result.getRowDimension() != rows || result.getColumnDimension() != columns)
+            throw new MatrixDimensionMismatchException(result.getRowDimension(), result.getColumnDimension(), rows, columns);
+
+        int terms = matrices.length;
+        double[] denseCoefficients = new double[terms];
+        DenseMatrix[] dense = new DenseMatrix[terms];
+        int denseCount = 0;
+        for (int k = 0; k < terms; k++) {
+            if (matrices[k] instanceof DenseMatrix matrix) {
+                denseCoefficients[denseCount] = coefficients[k];
+                dense[denseCount++] = matrix;
+            }
+        }
+
+        double[] out = result.getData();
+        double[][] data = new double[denseCount][];
+        int[] offsets = new int[denseCount];
+        for (int k = 0; k < denseCount; k++) {
+            data[k] = dense[k].getData();
+        }
+
+        for (int i = 0; i < rows; i++) {
+            int o = result.index(i, 0);
+            if (denseCount == 0) {
+                Arrays.fill(out, o, o + columns, 0.);
+                continue;
+            }
+
+            for (int k = 0; k < denseCount; k++) {
+                offsets[k] = dense[k].index(i, 0);
+            }
+            for (int j = 0; j < columns; j++) {
+                double sum = denseCoefficients[0] * data[0][offsets[0] + j];
+                for (int k = 1; k < denseCount; k++) {
+                    sum += denseCoefficients[k] * data[k][offsets[k] + j];
+                }
+                out[o + j] = sum;
+            }
+        }
+
+        for (int k = 0; k < terms; k++) {
+            Matrix matrix = matrices[k];
+            double c = coefficients[k];
+            if (matrix instanceof DenseMatrix) continue;
+
+            if (matrix instanceof SparseMatrix sparse) {
+                int[] pointers = sparse.getPointers();
+                int[] indices = sparse.getIndices();
+                double[] values = sparse.getValues();
+                for (int p = 0; p < pointers.length - 1; p++) {
+                    for (int q = pointers[p]; q < pointers[p + 1]; q++) {
+                        int index = sparse.isColumnCompressed() ? result.index(indices[q], p) : result.index(p, indices[q]);
+                        out[index] += c * values[q];
+                    }
+                }
+            } else {
+                for (int i = 0; i < rows; i++) {
+                    for (int j = 0; j < columns; j++) {
+                        out[result.index(i, j)] += c * matrix.get(i, j);
+                    }
+                }
+            }
+        }
+        return target;
+    }
+}
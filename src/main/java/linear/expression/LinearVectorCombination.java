@@ -0,0 +1,154 @@
+package linear.expression;
+
+import linear.exceptions.DimensionMismatchException;
+import linear.vector.ArrayVector;
+import linear.vector.SparseVector;
+import linear.vector.Vector;
+
+import java.util.Arrays;
+
+/**
+ * Expression c[0] * v[0] + c[1] * v[1] + ... + c[n - 1] * v[n - 1]
+ * <p>
+ * When the target and the operands are array-backed, all dense operands are combined in one loop
+ * and the stored elements of sparse operands are added afterwards. This overwrites the target before the other
+ * operands are read, so a target which is aliased by an operand view is evaluated through a temporary vector.
+ */
+final class LinearVectorCombination implements VectorExpression {
+
+    private final double[] coefficients;
+    private final Vector[] vectors;
+
+    LinearVectorCombination(double[] coefficients, Vector[] vectors) {
+        this.coefficients = coefficients;
+        this.vectors = vectors;
+    }
+
+    /**
+     * Creates combination x + sign * y
+     *
+     * @param x    first combination
+     * @param y    second combination
+     * @param sign coefficient by which the terms of y are multiplied
+     * @return merged combination
+     */
+    static LinearVectorCombination merge(LinearVectorCombination x, LinearVectorCombination y, double sign) {
+        int m = x.vectors.length;
+        int n = y.vectors.length;
+        double[] coefficients = Arrays.copyOf(x.coefficients, m + n);
+        Vector[] vectors = Arrays.copyOf(x.vectors, m + n);
+        for (int k = 0; k < n; k++) {
+            coefficients[m + k] = sign * y.coefficients[k];
+            vectors[m + k] = y.vectors[k];
+        }
+        return new LinearVectorCombination(coefficients, vectors);
+    }
+
+    Vector[] getVectors() {
+        return vectors;
+    }
+
+    @Override
+    public LinearVectorCombination scale(double scalar) {
+        double[] scaled = new double[coefficients.length];
+        for (int k = 0; k < scaled.length; k++) {
+            scaled[k] = coefficients[k] * scalar;
+        }
+        return new LinearVectorCombination(scaled, vectors);
+    }
+
+    @Override
+    public int getDimension() {
+        return vectors[0].getDimension();
+    }
+
+    @Override
+    public double get(int i) {
+        double sum = coefficients[0] * vectors[0].get(i);
+        for (int k = 1; k < vectors.length; k++) {
+            sum += coefficients[k] * vectors[k].get(i);
+        }
+        return sum;
+    }
+
+    @Override
+    public Vector evaluateInto(Vector target) {
+        if (Aliasing.isAliased(this, target)) return VectorExpression.of(evaluate()).evaluateInto(target);
+        if (!(target instanceof ArrayVector array)) return VectorExpression.super.evaluateInto(target);
+
+        int n = getDimension();
+        if (target.getDimension() != n) throw new DimensionMismatchException(target.getDimension(), n);
+
+        int terms = vectors.length;
+        double[] denseCoefficients = new double[terms];
+        double[][] dense = new double[terms][];
+        int denseCount = 0;
+        for (int k = 0; k < terms; k++) {
+            if (vectors[k] instanceof ArrayVector vector) {
+                denseCoefficients[denseCount] = coefficients[k];
+                dense[denseCount++] = vector.getData();
+            }
+        }
+
+        double[] out = array.getData();
+        combine(denseCoefficients, dense, denseCount, out, n);
+
+        for (int k = 0; k < terms; k++) {
+            Vector vector = vectors[k];
+            double c = coefficients[k];
+            if (vector instanceof ArrayVector) continue;
+
+            if (vector instanceof SparseVector sparse) {
+                int[] indices = sparse.getIndices();
+                double[] values = sparse.getValues();
+                for (int j = 0, size = sparse.getNonZeroCount(); j < size; j++) {
+                    out[indices[j]] += c * values[j];
+                }
+            } else {
+                for (int i = 0; i < n; i++) {
+                    out[i] += c * vector.get(i);
+                }
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Writes combination of dense operands to out, in one pass
+     */
+    private static void combine(double[] c, double[][] x, int terms, double[] out, int n) {
+        switch (terms) {
+            case 0 -> Arrays.fill(out, 0, n, 0.);
+            case 1 -> {
+                double c0 = c[0];
+                double[] x0 = x[0];
+                for (int i = 0; i < n; i++) {
+                    out[i] = c0 * x0[i];
+                }
+            }
+            case 2 -> {
+                double c0 = c[0], c1 = c[1];
+                double[] x0 = x[0], x1 = x[1];
+                for (int i = 0; i < n; i++) {
+                    out[i] = c0 * x0[i] + c1 * x1[i];
+                }
+            }
+            case 3 -> {
+                double c0 = c[0], c1 = c[1], c2 = c[2];
+                double[] x0 = x[0], x1 = x[1], x2 = x[2];
+                for (int i = 0; i < n; i++) {
+                    out[i] = c0 * x0[i] + c1 * x1[i] + c2 * x2[i];
+                }
+            }
+            default -> {
+                for (int i = 0; i < n; i++) {
+                    double sum = c[0] * x[0][i];
+                    for (int k = 1; k < terms; k++) {
+                        sum += c[k] * x[k][i];
+                    }
+                    out[i] = sum;
+                }
+            }
+        }
+    }
+}
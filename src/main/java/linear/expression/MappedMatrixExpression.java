@@ -0,0 +1,24 @@
+package linear.expression;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Expression which applies operator to every element of another expression
+ */
+record MappedMatrixExpression(MatrixExpression source, DoubleUnaryOperator operator) implements MatrixExpression {
+
+    @Override
+    public int getRowDimension() {
+        return source.getRowDimension();
+    }
+
+    @Override
+    public int getColumnDimension() {
+        return source.getColumnDimension();
+    }
+
+    @Override
+    public double get(int i, int j) {
+        return operator.applyAsDouble(source.get(i, j));
+    }
+}
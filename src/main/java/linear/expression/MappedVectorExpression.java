@@ -0,0 +1,19 @@
+package linear.expression;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Expression which applies operator to every element of another expression
+ */
+record MappedVectorExpression(VectorExpression source, DoubleUnaryOperator operator) implements VectorExpression {
+
+    @Override
+    public int getDimension() {
+        return source.getDimension();
+    }
+
+    @Override
+    public double get(int i) {
+        return operator.applyAsDouble(source.get(i));
+    }
+}
@@ -0,0 +1,172 @@
+package linear.expression;
+
+import linear.exceptions.MatrixDimensionMismatchException;
+import linear.matrix.DenseMatrix;
+import linear.matrix.Matrix;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Lazily evaluated elementwise matrix expression
+ * <p>
+ * Combining expressions only builds a small expression tree, no elements are computed until the expression is
+ * evaluated. Evaluation computes every element of the result in a single pass, without intermediate matrices.
+ * Linear combinations of matrices are flattened, so that they are evaluated by one loop over the operand arrays.
+ * Element [i, j] of an expression depends only on elements [i, j] of its operands, so the target of evaluation
+ * may be one of the operands. If an operand is a view which shares storage with the target under a different
+ * layout (e.g. a transpose or a block of the target), the expression is evaluated into a temporary matrix first.
+ */
+public interface MatrixExpression {
+
+    /**
+     * Creates expression which evaluates to the given matrix
+     *
+     * @param matrix matrix
+     * @return new expression
+     */
+    static MatrixExpression of(Matrix matrix) {
+        return new LinearMatrixCombination(new double[]{1.}, new Matrix[]{matrix});
+    }
+
+    int getRowDimension();
+
+    int getColumnDimension();
+
+    /**
+     * Computes element at index [i, j]
+     *
+     * @param i row index
+     * @param j column index
+     * @return element value
+     */
+    double get(int i, int j);
+
+    /**
+     * Creates expression of the elementwise sum
+     *
+     * @param other second operand
+     * @return new expression
+     */
+    default MatrixExpression plus(MatrixExpression other) {
+        checkDimensionsSame(this, other);
+        if (this instanceof LinearMatrixCombination x && other instanceof LinearMatrixCombination y)
+            return LinearMatrixCombination.merge(x, y, 1.);
+        return new ZippedMatrixExpression(this, other, Double::sum);
+    }
+
+    /**
+     * Creates expression of the elementwise sum
+     *
+     * @param other second operand
+     * @return new expression
+     */
+    default MatrixExpression plus(Matrix other) {
+        return plus(of(other));
+    }
+
+    /**
+     * Creates expression of the elementwise difference
+     *
+     * @param other second operand
+     * @return new expression
+     */
+    default MatrixExpression minus(MatrixExpression other) {
+        checkDimensionsSame(this, other);
+        if (this instanceof LinearMatrixCombination x && other instanceof LinearMatrixCombination y)
+            return LinearMatrixCombination.merge(x, y, -1.);
+        return new ZippedMatrixExpression(this, other, (x, y) -> x - y);
+    }
+
+    /**
+     * Creates expression of the elementwise difference
+     *
+     * @param other second operand
+     * @return new expression
+     */
+    default MatrixExpression minus(Matrix other) {
+        return minus(of(other));
+    }
+
+    /**
+     * Creates expression of this expression multiplied by scalar
+     *
+     * @param scalar scalar value
+     * @return new expression
+     */
+    default MatrixExpression scale(double scalar) {
+        return new MappedMatrixExpression(this, x -> x * scalar);
+    }
+
+    /**
+     * Creates expression of the elementwise (Hadamard) product
+     *
+     * @param other second operand
+     * @return new expression
+     */
+    default MatrixExpression hadamard(MatrixExpression other) {
+        return combine(other, (x, y) -> x * y);
+    }
+
+    /**
+     * Creates expression which applies operator to every element
+     *
+     * @param operator operator
+     * @return new expression
+     */
+    default MatrixExpression map(DoubleUnaryOperator operator) {
+        return new MappedMatrixExpression(this, operator);
+    }
+
+    /**
+     * Creates expression which applies operator to every pair of elements of this and the other expression
+     *
+     * @param other    second operand
+     * @param operator operator
+     * @return new expression
+     */
+    default MatrixExpression combine(MatrixExpression other, DoubleBinaryOperator operator) {
+        checkDimensionsSame(this, other);
+        return new ZippedMatrixExpression(this, other, operator);
+    }
+
+    /**
+     * Evaluates expression into a new dense matrix
+     *
+     * @return new matrix
+     */
+    default Matrix evaluate() {
+        return evaluateInto(new DenseMatrix(getRowDimension(), getColumnDimension()));
+    }
+
+    /**
+     * Evaluates expression into the given matrix
+     *
+     * @param target matrix to be overwritten, may be one of the operands or a view of one
+     * @return target matrix
+     */
+    default Matrix evaluateInto(Matrix target) {
+        int rows = getRowDimension();
+        int columns = getColumnDimension();
+        if (target.getRowDimension() != rows || target.getColumnDimension() != columns)
+            throw new MatrixDimensionMismatchException(target.getRowDimension(), target.getColumnDimension(), rows, columns);
+
+        if (Aliasing.isAliased(this, target)) return assign(of(assign(this, new DenseMatrix(rows, columns))), target);
+        return assign(this, target);
+    }
+
+    private static Matrix assign(MatrixExpression source, Matrix target) {
+        for (int i = 0, rows = target.getRowDimension(), columns = target.getColumnDimension(); i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                target.set(i, j, source.get(i, j));
+            }
+        }
+        return target;
+    }
+
+    private static void checkDimensionsSame(MatrixExpression e1, MatrixExpression e2) {
+        if (e1.getRowDimension() != e2.getRowDimension() || e1.getColumnDimension() != e2.getColumnDimension())
+            throw new MatrixDimensionMismatchException(e1.getRowDimension(), e1.getColumnDimension(),
+                    e2.getRowDimension(), e2.getColumnDimension());
+    }
+}
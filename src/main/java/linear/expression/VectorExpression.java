@@ -0,0 +1,165 @@
+package linear.expression;
+
+import linear.exceptions.DimensionMismatchException;
+import linear.vector.ArrayVector;
+import linear.vector.Vector;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Lazily evaluated elementwise vector expression
+ * <p>
+ * Combining expressions only builds a small expression tree, no elements are computed until the expression is
+ * evaluated. Evaluation computes every element of the result in a single pass, without intermediate vectors.
+ * Linear combinations of vectors are flattened, so that they are evaluated by one loop over the operand arrays.
+ * Element i of an expression depends only on elements i of its operands, so the target of evaluation
+ * may be one of the operands. If an operand is a view which shares storage with the target under a different
+ * layout (e.g. a shifted slice or a strided view of the target), the expression is evaluated into a temporary
+ * vector first.
+ */
+public interface VectorExpression {
+
+    /**
+     * Creates expression which evaluates to the given vector
+     *
+     * @param vector vector
+     * @return new expression
+     */
+    static VectorExpression of(Vector vector) {
+        return new LinearVectorCombination(new double[]{1.}, new Vector[]{vector});
+    }
+
+    int getDimension();
+
+    /**
+     * Computes element at index
+     *
+     * @param i index
+     * @return element value
+     */
+    double get(int i);
+
+    /**
+     * Creates expression of the elementwise sum
+     *
+     * @param other second operand
+     * @return new expression
+     */
+    default VectorExpression plus(VectorExpression other) {
+        checkDimensionsSame(this, other);
+        if (this instanceof LinearVectorCombination x && other instanceof LinearVectorCombination y)
+            return LinearVectorCombination.merge(x, y, 1.);
+        return new ZippedVectorExpression(this, other, Double::sum);
+    }
+
+    /**
+     * Creates expression of the elementwise sum
+     *
+     * @param other second operand
+     * @return new expression
+     */
+    default VectorExpression plus(Vector other) {
+        return plus(of(other));
+    }
+
+    /**
+     * Creates expression of the elementwise difference
+     *
+     * @param other second operand
+     * @return new expression
+     */
+    default VectorExpression minus(VectorExpression other) {
+        checkDimensionsSame(this, other);
+        if (this instanceof LinearVectorCombination x && other instanceof LinearVectorCombination y)
+            return LinearVectorCombination.merge(x, y, -1.);
+        return new ZippedVectorExpression(this, other, (x, y) -> x - y);
+    }
+
+    /**
+     * Creates expression of the elementwise difference
+     *
+     * @param other second operand
+     * @return new expression
+     */
+    default VectorExpression minus(Vector other) {
+        return minus(of(other));
+    }
+
+    /**
+     * Creates expression of this expression multiplied by scalar
+     *
+     * @param scalar scalar value
+     * @return new expression
+     */
+    default VectorExpression scale(double scalar) {
+        return new MappedVectorExpression(this, x -> x * scalar);
+    }
+
+    /**
+     * Creates expression of the elementwise (Hadamard) product
+     *
+     * @param other second operand
+     * @return new expression
+     */
+    default VectorExpression hadamard(VectorExpression other) {
+        return combine(other, (x, y) -> x * y);
+    }
+
+    /**
+     * Creates expression which applies operator to every element
+     *
+     * @param operator operator
+     * @return new expression
+     */
+    default VectorExpression map(DoubleUnaryOperator operator) {
+        return new MappedVectorExpression(this, operator);
+    }
+
+    /**
+     * Creates expression which applies operator to every pair of elements of this and the other expression
+     *
+     * @param other    second operand
+     * @param operator operator
+     * @return new expression
+     */
+    default VectorExpression combine(VectorExpression other, DoubleBinaryOperator operator) {
+        checkDimensionsSame(this, other);
+        return new ZippedVectorExpression(this, other, operator);
+    }
+
+    /**
+     * Evaluates expression into a new array-backed vector
+     *
+     * @return new vector
+     */
+    default Vector evaluate() {
+        return evaluateInto(new ArrayVector(getDimension()));
+    }
+
+    /**
+     * Evaluates expression into the given vector
+     *
+     * @param target vector to be overwritten, may be one of the operands or a view of one
+     * @return target vector
+     */
+    default Vector evaluateInto(Vector target) {
+        int n = getDimension();
+        if (target.getDimension() != n) throw new DimensionMismatchException(target.getDimension(), n);
+
+        if (Aliasing.isAliased(this, target)) return assign(of(assign(this, new ArrayVector(n))), target);
+        return assign(this, target);
+    }
+
+    private static Vector assign(VectorExpression source, Vector target) {
+        for (int i = 0, n = target.getDimension(); i < n; i++) {
+            target.set(i, source.get(i));
+        }
+        return target;
+    }
+
+    private static void checkDimensionsSame(VectorExpression e1, VectorExpression e2) {
+        if (e1.getDimension() != e2.getDimension())
+            throw new DimensionMismatchException(e2.getDimension(), e1.getDimension());
+    }
+}
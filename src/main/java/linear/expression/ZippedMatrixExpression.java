@@ -0,0 +1,25 @@
+package linear.expression;
+
+import java.util.function.DoubleBinaryOperator;
+
+/**
+ * Expression which applies operator to every pair of elements of two expressions
+ */
+record ZippedMatrixExpression(MatrixExpression first, MatrixExpression second, DoubleBinaryOperator operator)
+        implements MatrixExpression {
+
+    @Override
+    public int getRowDimension() {
+        return first.getRowDimension();
+    }
+
+    @Override
+    public int getColumnDimension() {
+        return first.getColumnDimension();
+    }
+
+    @Override
+    public double get(int i, int j) {
+        return operator.applyAsDouble(first.get(i, j), second.get(i, j));
+    }
+}
@@ -0,0 +1,20 @@
+package linear.expression;
+
+import java.util.function.DoubleBinaryOperator;
+
+/**
+ * Expression which applies operator to every pair of elements of two expressions
+ */
+record ZippedVectorExpression(VectorExpression first, VectorExpression second, DoubleBinaryOperator operator)
+        implements VectorExpression {
+
+    @Override
+    public int getDimension() {
+        return first.getDimension();
+    }
+
+    @Override
+    public double get(int i) {
+        return operator.applyAsDouble(first.get(i), second.get(i));
+    }
+}
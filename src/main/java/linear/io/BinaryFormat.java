@@ -0,0 +1,688 @@
+package linear.io;
+
+import linear.matrix.BufferMatrix;
+import linear.matrix.DenseMatrix;
+import linear.matrix.FloatMatrix;
+import linear.matrix.MappedMatrix;
+import linear.matrix.Matrix;
+import linear.matrix.OffHeapMatrix;
+import linear.matrix.TransposedViewMatrix;
+import linear.memory.OffHeapArena;
+import linear.vector.ArrayVector;
+import linear.vector.FloatVector;
+import linear.vector.OffHeapVector;
+import linear.vector.Vector;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Compact binary format of dense matrices and vectors
+ * <p>
+ * A file starts with a header of {@value #HEADER_BYTES} little-endian bytes: magic number ("NOMX"), version,
+ * kind (matrix or vector), element type (float64 or float32), layout (row-major or column-major), row dimension
+ * and column dimension (1 for vectors). The header is followed by the raw little-endian elements in the order
+ * given by the layout, so the elements of a float64 file start at an aligned offset and can be mapped directly.
+ * <p>
+ * Elements are moved through a direct staging buffer in bulk, and a memory-mapped matrix is written by
+ * {@code FileChannel.transferTo}, so its elements are never copied through the heap. Single-precision matrices and
+ * vectors are stored as float32 and read back as single-precision. Transposed views of dense, single-precision and
+ * buffer matrices are stored column-major, without being transposed, and read back as transposed views. Every
+ * other matrix is stored as a dense float64 matrix.
+ * <p>
+ * Matrices written by {@link #writeColumns(Matrix, WritableByteChannel)} are stored column-major, which makes
+ * the format columnar: any selection of columns of a data set can be read without reading the others.
+ */
+public final class BinaryFormat {
+
+    /**
+     * Size of the header, in bytes, elements of a file start at this position
+     */
+    public static final int HEADER_BYTES = 16;
+
+    private static final int MAGIC = 0x584D4F4E;
+    private static final byte VERSION = 1;
+
+    private static final byte MATRIX = 0;
+    private static final byte VECTOR = 1;
+
+    private static final byte FLOAT64 = 0;
+    private static final byte FLOAT32 = 1;
+
+    private static final byte ROW_MAJOR = 0;
+    private static final byte COLUMN_MAJOR = 1;
+
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    private BinaryFormat() {
+    }
+
+    /**
+     * Writes the given matrix to the channel
+     *
+     * @param matrix  matrix
+     * @param channel output channel
+     * @throws IOException if writing fails
+     */
+    public static void write(Matrix matrix, WritableByteChannel channel) throws IOException {
+        Matrix storage = matrix;
+        byte layout = ROW_MAJOR;
+        if (matrix instanceof TransposedViewMatrix transposed && isBulk(transposed.getView())) {
+            storage = transposed.getView();
+            layout = COLUMN_MAJOR;
+        }
+
+        byte type = (storage instanceof FloatMatrix) ? FLOAT32 : FLOAT64;
+        Output output = new Output(channel);
+        output.header(new Header(MATRIX, type, layout, matrix.getRowDimension(), matrix.getColumnDimension()));
+
+        if (storage instanceof MappedMatrix mapped) {
+            output.flush();
+            transfer(mapped, channel);
+        } else {
+            writeElements(storage, output);
+            output.flush();
+        }
+    }
+
+    /**
+     * Writes the given matrix to a file, which is created or truncated
+     *
+     * @param matrix matrix
+     * @param path   file path
+     * @throws IOException if writing fails
+     */
+    public static void write(Matrix matrix, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(matrix, channel);
+        }
+    }
+
+    /**
+     * Writes the given matrix to the channel in column-major layout, every column is stored contiguously so that
+     * a selection of columns can be read without reading the others
+     *
+     * @param matrix  matrix
+     * @param channel output channel
+     * @throws IOException if writing fails
+     */
+    public static void writeColumns(Matrix matrix, WritableByteChannel channel) throws IOException {
+        if (matrix instanceof TransposedViewMatrix transposed && isBulk(transposed.getView())) {
+            write(matrix, channel);
+            return;
+        }
+
+        int rows = matrix.getRowDimension();
+        int columns = matrix.getColumnDimension();
+        Output output = new Output(channel);
+
+        if (matrix instanceof FloatMatrix floats) {
+            output.header(new Header(MATRIX, FLOAT32, COLUMN_MAJOR, rows, columns));
+            float[] data = floats.getData();
+            float[] column = new float[rows];
+            for (int j = 0; j < columns; j++) {
+                for (int i = 0, k = floats.getOffset() + j, stride = floats.getStride(); i < rows; i++, k += stride) {
+                    column[i] = data[k];
+                }
+                output.put(column, 0, rows);
+            }
+        } else {
+            output.header(new Header(MATRIX, FLOAT64, COLUMN_MAJOR, rows, columns));
+            double[] column = new double[rows];
+            for (int j = 0; j < columns; j++) {
+                if (matrix instanceof DenseMatrix dense) {
+                    double[] data = dense.getData();
+                    for (int i = 0, k = dense.getOffset() + j, stride = dense.getStride(); i < rows; i++, k += stride) {
+                        column[i] = data[k];
+                    }
+                } else {
+                    for (int i = 0; i < rows; i++) {
+                        column[i] = matrix.get(i, j);
+                    }
+                }
+                output.put(column, 0, rows);
+            }
+        }
+        output.flush();
+    }
+
+    /**
+     * Writes the given vector to the channel
+     *
+     * @param vector  vector
+     * @param channel output channel
+     * @throws IOException if writing fails
+     */
+    public static void write(Vector vector, WritableByteChannel channel) throws IOException {
+        int dimension = vector.getDimension();
+        byte type = (vector instanceof FloatVector) ? FLOAT32 : FLOAT64;
+        Output output = new Output(channel);
+        output.header(new Header(VECTOR, type, ROW_MAJOR, dimension, 1));
+
+        if (vector instanceof ArrayVector array) {
+            output.put(array.getData(), 0, dimension);
+        } else if (vector instanceof FloatVector floats) {
+            output.put(floats.getData(), 0, dimension);
+        } else if (vector instanceof OffHeapVector offHeap) {
+            output.put(offHeap.getBuffer(), 0, dimension);
+        } else {
+            double[] elements = new double[Math.min(dimension, BUFFER_BYTES / Double.BYTES)];
+            for (int from = 0; from < dimension; from += elements.length) {
+                int length = Math.min(elements.length, dimension - from);
+                for (int i = 0; i < length; i++) {
+                    elements[i] = vector.get(from + i);
+                }
+                output.put(elements, 0, length);
+            }
+        }
+        output.flush();
+    }
+
+    /**
+     * Reads a matrix from the channel into heap memory
+     *
+     * @param channel input channel
+     * @return dense or single-precision matrix, or a transposed view of one if the matrix is stored column-major
+     * @throws IOException if reading fails or data is not a matrix in this format
+     */
+    public static Matrix read(ReadableByteChannel channel) throws IOException {
+        Input input = new Input(channel);
+        Header header = input.header(MATRIX);
+        int rows = header.storedRows();
+        int columns = header.storedColumns();
+
+        Matrix storage;
+        if (header.type == FLOAT32) {
+            FloatMatrix matrix = new FloatMatrix(rows, columns);
+            input.get(matrix.getData(), 0, rows * columns);
+            storage = matrix;
+        } else {
+            DenseMatrix matrix = new DenseMatrix(rows, columns);
+            input.get(matrix.getData(), 0, rows * columns);
+            storage = matrix;
+        }
+        return header.layout == COLUMN_MAJOR ? storage.transpose() : storage;
+    }
+
+    /**
+     * Reads a matrix from the channel into off-heap memory owned by the given arena, float32 elements are widened
+     *
+     * @param channel input channel
+     * @param arena   arena
+     * @return off-heap matrix, or a transposed view of one if the matrix is stored column-major
+     * @throws IOException if reading fails or data is not a matrix in this format
+     */
+    public static Matrix read(ReadableByteChannel channel, OffHeapArena arena) throws IOException {
+        Input input = new Input(channel);
+        Header header = input.header(MATRIX);
+        int columns = header.storedColumns();
+        OffHeapMatrix matrix = new OffHeapMatrix(arena, header.storedRows(), columns);
+
+        float[] row = (header.type == FLOAT32) ? new float[columns] : null;
+        for (int i = 0, n = matrix.getChunkCount(); i < n; i++) {
+            DoubleBuffer chunk = matrix.getChunk(i);
+            if (row == null) {
+                input.get(chunk, 0, chunk.capacity());
+                continue;
+            }
+            for (int start = 0, capacity = chunk.capacity(); start < capacity; start += columns) {
+                input.get(row, 0, columns);
+                for (int j = 0; j < columns; j++) {
+                    chunk.put(start + j, row[j]);
+                }
+            }
+        }
+        return header.layout == COLUMN_MAJOR ? matrix.transpose() : matrix;
+    }
+
+    /**
+     * Reads a matrix from a file into heap memory
+     *
+     * @param path file path
+     * @return dense or single-precision matrix, or a transposed view of one if the matrix is stored column-major
+     * @throws IOException if reading fails or file does not hold a matrix in this format
+     */
+    public static Matrix read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel);
+        }
+    }
+
+    /**
+     * Maps a float64 matrix stored in a file, its elements are accessed in place and never copied
+     *
+     * @param path file path
+     * @param mode READ_ONLY or READ_WRITE
+     * @return mapped matrix, or a transposed view of one if the matrix is stored column-major
+     * @throws IOException if file cannot be mapped or does not hold a float64 matrix in this format
+     */
+    public static Matrix map(Path path, FileChannel.MapMode mode) throws IOException {
+        Header header;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            header = new Input(channel).header(MATRIX);
+        }
+        if (header.type != FLOAT64) throw new IOException("Only float64 matrices can be mapped");
+
+        MappedMatrix matrix = MappedMatrix.open(path, header.storedRows(), header.storedColumns(), HEADER_BYTES, mode);
+        return header.layout == COLUMN_MAJOR ? matrix.transpose() : matrix;
+    }
+
+    /**
+     * Maps a float64 matrix stored in a file, for reading only
+     *
+     * @param path file path
+     * @return mapped matrix, or a transposed view of one if the matrix is stored column-major
+     * @throws IOException if file cannot be mapped or does not hold a float64 matrix in this format
+     */
+    public static Matrix map(Path path) throws IOException {
+        return map(path, FileChannel.MapMode.READ_ONLY);
+    }
+
+    /**
+     * Reads the given columns of a matrix stored in a file into a dense row-major matrix, float32 elements are widened
+     * <p>
+     * Columns of a column-major file are read on their own, block of rows by block of rows, so the cost depends only
+     * on the number of selected columns. Blocks are read in parallel if parallel execution is enabled
+     * (see {@code Parallelism}). A row-major file is streamed whole.
+     *
+     * @param path    file path
+     * @param columns indices of columns to be read, in the order of columns of the result, all columns if empty
+     * @return new dense matrix
+     * @throws IOException if reading fails or file does not hold a matrix in this format
+     */
+    public static DenseMatrix readColumns(Path path, int... columns) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Header header = new Input(channel).header(MATRIX);
+            int[] selection = selection(header, columns);
+            if ((long) header.rows * selection.length > Integer.MAX_VALUE - 8)
+                throw new IOException("Selected columns do not fit into a dense matrix");
+
+            DenseMatrix matrix = new DenseMatrix(header.rows, selection.length);
+            readColumns(channel, header, selection, matrix);
+            return matrix;
+        }
+    }
+
+    /**
+     * Reads the given columns of a matrix stored in a file into an off-heap matrix owned by the given arena,
+     * as {@link #readColumns(Path, int...)} does
+     *
+     * @param path    file path
+     * @param arena   arena
+     * @param columns indices of columns to be read, in the order of columns of the result, all columns if empty
+     * @return new off-heap matrix
+     * @throws IOException if reading fails or file does not hold a matrix in this format
+     */
+    public static OffHeapMatrix readColumns(Path path, OffHeapArena arena, int... columns) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Header header = new Input(channel).header(MATRIX);
+            int[] selection = selection(header, columns);
+            OffHeapMatrix matrix = new OffHeapMatrix(arena, header.rows, selection.length);
+            readColumns(channel, header, selection, matrix);
+            return matrix;
+        }
+    }
+
+    private static int[] selection(Header header, int[] columns) {
+        if (columns.length == 0) {
+            int[] all = new int[header.columns];
+            for (int j = 0; j < all.length; j++) {
+                all[j] = j;
+            }
+            return all;
+        }
+        for (int column : columns) {
+            if (column < 0 || column >= header.columns)
+                throw new IndexOutOfBoundsException("Column index " + column + " is out of matrix bounds");
+        }
+        return columns.clone();
+    }
+
+    /**
+     * Reads the selected columns into the given dense or buffer matrix, a block of rows at a time
+     */
+    private static void readColumns(FileChannel channel, Header header, int[] selection, Matrix matrix) throws IOException {
+        int rows = header.rows;
+        int width = selection.length;
+        int bytes = (header.type == FLOAT32) ? Float.BYTES : Double.BYTES;
+
+        if (header.layout == ROW_MAJOR) {
+            Input input = new Input(channel);
+            channel.position(HEADER_BYTES);
+            double[] row = new double[header.columns];
+            float[] floats = (header.type == FLOAT32) ? new float[header.columns] : null;
+            double[] block = new double[width];
+            for (int i = 0; i < rows; i++) {
+                if (floats == null) {
+                    input.get(row, 0, row.length);
+                } else {
+                    input.get(floats, 0, floats.length);
+                    for (int j = 0; j < floats.length; j++) {
+                        row[j] = floats[j];
+                    }
+                }
+                for (int k = 0; k < width; k++) {
+                    block[k] = row[selection[k]];
+                }
+                store(matrix, i, block, 1);
+            }
+            return;
+        }
+
+        // a block of rows holds at most BUFFER_BYTES of selected elements, or a single row if that is wider
+        int blockRows = (int) Math.max(1, BUFFER_BYTES / ((long) bytes * Math.max(1, width)));
+        int blocks = (int) (((long) rows + blockRows - 1) / blockRows);
+        int tasks = Math.max(1, Math.min(blocks, IOTasks.parallelism()));
+        IOTasks.run(tasks, t -> {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(Math.min(rows, blockRows) * bytes).order(ByteOrder.LITTLE_ENDIAN);
+            double[] block = new double[Math.min(rows, blockRows) * width];
+
+            for (int b = (int) ((long) blocks * t / tasks), last = (int) ((long) blocks * (t + 1) / tasks); b < last; b++) {
+                int first = b * blockRows;
+                int count = Math.min(blockRows, rows - first);
+
+                for (int k = 0; k < width; k++) {
+                    buffer.clear().limit(count * bytes);
+                    long position = HEADER_BYTES + ((long) selection[k] * rows + first) * bytes;
+                    while (buffer.hasRemaining()) {
+                        if (channel.read(buffer, position + buffer.position()) < 0)
+                            throw new EOFException("Data ended unexpectedly");
+                    }
+
+                    if (bytes == Double.BYTES) {
+                        for (int i = 0; i < count; i++) {
+                            block[i * width + k] = buffer.getDouble(i * Double.BYTES);
+                        }
+                    } else {
+                        for (int i = 0; i < count; i++) {
+                            block[i * width + k] = buffer.getFloat(i * Float.BYTES);
+                        }
+                    }
+                }
+                store(matrix, first, block, count);
+            }
+        });
+    }
+
+    /**
+     * Copies a block of consecutive rows into the storage of the given dense or buffer matrix
+     */
+    private static void store(Matrix matrix, int first, double[] block, int count) {
+        int columns = matrix.getColumnDimension();
+        if (matrix instanceof DenseMatrix dense) {
+            double[] data = dense.getData();
+            for (int i = 0; i < count; i++) {
+                System.arraycopy(block, i * columns, data, dense.getOffset() + (first + i) * dense.getStride(), columns);
+            }
+            return;
+        }
+
+        BufferMatrix buffer = (BufferMatrix) matrix;
+        int rowsPerChunk = buffer.getRowsPerChunk();
+        for (int i = 0; i < count; i++) {
+            int row = first + i;
+            buffer.getChunk(row / rowsPerChunk).put((row % rowsPerChunk) * columns, block, i * columns, columns);
+        }
+    }
+
+    /**
+     * Reads a vector from the channel into heap memory
+     *
+     * @param channel input channel
+     * @return array or single-precision vector
+     * @throws IOException if reading fails or data is not a vector in this format
+     */
+    public static Vector readVector(ReadableByteChannel channel) throws IOException {
+        Input input = new Input(channel);
+        Header header = input.header(VECTOR);
+        int dimension = header.rows;
+
+        if (header.type == FLOAT32) {
+            FloatVector vector = new FloatVector(dimension);
+            input.get(vector.getData(), 0, dimension);
+            return vector;
+        }
+        ArrayVector vector = new ArrayVector(dimension);
+        input.get(vector.getData(), 0, dimension);
+        return vector;
+    }
+
+    /**
+     * Tests whether the elements of the given matrix are written in bulk in its storage order
+     */
+    private static boolean isBulk(Matrix matrix) {
+        return matrix instanceof DenseMatrix || matrix instanceof FloatMatrix || matrix instanceof BufferMatrix;
+    }
+
+    private static void writeElements(Matrix matrix, Output output) throws IOException {
+        int rows = matrix.getRowDimension();
+        int columns = matrix.getColumnDimension();
+
+        if (matrix instanceof DenseMatrix dense) {
+            double[] data = dense.getData();
+            int stride = dense.getStride();
+            if (stride == columns) {
+                output.put(data, dense.getOffset(), rows * columns);
+                return;
+            }
+            for (int i = 0, row = dense.getOffset(); i < rows; i++, row += stride) {
+                output.put(data, row, columns);
+            }
+            return;
+        }
+        if (matrix instanceof FloatMatrix floats) {
+            float[] data = floats.getData();
+            for (int i = 0, row = floats.getOffset(), stride = floats.getStride(); i < rows; i++, row += stride) {
+                output.put(data, row, columns);
+            }
+            return;
+        }
+        if (matrix instanceof BufferMatrix buffer) {
+            for (int i = 0, n = buffer.getChunkCount(); i < n; i++) {
+                DoubleBuffer chunk = buffer.getChunk(i);
+                output.put(chunk, 0, chunk.capacity());
+            }
+            return;
+        }
+
+        double[] row = new double[columns];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                row[j] = matrix.get(i, j);
+            }
+            output.put(row, 0, columns);
+        }
+    }
+
+    /**
+     * Transfers the elements of a mapped matrix from its file to the channel, they are stored in this format already
+     */
+    private static void transfer(MappedMatrix matrix, WritableByteChannel channel) throws IOException {
+        matrix.force();
+
+        long bytes = (long) matrix.getRowDimension() * matrix.getColumnDimension() * Double.BYTES;
+        try (FileChannel source = FileChannel.open(matrix.getPath(), StandardOpenOption.READ)) {
+            for (long position = matrix.getPosition(), end = position + bytes; position < end; ) {
+                long transferred = source.transferTo(position, end - position, channel);
+                if (transferred <= 0) throw new EOFException("File " + matrix.getPath() + " ended unexpectedly");
+                position += transferred;
+            }
+        }
+    }
+
+    /**
+     * Header of a file, stored dimensions are swapped for column-major layout
+     */
+    private record Header(byte kind, byte type, byte layout, int rows, int columns) {
+
+        private int storedRows() {
+            return layout == COLUMN_MAJOR ? columns : rows;
+        }
+
+        private int storedColumns() {
+            return layout == COLUMN_MAJOR ? rows : columns;
+        }
+    }
+
+    /**
+     * Little-endian direct staging buffer which is written to a channel whenever it fills up
+     */
+    private static final class Output {
+
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+        private Output(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        private void header(Header header) {
+            buffer.putInt(MAGIC)
+                    .put(VERSION)
+                    .put(header.kind)
+                    .put(header.type)
+                    .put(header.layout)
+                    .putInt(header.rows)
+                    .putInt(header.columns);
+        }
+
+        private void put(double[] source, int from, int length) throws IOException {
+            while (length > 0) {
+                int count = reserve(length, Double.BYTES);
+                buffer.asDoubleBuffer().put(source, from, count);
+                buffer.position(buffer.position() + count * Double.BYTES);
+                from += count;
+                length -= count;
+            }
+        }
+
+        private void put(DoubleBuffer source, int from, int length) throws IOException {
+            while (length > 0) {
+                int count = reserve(length, Double.BYTES);
+                buffer.asDoubleBuffer().put(0, source, from, count);
+                buffer.position(buffer.position() + count * Double.BYTES);
+                from += count;
+                length -= count;
+            }
+        }
+
+        private void put(float[] source, int from, int length) throws IOException {
+            while (length > 0) {
+                int count = reserve(length, Float.BYTES);
+                buffer.asFloatBuffer().put(source, from, count);
+                buffer.position(buffer.position() + count * Float.BYTES);
+                from += count;
+                length -= count;
+            }
+        }
+
+        /**
+         * Makes room for at least one element, gets the number of elements which fit into the buffer
+         */
+        private int reserve(int length, int bytes) throws IOException {
+            if (buffer.remaining() < bytes) flush();
+            return Math.min(length, buffer.remaining() / bytes);
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Little-endian direct staging buffer which is refilled from a channel whenever it runs out
+     */
+    private static final class Input {
+
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+        private Input(ReadableByteChannel channel) {
+            this.channel = channel;
+            buffer.flip();
+        }
+
+        private Header header(byte kind) throws IOException {
+            fill(HEADER_BYTES);
+            if (buffer.getInt() != MAGIC) throw new IOException("Data is not in binary matrix format");
+
+            byte version = buffer.get();
+            if (version != VERSION) throw new IOException("Unsupported format version: " + version);
+
+            Header header = new Header(buffer.get(), buffer.get(), buffer.get(), buffer.getInt(), buffer.getInt());
+            if (header.kind != kind)
+                throw new IOException("Expected a " + (kind == MATRIX ? "matrix" : "vector") + " in binary format");
+            if (header.type != FLOAT64 && header.type != FLOAT32)
+                throw new IOException("Unsupported element type: " + header.type);
+            if (header.layout != ROW_MAJOR && header.layout != COLUMN_MAJOR)
+                throw new IOException("Unsupported layout: " + header.layout);
+            if (header.rows < 0 || header.columns < 0)
+                throw new IOException("Invalid dimensions: " + header.rows + " x " + header.columns);
+            return header;
+        }
+
+        private void get(double[] destination, int from, int length) throws IOException {
+            while (length > 0) {
+                int count = available(length, Double.BYTES);
+                buffer.asDoubleBuffer().get(destination, from, count);
+                buffer.position(buffer.position() + count * Double.BYTES);
+                from += count;
+                length -= count;
+            }
+        }
+
+        private void get(DoubleBuffer destination, int from, int length) throws IOException {
+            while (length > 0) {
+                int count = available(length, Double.BYTES);
+                destination.put(from, buffer.asDoubleBuffer(), 0, count);
+                buffer.position(buffer.position() + count * Double.BYTES);
+                from += count;
+                length -= count;
+            }
+        }
+
+        private void get(float[] destination, int from, int length) throws IOException {
+            while (length > 0) {
+                int count = available(length, Float.BYTES);
+                buffer.asFloatBuffer().get(destination, from, count);
+                buffer.position(buffer.position() + count * Float.BYTES);
+                from += count;
+                length -= count;
+            }
+        }
+
+        /**
+         * Makes at least one element available, gets the number of available elements
+         */
+        private int available(int length, int bytes) throws IOException {
+            fill(bytes);
+            return Math.min(length, buffer.remaining() / bytes);
+        }
+
+        /**
+         * Reads from the channel until at least the given number of bytes is available
+         */
+        private void fill(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) return;
+
+            buffer.compact();
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) throw new EOFException("Data ended unexpectedly");
+            }
+            buffer.flip();
+        }
+    }
+}
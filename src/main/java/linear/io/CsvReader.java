@@ -0,0 +1,362 @@
+package linear.io;
+
+import linear.matrix.BufferMatrix;
+import linear.matrix.DenseMatrix;
+import linear.matrix.Matrix;
+import linear.matrix.OffHeapMatrix;
+import linear.memory.OffHeapArena;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reader of numeric CSV data into a matrix with one row per line
+ * <p>
+ * Text is read in blocks into a reusable byte buffer and numbers are parsed straight from its bytes into the rows
+ * of the matrix, so no strings or boxed numbers are created. Fields may be surrounded by whitespace or double
+ * quotes, empty fields are NaN and blank lines are skipped. Every line must have as many fields as the first one.
+ * <p>
+ * A file is read in two passes: lines are counted first, so the matrix is allocated once with its final dimensions,
+ * and then parsed into it. If parallel execution is enabled (see {@code Parallelism}), the file is split into
+ * segments at line boundaries and both passes process segments in parallel, every segment filling its own rows.
+ * Data read from a channel is streamed in a single pass.
+ */
+public class CsvReader {
+
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    /**
+     * Smallest segment of a file worth parsing as a separate task, in bytes
+     */
+    private static final long MIN_SEGMENT_BYTES = 1 << 22;
+
+    private final byte delimiter;
+    private final boolean header;
+
+    public CsvReader() {
+        this(',', false);
+    }
+
+    /**
+     * @param delimiter field delimiter, an ASCII character
+     * @param header    whether the first line is a header, which is skipped
+     */
+    public CsvReader(char delimiter, boolean header) {
+        if (delimiter > 127 || delimiter == '\n' || delimiter == '"')
+            throw new IllegalArgumentException("Invalid delimiter: " + delimiter);
+
+        this.delimiter = (byte) delimiter;
+        this.header = header;
+    }
+
+    /**
+     * Reads all data from the channel into a dense matrix
+     *
+     * @param channel input channel
+     * @return new dense matrix
+     * @throws IOException if reading fails or data is not numeric CSV
+     */
+    public DenseMatrix read(ReadableByteChannel channel) throws IOException {
+        StreamingParser parser = new StreamingParser();
+        scan((buffer, position) -> channel.read(buffer), 0, Long.MAX_VALUE, parser);
+        return parser.toMatrix();
+    }
+
+    /**
+     * Reads a file into a dense matrix
+     *
+     * @param path file path
+     * @return new dense matrix
+     * @throws IOException if reading fails or file is not numeric CSV
+     */
+    public DenseMatrix read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Segments segments = split(channel);
+            long elements = (long) segments.rows() * segments.columns;
+            if (elements > Integer.MAX_VALUE - 8)
+                throw new IOException("Data of " + elements + " elements does not fit into a dense matrix");
+
+            DenseMatrix matrix = new DenseMatrix(segments.rows(), segments.columns);
+            parse(channel, segments, matrix);
+            return matrix;
+        }
+    }
+
+    /**
+     * Reads a file into an off-heap matrix owned by the given arena
+     *
+     * @param path  file path
+     * @param arena arena
+     * @return new off-heap matrix
+     * @throws IOException if reading fails or file is not numeric CSV
+     */
+    public OffHeapMatrix read(Path path, OffHeapArena arena) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Segments segments = split(channel);
+            OffHeapMatrix matrix = new OffHeapMatrix(arena, segments.rows(), segments.columns);
+            parse(channel, segments, matrix);
+            return matrix;
+        }
+    }
+
+    /**
+     * Splits the data lines of a file into segments and counts the rows of every segment
+     */
+    private Segments split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long start = header ? lineStart(channel, 1) : 0;
+
+        int count = (int) Math.max(1, Math.min(IOTasks.parallelism(), (size - start) / MIN_SEGMENT_BYTES));
+        long[] bounds = new long[count + 1];
+        bounds[0] = start;
+        for (int i = 1; i < count; i++) {
+            bounds[i] = Math.max(bounds[i - 1], lineStart(channel, start + (size - start) * i / count));
+        }
+        bounds[count] = size;
+
+        int[] firstFields = {-1};
+        scan(channel::read, start, size, (bytes, from, to) -> {
+            if (isBlank(bytes, from, to)) return true;
+            firstFields[0] = fields(bytes, from, to);
+            return false;
+        });
+
+        Segments segments = new Segments(bounds, new int[count + 1], Math.max(0, firstFields[0]));
+        IOTasks.run(count, i -> {
+            int[] rows = {0};
+            scan(channel::read, bounds[i], bounds[i + 1], (bytes, from, to) -> {
+                if (!isBlank(bytes, from, to)) rows[0]++;
+                return true;
+            });
+            segments.offsets[i + 1] = rows[0];
+        });
+        for (int i = 0; i < count; i++) {
+            if ((long) segments.offsets[i] + segments.offsets[i + 1] > Integer.MAX_VALUE)
+                throw new IOException("File has too many lines for a matrix");
+            segments.offsets[i + 1] += segments.offsets[i];
+        }
+        return segments;
+    }
+
+    /**
+     * Parses every segment into its rows of the given matrix
+     */
+    private void parse(FileChannel channel, Segments segments, Matrix matrix) throws IOException {
+        IOTasks.run(segments.offsets.length - 1, i -> {
+            double[] row = new double[segments.columns];
+            int[] index = {segments.offsets[i]};
+            scan(channel::read, segments.bounds[i], segments.bounds[i + 1], (bytes, from, to) -> {
+                if (isBlank(bytes, from, to)) return true;
+
+                parse(bytes, from, to, row, index[0]);
+                store(matrix, index[0]++, row);
+                return true;
+            });
+        });
+    }
+
+    /**
+     * Copies a parsed row into the storage of the matrix
+     */
+    private static void store(Matrix matrix, int index, double[] row) {
+        if (matrix instanceof DenseMatrix dense) {
+            System.arraycopy(row, 0, dense.getData(), dense.getOffset() + index * dense.getStride(), row.length);
+        } else {
+            ((BufferMatrix) matrix).setRow(index, row);
+        }
+    }
+
+    /**
+     * Parses the fields of a line into the given row, whose length is the expected number of fields
+     */
+    private void parse(byte[] bytes, int from, int to, double[] row, long index) throws IOException {
+        int count = 0;
+        for (int i = from, start = from; ; i++) {
+            if (i < to && bytes[i] != delimiter) continue;
+
+            if (count == row.length) throw new IOException("Row " + index + " has more than " + row.length + " fields");
+            try {
+                row[count++] = NumberParser.parse(bytes, start, i);
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid number in row " + index + ": " + e.getMessage());
+            }
+
+            if (i == to) break;
+            start = i + 1;
+        }
+        if (count != row.length) throw new IOException("Row " + index + " has " + count + " fields, expected " + row.length);
+    }
+
+    /**
+     * Counts the fields of a line
+     */
+    private int fields(byte[] bytes, int from, int to) {
+        int count = 1;
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == delimiter) count++;
+        }
+        return count;
+    }
+
+    private static boolean isBlank(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] != ' ' && bytes[i] != '\t' && bytes[i] != '\r') return false;
+        }
+        return true;
+    }
+
+    /**
+     * Finds the start of the first line which starts at the given position or after it
+     */
+    private static long lineStart(FileChannel channel, long position) throws IOException {
+        if (position == 0) return 0;
+
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+        for (long base = position - 1; ; base += buffer.limit()) {
+            buffer.clear();
+            if (channel.read(buffer, base) < 0) return channel.size();
+
+            buffer.flip();
+            for (int i = 0, n = buffer.limit(); i < n; i++) {
+                if (buffer.get(i) == '\n') return base + i + 1;
+            }
+        }
+    }
+
+    /**
+     * Passes every line which starts in the range [start, end) to the given action, lines are read through a buffer
+     * which grows only if a line does not fit into it
+     *
+     * @param source source of bytes, {@code start} must be the start of a line
+     * @param start  first position, inclusive
+     * @param end    last position, exclusive
+     * @param action action performed on every line, without its line terminator
+     */
+    private static void scan(Source source, long start, long end, LineAction action) throws IOException {
+        byte[] bytes = new byte[BUFFER_BYTES];
+        long base = start;
+        int length = 0;
+        int from = 0;
+        int scanned = 0;
+        boolean eof = false;
+
+        while (true) {
+            int newline = -1;
+            for (int i = scanned; i < length; i++) {
+                if (bytes[i] == '\n') {
+                    newline = i;
+                    break;
+                }
+            }
+
+            if (newline >= 0) {
+                if (base + from >= end || !action.line(bytes, from, newline)) return;
+                from = newline + 1;
+                scanned = from;
+                continue;
+            }
+            scanned = length;
+
+            if (eof) {
+                if (from < length && base + from < end) action.line(bytes, from, length);
+                return;
+            }
+
+            if (from > 0) {
+                System.arraycopy(bytes, from, bytes, 0, length - from);
+                base += from;
+                length -= from;
+                scanned -= from;
+                from = 0;
+            }
+            if (length == bytes.length) bytes = Arrays.copyOf(bytes, 2 * bytes.length);
+
+            int read = source.read(ByteBuffer.wrap(bytes, length, bytes.length - length), base + length);
+            if (read < 0) {
+                eof = true;
+            } else {
+                length += read;
+            }
+        }
+    }
+
+    /**
+     * Represents a source of bytes, which may ignore the position if it is read sequentially
+     */
+    @FunctionalInterface
+    private interface Source {
+
+        int read(ByteBuffer buffer, long position) throws IOException;
+    }
+
+    /**
+     * Represents an action performed on a line, given as a range of a byte array
+     */
+    @FunctionalInterface
+    private interface LineAction {
+
+        /**
+         * @return true if scanning should continue, false otherwise
+         */
+        boolean line(byte[] bytes, int from, int to) throws IOException;
+    }
+
+    /**
+     * Segments of a file, segment i spans positions [bounds[i], bounds[i + 1]) and fills rows
+     * [offsets[i], offsets[i + 1]) of the matrix
+     */
+    private record Segments(long[] bounds, int[] offsets, int columns) {
+
+        private int rows() {
+            return offsets[offsets.length - 1];
+        }
+    }
+
+    /**
+     * Parses streamed lines into a growing array, which becomes the storage of the resulting matrix
+     */
+    private final class StreamingParser implements LineAction {
+
+        private boolean skipHeader = header;
+        private double[] data = new double[0];
+        private double[] row;
+        private int rows;
+
+        @Override
+        public boolean line(byte[] bytes, int from, int to) throws IOException {
+            if (skipHeader) {
+                skipHeader = false;
+                return true;
+            }
+            if (isBlank(bytes, from, to)) return true;
+
+            if (row == null) {
+                row = new double[fields(bytes, from, to)];
+                data = new double[row.length * 1024];
+            }
+            parse(bytes, from, to, row, rows);
+
+            int columns = row.length;
+            if ((long) (rows + 1) * columns > data.length) {
+                long capacity = Math.min(Integer.MAX_VALUE - 8, 2L * data.length);
+                if (capacity < (long) (rows + 1) * columns)
+                    throw new IOException("Data does not fit into a dense matrix");
+                data = Arrays.copyOf(data, (int) capacity);
+            }
+            System.arraycopy(row, 0, data, rows * columns, columns);
+            rows++;
+            return true;
+        }
+
+        private DenseMatrix toMatrix() {
+            int columns = (row == null) ? 0 : row.length;
+            int size = rows * columns;
+            return new DenseMatrix(rows, columns, data.length == size ? data : Arrays.copyOf(data, size));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package linear.io;
+
+import linear.linalg.Parallelism;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
+
+/**
+ * Runs independent input tasks, in parallel on the pool of {@code Parallelism} if parallel execution is enabled
+ */
+final class IOTasks {
+
+    private IOTasks() {
+    }
+
+    /**
+     * Represents a task identified by its index
+     */
+    @FunctionalInterface
+    interface Task {
+
+        void run(int index) throws IOException;
+    }
+
+    /**
+     * Gets the number of tasks worth splitting work into
+     *
+     * @return one if parallel execution is disabled, a few tasks per thread of the pool otherwise
+     */
+    static int parallelism() {
+        return Parallelism.isEnabled() ? 4 * Parallelism.getPool().getParallelism() : 1;
+    }
+
+    /**
+     * Runs tasks with indices in [0, count), rethrowing the first exception
+     *
+     * @param count number of tasks
+     * @param task  task
+     * @throws IOException if a task fails
+     */
+    static void run(int count, Task task) throws IOException {
+        if (!Parallelism.isEnabled() || count < 2) {
+            for (int i = 0; i < count; i++) {
+                task.run(i);
+            }
+            return;
+        }
+
+        try {
+            Parallelism.getPool().invoke(ForkJoinTask.adapt(() -> IntStream.range(0, count).parallel().forEach(i -> {
+                try {
+                    task.run(i);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            })));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package linear.io;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parser of decimal numbers in ASCII text which does not allocate for common inputs
+ * <p>
+ * Up to 18 significant digits are collected into a long. If they fit into 53 bits and the decimal exponent is at
+ * most 22 in magnitude, both the digits and the power of ten are exact doubles, so a single multiplication or
+ * division gives the correctly rounded result. Otherwise the digits are multiplied by a 128-bit approximation of
+ * the power of ten (the Eisel-Lemire algorithm), which gives the correctly rounded result unless the product is too
+ * close to a halfway point to decide. Only such numbers, subnormal numbers, NaN and infinities fall back to
+ * {@code Double.parseDouble}, so results are always identical to it.
+ */
+final class NumberParser {
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final long MAX_EXACT = 1L << 53;
+    private static final int MAX_DIGITS = 18;
+
+    private static final int MIN_EXPONENT = -342;
+    private static final int MAX_EXPONENT = 308;
+
+    /**
+     * Normalized 128-bit approximations (rounded down) of powers of ten from 10^MIN_EXPONENT to 10^MAX_EXPONENT,
+     * high and low 64 bits of 10^e at indices 2 * (e - MIN_EXPONENT) and 2 * (e - MIN_EXPONENT) + 1
+     */
+    private static final long[] POWERS = powers();
+
+    private NumberParser() {
+    }
+
+    /**
+     * Parses the number in the given range, surrounding whitespace and double quotes are ignored and an empty
+     * field is NaN
+     *
+     * @param bytes text
+     * @param from  first index, inclusive
+     * @param to    last index, exclusive
+     * @return parsed number
+     * @throws NumberFormatException if the range does not hold a number
+     */
+    static double parse(byte[] bytes, int from, int to) {
+        while (from < to && isIgnored(bytes[from])) from++;
+        while (to > from && isIgnored(bytes[to - 1])) to--;
+        if (from == to) return Double.NaN;
+
+        int i = from;
+        boolean negative = false;
+        if (bytes[i] == '-' || bytes[i] == '+') {
+            negative = bytes[i] == '-';
+            i++;
+        }
+
+        long digits = 0;
+        int count = 0;
+        int exponent = 0;
+        boolean truncated = false;
+        boolean any = false;
+
+        for (; i < to && isDigit(bytes[i]); i++) {
+            any = true;
+            if (count < MAX_DIGITS) {
+                digits = digits * 10 + (bytes[i] - '0');
+                if (digits != 0) count++;
+            } else {
+                exponent++;
+                truncated |= bytes[i] != '0';
+            }
+        }
+        if (i < to && bytes[i] == '.') {
+            for (i++; i < to && isDigit(bytes[i]); i++) {
+                any = true;
+                if (count < MAX_DIGITS) {
+                    digits = digits * 10 + (bytes[i] - '0');
+                    if (digits != 0) count++;
+                    exponent--;
+                } else {
+                    truncated |= bytes[i] != '0';
+                }
+            }
+        }
+        if (!any) return fallback(bytes, from, to);
+
+        if (i < to && (bytes[i] == 'e' || bytes[i] == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+                negativeExponent = bytes[i] == '-';
+                i++;
+            }
+            if (i == to) return fallback(bytes, from, to);
+
+            int value = 0;
+            for (; i < to && isDigit(bytes[i]); i++) {
+                if (value < 100_000) value = value * 10 + (bytes[i] - '0');
+            }
+            exponent += negativeExponent ? -value : value;
+        }
+        if (i != to) return fallback(bytes, from, to);
+
+        if (digits == 0) return negative ? -0. : 0.;
+        if (!truncated && digits <= MAX_EXACT && exponent >= -22 && exponent <= 22) {
+            double value = exponent >= 0 ? digits * POWERS_OF_TEN[exponent] : digits / POWERS_OF_TEN[-exponent];
+            return negative ? -value : value;
+        }
+
+        // truncated digits lie between digits and digits + 1, both have to round to the same double
+        long bits = eiselLemire(digits, exponent);
+        if (bits < 0 || (truncated && bits != eiselLemire(digits + 1, exponent))) return fallback(bytes, from, to);
+
+        double value = Double.longBitsToDouble(bits);
+        return negative ? -value : value;
+    }
+
+    /**
+     * Computes the bits of the double nearest to digits * 10^exponent by the Eisel-Lemire algorithm
+     *
+     * @param digits   positive decimal significand
+     * @param exponent decimal exponent
+     * @return bits of the positive double, or -1 if the result cannot be decided or is subnormal or infinite
+     */
+    private static long eiselLemire(long digits, int exponent) {
+        if (exponent < MIN_EXPONENT || exponent > MAX_EXPONENT) return -1;
+
+        int shift = Long.numberOfLeadingZeros(digits);
+        long mantissa = digits << shift;
+        long exponent2 = ((217706L * exponent) >> 16) + 64 + 1023 - shift;
+
+        int index = 2 * (exponent - MIN_EXPONENT);
+        long high = multiplyHigh(mantissa, POWERS[index]);
+        long low = mantissa * POWERS[index];
+
+        if ((high & 0x1FF) == 0x1FF && Long.compareUnsigned(low + mantissa, mantissa) < 0) {
+            long carry = multiplyHigh(mantissa, POWERS[index + 1]);
+            long mergedLow = low + carry;
+            long mergedHigh = Long.compareUnsigned(mergedLow, low) < 0 ? high + 1 : high;
+            if ((mergedHigh & 0x1FF) == 0x1FF && mergedLow == -1
+                    && Long.compareUnsigned(mantissa * POWERS[index + 1] + mantissa, mantissa) < 0) return -1;
+            high = mergedHigh;
+            low = mergedLow;
+        }
+
+        int top = (int) (high >>> 63);
+        long result = high >>> (top + 9);
+        exponent2 -= 1 ^ top;
+
+        if (low == 0 && (high & 0x1FF) == 0 && (result & 3) == 1) return -1;
+
+        result = (result + (result & 1)) >>> 1;
+        if ((result >>> 53) > 0) {
+            result >>>= 1;
+            exponent2++;
+        }
+        if (exponent2 <= 0 || exponent2 >= 0x7FF) return -1;
+
+        return (exponent2 << 52) | (result & 0xFFFFFFFFFFFFFL);
+    }
+
+    /**
+     * Gets the high 64 bits of the unsigned 128-bit product
+     */
+    private static long multiplyHigh(long a, long b) {
+        return Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+    }
+
+    private static long[] powers() {
+        long[] powers = new long[2 * (MAX_EXPONENT - MIN_EXPONENT + 1)];
+        BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+        for (int e = MIN_EXPONENT; e <= MAX_EXPONENT; e++) {
+            BigInteger power = BigInteger.TEN.pow(Math.abs(e));
+            BigInteger normalized;
+            if (e >= 0) {
+                int excess = power.bitLength() - 128;
+                normalized = excess > 0 ? power.shiftRight(excess) : power.shiftLeft(-excess);
+            } else {
+                normalized = BigInteger.ONE.shiftLeft(power.bitLength() + 127).divide(power);
+            }
+            int index = 2 * (e - MIN_EXPONENT);
+            powers[index] = normalized.shiftRight(64).longValue();
+            powers[index + 1] = normalized.and(mask).longValue();
+        }
+        return powers;
+    }
+
+    private static double fallback(byte[] bytes, int from, int to) {
+        return Double.parseDouble(new String(bytes, from, to - from, StandardCharsets.US_ASCII));
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static boolean isIgnored(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '"';
+    }
+}
@@ -0,0 +1,135 @@
+package linear.iterative;
+
+import linear.Matrices;
+import linear.decompose.LinearEquationSolver;
+import linear.exceptions.DimensionMismatchException;
+import linear.exceptions.NonConvergenceException;
+import linear.exceptions.NonSquareMatrixException;
+import linear.matrix.Matrix;
+import linear.operator.LinearOperator;
+import linear.vector.ArrayVector;
+import linear.vector.Vector;
+
+import java.util.Objects;
+
+/**
+ * Abstract implementation of a Krylov subspace solver of Ax = b, which accesses A only through matrix-vector
+ * products and so works for matrix-free operators
+ * <p>
+ * Iteration starts from x = 0 and stops once the relative residual drops to {@code tolerance}. This is the
+ * Euclidean norm ratio {@code ||b - Ax|| / ||b||} for conjugate gradients and GMRES, while MINRES measures both norms
+ * in the norm induced by the inverse of the preconditioner (the Euclidean norm if there is none). Solvers which do
+ * not get there within the iteration limit throw {@code NonConvergenceException}, unless they are set to return
+ * their last iterate instead. The preconditioner is an operator approximating the inverse of A, and must be
+ * symmetric positive definite for the symmetric methods. Solvers keep the statistics of the last solve, so they are
+ * meant to be used by a single thread.
+ */
+public abstract class AbstractIterativeSolver implements LinearEquationSolver {
+
+    protected static final double DEFAULT_TOLERANCE = 1e-10;
+
+    protected final LinearOperator operator;
+    protected final LinearOperator preconditioner;
+    protected final double tolerance;
+    protected final int maxIterations;
+    protected final int dimension;
+
+    protected boolean returnLastIterate;
+
+    protected int iterations;
+    protected double residual;
+
+    protected AbstractIterativeSolver(LinearOperator operator, LinearOperator preconditioner, double tolerance, int maxIterations) {
+        this.operator = Objects.requireNonNull(operator);
+        if (operator.getRowDimension() != operator.getColumnDimension())
+            throw new NonSquareMatrixException(operator.getRowDimension(), operator.getColumnDimension());
+        if (preconditioner != null && (preconditioner.getRowDimension() != operator.getRowDimension()
+                || preconditioner.getColumnDimension() != operator.getColumnDimension()))
+            throw new IllegalArgumentException("Preconditioner dimensions do not match operator dimensions");
+        if (!(tolerance > 0.)) throw new IllegalArgumentException("Tolerance must be positive");
+        if (maxIterations < 1) throw new IllegalArgumentException("Iteration limit must be positive");
+
+        this.preconditioner = preconditioner;
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+        this.dimension = operator.getRowDimension();
+    }
+
+    public boolean isReturnLastIterate() {
+        return returnLastIterate;
+    }
+
+    /**
+     * Sets whether a solve which does not converge within the iteration limit returns its last iterate, which is
+     * useful when an approximate solution is good enough (e.g. a truncated Newton step)
+     *
+     * @param returnLastIterate true if the last iterate should be returned, false if non-convergence should throw
+     */
+    public void setReturnLastIterate(boolean returnLastIterate) {
+        this.returnLastIterate = returnLastIterate;
+    }
+
+    /**
+     * Gets the number of iterations performed by the last solve
+     *
+     * @return iteration count
+     */
+    public int getIterationCount() {
+        return iterations;
+    }
+
+    /**
+     * Gets the relative residual norm reached by the last solve, measured as described in the class documentation
+     *
+     * @return relative residual
+     */
+    public double getResidual() {
+        return residual;
+    }
+
+    /**
+     * Handles a solve which reached the iteration limit
+     *
+     * @param x last iterate
+     * @return last iterate, if it should be returned
+     * @throws NonConvergenceException otherwise
+     */
+    protected Vector notConverged(Vector x) {
+        if (!returnLastIterate) throw new NonConvergenceException(iterations, residual);
+        return x;
+    }
+
+    /**
+     * Computes out = M^-1 * in, which is a copy of in when there is no preconditioner
+     */
+    protected void precondition(ArrayVector in, ArrayVector out) {
+        if (preconditioner == null) {
+            System.arraycopy(in.getData(), 0, out.getData(), 0, dimension);
+        } else {
+            preconditioner.apply(in, out);
+        }
+    }
+
+    /**
+     * Copies the right side of the equation into a new array vector
+     */
+    protected ArrayVector toArrayVector(Vector b) {
+        if (b.getDimension() != dimension) throw new DimensionMismatchException(b.getDimension(), dimension);
+
+        double[] array = new double[dimension];
+        for (int i = 0; i < dimension; i++) {
+            array[i] = b.get(i);
+        }
+        return new ArrayVector(array);
+    }
+
+    /**
+     * Inverts the operator column by column, which costs n solves
+     *
+     * @return inverted matrix
+     */
+    @Override
+    public Matrix invert() {
+        return solve(Matrices.identity(dimension));
+    }
+}
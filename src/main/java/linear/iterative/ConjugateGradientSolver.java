@@ -0,0 +1,69 @@
+package linear.iterative;
+
+import linear.exceptions.NonPositiveDefiniteMatrixException;
+import linear.linalg.LinearAlgebra;
+import linear.operator.LinearOperator;
+import linear.vector.ArrayVector;
+import linear.vector.Vector;
+
+/**
+ * Implementation of the (preconditioned) conjugate gradient method for symmetric positive definite operators
+ * <p>
+ * Every iteration costs one operator application, one preconditioner application and O(n) work, and needs
+ * four work vectors. A direction of non-positive curvature is reported with
+ * {@code NonPositiveDefiniteMatrixException}, so the solver can also serve as a cheap definiteness test.
+ */
+public class ConjugateGradientSolver extends AbstractIterativeSolver {
+
+    public ConjugateGradientSolver(LinearOperator operator) {
+        this(operator, null, DEFAULT_TOLERANCE, operator.getRowDimension());
+    }
+
+    public ConjugateGradientSolver(LinearOperator operator, LinearOperator preconditioner, double tolerance, int maxIterations) {
+        super(operator, preconditioner, tolerance, maxIterations);
+    }
+
+    @Override
+    public Vector solve(Vector b) {
+        ArrayVector r = toArrayVector(b);
+        ArrayVector x = new ArrayVector(dimension);
+        ArrayVector z = new ArrayVector(dimension);
+        ArrayVector q = new ArrayVector(dimension);
+
+        double norm = LinearAlgebra.norm(r);
+        iterations = 0;
+        residual = 0.;
+        if (norm == 0.) return x;
+
+        precondition(r, z);
+        ArrayVector p = z.copy();
+        double rz = LinearAlgebra.inner(r, z);
+
+        while (iterations < maxIterations) {
+            iterations++;
+
+            operator.apply(p, q);
+            double curvature = LinearAlgebra.inner(p, q);
+            if (!(curvature > 0.)) throw new NonPositiveDefiniteMatrixException();
+
+            double alpha = rz / curvature;
+            LinearAlgebra.axpy(alpha, p, x);
+            LinearAlgebra.axpy(-alpha, q, r);
+
+            residual = LinearAlgebra.norm(r) / norm;
+            if (residual <= tolerance) return x;
+
+            precondition(r, z);
+            double rzNext = LinearAlgebra.inner(r, z);
+            double beta = rzNext / rz;
+            rz = rzNext;
+
+            double[] pData = p.getData();
+            double[] zData = z.getData();
+            for (int i = 0; i < dimension; i++) {
+                pData[i] = zData[i] + beta * pData[i];
+            }
+        }
+        return notConverged(x);
+    }
+}
@@ -0,0 +1,126 @@
+package linear.iterative;
+
+import linear.exceptions.SingularMatrixException;
+import linear.linalg.LinearAlgebra;
+import linear.operator.LinearOperator;
+import linear.vector.ArrayVector;
+import linear.vector.Vector;
+
+import java.util.Arrays;
+
+/**
+ * Implementation of the restarted GMRES(m) method for general (non-symmetric) operators
+ * <p>
+ * The residual norm is minimized over a Krylov subspace of dimension at most m, built with modified Gram-Schmidt
+ * orthogonalization, after which the method restarts from the current iterate. The preconditioner is applied from
+ * the right, so the minimized residual is the true residual of the system. Every iteration costs one operator
+ * application, one preconditioner application and O(m * n) work, and the basis takes m + 1 work vectors.
+ */
+public class GmresSolver extends AbstractIterativeSolver {
+
+    private static final int DEFAULT_RESTART = 30;
+
+    private final int restart;
+
+    public GmresSolver(LinearOperator operator) {
+        this(operator, null, DEFAULT_TOLERANCE, operator.getRowDimension(), DEFAULT_RESTART);
+    }
+
+    public GmresSolver(LinearOperator operator, LinearOperator preconditioner, double tolerance, int maxIterations, int restart) {
+        super(operator, preconditioner, tolerance, maxIterations);
+        if (restart < 1) throw new IllegalArgumentException("Restart length must be positive");
+
+        this.restart = Math.min(restart, dimension);
+    }
+
+    public int getRestart() {
+        return restart;
+    }
+
+    @Override
+    public Vector solve(Vector b) {
+        ArrayVector rhs = toArrayVector(b);
+        ArrayVector x = new ArrayVector(dimension);
+        ArrayVector r = new ArrayVector(dimension);
+        ArrayVector z = new ArrayVector(dimension);
+        ArrayVector[] basis = new ArrayVector[restart + 1];
+        double[][] h = new double[restart + 1][restart];
+        double[] g = new double[restart + 1];
+        double[] cs = new double[restart];
+        double[] sn = new double[restart];
+        double[] coefficients = new double[restart];
+
+        double norm = LinearAlgebra.norm(rhs);
+        iterations = 0;
+        residual = 0.;
+        if (norm == 0.) return x;
+
+        while (true) {
+            // r = b - A * x
+            operator.apply(x, r);
+            double[] rData = r.getData();
+            double[] bData = rhs.getData();
+            for (int i = 0; i < dimension; i++) {
+                rData[i] = bData[i] - rData[i];
+            }
+            double beta = LinearAlgebra.norm(r);
+            residual = beta / norm;
+            if (residual <= tolerance) return x;
+            if (iterations >= maxIterations) return notConverged(x);
+
+            if (basis[0] == null) basis[0] = new ArrayVector(dimension);
+            LinearAlgebra.multiply(r, 1. / beta, basis[0]);
+            Arrays.fill(g, 0.);
+            g[0] = beta;
+
+            int k = 0;
+            while (k < restart && iterations < maxIterations) {
+                iterations++;
+
+                precondition(basis[k], z);
+                ArrayVector w = (basis[k + 1] != null) ? basis[k + 1] : (basis[k + 1] = new ArrayVector(dimension));
+                operator.apply(z, w);
+                for (int i = 0; i <= k; i++) {
+                    h[i][k] = LinearAlgebra.inner(w, basis[i]);
+                    LinearAlgebra.axpy(-h[i][k], basis[i], w);
+                }
+                double next = LinearAlgebra.norm(w);
+                h[k + 1][k] = next;
+                if (next != 0.) LinearAlgebra.multiply(w, 1. / next, w);
+
+                for (int i = 0; i < k; i++) {
+                    double temp = cs[i] * h[i][k] + sn[i] * h[i + 1][k];
+                    h[i + 1][k] = -sn[i] * h[i][k] + cs[i] * h[i + 1][k];
+                    h[i][k] = temp;
+                }
+                double rho = Math.hypot(h[k][k], h[k + 1][k]);
+                if (rho == 0.) throw new SingularMatrixException();
+                cs[k] = h[k][k] / rho;
+                sn[k] = h[k + 1][k] / rho;
+                h[k][k] = rho;
+                h[k + 1][k] = 0.;
+                g[k + 1] = -sn[k] * g[k];
+                g[k] = cs[k] * g[k];
+                k++;
+
+                residual = Math.abs(g[k]) / norm;
+                if (residual <= tolerance) break;
+            }
+
+            // x += M^-1 * (V * y), where H * y = g is solved by back substitution
+            for (int i = k - 1; i >= 0; i--) {
+                double sum = g[i];
+                for (int j = i + 1; j < k; j++) {
+                    sum -= h[i][j] * coefficients[j];
+                }
+                coefficients[i] = sum / h[i][i];
+            }
+            ArrayVector update = new ArrayVector(dimension);
+            for (int i = 0; i < k; i++) {
+                LinearAlgebra.axpy(coefficients[i], basis[i], update);
+            }
+            precondition(update, z);
+            LinearAlgebra.axpy(1., z, x);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package linear.iterative;
+
+import linear.exceptions.NonPositiveDefiniteMatrixException;
+import linear.exceptions.NonSquareMatrixException;
+import linear.matrix.BandMatrix;
+import linear.matrix.Matrix;
+import linear.matrix.SparseMatrix;
+import linear.operator.LinearOperator;
+import linear.vector.Vector;
+
+/**
+ * Incomplete Cholesky preconditioner IC(0) of a symmetric positive definite matrix, which applies
+ * the inverse of L * L^T, where L has the sparsity pattern of the lower triangle of the matrix
+ * <p>
+ * Only the lower triangle of the matrix is read, sparse matrices are read through their compressed structure.
+ * Factorization can break down on a non-positive pivot even for a positive definite matrix, which is reported
+ * with {@code NonPositiveDefiniteMatrixException}; factoring A + shift * diag(A) with a small positive shift
+ * usually avoids it.
+ */
+public class IncompleteCholeskyPreconditioner implements LinearOperator {
+
+    private final int dimension;
+    private final int[][] columns;
+    private final double[][] values;
+    private final double[] work;
+
+    public IncompleteCholeskyPreconditioner(Matrix matrix) {
+        this(matrix, 0.);
+    }
+
+    public IncompleteCholeskyPreconditioner(Matrix matrix, double shift) {
+        dimension = matrix.getRowDimension();
+        if (dimension != matrix.getColumnDimension()) throw new NonSquareMatrixException(dimension, matrix.getColumnDimension());
+
+        columns = new int[dimension][];
+        values = new double[dimension][];
+        work = new double[dimension];
+        pattern(matrix);
+        factor(shift);
+    }
+
+    /**
+     * Collects the non-zero elements of the lower triangle row by row, in increasing column order,
+     * the diagonal element is always stored last
+     */
+    private void pattern(Matrix matrix) {
+        int[] counts = new int[dimension];
+        if (matrix instanceof SparseMatrix sparse) {
+            int[] pointers = sparse.getPointers();
+            int[] indices = sparse.getIndices();
+            double[] data = sparse.getValues();
+            boolean byColumns = sparse.isColumnCompressed();
+            for (int pass = 0; pass < 2; pass++) {
+                for (int major = 0; major < pointers.length - 1; major++) {
+                    for (int k = pointers[major]; k < pointers[major + 1]; k++) {
+                        int i = byColumns ? indices[k] : major;
+                        int j = byColumns ? major : indices[k];
+                        if (j >= i || data[k] == 0.) continue;
+
+                        if (pass == 1) {
+                            columns[i][counts[i]] = j;
+                            values[i][counts[i]] = data[k];
+                        }
+                        counts[i]++;
+                    }
+                }
+                for (int i = 0; i < dimension; i++) {
+                    if (pass == 0) {
+                        columns[i] = new int[counts[i] + 1];
+                        values[i] = new double[counts[i] + 1];
+                    }
+                    columns[i][counts[i]] = i;
+                    values[i][counts[i]] = matrix.get(i, i);
+                    counts[i] = 0;
+                }
+            }
+            return;
+        }
+
+        for (int i = 0; i < dimension; i++) {
+            int first = (matrix instanceof BandMatrix band) ? band.firstColumn(i) : 0;
+            int count = 0;
+            for (int j = first; j < i; j++) {
+                if (matrix.get(i, j) != 0.) count++;
+            }
+            columns[i] = new int[count + 1];
+            values[i] = new double[count + 1];
+            for (int j = first, k = 0; j < i; j++) {
+                double value = matrix.get(i, j);
+                if (value == 0.) continue;
+
+                columns[i][k] = j;
+                values[i][k++] = value;
+            }
+            columns[i][count] = i;
+            values[i][count] = matrix.get(i, i);
+        }
+    }
+
+    /**
+     * Factors the collected pattern in place, row by row, dropping all fill-in
+     */
+    private void factor(double shift) {
+        for (int i = 0; i < dimension; i++) {
+            int[] rowColumns = columns[i];
+            double[] row = values[i];
+            int diagonal = rowColumns.length - 1;
+
+            for (int a = 0; a < diagonal; a++) {
+                int k = rowColumns[a];
+                int[] kColumns = columns[k];
+                double[] kRow = values[k];
+
+                // sum of L[i, j] * L[k, j] over j < k present in both rows
+                double sum = row[a];
+                for (int p = 0, q = 0; p < a && q < kColumns.length - 1; ) {
+                    int jp = rowColumns[p];
+                    int jq = kColumns[q];
+                    if (jp == jq) {
+                        sum -= row[p++] * kRow[q++];
+                    } else if (jp < jq) {
+                        p++;
+                    } else {
+                        q++;
+                    }
+                }
+                row[a] = sum / kRow[kRow.length - 1];
+            }
+
+            double pivot = row[diagonal] * (1. + shift);
+            for (int a = 0; a < diagonal; a++) {
+                pivot -= row[a] * row[a];
+            }
+            if (!(pivot > 0.)) throw new NonPositiveDefiniteMatrixException();
+            row[diagonal] = Math.sqrt(pivot);
+        }
+    }
+
+    @Override
+    public int getRowDimension() {
+        return dimension;
+    }
+
+    @Override
+    public int getColumnDimension() {
+        return dimension;
+    }
+
+    /**
+     * Computes out = (L * L^T)^-1 * in by forward and backward substitution
+     */
+    @Override
+    public Vector apply(Vector in, Vector out) {
+        double[] y = work;
+        for (int i = 0; i < dimension; i++) {
+            int[] rowColumns = columns[i];
+            double[] row = values[i];
+            int diagonal = rowColumns.length - 1;
+
+            double sum = in.get(i);
+            for (int a = 0; a < diagonal; a++) {
+                sum -= row[a] * y[rowColumns[a]];
+            }
+            y[i] = sum / row[diagonal];
+        }
+        for (int i = dimension - 1; i >= 0; i--) {
+            int[] rowColumns = columns[i];
+            double[] row = values[i];
+            int diagonal = rowColumns.length - 1;
+
+            double yi = y[i] / row[diagonal];
+            y[i] = yi;
+            for (int a = 0; a < diagonal; a++) {
+                y[rowColumns[a]] -= row[a] * yi;
+            }
+        }
+        for (int i = 0; i < dimension; i++) {
+            out.set(i, y[i]);
+        }
+        return out;
+    }
+
+    @Override
+    public Vector applyTranspose(Vector in, Vector out) {
+        return apply(in, out);
+    }
+}
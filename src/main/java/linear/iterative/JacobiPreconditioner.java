@@ -0,0 +1,53 @@
+package linear.iterative;
+
+import linear.exceptions.NonSquareMatrixException;
+import linear.exceptions.SingularMatrixException;
+import linear.matrix.Matrix;
+import linear.operator.LinearOperator;
+import linear.vector.Vector;
+
+/**
+ * Jacobi (diagonal) preconditioner, which applies the inverse of the diagonal of a matrix
+ * <p>
+ * Costs O(n) to build and to apply, and is symmetric positive definite whenever the diagonal is positive,
+ * so it can be used with every iterative solver.
+ */
+public class JacobiPreconditioner implements LinearOperator {
+
+    private final double[] inverseDiagonal;
+
+    public JacobiPreconditioner(Matrix matrix) {
+        int n = matrix.getRowDimension();
+        if (n != matrix.getColumnDimension()) throw new NonSquareMatrixException(n, matrix.getColumnDimension());
+
+        inverseDiagonal = new double[n];
+        for (int i = 0; i < n; i++) {
+            double diagonal = matrix.get(i, i);
+            if (diagonal == 0.) throw new SingularMatrixException();
+            inverseDiagonal[i] = 1. / diagonal;
+        }
+    }
+
+    @Override
+    public int getRowDimension() {
+        return inverseDiagonal.length;
+    }
+
+    @Override
+    public int getColumnDimension() {
+        return inverseDiagonal.length;
+    }
+
+    @Override
+    public Vector apply(Vector in, Vector out) {
+        for (int i = 0; i < inverseDiagonal.length; i++) {
+            out.set(i, in.get(i) * inverseDiagonal[i]);
+        }
+        return out;
+    }
+
+    @Override
+    public Vector applyTranspose(Vector in, Vector out) {
+        return apply(in, out);
+    }
+}
@@ -0,0 +1,114 @@
+package linear.iterative;
+
+import linear.exceptions.NonPositiveDefiniteMatrixException;
+import linear.linalg.LinearAlgebra;
+import linear.operator.LinearOperator;
+import linear.vector.ArrayVector;
+import linear.vector.Vector;
+
+/**
+ * Implementation of the (preconditioned) MINRES method of Paige and Saunders for symmetric operators,
+ * which may be indefinite
+ * <p>
+ * The Lanczos process is combined with Givens rotations, so the residual norm is minimized over the Krylov
+ * subspace with short recurrences: every iteration costs one operator application, one preconditioner application
+ * and O(n) work. The residual is measured in the norm induced by the inverse of the preconditioner, which must
+ * be symmetric positive definite.
+ */
+public class MinresSolver extends AbstractIterativeSolver {
+
+    public MinresSolver(LinearOperator operator) {
+        this(operator, null, DEFAULT_TOLERANCE, operator.getRowDimension());
+    }
+
+    public MinresSolver(LinearOperator operator, LinearOperator preconditioner, double tolerance, int maxIterations) {
+        super(operator, preconditioner, tolerance, maxIterations);
+    }
+
+    @Override
+    public Vector solve(Vector b) {
+        ArrayVector r1 = toArrayVector(b);
+        ArrayVector r2 = r1.copy();
+        ArrayVector x = new ArrayVector(dimension);
+        ArrayVector y = new ArrayVector(dimension);
+        ArrayVector v = new ArrayVector(dimension);
+        ArrayVector w = new ArrayVector(dimension);
+        ArrayVector w1 = new ArrayVector(dimension);
+        ArrayVector w2 = new ArrayVector(dimension);
+
+        iterations = 0;
+        residual = 0.;
+
+        precondition(r1, y);
+        double beta1 = LinearAlgebra.inner(r1, y);
+        if (beta1 < 0.) throw new NonPositiveDefiniteMatrixException();
+        if (beta1 == 0.) return x;
+        beta1 = Math.sqrt(beta1);
+
+        double oldBeta = 0.;
+        double beta = beta1;
+        double dbar = 0.;
+        double epsilon = 0.;
+        double phibar = beta1;
+        double cs = -1.;
+        double sn = 0.;
+
+        double[] vData = v.getData();
+        double[] yData = y.getData();
+        double[] r1Data = r1.getData();
+        double[] r2Data = r2.getData();
+
+        while (iterations < maxIterations) {
+            iterations++;
+
+            // Lanczos step: v = y / beta, y = A * v - (beta / oldBeta) * r1 - (alpha / beta) * r2
+            double s = 1. / beta;
+            for (int i = 0; i < dimension; i++) {
+                vData[i] = s * yData[i];
+            }
+            operator.apply(v, y);
+            if (iterations > 1) LinearAlgebra.axpy(-beta / oldBeta, r1, y);
+            double alpha = LinearAlgebra.inner(v, y);
+            LinearAlgebra.axpy(-alpha / beta, r2, y);
+            System.arraycopy(r2Data, 0, r1Data, 0, dimension);
+            System.arraycopy(yData, 0, r2Data, 0, dimension);
+            precondition(r2, y);
+
+            oldBeta = beta;
+            beta = LinearAlgebra.inner(r2, y);
+            if (beta < 0.) throw new NonPositiveDefiniteMatrixException();
+            beta = Math.sqrt(beta);
+
+            // apply the previous rotation, then compute and apply the next one
+            double oldEpsilon = epsilon;
+            double delta = cs * dbar + sn * alpha;
+            double gbar = sn * dbar - cs * alpha;
+            epsilon = sn * beta;
+            dbar = -cs * beta;
+
+            double gamma = Math.max(Math.hypot(gbar, beta), Double.MIN_NORMAL);
+            cs = gbar / gamma;
+            sn = beta / gamma;
+            double phi = cs * phibar;
+            phibar = sn * phibar;
+
+            // w = (v - oldEpsilon * w1 - delta * w2) / gamma, after shifting w1 = w2, w2 = w
+            ArrayVector temp = w1;
+            w1 = w2;
+            w2 = w;
+            w = temp;
+            double[] wData = w.getData();
+            double[] w1Data = w1.getData();
+            double[] w2Data = w2.getData();
+            double denominator = 1. / gamma;
+            for (int i = 0; i < dimension; i++) {
+                wData[i] = (vData[i] - oldEpsilon * w1Data[i] - delta * w2Data[i]) * denominator;
+            }
+            LinearAlgebra.axpy(phi, w, x);
+
+            residual = phibar / beta1;
+            if (residual <= tolerance || beta == 0.) return x;
+        }
+        return notConverged(x);
+    }
+}
@@ -0,0 +1,85 @@
+package linear.linalg;
+
+import linear.matrix.BufferMatrix;
+import linear.matrix.DenseMatrix;
+import linear.matrix.Matrix;
+
+/**
+ * Loops for {@code BufferMatrix} operands which read the buffers row by row, in storage order
+ * <p>
+ * Every row is read once with a bulk operation, so file-backed matrices are streamed sequentially
+ * instead of being accessed one column at a time.
+ */
+final class BufferKernels {
+
+    private BufferKernels() {
+    }
+
+    /**
+     * Computes vector * matrix by accumulating scaled rows
+     *
+     * @param vector  vector
+     * @param matrix  matrix
+     * @param result  result array, zero-initialized
+     * @param kernels kernels used for row operations
+     */
+    static void multiply(double[] vector, BufferMatrix matrix, double[] result, VectorKernels kernels) {
+        int rows = matrix.getRowDimension();
+        int columns = matrix.getColumnDimension();
+        double[] row = new double[columns];
+
+        for (int i = 0; i < rows; i++) {
+            double vi = vector[i];
+            if (vi == 0.) continue;
+
+            matrix.getRow(i, row);
+            kernels.axpy(vi, row, 0, result, 0, columns);
+        }
+    }
+
+    /**
+     * Computes result += m1 * m2 as a sum of outer products of m1 columns and m2 rows,
+     * so m2 is read exactly once
+     *
+     * @param m1      first operand
+     * @param m2      second operand
+     * @param result  result, zero-initialized
+     * @param kernels kernels used for row operations
+     */
+    static void multiply(Matrix m1, BufferMatrix m2, DenseMatrix result, VectorKernels kernels) {
+        int r1 = m1.getRowDimension();
+        int c1 = m1.getColumnDimension();
+        int c2 = m2.getColumnDimension();
+        double[] data = result.getData();
+        double[] row = new double[c2];
+
+        for (int k = 0; k < c1; k++) {
+            m2.getRow(k, row);
+            for (int i = 0; i < r1; i++) {
+                double a = m1.get(i, k);
+                if (a == 0.) continue;
+
+                kernels.axpy(a, row, 0, data, result.index(i, 0), c2);
+            }
+        }
+    }
+
+    /**
+     * Computes matrix * vector with one dot product per row
+     *
+     * @param matrix  matrix
+     * @param vector  vector
+     * @param result  result array
+     * @param kernels kernels used for row operations
+     */
+    static void multiply(BufferMatrix matrix, double[] vector, double[] result, VectorKernels kernels) {
+        int rows = matrix.getRowDimension();
+        int columns = matrix.getColumnDimension();
+        double[] row = new double[columns];
+
+        for (int i = 0; i < rows; i++) {
+            matrix.getRow(i, row);
+            result[i] = kernels.dot(row, 0, vector, 0, columns);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package linear.linalg;
+
+import linear.matrix.DenseMatrix;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Loops working directly on the underlying arrays of {@code DenseMatrix} operands
+ * <p>
+ * Every kernel processes a half-open range of rows (or columns), so that it can be split into parallel tasks
+ */
+final class DenseKernels {
+
+    private DenseKernels() {
+    }
+
+    /**
+     * Computes columns [from, to) of vector * matrix by accumulating scaled rows,
+     * so the matrix is read in storage order
+     *
+     * @param vector vector
+     * @param matrix matrix
+     * @param result result array, zero-initialized
+     * @param from   first column, inclusive
+     * @param to     last column, exclusive
+     */
+    static void multiply(double[] vector, DenseMatrix matrix, double[] result, int from, int to) {
+        double[] data = matrix.getData();
+        int stride = matrix.getStride();
+        int rows = matrix.getRowDimension();
+
+        for (int i = 0; i < rows; i++) {
+            double vi = vector[i];
+            if (vi == 0.) continue;
+
+            for (int j = from, k = matrix.index(i, from); j < to; j++, k++) {
+                result[j] += vi * data[k];
+            }
+        }
+    }
+
+    /**
+     * Computes rows [from, to) of matrix * vector
+     *
+     * @param matrix matrix
+     * @param vector vector
+     * @param result result array
+     * @param from   first row, inclusive
+     * @param to     last row, exclusive
+     */
+    static void multiply(DenseMatrix matrix, double[] vector, double[] result, int from, int to) {
+        double[] data = matrix.getData();
+        int columns = matrix.getColumnDimension();
+
+        for (int i = from; i < to; i++) {
+            double sum = 0.;
+            for (int j = 0, k = matrix.index(i, 0); j < columns; j++, k++) {
+                sum += data[k] * vector[j];
+            }
+            result[i] = sum;
+        }
+    }
+
+    /**
+     * Computes rows [from, to) of result = x * y^T
+     *
+     * @param x      first vector
+     * @param y      second vector
+     * @param result result
+     * @param from   first row, inclusive
+     * @param to     last row, exclusive
+     */
+    static void outer(double[] x, double[] y, DenseMatrix result, int from, int to) {
+        double[] data = result.getData();
+        int columns = result.getColumnDimension();
+
+        for (int i = from; i < to; i++) {
+            double xi = x[i];
+            for (int j = 0, k = result.index(i, 0); j < columns; j++, k++) {
+                data[k] = xi * y[j];
+            }
+        }
+    }
+
+    /**
+     * Computes rows [from, to) of result[i, j] = operator(matrix[i, j]), result may be the same object as matrix
+     *
+     * @param matrix   operand
+     * @param operator operator to be applied
+     * @param result   result
+     * @param from     first row, inclusive
+     * @param to       last row, exclusive
+     */
+    static void apply(DenseMatrix matrix, DoubleUnaryOperator operator, DenseMatrix result, int from, int to) {
+        double[] src = matrix.getData();
+        double[] dst = result.getData();
+        int columns = matrix.getColumnDimension();
+
+        for (int i = from; i < to; i++) {
+            int s = matrix.index(i, 0);
+            int d = result.index(i, 0);
+            for (int j = 0; j < columns; j++) {
+                dst[d + j] = operator.applyAsDouble(src[s + j]);
+            }
+        }
+    }
+
+    /**
+     * Computes rows [from, to) of result[i, j] = operator(m1[i, j], m2[i, j]), result may be the same object as m1
+     *
+     * @param m1       first operand
+     * @param m2       second operand
+     * @param operator operator to be applied
+     * @param result   result
+     * @param from     first row, inclusive
+     * @param to       last row, exclusive
+     */
+    static void apply(DenseMatrix m1, DenseMatrix m2, DoubleBinaryOperator operator, DenseMatrix result, int from, int to) {
+        double[] src1 = m1.getData();
+        double[] src2 = m2.getData();
+        double[] dst = result.getData();
+        int columns = m1.getColumnDimension();
+
+        for (int i = from; i < to; i++) {
+            int s1 = m1.index(i, 0);
+            int s2 = m2.index(i, 0);
+            int d = result.index(i, 0);
+            for (int j = 0; j < columns; j++) {
+                dst[d + j] = operator.applyAsDouble(src1[s1 + j], src2[s2 + j]);
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package linear.linalg;
+
+import linear.matrix.FloatMatrix;
+
+/**
+ * Loops over single precision operands which widen every element to double as it is read, so all products
+ * and sums are accumulated in double precision
+ * <p>
+ * Reductions use four independent accumulators, like the scalar BLAS level 1 kernels.
+ */
+final class FloatKernels {
+
+    private FloatKernels() {
+    }
+
+    /**
+     * Computes sum of x[i] * y[i]
+     */
+    static double dot(float[] x, int xOff, double[] y, int yOff, int n) {
+        double s0 = 0., s1 = 0., s2 = 0., s3 = 0.;
+        int i = 0;
+        for (int bound = n - 3; i < bound; i += 4) {
+            s0 += x[xOff + i] * y[yOff + i];
+            s1 += x[xOff + i + 1] * y[yOff + i + 1];
+            s2 += x[xOff + i + 2] * y[yOff + i + 2];
+            s3 += x[xOff + i + 3] * y[yOff + i + 3];
+        }
+        for (; i < n; i++) {
+            s0 += x[xOff + i] * y[yOff + i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Computes sum of x[i] * y[i]
+     */
+    static double dot(float[] x, int xOff, float[] y, int yOff, int n) {
+        double s0 = 0., s1 = 0., s2 = 0., s3 = 0.;
+        int i = 0;
+        for (int bound = n - 3; i < bound; i += 4) {
+            s0 += (double) x[xOff + i] * y[yOff + i];
+            s1 += (double) x[xOff + i + 1] * y[yOff + i + 1];
+            s2 += (double) x[xOff + i + 2] * y[yOff + i + 2];
+            s3 += (double) x[xOff + i + 3] * y[yOff + i + 3];
+        }
+        for (; i < n; i++) {
+            s0 += (double) x[xOff + i] * y[yOff + i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Computes sum of x[i]
+     */
+    static double sum(float[] x, int xOff, int n) {
+        double s0 = 0., s1 = 0., s2 = 0., s3 = 0.;
+        int i = 0;
+        for (int bound = n - 3; i < bound; i += 4) {
+            s0 += x[xOff + i];
+            s1 += x[xOff + i + 1];
+            s2 += x[xOff + i + 2];
+            s3 += x[xOff + i + 3];
+        }
+        for (; i < n; i++) {
+            s0 += x[xOff + i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Computes y[i] += a * x[i]
+     */
+    static void axpy(double a, float[] x, int xOff, double[] y, int yOff, int n) {
+        for (int i = 0; i < n; i++) {
+            y[yOff + i] += a * x[xOff + i];
+        }
+    }
+
+    /**
+     * Computes rows [from, to) of matrix * vector
+     *
+     * @param matrix matrix
+     * @param vector vector
+     * @param result result array
+     * @param from   first row, inclusive
+     * @param to     last row, exclusive
+     */
+    static void multiply(FloatMatrix matrix, double[] vector, double[] result, int from, int to) {
+        float[] data = matrix.getData();
+        int columns = matrix.getColumnDimension();
+
+        for (int i = from; i < to; i++) {
+            result[i] = dot(data, matrix.index(i, 0), vector, 0, columns);
+        }
+    }
+
+    /**
+     * Computes columns [from, to) of vector * matrix by accumulating scaled rows,
+     * so the matrix is read in storage order
+     *
+     * @param vector vector
+     * @param matrix matrix
+     * @param result result array, zero-initialized
+     * @param from   first column, inclusive
+     * @param to     last column, exclusive
+     */
+    static void multiply(double[] vector, FloatMatrix matrix, double[] result, int from, int to) {
+        float[] data = matrix.getData();
+        int rows = matrix.getRowDimension();
+
+        for (int i = 0; i < rows; i++) {
+            double vi = vector[i];
+            if (vi == 0.) continue;
+
+            axpy(vi, data, matrix.index(i, from), result, from, to - from);
+        }
+    }
+}
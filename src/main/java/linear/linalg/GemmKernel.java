@@ -0,0 +1,246 @@
+package linear.linalg;
+
+/**
+ * Cache-blocked matrix-matrix multiplication kernel working on raw arrays
+ * <p>
+ * Operands are addressed through an offset and separate row and column strides, so that any strided
+ * layout can be read. Blocks of both operands are packed into contiguous panels which fit into cache,
+ * and the product of an MR x KC panel of A and a KC x NR panel of B is computed by a micro-kernel
+ * that keeps the whole MR x NR block of C in local variables.
+ */
+final class GemmKernel {
+
+    /**
+     * Rows of C computed by one micro-kernel call
+     */
+    static final int MR = 4;
+
+    /**
+     * Columns of C computed by one micro-kernel call
+     */
+    static final int NR = 4;
+
+    /**
+     * Rows of A packed at once (packed A block should fit into L2 cache)
+     */
+    static final int MC = 128;
+
+    /**
+     * Shared dimension packed at once
+     */
+    static final int KC = 256;
+
+    /**
+     * Columns of B packed at once (packed B block should fit into L3 cache)
+     */
+    static final int NC = 2048;
+
+    private GemmKernel() {
+    }
+
+    /**
+     * Computes C += A * B, where A is m x k, B is k x n and C is m x n
+     *
+     * @param m    row dimension of A and C
+     * @param n    column dimension of B and C
+     * @param k    column dimension of A, row dimension of B
+     * @param a    array holding A
+     * @param aOff index of A[0, 0]
+     * @param aRs  distance between A[i, j] and A[i + 1, j]
+     * @param aCs  distance between A[i, j] and A[i, j + 1]
+     * @param b    array holding B
+     * @param bOff index of B[0, 0]
+     * @param bRs  distance between B[i, j] and B[i + 1, j]
+     * @param bCs  distance between B[i, j] and B[i, j + 1]
+     * @param c    array holding C
+     * @param cOff index of C[0, 0]
+     * @param ldc  row stride of C
+     */
+    static void multiply(int m, int n, int k,
+                         double[] a, int aOff, int aRs, int aCs,
+                         double[] b, int bOff, int bRs, int bCs,
+                         double[] c, int cOff, int ldc) {
+        multiply(m, n, k, 1., a, aOff, aRs, aCs, b, bOff, bRs, bCs, c, cOff, ldc);
+    }
+
+    /**
+     * Computes C += alpha * A * B, where A is m x k, B is k x n and C is m x n
+     * (alpha is applied while packing A, so it costs no extra pass)
+     *
+     * @param m     row dimension of A and C
+     * @param n     column dimension of B and C
+     * @param k     column dimension of A, row dimension of B
+     * @param alpha scalar multiplying the product
+     * @param a     array holding A
+     * @param aOff  index of A[0, 0]
+     * @param aRs   distance between A[i, j] and A[i + 1, j]
+     * @param aCs   distance between A[i, j] and A[i, j + 1]
+     * @param b     array holding B
+     * @param bOff  index of B[0, 0]
+     * @param bRs   distance between B[i, j] and B[i + 1, j]
+     * @param bCs   distance between B[i, j] and B[i, j + 1]
+     * @param c     array holding C
+     * @param cOff  index of C[0, 0]
+     * @param ldc   row stride of C
+     */
+    static void multiply(int m, int n, int k, double alpha,
+                         double[] a, int aOff, int aRs, int aCs,
+                         double[] b, int bOff, int bRs, int bCs,
+                         double[] c, int cOff, int ldc) {
+        if (m == 0 || n == 0 || k == 0) return;
+
+        double[] packedA = new double[roundUp(Math.min(m, MC), MR) * Math.min(k, KC)];
+        double[] packedB = new double[roundUp(Math.min(n, NC), NR) * Math.min(k, KC)];
+
+        for (int jc = 0; jc < n; jc += NC) {
+            int nc = Math.min(NC, n - jc);
+            for (int pc = 0; pc < k; pc += KC) {
+                int kc = Math.min(KC, k - pc);
+                packB(kc, nc, b, bOff + pc * bRs + jc * bCs, bRs, bCs, packedB);
+                for (int ic = 0; ic < m; ic += MC) {
+                    int mc = Math.min(MC, m - ic);
+                    packA(mc, kc, alpha, a, aOff + ic * aRs + pc * aCs, aRs, aCs, packedA);
+                    macroKernel(mc, nc, kc, packedA, packedB, c, cOff + ic * ldc + jc, ldc);
+                }
+            }
+        }
+    }
+
+    /**
+     * Multiplies packed blocks of A and B and accumulates the result into C
+     */
+    private static void macroKernel(int mc, int nc, int kc, double[] packedA, double[] packedB,
+                                    double[] c, int cOff, int ldc) {
+        for (int jr = 0; jr < nc; jr += NR) {
+            int nr = Math.min(NR, nc - jr);
+            int bIndex = jr * kc;
+            for (int ir = 0; ir < mc; ir += MR) {
+                int mr = Math.min(MR, mc - ir);
+                microKernel(kc, packedA, ir * kc, packedB, bIndex, c, cOff + ir * ldc + jr, ldc, mr, nr);
+            }
+        }
+    }
+
+    /**
+     * Computes an MR x NR block of C from an MR x kc panel of A and a kc x NR panel of B
+     */
+    private static void microKernel(int kc, double[] a, int ai, double[] b, int bi,
+                                    double[] c, int ci, int ldc, int mr, int nr) {
+        double c00 = 0., c01 = 0., c02 = 0., c03 = 0.;
+        double c10 = 0., c11 = 0., c12 = 0., c13 = 0.;
+        double c20 = 0., c21 = 0., c22 = 0., c23 = 0.;
+        double c30 = 0., c31 = 0., c32 = 0., c33 = 0.;
+
+        for (int p = 0; p < kc; p++, ai += MR, bi += NR) {
+            double a0 = a[ai];
+            double a1 = a[ai + 1];
+            double a2 = a[ai + 2];
+            double a3 = a[ai + 3];
+
+            double b0 = b[bi];
+            double b1 = b[bi + 1];
+            double b2 = b[bi + 2];
+            double b3 = b[bi + 3];
+
+            c00 += a0 * b0;
+            c01 += a0 * b1;
+            c02 += a0 * b2;
+            c03 += a0 * b3;
+            c10 += a1 * b0;
+            c11 += a1 * b1;
+            c12 += a1 * b2;
+            c13 += a1 * b3;
+            c20 += a2 * b0;
+            c21 += a2 * b1;
+            c22 += a2 * b2;
+            c23 += a2 * b3;
+            c30 += a3 * b0;
+            c31 += a3 * b1;
+            c32 += a3 * b2;
+            c33 += a3 * b3;
+        }
+
+        if (mr == MR && nr == NR) {
+            c[ci] += c00;
+            c[ci + 1] += c01;
+            c[ci + 2] += c02;
+            c[ci + 3] += c03;
+            ci += ldc;
+            c[ci] += c10;
+            c[ci + 1] += c11;
+            c[ci + 2] += c12;
+            c[ci + 3] += c13;
+            ci += ldc;
+            c[ci] += c20;
+            c[ci + 1] += c21;
+            c[ci + 2] += c22;
+            c[ci + 3] += c23;
+            ci += ldc;
+            c[ci] += c30;
+            c[ci + 1] += c31;
+            c[ci + 2] += c32;
+            c[ci + 3] += c33;
+            return;
+        }
+
+        double[] block = {
+                c00, c01, c02, c03,
+                c10, c11, c12, c13,
+                c20, c21, c22, c23,
+                c30, c31, c32, c33
+        };
+        for (int i = 0; i < mr; i++, ci += ldc) {
+            for (int j = 0; j < nr; j++) {
+                c[ci + j] += block[i * NR + j];
+            }
+        }
+    }
+
+    /**
+     * Packs an mc x kc block of alpha * A into row panels of height MR, each stored column by column
+     * (rows past the end of the block are zero-filled)
+     */
+    private static void packA(int mc, int kc, double alpha, double[] a, int aOff, int aRs, int aCs, double[] packed) {
+        int index = 0;
+        for (int ir = 0; ir < mc; ir += MR) {
+            int mr = Math.min(MR, mc - ir);
+            int rowStart = aOff + ir * aRs;
+            for (int p = 0; p < kc; p++) {
+                int source = rowStart + p * aCs;
+                int i = 0;
+                for (; i < mr; i++, source += aRs) {
+                    packed[index++] = alpha * a[source];
+                }
+                for (; i < MR; i++) {
+                    packed[index++] = 0.;
+                }
+            }
+        }
+    }
+
+    /**
+     * Packs a kc x nc block of B into column panels of width NR, each stored row by row
+     * (columns past the end of the block are zero-filled)
+     */
+    private static void packB(int kc, int nc, double[] b, int bOff, int bRs, int bCs, double[] packed) {
+        int index = 0;
+        for (int jr = 0; jr < nc; jr += NR) {
+            int nr = Math.min(NR, nc - jr);
+            int columnStart = bOff + jr * bCs;
+            for (int p = 0; p < kc; p++) {
+                int source = columnStart + p * bRs;
+                int j = 0;
+                for (; j < nr; j++, source += bCs) {
+                    packed[index++] = b[source];
+                }
+                for (; j < NR; j++) {
+                    packed[index++] = 0.;
+                }
+            }
+        }
+    }
+
+    private static int roundUp(int value, int multiple) {
+        return (value + multiple - 1) / multiple * multiple;
+    }
+}
@@ -2,14 +2,28 @@ package linear.linalg;
 
 import linear.exceptions.DimensionMismatchException;
 import linear.exceptions.SingularMatrixException;
+import linear.matrix.BandMatrix;
+import linear.matrix.BufferMatrix;
+import linear.matrix.DenseMatrix;
+import linear.matrix.FloatMatrix;
 import linear.matrix.Matrix;
+import linear.matrix.SparseMatrix;
+import linear.matrix.SymmetricPackedMatrix;
+import linear.matrix.TransposedViewMatrix;
+import linear.memory.Workspace;
 import linear.Matrices;
 
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.PrimitiveIterator;
 import java.util.function.DoubleBinaryOperator;
 
 import java.util.function.DoubleUnaryOperator;
 
+import linear.vector.ArrayVector;
+import linear.vector.FloatVector;
+import linear.vector.SparseVector;
+import linear.vector.StridedViewVector;
 import linear.vector.Vector;
 
 import java.security.InvalidParameterException;
@@ -24,16 +38,43 @@ public class LinearAlgebra {
 
     public static final double EPSILON = 1e-6;
 
+    private static final VectorKernels KERNELS = VectorKernels.get();
+
     /**
      * Performs matrix-matrix addition
      *
      * @param m1         first matrix
      * @param m2         second matrix
-     * @param mutability if set to MUTABLE then result overwrites first operand
+     * @param mutability if set to MUTABLE then result overwrites first operand, unless first operand is sparse and
+     *                   second is not, in which case the result is a new dense matrix
      * @return result matrix
      */
     public static Matrix add(Matrix m1, Matrix m2, Mutability mutability) {
-        return apply(m1, m2, Double::sum, mutability);
+        return elementwise(m1, m2, KERNELS::add, Double::sum, target(m1, m2, mutability));
+    }
+
+    /**
+     * Performs matrix-matrix addition, storing the result in the given matrix
+     *
+     * @param m1     first matrix
+     * @param m2     second matrix
+     * @param result result matrix, may be the same object as an operand
+     * @return result matrix
+     */
+    public static Matrix add(Matrix m1, Matrix m2, Matrix result) {
+        return elementwise(m1, m2, KERNELS::add, Double::sum, result);
+    }
+
+    /**
+     * Performs matrix-matrix addition, storing the result in a temporary taken from the workspace
+     *
+     * @param m1        first matrix
+     * @param m2        second matrix
+     * @param workspace workspace holding the result
+     * @return result matrix, valid until the workspace is reset
+     */
+    public static Matrix add(Matrix m1, Matrix m2, Workspace workspace) {
+        return add(m1, m2, workspace.matrix(m1.getRowDimension(), m1.getColumnDimension()));
     }
 
     /**
@@ -46,7 +87,19 @@ public class LinearAlgebra {
      */
     public static Matrix add(Matrix matrix, double value, Mutability mutability) {
         if (value == 0) return (mutability == Mutability.MUTABLE) ? matrix : matrix.copy();
-        return apply(matrix, x -> x + value, mutability);
+        return elementwise(matrix, value, KERNELS::shift, x -> x + value, target(matrix, mutability));
+    }
+
+    /**
+     * Performs matrix-scalar addition, storing the result in the given matrix
+     *
+     * @param matrix matrix
+     * @param value  scalar value
+     * @param result result matrix, may be the same object as the operand
+     * @return result matrix
+     */
+    public static Matrix add(Matrix matrix, double value, Matrix result) {
+        return elementwise(matrix, value, KERNELS::shift, x -> x + value, result);
     }
 
     /**
@@ -54,11 +107,38 @@ public class LinearAlgebra {
      *
      * @param v1         first matrix
      * @param v2         second matrix
-     * @param mutability if set to MUTABLE then result overwrites first operand
+     * @param mutability if set to MUTABLE then result overwrites first operand, unless first operand is sparse and
+     *                   second is not, in which case the result is a new dense vector
      * @return result vector
      */
     public static Vector add(Vector v1, Vector v2, Mutability mutability) {
-        return apply(v1, v2, Double::sum, mutability);
+        Vector sparse = sparseAdd(v1, v2, 1., mutability);
+        if (sparse != null) return sparse;
+        return elementwise(v1, v2, KERNELS::add, Double::sum, target(v1, mutability));
+    }
+
+    /**
+     * Performs vector-vector addition, storing the result in the given vector
+     *
+     * @param v1     first vector
+     * @param v2     second vector
+     * @param result result vector, may be the same object as an operand
+     * @return result vector
+     */
+    public static Vector add(Vector v1, Vector v2, Vector result) {
+        return elementwise(v1, v2, KERNELS::add, Double::sum, result);
+    }
+
+    /**
+     * Performs vector-vector addition, storing the result in a temporary taken from the workspace
+     *
+     * @param v1        first vector
+     * @param v2        second vector
+     * @param workspace workspace holding the result
+     * @return result vector, valid until the workspace is reset
+     */
+    public static Vector add(Vector v1, Vector v2, Workspace workspace) {
+        return add(v1, v2, workspace.vector(v1.getDimension()));
     }
 
     /**
@@ -71,7 +151,19 @@ public class LinearAlgebra {
      */
     public static Vector add(Vector vector, double value, Mutability mutability) {
         if (value == 0) return (mutability == Mutability.MUTABLE) ? vector : vector.copy();
-        return apply(vector, x -> x + value, mutability);
+        return elementwise(vector, value, KERNELS::shift, x -> x + value, target(vector, mutability));
+    }
+
+    /**
+     * Performs vector-scalar addition, storing the result in the given vector
+     *
+     * @param vector vector
+     * @param value  scalar value
+     * @param result result vector, may be the same object as the operand
+     * @return result vector
+     */
+    public static Vector add(Vector vector, double value, Vector result) {
+        return elementwise(vector, value, KERNELS::shift, x -> x + value, result);
     }
 
     /**
@@ -79,11 +171,36 @@ public class LinearAlgebra {
      *
      * @param m1         first matrix
      * @param m2         second matrix
-     * @param mutability if set to MUTABLE then result overwrites first operand
+     * @param mutability if set to MUTABLE then result overwrites first operand, unless first operand is sparse and
+     *                   second is not, in which case the result is a new dense matrix
      * @return result matrix
      */
     public static Matrix subtract(Matrix m1, Matrix m2, Mutability mutability) {
-        return apply(m1, m2, (x, y) -> x - y, mutability);
+        return elementwise(m1, m2, KERNELS::subtract, (x, y) -> x - y, target(m1, m2, mutability));
+    }
+
+    /**
+     * Performs matrix-matrix subtraction, storing the result in the given matrix
+     *
+     * @param m1     first matrix
+     * @param m2     second matrix
+     * @param result result matrix, may be the same object as an operand
+     * @return result matrix
+     */
+    public static Matrix subtract(Matrix m1, Matrix m2, Matrix result) {
+        return elementwise(m1, m2, KERNELS::subtract, (x, y) -> x - y, result);
+    }
+
+    /**
+     * Performs matrix-matrix subtraction, storing the result in a temporary taken from the workspace
+     *
+     * @param m1        first matrix
+     * @param m2        second matrix
+     * @param workspace workspace holding the result
+     * @return result matrix, valid until the workspace is reset
+     */
+    public static Matrix subtract(Matrix m1, Matrix m2, Workspace workspace) {
+        return subtract(m1, m2, workspace.matrix(m1.getRowDimension(), m1.getColumnDimension()));
     }
 
     /**
@@ -96,7 +213,19 @@ public class LinearAlgebra {
      */
     public static Matrix subtract(Matrix matrix, double value, Mutability mutability) {
         if (value == 0) return (mutability == Mutability.MUTABLE) ? matrix : matrix.copy();
-        return apply(matrix, x -> x - value, mutability);
+        return elementwise(matrix, -value, KERNELS::shift, x -> x - value, target(matrix, mutability));
+    }
+
+    /**
+     * Performs matrix-scalar subtraction, storing the result in the given matrix
+     *
+     * @param matrix matrix
+     * @param value  scalar value
+     * @param result result matrix, may be the same object as the operand
+     * @return result matrix
+     */
+    public static Matrix subtract(Matrix matrix, double value, Matrix result) {
+        return elementwise(matrix, -value, KERNELS::shift, x -> x - value, result);
     }
 
     /**
@@ -104,11 +233,38 @@ public class LinearAlgebra {
      *
      * @param v1         first matrix
      * @param v2         second matrix
-     * @param mutability if set to MUTABLE then result overwrites first operand
+     * @param mutability if set to MUTABLE then result overwrites first operand, unless first operand is sparse and
+     *                   second is not, in which case the result is a new dense vector
      * @return result vector
      */
     public static Vector subtract(Vector v1, Vector v2, Mutability mutability) {
-        return apply(v1, v2, (x, y) -> x - y, mutability);
+        Vector sparse = sparseAdd(v1, v2, -1., mutability);
+        if (sparse != null) return sparse;
+        return elementwise(v1, v2, KERNELS::subtract, (x, y) -> x - y, target(v1, mutability));
+    }
+
+    /**
+     * Performs vector-vector subtraction, storing the result in the given vector
+     *
+     * @param v1     first vector
+     * @param v2     second vector
+     * @param result result vector, may be the same object as an operand
+     * @return result vector
+     */
+    public static Vector subtract(Vector v1, Vector v2, Vector result) {
+        return elementwise(v1, v2, KERNELS::subtract, (x, y) -> x - y, result);
+    }
+
+    /**
+     * Performs vector-vector subtraction, storing the result in a temporary taken from the workspace
+     *
+     * @param v1        first vector
+     * @param v2        second vector
+     * @param workspace workspace holding the result
+     * @return result vector, valid until the workspace is reset
+     */
+    public static Vector subtract(Vector v1, Vector v2, Workspace workspace) {
+        return subtract(v1, v2, workspace.vector(v1.getDimension()));
     }
 
     /**
@@ -121,7 +277,19 @@ public class LinearAlgebra {
      */
     public static Vector subtract(Vector vector, double value, Mutability mutability) {
         if (value == 0) return (mutability == Mutability.MUTABLE) ? vector : vector.copy();
-        return apply(vector, x -> x - value, mutability);
+        return elementwise(vector, -value, KERNELS::shift, x -> x - value, target(vector, mutability));
+    }
+
+    /**
+     * Performs vector-scalar subtraction, storing the result in the given vector
+     *
+     * @param vector vector
+     * @param value  scalar value
+     * @param result result vector, may be the same object as the operand
+     * @return result vector
+     */
+    public static Vector subtract(Vector vector, double value, Vector result) {
+        return elementwise(vector, -value, KERNELS::shift, x -> x - value, result);
     }
 
     /**
@@ -134,10 +302,103 @@ public class LinearAlgebra {
     public static Matrix multiply(Matrix m1, Matrix m2) {
         checkMultiplicationApplicable(m1, m2);
 
+        if (m1 instanceof BandMatrix b1 && m2 instanceof BandMatrix b2) return StructuredKernels.multiply(b1, b2);
+
+        return multiply(m1, m2, m1.newInstance(m1.getRowDimension(), m2.getColumnDimension()));
+    }
+
+    /**
+     * Performs matrix-matrix multiplication, storing the result in the given matrix
+     *
+     * @param m1     first matrix
+     * @param m2     second matrix
+     * @param result result matrix, must not be the same object as an operand
+     * @return result matrix
+     */
+    public static Matrix multiply(Matrix m1, Matrix m2, Matrix result) {
+        checkMultiplicationApplicable(m1, m2);
+        checkResultDimensions(result, m1.getRowDimension(), m2.getColumnDimension());
+        if (result == m1 || result == m2)
+            throw new IllegalArgumentException("Result of matrix multiplication must not overwrite an operand");
+
         int r1 = m1.getRowDimension();
         int c1 = m1.getColumnDimension();
         int c2 = m2.getColumnDimension();
-        Matrix result = m1.newInstance(r1, c2);
+
+        if (isSinglePrecision(m1) || isSinglePrecision(m2))
+            return multiply(widen(m1), widen(m2), result);
+
+        DenseMatrix d1 = denseStorage(m1);
+        DenseMatrix d2 = denseStorage(m2);
+        if (d1 != null && d2 != null && result instanceof DenseMatrix r) {
+            clear(r);
+            if (d1 == d2 && (m1 == d1) != (m2 == d2)) {
+                gram(m1, d1, r);
+            } else {
+                gemm(m1, d1, m2, d2, 1., r);
+            }
+            return result;
+        }
+
+        if (m1 instanceof BandMatrix band) {
+            StructuredKernels.multiply(band, m2, result);
+            return result;
+        }
+        if (m2 instanceof BandMatrix band) {
+            StructuredKernels.multiply(m1, band, result);
+            return result;
+        }
+
+        SparseMatrix s1 = sparse(m1);
+        SparseMatrix s2 = sparse(m2);
+        if (s1 != null && s2 != null && result instanceof DenseMatrix r) {
+            clear(r);
+            boolean aMajorIsRow = isMajorRow(m1, s1);
+            boolean bMajorIsRow = isMajorRow(m2, s2);
+            long aPerMajor = Math.max(1, (long) s1.getNonZeroCount() / Math.max(1, s1.getPointers().length - 1));
+            long bPerMajor = Math.max(1, (long) s2.getNonZeroCount() / Math.max(1, s2.getPointers().length - 1));
+            if (aMajorIsRow) {
+                long work = aPerMajor * (bMajorIsRow ? bPerMajor : 1) + (bMajorIsRow ? 0 : s2.getNonZeroCount());
+                Parallelism.forEach(r1, work,
+                        (from, to) -> SparseKernels.multiply(s1, true, s2, bMajorIsRow, r, from, to));
+            } else if (!bMajorIsRow) {
+                Parallelism.forEach(c2, aPerMajor * bPerMajor,
+                        (from, to) -> SparseKernels.multiply(s1, false, s2, false, r, from, to));
+            } else {
+                SparseKernels.multiply(s1, false, s2, true, r, 0, c1);
+            }
+            return result;
+        }
+
+        if (s1 != null && result instanceof DenseMatrix r) {
+            clear(r);
+            boolean majorIsRow = isMajorRow(m1, s1);
+            DenseMatrix b = (d2 != null && m2 == d2) ? d2 : DenseMatrix.copyOf(m2);
+            int majorDimension = s1.getPointers().length - 1;
+            long work = Math.max(1, (long) s1.getNonZeroCount() / Math.max(1, majorDimension)) * c2;
+            if (majorIsRow) {
+                Parallelism.forEach(majorDimension, work,
+                        (from, to) -> SparseKernels.multiply(s1, true, b, r, KERNELS, from, to));
+            } else {
+                SparseKernels.multiply(s1, false, b, r, KERNELS, 0, majorDimension);
+            }
+            return result;
+        }
+
+        if (s2 != null && result instanceof DenseMatrix r) {
+            clear(r);
+            DenseMatrix a = (d1 != null && m1 == d1) ? d1 : DenseMatrix.copyOf(m1);
+            boolean majorIsRow = isMajorRow(m2, s2);
+            Parallelism.forEach(r1, Math.max(c1, s2.getNonZeroCount()),
+                    (from, to) -> SparseKernels.multiply(a, s2, majorIsRow, r, from, to));
+            return result;
+        }
+
+        if (m2 instanceof BufferMatrix buffer && result instanceof DenseMatrix r) {
+            clear(r);
+            BufferKernels.multiply(m1, buffer, r, KERNELS);
+            return result;
+        }
 
         for (int i = 0; i < r1; i++) {
             for (int j = 0; j < c2; j++) {
@@ -151,6 +412,62 @@ public class LinearAlgebra {
         return result;
     }
 
+    /**
+     * Performs matrix-matrix multiplication, storing the result in a temporary taken from the workspace
+     *
+     * @param m1        first matrix
+     * @param m2        second matrix
+     * @param workspace workspace holding the result
+     * @return result matrix, valid until the workspace is reset
+     */
+    public static Matrix multiply(Matrix m1, Matrix m2, Workspace workspace) {
+        return multiply(m1, m2, workspace.matrix(m1.getRowDimension(), m2.getColumnDimension()));
+    }
+
+    /**
+     * Performs in-place matrix multiply-accumulate, result += alpha * m1 * m2
+     * <p>
+     * Dense operands may be views into the same array (as blocks of a factorization are), as long as the
+     * block of the result does not overlap the blocks of the operands.
+     *
+     * @param m1     first matrix
+     * @param m2     second matrix
+     * @param alpha  scalar multiplying the product
+     * @param result matrix to which the product is added, must not be the same object as an operand
+     * @return result matrix
+     */
+    public static Matrix multiplyAdd(Matrix m1, Matrix m2, double alpha, Matrix result) {
+        checkMultiplicationApplicable(m1, m2);
+        checkResultDimensions(result, m1.getRowDimension(), m2.getColumnDimension());
+        if (result == m1 || result == m2)
+            throw new IllegalArgumentException("Result of matrix multiplication must not overwrite an operand");
+
+        int r1 = m1.getRowDimension();
+        int c1 = m1.getColumnDimension();
+        int c2 = m2.getColumnDimension();
+
+        if (isSinglePrecision(m1) || isSinglePrecision(m2))
+            return multiplyAdd(widen(m1), widen(m2), alpha, result);
+
+        DenseMatrix d1 = denseStorage(m1);
+        DenseMatrix d2 = denseStorage(m2);
+        if (d1 != null && d2 != null && result instanceof DenseMatrix r) {
+            gemm(m1, d1, m2, d2, alpha, r);
+            return result;
+        }
+
+        for (int i = 0; i < r1; i++) {
+            for (int j = 0; j < c2; j++) {
+                double sum = 0.;
+                for (int k = 0; k < c1; k++) {
+                    sum += m1.get(i, k) * m2.get(k, j);
+                }
+                result.set(i, j, result.get(i, j) + alpha * sum);
+            }
+        }
+        return result;
+    }
+
     /**
      * Performs vector-matrix multiplication
      *
@@ -159,18 +476,140 @@ public class LinearAlgebra {
      * @return result vector
      */
     public static Vector multiply(Vector vector, Matrix matrix) {
-        checkMultiplicationApplicable(matrix, vector);
+        checkMultiplicationApplicable(vector, matrix);
+
+        return multiply(vector, matrix, vector.newInstance(matrix.getColumnDimension()));
+    }
+
+    /**
+     * Performs vector-matrix multiplication, storing the result in the given vector
+     *
+     * @param vector vector
+     * @param matrix matrix
+     * @param result result vector, may be the same object as the vector operand
+     * @return result vector
+     */
+    public static Vector multiply(Vector vector, Matrix matrix, Vector result) {
+        checkMultiplicationApplicable(vector, matrix);
 
         int n = matrix.getColumnDimension();
-        Vector result = vector.newInstance(n);
-        for (int i = 0; i < n; i++) {
-            double sum = 0.;
-            for (int j = 0, m = matrix.getRowDimension(); j < m; j++) {
-                sum += matrix.get(j, i) * vector.get(j);
+        if (result.getDimension() != n) throw new DimensionMismatchException(result.getDimension(), n);
+
+        double[] x = (vector instanceof ArrayVector array && vector != result) ? array.getData() : toArray(vector);
+        double[] values = resultArray(result, n);
+
+        SparseMatrix sparse = sparse(matrix);
+        if (sparse != null) {
+            SparseKernels.multiply(sparse, !isMajorRow(matrix, sparse), x, values);
+        } else if (matrix instanceof BandMatrix band) {
+            StructuredKernels.multiply(x, band, values);
+        } else if (matrix instanceof SymmetricPackedMatrix symmetric) {
+            StructuredKernels.multiply(symmetric, x, values);
+        } else if (matrix instanceof DenseMatrix dense) {
+            Parallelism.forEach(n, x.length, (from, to) -> DenseKernels.multiply(x, dense, values, from, to));
+        } else if (matrix instanceof TransposedViewMatrix transposed && transposed.getView() instanceof DenseMatrix dense) {
+            Parallelism.forEach(n, x.length, (from, to) -> DenseKernels.multiply(dense, x, values, from, to));
+        } else if (matrix instanceof FloatMatrix single) {
+            Parallelism.forEach(n, x.length, (from, to) -> FloatKernels.multiply(x, single, values, from, to));
+        } else if (matrix instanceof TransposedViewMatrix transposed && transposed.getView() instanceof FloatMatrix single) {
+            Parallelism.forEach(n, x.length, (from, to) -> FloatKernels.multiply(single, x, values, from, to));
+        } else if (matrix instanceof BufferMatrix buffer) {
+            BufferKernels.multiply(x, buffer, values, KERNELS);
+        } else {
+            for (int i = 0; i < n; i++) {
+                double sum = 0.;
+                for (int j = 0, m = matrix.getRowDimension(); j < m; j++) {
+                    sum += matrix.get(j, i) * x[j];
+                }
+                values[i] = sum;
             }
-            result.set(i, sum);
         }
-        return result;
+
+        return storeResult(values, result);
+    }
+
+    /**
+     * Performs vector-matrix multiplication, storing the result in a temporary taken from the workspace
+     *
+     * @param vector    vector
+     * @param matrix    matrix
+     * @param workspace workspace holding the result
+     * @return result vector, valid until the workspace is reset
+     */
+    public static Vector multiply(Vector vector, Matrix matrix, Workspace workspace) {
+        return multiply(vector, matrix, workspace.vector(matrix.getColumnDimension()));
+    }
+
+    /**
+     * Performs matrix-vector multiplication
+     *
+     * @param matrix matrix
+     * @param vector vector
+     * @return result vector
+     */
+    public static Vector multiply(Matrix matrix, Vector vector) {
+        checkMultiplicationApplicable(matrix, vector);
+
+        return multiply(matrix, vector, vector.newInstance(matrix.getRowDimension()));
+    }
+
+    /**
+     * Performs matrix-vector multiplication, storing the result in the given vector
+     *
+     * @param matrix matrix
+     * @param vector vector
+     * @param result result vector, may be the same object as the vector operand
+     * @return result vector
+     */
+    public static Vector multiply(Matrix matrix, Vector vector, Vector result) {
+        checkMultiplicationApplicable(matrix, vector);
+
+        int n = matrix.getRowDimension();
+        if (result.getDimension() != n) throw new DimensionMismatchException(result.getDimension(), n);
+
+        double[] x = (vector instanceof ArrayVector array && vector != result) ? array.getData() : toArray(vector);
+        double[] values = resultArray(result, n);
+
+        SparseMatrix sparse = sparse(matrix);
+        if (sparse != null) {
+            SparseKernels.multiply(sparse, isMajorRow(matrix, sparse), x, values);
+        } else if (matrix instanceof BandMatrix band) {
+            StructuredKernels.multiply(band, x, values);
+        } else if (matrix instanceof SymmetricPackedMatrix symmetric) {
+            StructuredKernels.multiply(symmetric, x, values);
+        } else if (matrix instanceof DenseMatrix dense) {
+            Parallelism.forEach(n, x.length, (from, to) -> DenseKernels.multiply(dense, x, values, from, to));
+        } else if (matrix instanceof TransposedViewMatrix transposed && transposed.getView() instanceof DenseMatrix dense) {
+            Parallelism.forEach(n, x.length, (from, to) -> DenseKernels.multiply(x, dense, values, from, to));
+        } else if (matrix instanceof FloatMatrix single) {
+            Parallelism.forEach(n, x.length, (from, to) -> FloatKernels.multiply(single, x, values, from, to));
+        } else if (matrix instanceof TransposedViewMatrix transposed && transposed.getView() instanceof FloatMatrix single) {
+            Parallelism.forEach(n, x.length, (from, to) -> FloatKernels.multiply(x, single, values, from, to));
+        } else if (matrix instanceof BufferMatrix buffer) {
+            BufferKernels.multiply(buffer, x, values, KERNELS);
+        } else {
+            for (int i = 0; i < n; i++) {
+                double sum = 0.;
+                for (int j = 0, m = matrix.getColumnDimension(); j < m; j++) {
+                    sum += matrix.get(i, j) * x[j];
+                }
+                values[i] = sum;
+            }
+        }
+
+        return storeResult(values, result);
+    }
+
+    /**
+     * Performs matrix-vector multiplication, storing the result in a temporary taken from the workspace
+     *
+     * @param matrix    matrix
+     * @param vector    vector
+     * @param workspace workspace holding the result
+     * @return result vector, valid until the workspace is reset
+     */
+    public static Vector multiply(Matrix matrix, Vector vector, Workspace workspace) {
+        return multiply(matrix, vector, workspace.vector(matrix.getRowDimension()));
     }
 
     /**
@@ -183,7 +622,37 @@ public class LinearAlgebra {
      */
     public static Matrix multiply(Matrix matrix, double scalar, Mutability mutability) {
         if (scalar == 1) return (mutability == Mutability.MUTABLE) ? matrix : matrix.copy();
-        return apply(matrix, x -> x * scalar, mutability);
+        if (matrix instanceof SparseMatrix sparse) {
+            SparseMatrix result = (mutability == Mutability.MUTABLE) ? sparse : sparse.copy();
+            double[] values = result.getValues();
+            KERNELS.scale(scalar, values, 0, values, 0, result.getNonZeroCount());
+            return result;
+        }
+        if (matrix instanceof BandMatrix band) {
+            BandMatrix result = (mutability == Mutability.MUTABLE) ? band : band.copy();
+            double[] data = result.getData();
+            KERNELS.scale(scalar, data, 0, data, 0, data.length);
+            return result;
+        }
+        if (matrix instanceof SymmetricPackedMatrix symmetric) {
+            SymmetricPackedMatrix result = (mutability == Mutability.MUTABLE) ? symmetric : symmetric.copy();
+            double[] data = result.getData();
+            KERNELS.scale(scalar, data, 0, data, 0, data.length);
+            return result;
+        }
+        return elementwise(matrix, scalar, KERNELS::scale, x -> x * scalar, target(matrix, mutability));
+    }
+
+    /**
+     * Performs matrix-scalar multiplication, storing the result in the given matrix
+     *
+     * @param matrix matrix
+     * @param scalar scalar value
+     * @param result result matrix, may be the same object as the operand
+     * @return result matrix
+     */
+    public static Matrix multiply(Matrix matrix, double scalar, Matrix result) {
+        return elementwise(matrix, scalar, KERNELS::scale, x -> x * scalar, result);
     }
 
     /**
@@ -196,6 +665,20 @@ public class LinearAlgebra {
     public static double inner(Vector v1, Vector v2) {
         checkMultiplicationApplicable(v1, v2);
 
+        double[] x1 = contiguousData(v1);
+        double[] x2 = contiguousData(v2);
+        if (x1 != null && x2 != null)
+            return KERNELS.dot(x1, contiguousOffset(v1), x2, contiguousOffset(v2), v1.getDimension());
+        if (v1 instanceof FloatVector f1 && v2 instanceof FloatVector f2)
+            return FloatKernels.dot(f1.getData(), 0, f2.getData(), 0, v1.getDimension());
+        if (v1 instanceof FloatVector f1 && x2 != null)
+            return FloatKernels.dot(f1.getData(), 0, x2, contiguousOffset(v2), v1.getDimension());
+        if (v2 instanceof FloatVector f2 && x1 != null)
+            return FloatKernels.dot(f2.getData(), 0, x1, contiguousOffset(v1), v1.getDimension());
+        if (v1 instanceof SparseVector x && v2 instanceof SparseVector y) return SparseKernels.dot(x, y);
+        if (v1 instanceof SparseVector x) return SparseKernels.dot(x, v2);
+        if (v2 instanceof SparseVector y) return SparseKernels.dot(y, v1);
+
         double sum = 0.;
         for (int i = 0, n = v1.getDimension(); i < n; i++) {
             sum += v1.get(i) * v2.get(i);
@@ -215,6 +698,14 @@ public class LinearAlgebra {
         int rowDimension = v1.getDimension();
         int columnDimension = v2.getDimension();
         Matrix result = Matrices.empty(rowDimension, columnDimension);
+
+        if (result instanceof DenseMatrix dense) {
+            double[] x = toArray(v1);
+            double[] y = toArray(v2);
+            Parallelism.forEach(rowDimension, columnDimension, (from, to) -> DenseKernels.outer(x, y, dense, from, to));
+            return result;
+        }
+
         for (int i = 0; i < rowDimension; i++) {
             double xi = v1.get(i);
             for (int j = 0; j < columnDimension; j++) {
@@ -234,7 +725,119 @@ public class LinearAlgebra {
      */
     public static Vector multiply(Vector vector, double scalar, Mutability mutability) {
         if (scalar == 1) return mutability == Mutability.MUTABLE ? vector : vector.copy();
-        return apply(vector, x -> x * scalar, mutability);
+        if (vector instanceof SparseVector sparse) {
+            SparseVector result = (mutability == Mutability.MUTABLE) ? sparse : sparse.copy();
+            double[] values = result.getValues();
+            KERNELS.scale(scalar, values, 0, values, 0, result.getNonZeroCount());
+            return result;
+        }
+        return elementwise(vector, scalar, KERNELS::scale, x -> x * scalar, target(vector, mutability));
+    }
+
+    /**
+     * Performs vector-scalar multiplication, storing the result in the given vector
+     *
+     * @param vector vector
+     * @param scalar scalar value
+     * @param result result vector, may be the same object as the operand
+     * @return result vector
+     */
+    public static Vector multiply(Vector vector, double scalar, Vector result) {
+        return elementwise(vector, scalar, KERNELS::scale, x -> x * scalar, result);
+    }
+
+    /**
+     * Performs vector-scalar multiplication, storing the result in a temporary taken from the workspace
+     * <p>
+     * Sparse vectors are scaled into a new sparse vector instead, so they are never densified.
+     *
+     * @param vector    vector
+     * @param scalar    scalar
+     * @param workspace workspace holding the result
+     * @return result vector, valid until the workspace is reset
+     */
+    public static Vector multiply(Vector vector, double scalar, Workspace workspace) {
+        if (vector instanceof SparseVector) return multiply(vector, scalar, Mutability.IMMUTABLE);
+        return multiply(vector, scalar, workspace.vector(vector.getDimension()));
+    }
+
+    /**
+     * Performs elementwise (Hadamard) vector multiplication
+     *
+     * @param v1         first vector
+     * @param v2         second vector
+     * @param mutability if set to MUTABLE then result overwrites first operand
+     * @return result vector
+     */
+    public static Vector hadamard(Vector v1, Vector v2, Mutability mutability) {
+        return elementwise(v1, v2, KERNELS::multiply, (x, y) -> x * y, target(v1, mutability));
+    }
+
+    /**
+     * Performs elementwise (Hadamard) vector multiplication, storing the result in the given vector
+     *
+     * @param v1     first vector
+     * @param v2     second vector
+     * @param result result vector, may be the same object as an operand
+     * @return result vector
+     */
+    public static Vector hadamard(Vector v1, Vector v2, Vector result) {
+        return elementwise(v1, v2, KERNELS::multiply, (x, y) -> x * y, result);
+    }
+
+    /**
+     * Performs y = a * x + y
+     *
+     * @param a scalar value
+     * @param x vector to be scaled
+     * @param y vector to be overwritten with the result
+     * @return vector y
+     */
+    public static Vector axpy(double a, Vector x, Vector y) {
+        checkDimensionsSame(x, y);
+
+        if (x instanceof SparseVector sparse) {
+            SparseKernels.axpy(a, sparse, y);
+            return y;
+        }
+
+        int n = x.getDimension();
+        double[] ax = contiguousData(x);
+        double[] ay = contiguousData(y);
+        if (ax != null && ay != null) {
+            int xOff = contiguousOffset(x);
+            int yOff = contiguousOffset(y);
+            Parallelism.forEach(n, 1, (from, to) -> KERNELS.axpy(a, ax, xOff + from, ay, yOff + from, to - from));
+            return y;
+        }
+        if (x instanceof FloatVector single && ay != null) {
+            int yOff = contiguousOffset(y);
+            Parallelism.forEach(n, 1, (from, to) -> FloatKernels.axpy(a, single.getData(), from, ay, yOff + from, to - from));
+            return y;
+        }
+
+        for (int i = 0; i < n; i++) {
+            y.set(i, y.get(i) + a * x.get(i));
+        }
+        return y;
+    }
+
+    /**
+     * Calculates sum of all elements of a vector
+     *
+     * @param vector vector
+     * @return sum of elements
+     */
+    public static double sum(Vector vector) {
+        double[] data = contiguousData(vector);
+        if (data != null) return KERNELS.sum(data, contiguousOffset(vector), vector.getDimension());
+        if (vector instanceof FloatVector single) return FloatKernels.sum(single.getData(), 0, single.getDimension());
+
+        double sum = 0.;
+        for (int i = 0, n = vector.getDimension(); i < n; i++) {
+            sum += vector.get(i);
+        }
+        return sum;
     }
 
     /**
@@ -246,9 +849,28 @@ public class LinearAlgebra {
      * @return result matrix
      */
     public static Matrix apply(Matrix matrix, DoubleUnaryOperator operator, Mutability mutability) {
+        return apply(matrix, operator, target(matrix, mutability));
+    }
+
+    /**
+     * Applies operator to all elements of given matrix, storing the result in the given matrix
+     *
+     * @param matrix   matrix
+     * @param operator operator to be applied
+     * @param result   result matrix, may be the same object as the operand
+     * @return result matrix
+     */
+    public static Matrix apply(Matrix matrix, DoubleUnaryOperator operator, Matrix result) {
+        checkDimensionsSame(matrix, result);
+
         int rowDimension = matrix.getRowDimension();
         int columnDimension = matrix.getColumnDimension();
-        Matrix result = (mutability == Mutability.MUTABLE) ? matrix : matrix.newInstance(rowDimension, columnDimension);
+
+        if (matrix instanceof DenseMatrix src && result instanceof DenseMatrix dst) {
+            DenseKernels.apply(src, operator, dst, 0, rowDimension);
+            return result;
+        }
+
         for (int i = 0; i < rowDimension; i++) {
             for (int j = 0; j < columnDimension; j++) {
                 result.set(i, j, operator.applyAsDouble(matrix.get(i, j)));
@@ -257,6 +879,25 @@ public class LinearAlgebra {
         return result;
     }
 
+    /**
+     * Applies operator to all elements of given matrix, storing the result in the given matrix, in parallel for
+     * dense matrices if parallel execution is enabled (see {@code Parallelism})
+     *
+     * @param matrix   matrix
+     * @param operator operator to be applied, which may be invoked concurrently so it must be thread-safe
+     * @param result   result matrix, may be the same object as the operand
+     * @return result matrix
+     */
+    public static Matrix parallelApply(Matrix matrix, DoubleUnaryOperator operator, Matrix result) {
+        if (!(matrix instanceof DenseMatrix src && result instanceof DenseMatrix dst))
+            return apply(matrix, operator, result);
+
+        checkDimensionsSame(matrix, result);
+        Parallelism.forEach(src.getRowDimension(), src.getColumnDimension(),
+                (from, to) -> DenseKernels.apply(src, operator, dst, from, to));
+        return result;
+    }
+
     /**
      * Applies operator to all elements of given matrices
      *
@@ -266,11 +907,30 @@ public class LinearAlgebra {
      * @param mutability if set to MUTABLE then result overwrites first operand
      */
     public static Matrix apply(Matrix m1, Matrix m2, DoubleBinaryOperator operator, Mutability mutability) {
+        return apply(m1, m2, operator, target(m1, mutability));
+    }
+
+    /**
+     * Applies operator to all elements of given matrices, storing the result in the given matrix
+     *
+     * @param m1       first matrix
+     * @param m2       second matrix
+     * @param operator operator to be applied
+     * @param result   result matrix, may be the same object as an operand
+     * @return result matrix
+     */
+    public static Matrix apply(Matrix m1, Matrix m2, DoubleBinaryOperator operator, Matrix result) {
         checkDimensionsSame(m1, m2);
+        checkDimensionsSame(m1, result);
 
         int rowDimension = m1.getRowDimension();
         int columnDimension = m1.getColumnDimension();
-        Matrix result = (mutability == Mutability.MUTABLE) ? m1 : m1.newInstance(rowDimension, columnDimension);
+
+        if (m1 instanceof DenseMatrix src1 && m2 instanceof DenseMatrix src2 && result instanceof DenseMatrix dst) {
+            DenseKernels.apply(src1, src2, operator, dst, 0, rowDimension);
+            return result;
+        }
+
         for (int i = 0; i < rowDimension; i++) {
             for (int j = 0; j < columnDimension; j++) {
                 result.set(i, j, operator.applyAsDouble(m1.get(i, j), m2.get(i, j)));
@@ -279,6 +939,27 @@ public class LinearAlgebra {
         return result;
     }
 
+    /**
+     * Applies operator to all elements of given matrices, storing the result in the given matrix, in parallel for
+     * dense matrices if parallel execution is enabled (see {@code Parallelism})
+     *
+     * @param m1       first matrix
+     * @param m2       second matrix
+     * @param operator operator to be applied, which may be invoked concurrently so it must be thread-safe
+     * @param result   result matrix, may be the same object as an operand
+     * @return result matrix
+     */
+    public static Matrix parallelApply(Matrix m1, Matrix m2, DoubleBinaryOperator operator, Matrix result) {
+        if (!(m1 instanceof DenseMatrix src1 && m2 instanceof DenseMatrix src2 && result instanceof DenseMatrix dst))
+            return apply(m1, m2, operator, result);
+
+        checkDimensionsSame(m1, m2);
+        checkDimensionsSame(m1, result);
+        Parallelism.forEach(src1.getRowDimension(), src1.getColumnDimension(),
+                (from, to) -> DenseKernels.apply(src1, src2, operator, dst, from, to));
+        return result;
+    }
+
     /**
      * Applies operator to all elements of given vector
      *
@@ -288,14 +969,47 @@ public class LinearAlgebra {
      * @return new vector
      */
     public static Vector apply(Vector vector, DoubleUnaryOperator operator, Mutability mutability) {
-        int n = vector.getDimension();
-        Vector result = (mutability == Mutability.MUTABLE) ? vector : vector.newInstance(n);
-        for (int i = 0; i < n; i++) {
+        return apply(vector, operator, target(vector, mutability));
+    }
+
+    /**
+     * Applies operator to all elements of given vector, storing the result in the given vector
+     *
+     * @param vector   vector
+     * @param operator operator to be applied
+     * @param result   result vector, may be the same object as the operand
+     * @return result vector
+     */
+    public static Vector apply(Vector vector, DoubleUnaryOperator operator, Vector result) {
+        checkDimensionsSame(vector, result);
+
+        for (int i = 0, n = vector.getDimension(); i < n; i++) {
             result.set(i, operator.applyAsDouble(vector.get(i)));
         }
         return result;
     }
 
+    /**
+     * Applies operator to all elements of given vector, storing the result in the given vector, in parallel for
+     * array vector results if parallel execution is enabled (see {@code Parallelism})
+     *
+     * @param vector   vector
+     * @param operator operator to be applied, which may be invoked concurrently so it must be thread-safe
+     * @param result   result vector, may be the same object as the operand
+     * @return result vector
+     */
+    public static Vector parallelApply(Vector vector, DoubleUnaryOperator operator, Vector result) {
+        if (!(result instanceof ArrayVector)) return apply(vector, operator, result);
+
+        checkDimensionsSame(vector, result);
+        Parallelism.forEach(vector.getDimension(), 1, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                result.set(i, operator.applyAsDouble(vector.get(i)));
+            }
+        });
+        return result;
+    }
+
     /**
      * Applies operator to all elements of given vectors
      *
@@ -306,16 +1020,51 @@ public class LinearAlgebra {
      * @return new vector
      */
     public static Vector apply(Vector v1, Vector v2, DoubleBinaryOperator operator, Mutability mutability) {
+        return apply(v1, v2, operator, target(v1, mutability));
+    }
+
+    /**
+     * Applies operator to all elements of given vectors, storing the result in the given vector
+     *
+     * @param v1       first vector
+     * @param v2       second vector
+     * @param operator operator to be applied
+     * @param result   result vector, may be the same object as an operand
+     * @return result vector
+     */
+    public static Vector apply(Vector v1, Vector v2, DoubleBinaryOperator operator, Vector result) {
         checkDimensionsSame(v1, v2);
+        checkDimensionsSame(v1, result);
 
-        int n = v1.getDimension();
-        Vector result = (mutability == Mutability.MUTABLE) ? v1 : v1.newInstance(n);
-        for (int i = 0; i < n; i++) {
+        for (int i = 0, n = v1.getDimension(); i < n; i++) {
             result.set(i, operator.applyAsDouble(v1.get(i), v2.get(i)));
         }
         return result;
     }
 
+    /**
+     * Applies operator to all elements of given vectors, storing the result in the given vector, in parallel for
+     * array vector results if parallel execution is enabled (see {@code Parallelism})
+     *
+     * @param v1       first vector
+     * @param v2       second vector
+     * @param operator operator to be applied, which may be invoked concurrently so it must be thread-safe
+     * @param result   result vector, may be the same object as an operand
+     * @return result vector
+     */
+    public static Vector parallelApply(Vector v1, Vector v2, DoubleBinaryOperator operator, Vector result) {
+        if (!(result instanceof ArrayVector)) return apply(v1, v2, operator, result);
+
+        checkDimensionsSame(v1, v2);
+        checkDimensionsSame(v1, result);
+        Parallelism.forEach(v1.getDimension(), 1, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                result.set(i, operator.applyAsDouble(v1.get(i), v2.get(i)));
+            }
+        });
+        return result;
+    }
+
     /**
      * Tests if any element matches predicate
      *
@@ -341,6 +1090,34 @@ public class LinearAlgebra {
         return !anyMatch(iterator, x -> !predicate.test(x));
     }
 
+    /**
+     * Tests if any element matches predicate, without boxing elements
+     *
+     * @param iterator  primitive iterator object
+     * @param predicate predicate to be tested
+     * @return true if any element matches, false otherwise
+     */
+    public static boolean anyMatch(PrimitiveIterator.OfDouble iterator, DoublePredicate predicate) {
+        while (iterator.hasNext()) {
+            if (predicate.test(iterator.nextDouble())) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Tests if all elements match predicate, without boxing elements
+     *
+     * @param iterator  primitive iterator object
+     * @param predicate predicate to be tested
+     * @return true if all elements match, false otherwise
+     */
+    public static boolean allMatch(PrimitiveIterator.OfDouble iterator, DoublePredicate predicate) {
+        while (iterator.hasNext()) {
+            if (!predicate.test(iterator.nextDouble())) return false;
+        }
+        return true;
+    }
+
     /**
      * Calculates euclidean norm of a vector
      *
@@ -348,6 +1125,10 @@ public class LinearAlgebra {
      * @return euclidean norm of a vector
      */
     public static double norm(Vector vector) {
+        if (vector instanceof SparseVector sparse) {
+            double[] values = sparse.getValues();
+            return Math.sqrt(KERNELS.dot(values, 0, values, 0, sparse.getNonZeroCount()));
+        }
         return Math.sqrt(LinearAlgebra.inner(vector, vector));
     }
 
@@ -432,4 +1213,340 @@ public class LinearAlgebra {
         }
         return result;
     }
+
+    /**
+     * Gets an array to accumulate the result of a vector operation in, this is the array of the result itself
+     * if it is array-backed
+     *
+     * @param result    result vector
+     * @param dimension result dimension
+     * @return zero-filled array
+     */
+    private static double[] resultArray(Vector result, int dimension) {
+        if (!(result instanceof ArrayVector array)) return new double[dimension];
+
+        double[] values = array.getData();
+        Arrays.fill(values, 0.);
+        return values;
+    }
+
+    /**
+     * Copies values into the result vector, unless they are already stored in it
+     *
+     * @param values values
+     * @param result result vector
+     * @return result vector
+     */
+    private static Vector storeResult(double[] values, Vector result) {
+        if (result instanceof ArrayVector array && array.getData() == values) return result;
+
+        for (int i = 0; i < values.length; i++) {
+            result.set(i, values[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the array holding the elements of the vector contiguously, which is the array of an array vector
+     * or of a slice of one
+     *
+     * @param vector vector
+     * @return underlying array, null if elements are not stored contiguously in an array
+     */
+    private static double[] contiguousData(Vector vector) {
+        if (vector instanceof ArrayVector array) return array.getData();
+        if (vector instanceof StridedViewVector strided && strided.getStride() == 1) return strided.getData();
+        return null;
+    }
+
+    /**
+     * Gets the index of the first element of the vector in the array returned by {@link #contiguousData(Vector)}
+     *
+     * @param vector vector
+     * @return offset
+     */
+    private static int contiguousOffset(Vector vector) {
+        return (vector instanceof StridedViewVector strided) ? strided.getOffset() : 0;
+    }
+
+    /**
+     * Tests whether elements of the operand are stored in a float matrix, directly or through a transposed view
+     *
+     * @param matrix operand
+     * @return true if operand is single precision, false otherwise
+     */
+    private static boolean isSinglePrecision(Matrix matrix) {
+        return matrix instanceof FloatMatrix
+                || matrix instanceof TransposedViewMatrix transposed && transposed.getView() instanceof FloatMatrix;
+    }
+
+    /**
+     * Widens a single precision operand of a matrix-matrix product to a dense copy, so the product runs in the
+     * blocked kernel (the copy costs a single pass, next to the k passes of the product)
+     *
+     * @param matrix operand
+     * @return dense copy (or its transposed view) for single precision operands, operand itself otherwise
+     */
+    private static Matrix widen(Matrix matrix) {
+        if (matrix instanceof FloatMatrix single) return single.toDense();
+        if (matrix instanceof TransposedViewMatrix transposed && transposed.getView() instanceof FloatMatrix single)
+            return single.toDense().transpose();
+        return matrix;
+    }
+
+    /**
+     * Gets the dense matrix holding the elements of the operand, which is either the operand itself or the matrix
+     * it is a transposed view of
+     *
+     * @param matrix operand
+     * @return underlying dense matrix, null if elements are not stored in a dense matrix
+     */
+    private static DenseMatrix denseStorage(Matrix matrix) {
+        if (matrix instanceof DenseMatrix dense) return dense;
+        if (matrix instanceof TransposedViewMatrix transposed && transposed.getView() instanceof DenseMatrix dense)
+            return dense;
+        return null;
+    }
+
+    /**
+     * Computes result += alpha * m1 * m2 on the dense storage of the operands, transposed views are read through
+     * swapped strides, so the packing of the kernel reads them in storage order and no transpose is materialised
+     *
+     * @param m1     first operand
+     * @param d1     dense storage of the first operand
+     * @param m2     second operand
+     * @param d2     dense storage of the second operand
+     * @param alpha  scalar multiplying the product
+     * @param result dense result
+     */
+    private static void gemm(Matrix m1, DenseMatrix d1, Matrix m2, DenseMatrix d2, double alpha, DenseMatrix result) {
+        int r1 = m1.getRowDimension();
+        int c1 = m1.getColumnDimension();
+        int c2 = m2.getColumnDimension();
+        int aRs = (m1 == d1) ? d1.getStride() : 1;
+        int aCs = (m1 == d1) ? 1 : d1.getStride();
+        int bRs = (m2 == d2) ? d2.getStride() : 1;
+        int bCs = (m2 == d2) ? 1 : d2.getStride();
+
+        Parallelism.forEach(r1, (long) c1 * c2, (from, to) -> GemmKernel.multiply(to - from, c2, c1, alpha,
+                d1.getData(), d1.getOffset() + from * aRs, aRs, aCs,
+                d2.getData(), d2.getOffset(), bRs, bCs,
+                result.getData(), result.index(from, 0), result.getStride()));
+    }
+
+    /**
+     * Computes the Gram matrix A^T * A (or A * A^T) of a dense matrix and its transposed view, only block rows of
+     * the upper triangle are multiplied and the lower triangle is mirrored, which halves the work
+     *
+     * @param m1     first operand, either the dense matrix or its transposed view
+     * @param dense  dense storage of both operands
+     * @param result dense result, zero-filled
+     */
+    private static void gram(Matrix m1, DenseMatrix dense, DenseMatrix result) {
+        int n = m1.getRowDimension();
+        int k = m1.getColumnDimension();
+        int rs = (m1 == dense) ? dense.getStride() : 1;
+        int cs = (m1 == dense) ? 1 : dense.getStride();
+        double[] a = dense.getData();
+        double[] c = result.getData();
+        int offset = dense.getOffset();
+        int ldc = result.getStride();
+        int blockSize = GemmKernel.MC;
+        int blocks = (n + blockSize - 1) / blockSize;
+
+        Parallelism.forEach(blocks, (long) blockSize * n * k / 2, (from, to) -> {
+            for (int block = from; block < to; block++) {
+                int start = block * blockSize;
+                int rows = Math.min(blockSize, n - start);
+                GemmKernel.multiply(rows, n - start, k,
+                        a, offset + start * rs, rs, cs,
+                        a, offset + start * rs, cs, rs,
+                        c, result.index(start, start), ldc);
+            }
+        });
+
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1, upper = result.index(i, j), lower = result.index(j, i); j < n; j++, upper++, lower += ldc) {
+                c[lower] = c[upper];
+            }
+        }
+    }
+
+    /**
+     * Sets all elements of matrix to zero
+     *
+     * @param matrix matrix
+     */
+    private static void clear(DenseMatrix matrix) {
+        double[] data = matrix.getData();
+        for (int i = 0, rows = matrix.getRowDimension(), columns = matrix.getColumnDimension(); i < rows; i++) {
+            int start = matrix.index(i, 0);
+            Arrays.fill(data, start, start + columns, 0.);
+        }
+    }
+
+    /**
+     * Gets the object which holds the result of an operation on the given operand
+     *
+     * @param vector     first operand
+     * @param mutability if set to MUTABLE then result overwrites first operand
+     * @return first operand or a new vector of the same dimension
+     */
+    private static Vector target(Vector vector, Mutability mutability) {
+        return (mutability == Mutability.MUTABLE) ? vector : vector.newInstance(vector.getDimension());
+    }
+
+    /**
+     * Gets the object which holds the result of an operation on the given operand
+     *
+     * @param matrix     first operand
+     * @param mutability if set to MUTABLE then result overwrites first operand
+     * @return first operand or a new matrix of the same dimensions
+     */
+    /**
+     * Gets the target of an elementwise operation of two matrices, which is a new dense matrix if the first operand
+     * is sparse and the second is not: their sum is dense, and setting every element of sparse storage costs O(nnz)
+     */
+    private static Matrix target(Matrix m1, Matrix m2, Mutability mutability) {
+        if (sparse(m1) != null && sparse(m2) == null) return m1.newInstance(m1.getRowDimension(), m1.getColumnDimension());
+        return target(m1, mutability);
+    }
+
+    private static Matrix target(Matrix matrix, Mutability mutability) {
+        return (mutability == Mutability.MUTABLE)
+                ? matrix
+                : matrix.newInstance(matrix.getRowDimension(), matrix.getColumnDimension());
+    }
+
+    /**
+     * Computes v1 + sign * v2 visiting only the stored elements of sparse operands
+     *
+     * @param v1         first operand
+     * @param v2         second operand
+     * @param sign       1 for addition, -1 for subtraction
+     * @param mutability if set to MUTABLE then result overwrites first operand
+     * @return result vector, or null if neither operand is sparse
+     */
+    private static Vector sparseAdd(Vector v1, Vector v2, double sign, Mutability mutability) {
+        boolean mutable = mutability == Mutability.MUTABLE;
+        if (v1 instanceof SparseVector s1 && v2 instanceof SparseVector s2) {
+            checkDimensionsSame(v1, v2);
+            return mutable ? axpy(sign, s2, s1) : SparseKernels.add(s1, sign, s2);
+        }
+        if (v2 instanceof SparseVector s2) return axpy(sign, s2, mutable ? v1 : v1.copy());
+        // the result is dense, so a sparse first operand is never overwritten
+        if (v1 instanceof SparseVector s1)
+            return axpy(1., s1, (sign == 1.) ? v2.copy() : multiply(v2, -1., Mutability.IMMUTABLE));
+        return null;
+    }
+
+    /**
+     * Gets the sparse storage of matrix, if matrix is a sparse matrix or a transposed view of one
+     *
+     * @param matrix matrix
+     * @return sparse storage or null
+     */
+    private static SparseMatrix sparse(Matrix matrix) {
+        if (matrix instanceof SparseMatrix sparse) return sparse;
+        if (matrix instanceof TransposedViewMatrix transposed && transposed.getView() instanceof SparseMatrix sparse)
+            return sparse;
+        return null;
+    }
+
+    /**
+     * Tests whether the major index of sparse storage is the row index of matrix
+     *
+     * @param matrix matrix
+     * @param sparse sparse storage of matrix
+     * @return true if major index is the row index
+     */
+    private static boolean isMajorRow(Matrix matrix, SparseMatrix sparse) {
+        return (matrix == sparse) != sparse.isColumnCompressed();
+    }
+
+    /**
+     * Applies a kernel to array-backed vectors, falling back to the given operator otherwise
+     */
+    private static Vector elementwise(Vector v1, Vector v2, BinaryKernel kernel, DoubleBinaryOperator operator,
+                                      Vector result) {
+        if (!(v1 instanceof ArrayVector x && v2 instanceof ArrayVector y && result instanceof ArrayVector r))
+            return parallelApply(v1, v2, operator, result);
+
+        checkDimensionsSame(v1, v2);
+        checkDimensionsSame(v1, result);
+
+        int n = x.getDimension();
+        Parallelism.forEach(n, 1, (from, to) ->
+                kernel.apply(x.getData(), from, y.getData(), from, r.getData(), from, to - from));
+        return result;
+    }
+
+    /**
+     * Applies a kernel to an array-backed vector, falling back to the given operator otherwise
+     */
+    private static Vector elementwise(Vector vector, double value, ScalarKernel kernel, DoubleUnaryOperator operator,
+                                      Vector result) {
+        if (!(vector instanceof ArrayVector x && result instanceof ArrayVector r))
+            return parallelApply(vector, operator, result);
+
+        checkDimensionsSame(vector, result);
+
+        int n = x.getDimension();
+        Parallelism.forEach(n, 1, (from, to) -> kernel.apply(value, x.getData(), from, r.getData(), from, to - from));
+        return result;
+    }
+
+    /**
+     * Applies a kernel row by row to dense matrices, falling back to the given operator otherwise
+     */
+    private static Matrix elementwise(Matrix m1, Matrix m2, BinaryKernel kernel, DoubleBinaryOperator operator,
+                                      Matrix result) {
+        if (!(m1 instanceof DenseMatrix x && m2 instanceof DenseMatrix y && result instanceof DenseMatrix r))
+            return parallelApply(m1, m2, operator, result);
+
+        checkDimensionsSame(m1, m2);
+        checkDimensionsSame(m1, result);
+
+        int rows = x.getRowDimension();
+        int columns = x.getColumnDimension();
+        Parallelism.forEach(rows, columns, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                kernel.apply(x.getData(), x.index(i, 0), y.getData(), y.index(i, 0),
+                        r.getData(), r.index(i, 0), columns);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Applies a kernel row by row to a dense matrix, falling back to the given operator otherwise
+     */
+    private static Matrix elementwise(Matrix matrix, double value, ScalarKernel kernel, DoubleUnaryOperator operator,
+                                      Matrix result) {
+        if (!(matrix instanceof DenseMatrix x && result instanceof DenseMatrix r))
+            return parallelApply(matrix, operator, result);
+
+        checkDimensionsSame(matrix, result);
+
+        int rows = x.getRowDimension();
+        int columns = x.getColumnDimension();
+        Parallelism.forEach(rows, columns, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                kernel.apply(value, x.getData(), x.index(i, 0), r.getData(), r.index(i, 0), columns);
+            }
+        });
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface BinaryKernel {
+
+        void apply(double[] x, int xOff, double[] y, int yOff, double[] out, int outOff, int n);
+    }
+
+    @FunctionalInterface
+    private interface ScalarKernel {
+
+        void apply(double a, double[] x, int xOff, double[] out, int outOff, int n);
+    }
 }
@@ -4,6 +4,7 @@ import linear.exceptions.DimensionMismatchException;
 import linear.exceptions.MatrixDimensionMismatchException;
 import linear.matrix.Matrix;
 import linear.Matrices;
+import linear.vector.StridedViewVector;
 import linear.vector.Vector;
 
 final class LinearAlgebraUtil {
@@ -46,6 +47,20 @@ final class LinearAlgebraUtil {
         checkDimensionsSame(m1, m2);
     }
 
+    /**
+     * Checks if result matrix has the given dimensions
+     *
+     * @param result          result matrix
+     * @param rowDimension    expected row dimension
+     * @param columnDimension expected column dimension
+     */
+    static void checkResultDimensions(Matrix result, int rowDimension, int columnDimension) {
+        if (result.getRowDimension() != rowDimension)
+            throw new DimensionMismatchException(result.getRowDimension(), rowDimension);
+        if (result.getColumnDimension() != columnDimension)
+            throw new DimensionMismatchException(result.getColumnDimension(), columnDimension);
+    }
+
     /**
      * Checks if vector-vector addition of given matrices is applicable
      *
@@ -82,6 +97,19 @@ final class LinearAlgebraUtil {
         if (columnDimension != vectorDimension) throw new DimensionMismatchException(columnDimension, vectorDimension);
     }
 
+    /**
+     * Checks if vector-matrix multiplication of given operands is applicable
+     *
+     * @param vector vector operand
+     * @param matrix matrix operand
+     */
+    static void checkMultiplicationApplicable(Vector vector, Matrix matrix) {
+        int vectorDimension = vector.getDimension();
+        int rowDimension = matrix.getRowDimension();
+
+        if (vectorDimension != rowDimension) throw new DimensionMismatchException(vectorDimension, rowDimension);
+    }
+
     /**
      * Checks if vector-vector addition of given matrices is applicable
      *
@@ -115,4 +143,21 @@ final class LinearAlgebraUtil {
     static boolean isBackwardSubstitutionApplicable(Matrix matrix, Vector vector) {
         return vector.getDimension() == matrix.getRowDimension() && Matrices.isUpperTriangleMatrix(matrix);
     }
+
+    /**
+     * Copies elements of the given vector into a new array
+     *
+     * @param vector vector
+     * @return array of elements
+     */
+    static double[] toArray(Vector vector) {
+        if (vector instanceof StridedViewVector strided) return strided.copy().getData();
+
+        int n = vector.getDimension();
+        double[] array = new double[n];
+        for (int i = 0; i < n; i++) {
+            array[i] = vector.get(i);
+        }
+        return array;
+    }
 }
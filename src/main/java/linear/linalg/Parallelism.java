@@ -0,0 +1,122 @@
+package linear.linalg;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Configuration of parallel execution for operations in {@code LinearAlgebra}
+ * <p>
+ * When enabled, operations on array-backed operands are split into blocks of rows (or elements, for vectors)
+ * which are processed on the configured fork/join pool. Operations whose amount of work is below the threshold
+ * always run on the calling thread. Parallel execution is disabled by default. Operators supplied by the caller are
+ * invoked concurrently only by {@code LinearAlgebra.parallelApply}, never by {@code apply}.
+ */
+public final class Parallelism {
+
+    private static final int DEFAULT_THRESHOLD = 1 << 15;
+    private static final int TASKS_PER_THREAD = 4;
+
+    private static volatile boolean enabled;
+    private static volatile ForkJoinPool pool = ForkJoinPool.commonPool();
+    private static volatile int threshold = DEFAULT_THRESHOLD;
+
+    private Parallelism() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        Parallelism.enabled = enabled;
+    }
+
+    public static ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public static void setPool(ForkJoinPool pool) {
+        Parallelism.pool = Objects.requireNonNull(pool);
+    }
+
+    /**
+     * Gets the minimum amount of work (number of element operations) for which an operation is run in parallel
+     *
+     * @return threshold
+     */
+    public static int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Sets the minimum amount of work (number of element operations) for which an operation is run in parallel,
+     * this is also the smallest amount of work given to a single task
+     *
+     * @param threshold threshold
+     */
+    public static void setThreshold(int threshold) {
+        if (threshold < 1) throw new IllegalArgumentException("Threshold must be positive");
+        Parallelism.threshold = threshold;
+    }
+
+    /**
+     * Represents an action performed on a half-open range of indices
+     */
+    @FunctionalInterface
+    interface RangeAction {
+
+        void apply(int from, int to);
+    }
+
+    /**
+     * Performs action on the range [0, count), either directly or split into blocks processed in parallel
+     *
+     * @param count        number of indices (usually rows)
+     * @param workPerIndex amount of work needed to process one index
+     * @param action       action to be performed
+     */
+    static void forEach(int count, long workPerIndex, RangeAction action) {
+        int threshold = Parallelism.threshold;
+        if (!enabled || count < 2 || count * workPerIndex < threshold) {
+            action.apply(0, count);
+            return;
+        }
+
+        ForkJoinPool pool = Parallelism.pool;
+        long minimumGrain = (threshold + workPerIndex - 1) / Math.max(1, workPerIndex);
+        int grain = (int) Math.max(minimumGrain, count / ((long) pool.getParallelism() * TASKS_PER_THREAD));
+        if (grain >= count) {
+            action.apply(0, count);
+            return;
+        }
+
+        pool.invoke(new RangeTask(0, count, Math.max(1, grain), action));
+    }
+
+    private static class RangeTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final int grain;
+        private final RangeAction action;
+
+        RangeTask(int from, int to, int grain, RangeAction action) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                action.apply(from, to);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, middle, grain, action), new RangeTask(middle, to, grain, action));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package linear.linalg;
+
+/**
+ * Scalar implementation of BLAS level 1 kernels
+ * <p>
+ * Reductions use four independent accumulators, elementwise loops are left simple so the JIT can vectorize them
+ */
+final class ScalarVectorKernels implements VectorKernels {
+
+    @Override
+    public double dot(double[] x, int xOff, double[] y, int yOff, int n) {
+        double s0 = 0., s1 = 0., s2 = 0., s3 = 0.;
+        int i = 0;
+        for (int bound = n - 3; i < bound; i += 4) {
+            s0 += x[xOff + i] * y[yOff + i];
+            s1 += x[xOff + i + 1] * y[yOff + i + 1];
+            s2 += x[xOff + i + 2] * y[yOff + i + 2];
+            s3 += x[xOff + i + 3] * y[yOff + i + 3];
+        }
+        for (; i < n; i++) {
+            s0 += x[xOff + i] * y[yOff + i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    @Override
+    public double sum(double[] x, int xOff, int n) {
+        double s0 = 0., s1 = 0., s2 = 0., s3 = 0.;
+        int i = 0;
+        for (int bound = n - 3; i < bound; i += 4) {
+            s0 += x[xOff + i];
+            s1 += x[xOff + i + 1];
+            s2 += x[xOff + i + 2];
+            s3 += x[xOff + i + 3];
+        }
+        for (; i < n; i++) {
+            s0 += x[xOff + i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    @Override
+    public void axpy(double a, double[] x, int xOff, double[] y, int yOff, int n) {
+        for (int i = 0; i < n; i++) {
+            y[yOff + i] += a * x[xOff + i];
+        }
+    }
+
+    @Override
+    public void scale(double a, double[] x, int xOff, double[] out, int outOff, int n) {
+        for (int i = 0; i < n; i++) {
+            out[outOff + i] = a * x[xOff + i];
+        }
+    }
+
+    @Override
+    public void shift(double a, double[] x, int xOff, double[] out, int outOff, int n) {
+        for (int i = 0; i < n; i++) {
+            out[outOff + i] = x[xOff + i] + a;
+        }
+    }
+
+    @Override
+    public void add(double[] x, int xOff, double[] y, int yOff, double[] out, int outOff, int n) {
+        for (int i = 0; i < n; i++) {
+            out[outOff + i] = x[xOff + i] + y[yOff + i];
+        }
+    }
+
+    @Override
+    public void subtract(double[] x, int xOff, double[] y, int yOff, double[] out, int outOff, int n) {
+        for (int i = 0; i < n; i++) {
+            out[outOff + i] = x[xOff + i] - y[yOff + i];
+        }
+    }
+
+    @Override
+    public void multiply(double[] x, int xOff, double[] y, int yOff, double[] out, int outOff, int n) {
+        for (int i = 0; i < n; i++) {
+            out[outOff + i] = x[xOff + i] * y[yOff + i];
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package linear.linalg;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementation of BLAS level 1 kernels using the Vector API (module {@code jdk.incubator.vector})
+ * <p>
+ * This class must only be loaded when the module is available, see {@code VectorKernels.get()}
+ */
+final class SimdVectorKernels implements VectorKernels {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    @Override
+    public double dot(double[] x, int xOff, double[] y, int yOff, int n) {
+        DoubleVector acc = DoubleVector.zero(SPECIES);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += LANES) {
+            DoubleVector vx = DoubleVector.fromArray(SPECIES, x, xOff + i);
+            DoubleVector vy = DoubleVector.fromArray(SPECIES, y, yOff + i);
+            acc = vx.fma(vy, acc);
+        }
+        double sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < n; i++) {
+            sum += x[xOff + i] * y[yOff + i];
+        }
+        return sum;
+    }
+
+    @Override
+    public double sum(double[] x, int xOff, int n) {
+        DoubleVector acc = DoubleVector.zero(SPECIES);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += LANES) {
+            acc = acc.add(DoubleVector.fromArray(SPECIES, x, xOff + i));
+        }
+        double sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < n; i++) {
+            sum += x[xOff + i];
+        }
+        return sum;
+    }
+
+    @Override
+    public void axpy(double a, double[] x, int xOff, double[] y, int yOff, int n) {
+        DoubleVector va = DoubleVector.broadcast(SPECIES, a);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += LANES) {
+            DoubleVector vx = DoubleVector.fromArray(SPECIES, x, xOff + i);
+            DoubleVector vy = DoubleVector.fromArray(SPECIES, y, yOff + i);
+            vx.fma(va, vy).intoArray(y, yOff + i);
+        }
+        for (; i < n; i++) {
+            y[yOff + i] += a * x[xOff + i];
+        }
+    }
+
+    @Override
+    public void scale(double a, double[] x, int xOff, double[] out, int outOff, int n) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += LANES) {
+            DoubleVector.fromArray(SPECIES, x, xOff + i).mul(a).intoArray(out, outOff + i);
+        }
+        for (; i < n; i++) {
+            out[outOff + i] = a * x[xOff + i];
+        }
+    }
+
+    @Override
+    public void shift(double a, double[] x, int xOff, double[] out, int outOff, int n) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += LANES) {
+            DoubleVector.fromArray(SPECIES, x, xOff + i).add(a).intoArray(out, outOff + i);
+        }
+        for (; i < n; i++) {
+            out[outOff + i] = x[xOff + i] + a;
+        }
+    }
+
+    @Override
+    public void add(double[] x, int xOff, double[] y, int yOff, double[] out, int outOff, int n) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += LANES) {
+            DoubleVector vx = DoubleVector.fromArray(SPECIES, x, xOff + i);
+            vx.add(DoubleVector.fromArray(SPECIES, y, yOff + i)).intoArray(out, outOff + i);
+        }
+        for (; i < n; i++) {
+            out[outOff + i] = x[xOff + i] + y[yOff + i];
+        }
+    }
+
+    @Override
+    public void subtract(double[] x, int xOff, double[] y, int yOff, double[] out, int outOff, int n) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += LANES) {
+            DoubleVector vx = DoubleVector.fromArray(SPECIES, x, xOff + i);
+            vx.sub(DoubleVector.fromArray(SPECIES, y, yOff + i)).intoArray(out, outOff + i);
+        }
+        for (; i < n; i++) {
+            out[outOff + i] = x[xOff + i] - y[yOff + i];
+        }
+    }
+
+    @Override
+    public void multiply(double[] x, int xOff, double[] y, int yOff, double[] out, int outOff, int n) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += LANES) {
+            DoubleVector vx = DoubleVector.fromArray(SPECIES, x, xOff + i);
+            vx.mul(DoubleVector.fromArray(SPECIES, y, yOff + i)).intoArray(out, outOff + i);
+        }
+        for (; i < n; i++) {
+            out[outOff + i] = x[xOff + i] * y[yOff + i];
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package linear.linalg;
+
+import linear.matrix.DenseMatrix;
+import linear.matrix.SparseMatrix;
+import linear.vector.ArrayVector;
+import linear.vector.SparseVector;
+import linear.vector.Vector;
+
+import java.util.Arrays;
+
+/**
+ * Loops over the stored elements of {@code SparseMatrix} and {@code SparseVector} operands, so their cost
+ * is proportional to the number of non-zero elements
+ * <p>
+ * The sparse operand A is described by its storage and a flag telling whether the major index of the storage
+ * is the row index of A. This is the case for CSR matrices and transposed views of CSC matrices,
+ * while for CSC matrices and transposed views of CSR matrices the major index is the column index of A.
+ */
+final class SparseKernels {
+
+    private SparseKernels() {
+    }
+
+    /**
+     * Computes y = A * x
+     *
+     * @param a          storage of the sparse operand
+     * @param majorIsRow true if major index of the storage is the row index of A
+     * @param x          vector
+     * @param y          result array, zero-initialized
+     */
+    static void multiply(SparseMatrix a, boolean majorIsRow, double[] x, double[] y) {
+        int[] pointers = a.getPointers();
+        int[] indices = a.getIndices();
+        double[] values = a.getValues();
+
+        for (int p = 0, n = pointers.length - 1; p < n; p++) {
+            int start = pointers[p];
+            int end = pointers[p + 1];
+            if (majorIsRow) {
+                double sum = 0.;
+                for (int k = start; k < end; k++) {
+                    sum += values[k] * x[indices[k]];
+                }
+                y[p] = sum;
+            } else {
+                double xp = x[p];
+                if (xp == 0.) continue;
+
+                for (int k = start; k < end; k++) {
+                    y[indices[k]] += values[k] * xp;
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes majors [from, to) of C = A * B by accumulating scaled rows of B;
+     * when the major index is not the row index of A, different majors update the same rows of C,
+     * so the whole range must be processed by one thread
+     *
+     * @param a          storage of the sparse operand
+     * @param majorIsRow true if major index of the storage is the row index of A
+     * @param b          dense operand
+     * @param c          result, zero-initialized
+     * @param kernels    kernels used for row operations
+     * @param from       first major index, inclusive
+     * @param to         last major index, exclusive
+     */
+    static void multiply(SparseMatrix a, boolean majorIsRow, DenseMatrix b, DenseMatrix c, VectorKernels kernels,
+                         int from, int to) {
+        int[] pointers = a.getPointers();
+        int[] indices = a.getIndices();
+        double[] values = a.getValues();
+        double[] bData = b.getData();
+        double[] cData = c.getData();
+        int columns = c.getColumnDimension();
+
+        for (int p = from; p < to; p++) {
+            for (int k = pointers[p], end = pointers[p + 1]; k < end; k++) {
+                int q = indices[k];
+                if (majorIsRow) {
+                    kernels.axpy(values[k], bData, b.index(q, 0), cData, c.index(p, 0), columns);
+                } else {
+                    kernels.axpy(values[k], bData, b.index(p, 0), cData, c.index(q, 0), columns);
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes rows [from, to) of C = B * A
+     *
+     * @param b          dense operand
+     * @param a          storage of the sparse operand
+     * @param majorIsRow true if major index of the storage is the row index of A
+     * @param c          result, zero-initialized
+     * @param from       first row, inclusive
+     * @param to         last row, exclusive
+     */
+    static void multiply(DenseMatrix b, SparseMatrix a, boolean majorIsRow, DenseMatrix c, int from, int to) {
+        int[] pointers = a.getPointers();
+        int[] indices = a.getIndices();
+        double[] values = a.getValues();
+        double[] bData = b.getData();
+        double[] cData = c.getData();
+        int majorDimension = pointers.length - 1;
+
+        for (int i = from; i < to; i++) {
+            int bRow = b.index(i, 0);
+            int cRow = c.index(i, 0);
+            for (int p = 0; p < majorDimension; p++) {
+                int start = pointers[p];
+                int end = pointers[p + 1];
+                if (majorIsRow) {
+                    double bip = bData[bRow + p];
+                    if (bip == 0.) continue;
+
+                    for (int k = start; k < end; k++) {
+                        cData[cRow + indices[k]] += bip * values[k];
+                    }
+                } else {
+                    double sum = 0.;
+                    for (int k = start; k < end; k++) {
+                        sum += bData[bRow + indices[k]] * values[k];
+                    }
+                    cData[cRow + p] = sum;
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes majors [from, to) of C = A * B for sparse A and B, so neither operand is densified
+     * <p>
+     * If the major index of A is its row index, the range is over rows of A, every one giving a row of C: scaled
+     * rows of B are accumulated into it, or, when the major index of B is its column index, the row of A is
+     * scattered into a work array and summed against the columns of B. Otherwise, if the major index of B is its
+     * column index, the range is over columns of B, every one giving a column of C as a sum of scaled columns of A.
+     * In the remaining case the range is over columns of A, whose outer products with rows of B update all of C,
+     * so the whole range must be processed by one thread.
+     *
+     * @param a           storage of the first sparse operand
+     * @param aMajorIsRow true if major index of the storage is the row index of A
+     * @param b           storage of the second sparse operand
+     * @param bMajorIsRow true if major index of the storage is the row index of B
+     * @param c           result, zero-initialized
+     * @param from        first major index, inclusive
+     * @param to          last major index, exclusive
+     */
+    static void multiply(SparseMatrix a, boolean aMajorIsRow, SparseMatrix b, boolean bMajorIsRow, DenseMatrix c,
+                         int from, int to) {
+        int[] aPointers = a.getPointers();
+        int[] aIndices = a.getIndices();
+        double[] aValues = a.getValues();
+        int[] bPointers = b.getPointers();
+        int[] bIndices = b.getIndices();
+        double[] bValues = b.getValues();
+        double[] cData = c.getData();
+
+        if (aMajorIsRow && bMajorIsRow) {
+            for (int p = from; p < to; p++) {
+                int cRow = c.index(p, 0);
+                for (int k = aPointers[p], end = aPointers[p + 1]; k < end; k++) {
+                    int q = aIndices[k];
+                    double value = aValues[k];
+                    for (int l = bPointers[q], last = bPointers[q + 1]; l < last; l++) {
+                        cData[cRow + bIndices[l]] += value * bValues[l];
+                    }
+                }
+            }
+        } else if (aMajorIsRow) {
+            double[] row = new double[a.isColumnCompressed() ? a.getRowDimension() : a.getColumnDimension()];
+            int columns = bPointers.length - 1;
+            for (int p = from; p < to; p++) {
+                int start = aPointers[p];
+                int end = aPointers[p + 1];
+                if (start == end) continue;
+
+                for (int k = start; k < end; k++) {
+                    row[aIndices[k]] += aValues[k];
+                }
+                int cRow = c.index(p, 0);
+                for (int j = 0; j < columns; j++) {
+                    double sum = 0.;
+                    for (int l = bPointers[j], last = bPointers[j + 1]; l < last; l++) {
+                        sum += bValues[l] * row[bIndices[l]];
+                    }
+                    cData[cRow + j] = sum;
+                }
+                for (int k = start; k < end; k++) {
+                    row[aIndices[k]] = 0.;
+                }
+            }
+        } else if (!bMajorIsRow) {
+            for (int j = from; j < to; j++) {
+                for (int l = bPointers[j], last = bPointers[j + 1]; l < last; l++) {
+                    int q = bIndices[l];
+                    double value = bValues[l];
+                    for (int k = aPointers[q], end = aPointers[q + 1]; k < end; k++) {
+                        cData[c.index(aIndices[k], j)] += aValues[k] * value;
+                    }
+                }
+            }
+        } else {
+            for (int p = from; p < to; p++) {
+                for (int k = aPointers[p], end = aPointers[p + 1]; k < end; k++) {
+                    int cRow = c.index(aIndices[k], 0);
+                    double value = aValues[k];
+                    for (int l = bPointers[p], last = bPointers[p + 1]; l < last; l++) {
+                        cData[cRow + bIndices[l]] += value * bValues[l];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes inner product of sparse vectors by merging their indices
+     *
+     * @param x first vector
+     * @param y second vector
+     * @return inner product
+     */
+    static double dot(SparseVector x, SparseVector y) {
+        int[] xIndices = x.getIndices();
+        int[] yIndices = y.getIndices();
+        double[] xValues = x.getValues();
+        double[] yValues = y.getValues();
+
+        double sum = 0.;
+        for (int i = 0, j = 0, m = x.getNonZeroCount(), n = y.getNonZeroCount(); i < m && j < n; ) {
+            if (xIndices[i] < yIndices[j]) {
+                i++;
+            } else if (xIndices[i] > yIndices[j]) {
+                j++;
+            } else {
+                sum += xValues[i++] * yValues[j++];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Computes inner product of a sparse and any other vector
+     *
+     * @param x sparse vector
+     * @param y other vector
+     * @return inner product
+     */
+    static double dot(SparseVector x, Vector y) {
+        int[] indices = x.getIndices();
+        double[] values = x.getValues();
+        int size = x.getNonZeroCount();
+
+        double sum = 0.;
+        if (y instanceof ArrayVector array) {
+            double[] data = array.getData();
+            for (int k = 0; k < size; k++) {
+                sum += values[k] * data[indices[k]];
+            }
+        } else {
+            for (int k = 0; k < size; k++) {
+                sum += values[k] * y.get(indices[k]);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Computes y = a * x + y, y is overwritten
+     *
+     * @param a scalar
+     * @param x sparse vector
+     * @param y vector
+     */
+    static void axpy(double a, SparseVector x, Vector y) {
+        int[] indices = x.getIndices();
+        double[] values = x.getValues();
+        int size = x.getNonZeroCount();
+
+        if (y instanceof ArrayVector array) {
+            double[] data = array.getData();
+            for (int k = 0; k < size; k++) {
+                data[indices[k]] += a * values[k];
+            }
+        } else {
+            for (int k = 0; k < size; k++) {
+                int i = indices[k];
+                y.set(i, y.get(i) + a * values[k]);
+            }
+        }
+    }
+
+    /**
+     * Computes x + a * y by merging indices of sparse vectors
+     *
+     * @param x first vector
+     * @param a scalar
+     * @param y second vector
+     * @return new sparse vector
+     */
+    static SparseVector add(SparseVector x, double a, SparseVector y) {
+        int[] xIndices = x.getIndices();
+        int[] yIndices = y.getIndices();
+        double[] xValues = x.getValues();
+        double[] yValues = y.getValues();
+        int m = x.getNonZeroCount();
+        int n = y.getNonZeroCount();
+
+        int[] indices = new int[m + n];
+        double[] values = new double[m + n];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < m || j < n) {
+            if (j == n || (i < m && xIndices[i] < yIndices[j])) {
+                indices[size] = xIndices[i];
+                values[size++] = xValues[i++];
+            } else if (i == m || xIndices[i] > yIndices[j]) {
+                indices[size] = yIndices[j];
+                values[size++] = a * yValues[j++];
+            } else {
+                indices[size] = xIndices[i];
+                values[size++] = xValues[i++] + a * yValues[j++];
+            }
+        }
+
+        return new SparseVector(x.getDimension(), Arrays.copyOf(indices, size), Arrays.copyOf(values, size), size);
+    }
+}
@@ -0,0 +1,184 @@
+package linear.linalg;
+
+import linear.matrix.BandMatrix;
+import linear.matrix.DiagonalMatrix;
+import linear.matrix.Matrix;
+import linear.matrix.SymmetricPackedMatrix;
+
+import java.util.Arrays;
+
+/**
+ * Loops working directly on the underlying arrays of band (including diagonal) and symmetric packed matrices,
+ * visiting only the stored elements
+ */
+final class StructuredKernels {
+
+    private StructuredKernels() {
+    }
+
+    /**
+     * Computes y = band * x
+     *
+     * @param band band matrix
+     * @param x    vector
+     * @param y    result array
+     */
+    static void multiply(BandMatrix band, double[] x, double[] y) {
+        double[] data = band.getData();
+
+        for (int i = 0, n = band.getRowDimension(); i < n; i++) {
+            double sum = 0.;
+            for (int j = band.firstColumn(i), last = band.lastColumn(i), k = band.index(i, j); j < last; j++, k++) {
+                sum += data[k] * x[j];
+            }
+            y[i] = sum;
+        }
+    }
+
+    /**
+     * Computes y = x * band by accumulating scaled rows of the band
+     *
+     * @param x    vector
+     * @param band band matrix
+     * @param y    result array
+     */
+    static void multiply(double[] x, BandMatrix band, double[] y) {
+        double[] data = band.getData();
+
+        for (int j = 0, n = band.getColumnDimension(); j < n; j++) {
+            y[j] = 0.;
+        }
+        for (int i = 0, n = band.getRowDimension(); i < n; i++) {
+            double xi = x[i];
+            if (xi == 0.) continue;
+
+            for (int j = band.firstColumn(i), last = band.lastColumn(i), k = band.index(i, j); j < last; j++, k++) {
+                y[j] += xi * data[k];
+            }
+        }
+    }
+
+    /**
+     * Computes y = symmetric * x, every stored element is used for both of its positions
+     *
+     * @param symmetric symmetric packed matrix
+     * @param x         vector
+     * @param y         result array
+     */
+    static void multiply(SymmetricPackedMatrix symmetric, double[] x, double[] y) {
+        double[] data = symmetric.getData();
+        int n = symmetric.getRowDimension();
+
+        for (int i = 0; i < n; i++) {
+            y[i] = 0.;
+        }
+        for (int i = 0, k = 0; i < n; i++) {
+            double xi = x[i];
+            double sum = 0.;
+            for (int j = 0; j < i; j++, k++) {
+                sum += data[k] * x[j];
+                y[j] += data[k] * xi;
+            }
+            y[i] += sum + data[k++] * xi;
+        }
+    }
+
+    /**
+     * Computes result = band * matrix, every row of the result is a combination of band-many rows of matrix
+     *
+     * @param band   band matrix
+     * @param matrix matrix
+     * @param result result matrix, overwritten
+     */
+    static void multiply(BandMatrix band, Matrix matrix, Matrix result) {
+        double[] data = band.getData();
+        int columns = matrix.getColumnDimension();
+        double[] row = new double[columns];
+
+        for (int i = 0, n = band.getRowDimension(); i < n; i++) {
+            Arrays.fill(row, 0.);
+            for (int p = band.firstColumn(i), last = band.lastColumn(i), k = band.index(i, p); p < last; p++, k++) {
+                double a = data[k];
+                if (a == 0.) continue;
+
+                for (int j = 0; j < columns; j++) {
+                    row[j] += a * matrix.get(p, j);
+                }
+            }
+            for (int j = 0; j < columns; j++) {
+                result.set(i, j, row[j]);
+            }
+        }
+    }
+
+    /**
+     * Computes result = matrix * band, every row of the result accumulates band-many elements per element of matrix
+     *
+     * @param matrix matrix
+     * @param band   band matrix
+     * @param result result matrix, overwritten
+     */
+    static void multiply(Matrix matrix, BandMatrix band, Matrix result) {
+        double[] data = band.getData();
+        int shared = matrix.getColumnDimension();
+        int columns = band.getColumnDimension();
+        double[] row = new double[columns];
+
+        for (int i = 0, n = matrix.getRowDimension(); i < n; i++) {
+            Arrays.fill(row, 0.);
+            for (int p = 0; p < shared; p++) {
+                double a = matrix.get(i, p);
+                if (a == 0.) continue;
+
+                for (int j = band.firstColumn(p), last = band.lastColumn(p), k = band.index(p, j); j < last; j++, k++) {
+                    row[j] += a * data[k];
+                }
+            }
+            for (int j = 0; j < columns; j++) {
+                result.set(i, j, row[j]);
+            }
+        }
+    }
+
+    /**
+     * Computes the product of two band matrices, which is a band matrix with the bandwidths added
+     * (the product of two diagonal matrices is diagonal)
+     *
+     * @param b1 first band matrix
+     * @param b2 second band matrix
+     * @return new band matrix
+     */
+    static BandMatrix multiply(BandMatrix b1, BandMatrix b2) {
+        int rows = b1.getRowDimension();
+        int columns = b2.getColumnDimension();
+
+        if (b1 instanceof DiagonalMatrix && b2 instanceof DiagonalMatrix) {
+            double[] d1 = b1.getData();
+            double[] d2 = b2.getData();
+            double[] diagonal = new double[rows];
+            for (int i = 0; i < rows; i++) {
+                diagonal[i] = d1[i] * d2[i];
+            }
+            return new DiagonalMatrix(diagonal);
+        }
+
+        int lower = Math.min(Math.max(0, rows - 1), b1.getLowerBandwidth() + b2.getLowerBandwidth());
+        int upper = Math.min(Math.max(0, columns - 1), b1.getUpperBandwidth() + b2.getUpperBandwidth());
+        BandMatrix result = new BandMatrix(rows, columns, lower, upper);
+        double[] data1 = b1.getData();
+        double[] data2 = b2.getData();
+        double[] data = result.getData();
+
+        for (int i = 0; i < rows; i++) {
+            for (int p = b1.firstColumn(i), last = b1.lastColumn(i), k = b1.index(i, p); p < last; p++, k++) {
+                double a = data1[k];
+                if (a == 0.) continue;
+
+                for (int j = b2.firstColumn(p), end = b2.lastColumn(p), q = b2.index(p, j); j < end; j++, q++) {
+                    data[result.index(i, j)] += a * data2[q];
+                }
+            }
+        }
+        return result;
+    }
+}
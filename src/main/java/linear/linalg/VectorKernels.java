@@ -0,0 +1,79 @@
+package linear.linalg;
+
+/**
+ * BLAS level 1 kernels working on contiguous ranges of arrays
+ * <p>
+ * The implementation using the Vector API is chosen if module {@code jdk.incubator.vector} is available at runtime
+ * (the JVM was started with {@code --add-modules jdk.incubator.vector}) and system property
+ * {@code linear.simd} is not set to {@code false}, otherwise the scalar implementation is used.
+ */
+interface VectorKernels {
+
+    /**
+     * Gets the kernels chosen for this runtime
+     *
+     * @return kernels
+     */
+    static VectorKernels get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Computes sum of x[i] * y[i]
+     */
+    double dot(double[] x, int xOff, double[] y, int yOff, int n);
+
+    /**
+     * Computes sum of x[i]
+     */
+    double sum(double[] x, int xOff, int n);
+
+    /**
+     * Computes y[i] += a * x[i]
+     */
+    void axpy(double a, double[] x, int xOff, double[] y, int yOff, int n);
+
+    /**
+     * Computes out[i] = a * x[i]
+     */
+    void scale(double a, double[] x, int xOff, double[] out, int outOff, int n);
+
+    /**
+     * Computes out[i] = x[i] + a
+     */
+    void shift(double a, double[] x, int xOff, double[] out, int outOff, int n);
+
+    /**
+     * Computes out[i] = x[i] + y[i]
+     */
+    void add(double[] x, int xOff, double[] y, int yOff, double[] out, int outOff, int n);
+
+    /**
+     * Computes out[i] = x[i] - y[i]
+     */
+    void subtract(double[] x, int xOff, double[] y, int yOff, double[] out, int outOff, int n);
+
+    /**
+     * Computes out[i] = x[i] * y[i]
+     */
+    void multiply(double[] x, int xOff, double[] y, int yOff, double[] out, int outOff, int n);
+
+    final class Holder {
+
+        private static final VectorKernels INSTANCE = choose();
+
+        private Holder() {
+        }
+
+        private static VectorKernels choose() {
+            if (!Boolean.parseBoolean(System.getProperty("linear.simd", "true"))) return new ScalarVectorKernels();
+            if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return new ScalarVectorKernels();
+
+            try {
+                return new SimdVectorKernels();
+            } catch (LinkageError e) {
+                return new ScalarVectorKernels();
+            }
+        }
+    }
+}
@@ -4,6 +4,8 @@ import linear.linalg.LinearAlgebra;
 import linear.vector.Vector;
 
 import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.Spliterators;
 import java.util.function.DoublePredicate;
 
 /**
@@ -27,8 +29,8 @@ public abstract class AbstractMatrix implements Matrix {
     }
 
     @Override
-    public Iterator<Double> elementIterator() {
-        return new AbstractMatrixElementIterator(this);
+    public PrimitiveIterator.OfDouble elementIterator() {
+        return Spliterators.iterator(elementSpliterator());
     }
 
     @Override
@@ -93,36 +95,4 @@ public abstract class AbstractMatrix implements Matrix {
             return matrix.getRow(rowCount++);
         }
     }
-
-    private static class AbstractMatrixElementIterator implements Iterator<Double> {
-
-        private final Matrix matrix;
-        private final int rowDimension;
-        private final int columnDimension;
-
-        private int rowCount;
-        private int columnCount;
-
-        public AbstractMatrixElementIterator(Matrix matrix) {
-            this.matrix = matrix;
-            rowDimension = matrix.getRowDimension();
-            columnDimension = matrix.getColumnDimension();
-        }
-
-        @Override
-        public boolean hasNext() {
-            return rowCount < rowDimension || columnCount < columnDimension;
-        }
-
-        @Override
-        public Double next() {
-            double value = matrix.get(rowCount, columnCount++);
-
-            if (columnCount == columnDimension - 1) {
-                rowCount++;
-            }
-
-            return value;
-        }
-    }
-}
\ No newline at end of file
+}
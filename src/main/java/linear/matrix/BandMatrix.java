@@ -0,0 +1,312 @@
+package linear.matrix;
+
+import linear.vector.SparseVector;
+import linear.vector.Vector;
+
+import java.util.Arrays;
+
+/**
+ * Matrix class which stores only the elements of a band around the main diagonal
+ * <p>
+ * Element [i, j] is stored if {@code i - lowerBandwidth <= j <= i + upperBandwidth}, at index
+ * {@code i * (lowerBandwidth + upperBandwidth + 1) + j - i + lowerBandwidth} of the underlying array, so every row
+ * takes the same number of array slots. Elements outside the band are zero and cannot be set to any other value.
+ * New instances are dense.
+ */
+public class BandMatrix extends AbstractMatrix {
+
+    private final int rowDimension;
+    private final int columnDimension;
+    private final int lowerBandwidth;
+    private final int upperBandwidth;
+    private final double[] data;
+
+    public BandMatrix(int rowDimension, int columnDimension, int lowerBandwidth, int upperBandwidth, double[] data) {
+        if (rowDimension < 0 || columnDimension < 0 || lowerBandwidth < 0 || upperBandwidth < 0)
+            throw new IllegalArgumentException();
+        if (data.length != size(rowDimension, lowerBandwidth, upperBandwidth))
+            throw new IllegalArgumentException("Expected " + size(rowDimension, lowerBandwidth, upperBandwidth) + " elements");
+
+        this.rowDimension = rowDimension;
+        this.columnDimension = columnDimension;
+        this.lowerBandwidth = lowerBandwidth;
+        this.upperBandwidth = upperBandwidth;
+        this.data = data;
+    }
+
+    public BandMatrix(int rowDimension, int columnDimension, int lowerBandwidth, int upperBandwidth) {
+        this(rowDimension, columnDimension, lowerBandwidth, upperBandwidth,
+                allocate(rowDimension, lowerBandwidth, upperBandwidth));
+    }
+
+    public BandMatrix(int dimension, int lowerBandwidth, int upperBandwidth) {
+        this(dimension, dimension, lowerBandwidth, upperBandwidth);
+    }
+
+    /**
+     * Gets the number of array slots needed to store the band, computed in long so it cannot overflow
+     */
+    private static long size(int rowDimension, int lowerBandwidth, int upperBandwidth) {
+        return (long) rowDimension * ((long) lowerBandwidth + upperBandwidth + 1);
+    }
+
+    private static double[] allocate(int rowDimension, int lowerBandwidth, int upperBandwidth) {
+        long size = size(rowDimension, lowerBandwidth, upperBandwidth);
+        if (size > Integer.MAX_VALUE - 8)
+            throw new IllegalArgumentException("Band of " + size + " elements does not fit into an array");
+        return new double[(int) Math.max(0, size)];
+    }
+
+    /**
+     * Gets the number of stored diagonals below the main diagonal
+     *
+     * @return lower bandwidth
+     */
+    public int getLowerBandwidth() {
+        return lowerBandwidth;
+    }
+
+    /**
+     * Gets the number of stored diagonals above the main diagonal
+     *
+     * @return upper bandwidth
+     */
+    public int getUpperBandwidth() {
+        return upperBandwidth;
+    }
+
+    /**
+     * Gets the underlying array
+     *
+     * @return underlying array
+     */
+    public double[] getData() {
+        return data;
+    }
+
+    /**
+     * Gets the index of element [i, j] in the underlying array, element must be inside the band
+     *
+     * @param i row index
+     * @param j column index
+     * @return index in underlying array
+     */
+    public int index(int i, int j) {
+        return i * (lowerBandwidth + upperBandwidth + 1) + j - i + lowerBandwidth;
+    }
+
+    /**
+     * Gets the first column of the band in the given row
+     *
+     * @param i row index
+     * @return first column, inclusive
+     */
+    public int firstColumn(int i) {
+        return Math.max(0, i - lowerBandwidth);
+    }
+
+    /**
+     * Gets the last column of the band in the given row
+     *
+     * @param i row index
+     * @return last column, exclusive
+     */
+    public int lastColumn(int i) {
+        return (int) Math.min(columnDimension, (long) i + upperBandwidth + 1);
+    }
+
+    /**
+     * Tests whether element [i, j] is inside the band
+     *
+     * @param i row index
+     * @param j column index
+     * @return true if element is stored, false otherwise
+     */
+    public boolean isInBand(int i, int j) {
+        return j >= i - lowerBandwidth && j <= (long) i + upperBandwidth;
+    }
+
+    @Override
+    public BandMatrix copy() {
+        return new BandMatrix(rowDimension, columnDimension, lowerBandwidth, upperBandwidth, Arrays.copyOf(data, data.length));
+    }
+
+    /**
+     * Creates a copy of this matrix with wider band, e.g. to make room for the fill-in of a factorization
+     *
+     * @param lowerBandwidth lower bandwidth of the copy, not smaller than the current one
+     * @param upperBandwidth upper bandwidth of the copy, not smaller than the current one
+     * @return new band matrix
+     */
+    public BandMatrix copy(int lowerBandwidth, int upperBandwidth) {
+        if (lowerBandwidth < this.lowerBandwidth || upperBandwidth < this.upperBandwidth)
+            throw new IllegalArgumentException("Band of the copy must contain the band of this matrix");
+
+        BandMatrix result = new BandMatrix(rowDimension, columnDimension, lowerBandwidth, upperBandwidth);
+        for (int i = 0; i < rowDimension; i++) {
+            int first = firstColumn(i);
+            int length = lastColumn(i) - first;
+            if (length > 0) System.arraycopy(data, index(i, first), result.data, result.index(i, first), length);
+        }
+        return result;
+    }
+
+    @Override
+    public DenseMatrix newInstance(int rows, int columns) {
+        return new DenseMatrix(rows, columns);
+    }
+
+    @Override
+    public int getRowDimension() {
+        return rowDimension;
+    }
+
+    @Override
+    public int getColumnDimension() {
+        return columnDimension;
+    }
+
+    @Override
+    public double get(int i, int j) {
+        checkBounds(i, j);
+
+        return isInBand(i, j) ? data[index(i, j)] : 0.;
+    }
+
+    @Override
+    public BandMatrix set(int i, int j, double value) {
+        checkBounds(i, j);
+
+        if (isInBand(i, j)) {
+            data[index(i, j)] = value;
+        } else if (value != 0.) {
+            throw new IllegalArgumentException("Element [" + i + ", " + j + "] is outside of the matrix band");
+        }
+        return this;
+    }
+
+    private void checkBounds(int i, int j) {
+        if (i < 0 || i >= rowDimension || j < 0 || j >= columnDimension)
+            throw new IndexOutOfBoundsException("Index [" + i + ", " + j + "] is out of matrix bounds");
+    }
+
+    /**
+     * Gets a sparse copy of the row at index, holding the elements of the band
+     *
+     * @param index row index
+     * @return row
+     */
+    @Override
+    public Vector getRow(int index) {
+        if (index < 0 || index >= rowDimension)
+            throw new IndexOutOfBoundsException("Row index " + index + " is out of matrix bounds");
+
+        int first = firstColumn(index);
+        int size = Math.max(0, lastColumn(index) - first);
+        int[] indices = new int[size];
+        double[] values = new double[size];
+        for (int k = 0; k < size; k++) {
+            indices[k] = first + k;
+            values[k] = data[index(index, first + k)];
+        }
+        return new SparseVector(columnDimension, indices, values, size);
+    }
+
+    /**
+     * Gets a sparse copy of the column at index, holding the elements of the band
+     *
+     * @param index column index
+     * @return column
+     */
+    @Override
+    public Vector getColumn(int index) {
+        if (index < 0 || index >= columnDimension)
+            throw new IndexOutOfBoundsException("Column index " + index + " is out of matrix bounds");
+
+        int first = Math.max(0, index - upperBandwidth);
+        int last = (int) Math.min(rowDimension, (long) index + lowerBandwidth + 1);
+        int size = Math.max(0, last - first);
+        int[] indices = new int[size];
+        double[] values = new double[size];
+        for (int k = 0; k < size; k++) {
+            indices[k] = first + k;
+            values[k] = data[index(first + k, index)];
+        }
+        return new SparseVector(rowDimension, indices, values, size);
+    }
+
+    /**
+     * Swaps rows at index i and j, fails without changing the matrix if a non-zero element would leave the band
+     *
+     * @param i first row
+     * @param j second row
+     */
+    @Override
+    public void swapRows(int i, int j) {
+        if (i == j) return;
+
+        int first = Math.min(firstColumn(i), firstColumn(j));
+        int last = Math.max(lastColumn(i), lastColumn(j));
+        for (int k = first; k < last; k++) {
+            if ((get(i, k) != 0. && !isInBand(j, k)) || (get(j, k) != 0. && !isInBand(i, k)))
+                throw new IllegalArgumentException("Swapping rows " + i + " and " + j + " moves element in column " + k + " outside of the matrix band");
+        }
+        for (int k = first; k < last; k++) {
+            double temp = get(i, k);
+            set(i, k, get(j, k));
+            set(j, k, temp);
+        }
+    }
+
+    /**
+     * Swaps columns at index i and j, fails without changing the matrix if a non-zero element would leave the band
+     *
+     * @param i first column
+     * @param j second column
+     */
+    @Override
+    public void swapColumns(int i, int j) {
+        if (i == j) return;
+
+        int first = Math.max(0, Math.min(i, j) - upperBandwidth);
+        int last = (int) Math.min(rowDimension, (long) Math.max(i, j) + lowerBandwidth + 1);
+        for (int k = first; k < last; k++) {
+            if ((get(k, i) != 0. && !isInBand(k, j)) || (get(k, j) != 0. && !isInBand(k, i)))
+                throw new IllegalArgumentException("Swapping columns " + i + " and " + j + " moves element in row " + k + " outside of the matrix band");
+        }
+        for (int k = first; k < last; k++) {
+            double temp = get(k, i);
+            set(k, i, get(k, j));
+            set(k, j, temp);
+        }
+    }
+
+    @Override
+    public Vector[] columns() {
+        Vector[] columns = new Vector[columnDimension];
+        for (int i = 0; i < columnDimension; i++) {
+            columns[i] = getColumn(i);
+        }
+        return columns;
+    }
+
+    @Override
+    public Vector[] rows() {
+        Vector[] rows = new Vector[rowDimension];
+        for (int i = 0; i < rowDimension; i++) {
+            rows[i] = getRow(i);
+        }
+        return rows;
+    }
+
+    @Override
+    public double[][] toArray() {
+        double[][] array = new double[rowDimension][columnDimension];
+        for (int i = 0; i < rowDimension; i++) {
+            for (int j = firstColumn(i), last = lastColumn(i); j < last; j++) {
+                array[i][j] = data[index(i, j)];
+            }
+        }
+        return array;
+    }
+}
@@ -0,0 +1,187 @@
+package linear.matrix;
+
+import linear.Vectors;
+import linear.vector.Vector;
+
+/**
+ * Matrix class that serves as a view of a rectangular block of another matrix
+ * <p>
+ * Changes are written through to the viewed matrix. New instances and copies are of the viewed matrix's type.
+ */
+public class BlockViewMatrix extends AbstractMatrix {
+
+    private final Matrix view;
+    private final int rowOffset;
+    private final int columnOffset;
+    private final int rowDimension;
+    private final int columnDimension;
+
+    public BlockViewMatrix(Matrix view, int rowStart, int rowEnd, int columnStart, int columnEnd) {
+        checkRange(view, rowStart, rowEnd, columnStart, columnEnd);
+
+        this.view = view;
+        this.rowOffset = rowStart;
+        this.columnOffset = columnStart;
+        this.rowDimension = rowEnd - rowStart;
+        this.columnDimension = columnEnd - columnStart;
+    }
+
+    /**
+     * Checks that the given block lies inside the matrix
+     */
+    static void checkRange(Matrix matrix, int rowStart, int rowEnd, int columnStart, int columnEnd) {
+        if (rowStart < 0 || rowEnd > matrix.getRowDimension() || rowStart > rowEnd
+                || columnStart < 0 || columnEnd > matrix.getColumnDimension() || columnStart > columnEnd)
+            throw new IndexOutOfBoundsException("Block [" + rowStart + ", " + rowEnd + ") x [" + columnStart + ", "
+                    + columnEnd + ") is out of matrix bounds");
+    }
+
+    /**
+     * Gets the matrix this is a view of
+     *
+     * @return viewed matrix
+     */
+    public Matrix getView() {
+        return view;
+    }
+
+    /**
+     * Gets the row of the viewed matrix which is the first row of this block
+     *
+     * @return row offset
+     */
+    public int getRowOffset() {
+        return rowOffset;
+    }
+
+    /**
+     * Gets the column of the viewed matrix which is the first column of this block
+     *
+     * @return column offset
+     */
+    public int getColumnOffset() {
+        return columnOffset;
+    }
+
+    @Override
+    public Matrix copy() {
+        Matrix copy = view.newInstance(rowDimension, columnDimension);
+        for (int i = 0; i < rowDimension; i++) {
+            for (int j = 0; j < columnDimension; j++) {
+                copy.set(i, j, get(i, j));
+            }
+        }
+        return copy;
+    }
+
+    @Override
+    public Matrix newInstance(int rows, int columns) {
+        return view.newInstance(rows, columns);
+    }
+
+    @Override
+    public int getRowDimension() {
+        return rowDimension;
+    }
+
+    @Override
+    public int getColumnDimension() {
+        return columnDimension;
+    }
+
+    @Override
+    public double get(int i, int j) {
+        checkIndex(i, j);
+
+        return view.get(rowOffset + i, columnOffset + j);
+    }
+
+    @Override
+    public Matrix set(int i, int j, double value) {
+        checkIndex(i, j);
+
+        view.set(rowOffset + i, columnOffset + j, value);
+        return this;
+    }
+
+    private void checkIndex(int i, int j) {
+        if (i < 0 || i >= rowDimension || j < 0 || j >= columnDimension)
+            throw new IndexOutOfBoundsException("Index [" + i + ", " + j + "] is out of matrix bounds");
+    }
+
+    @Override
+    public Vector getRow(int index) {
+        double[] row = new double[columnDimension];
+        for (int j = 0; j < columnDimension; j++) {
+            row[j] = get(index, j);
+        }
+        return Vectors.asVector(row);
+    }
+
+    @Override
+    public Vector getColumn(int index) {
+        double[] column = new double[rowDimension];
+        for (int i = 0; i < rowDimension; i++) {
+            column[i] = get(i, index);
+        }
+        return Vectors.asVector(column);
+    }
+
+    @Override
+    public Matrix subMatrix(int rowStart, int rowEnd, int columnStart, int columnEnd) {
+        checkRange(this, rowStart, rowEnd, columnStart, columnEnd);
+
+        return view.subMatrix(rowOffset + rowStart, rowOffset + rowEnd, columnOffset + columnStart, columnOffset + columnEnd);
+    }
+
+    @Override
+    public void swapRows(int i, int j) {
+        if (i == j) return;
+
+        for (int k = 0; k < columnDimension; k++) {
+            double temp = get(i, k);
+            set(i, k, get(j, k));
+            set(j, k, temp);
+        }
+    }
+
+    @Override
+    public void swapColumns(int i, int j) {
+        if (i == j) return;
+
+        for (int k = 0; k < rowDimension; k++) {
+            double temp = get(k, i);
+            set(k, i, get(k, j));
+            set(k, j, temp);
+        }
+    }
+
+    @Override
+    public Vector[] columns() {
+        Vector[] columns = new Vector[columnDimension];
+        for (int i = 0; i < columnDimension; i++) {
+            columns[i] = getColumn(i);
+        }
+        return columns;
+    }
+
+    @Override
+    public Vector[] rows() {
+        Vector[] rows = new Vector[rowDimension];
+        for (int i = 0; i < rowDimension; i++) {
+            rows[i] = getRow(i);
+        }
+        return rows;
+    }
+
+    @Override
+    public double[][] toArray() {
+        double[][] array = new double[rowDimension][columnDimension];
+        for (int i = 0; i < rowDimension; i++) {
+            for (int j = 0; j < columnDimension; j++) {
+                array[i][j] = get(i, j);
+            }
+        }
+        return array;
+    }
+}
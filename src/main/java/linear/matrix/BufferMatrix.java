@@ -0,0 +1,254 @@
+package linear.matrix;
+
+import linear.vector.BufferViewVector;
+import linear.vector.ColumnViewVector;
+import linear.vector.Vector;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Abstract matrix class which stores elements in row-major order in a sequence of buffers (chunks),
+ * each holding the same whole number of rows (except for the last one)
+ * <p>
+ * Chunks are accessed only through absolute get and put operations, so their positions are never changed.
+ */
+public abstract class BufferMatrix extends AbstractMatrix {
+
+    /**
+     * Maximum number of elements stored in one chunk (limited by the capacity of a byte buffer)
+     */
+    public static final int MAX_CHUNK_ELEMENTS = Integer.MAX_VALUE / Double.BYTES;
+
+    private final int rowDimension;
+    private final int columnDimension;
+    private final int rowsPerChunk;
+
+    private DoubleBuffer[] chunks;
+
+    protected BufferMatrix(int rowDimension, int columnDimension, int rowsPerChunk, DoubleBuffer[] chunks) {
+        if (rowsPerChunk < 1 || (long) rowsPerChunk * columnDimension > MAX_CHUNK_ELEMENTS)
+            throw new IllegalArgumentException("Invalid number of rows per chunk: " + rowsPerChunk);
+        if (chunks.length != chunkCount(rowDimension, rowsPerChunk))
+            throw new IllegalArgumentException("Expected " + chunkCount(rowDimension, rowsPerChunk) + " chunks");
+
+        this.rowDimension = rowDimension;
+        this.columnDimension = columnDimension;
+        this.rowsPerChunk = rowsPerChunk;
+        this.chunks = chunks;
+    }
+
+    /**
+     * Gets the largest number of rows of the given length which fit into one chunk
+     *
+     * @param columnDimension column dimension
+     * @return rows per chunk
+     */
+    public static int rowsPerChunk(int columnDimension) {
+        if (columnDimension > MAX_CHUNK_ELEMENTS)
+            throw new IllegalArgumentException("Row of " + columnDimension + " elements does not fit into a chunk");
+
+        return MAX_CHUNK_ELEMENTS / Math.max(1, columnDimension);
+    }
+
+    /**
+     * Gets the number of chunks needed to store the given number of rows
+     *
+     * @param rowDimension row dimension
+     * @param rowsPerChunk rows per chunk
+     * @return number of chunks
+     */
+    public static int chunkCount(int rowDimension, int rowsPerChunk) {
+        return (rowDimension + rowsPerChunk - 1) / rowsPerChunk;
+    }
+
+    /**
+     * Gets the number of rows stored in every chunk except, possibly, the last one
+     *
+     * @return rows per chunk
+     */
+    public int getRowsPerChunk() {
+        return rowsPerChunk;
+    }
+
+    /**
+     * Gets the number of chunks
+     *
+     * @return number of chunks
+     */
+    public int getChunkCount() {
+        return chunks().length;
+    }
+
+    /**
+     * Gets the chunk at index, element [i, j] is stored in chunk {@code i / rowsPerChunk}
+     * at index {@code (i % rowsPerChunk) * columnDimension + j}
+     *
+     * @param index chunk index
+     * @return chunk
+     */
+    public DoubleBuffer getChunk(int index) {
+        return chunks()[index];
+    }
+
+    /**
+     * Tests whether the memory of this matrix has been released
+     *
+     * @return true if memory is released, false otherwise
+     */
+    public boolean isReleased() {
+        return chunks == null;
+    }
+
+    /**
+     * Releases the chunks of this matrix, any further access fails with {@code IllegalStateException}
+     */
+    protected void release() {
+        chunks = null;
+    }
+
+    private DoubleBuffer[] chunks() {
+        DoubleBuffer[] chunks = this.chunks;
+        if (chunks == null) throw new IllegalStateException("Matrix memory has already been released");
+        return chunks;
+    }
+
+    @Override
+    public int getRowDimension() {
+        return rowDimension;
+    }
+
+    @Override
+    public int getColumnDimension() {
+        return columnDimension;
+    }
+
+    @Override
+    public double get(int i, int j) {
+        checkBounds(i, j);
+        return chunks()[i / rowsPerChunk].get((i % rowsPerChunk) * columnDimension + j);
+    }
+
+    @Override
+    public BufferMatrix set(int i, int j, double value) {
+        checkBounds(i, j);
+        chunks()[i / rowsPerChunk].put((i % rowsPerChunk) * columnDimension + j, value);
+        return this;
+    }
+
+    /**
+     * Checks indices explicitly, since flattened indices out of bounds may still fall into a chunk
+     */
+    private void checkBounds(int i, int j) {
+        if (i < 0 || i >= rowDimension || j < 0 || j >= columnDimension)
+            throw new IndexOutOfBoundsException("Index [" + i + ", " + j + "] is out of matrix bounds");
+    }
+
+    private void checkRow(int index) {
+        if (index < 0 || index >= rowDimension)
+            throw new IndexOutOfBoundsException("Row index " + index + " is out of matrix bounds");
+    }
+
+    /**
+     * Copies row at index into the given array
+     *
+     * @param index       row index
+     * @param destination destination array
+     */
+    public void getRow(int index, double[] destination) {
+        checkRow(index);
+        chunks()[index / rowsPerChunk].get((index % rowsPerChunk) * columnDimension, destination, 0, columnDimension);
+    }
+
+    /**
+     * Overwrites row at index with elements of the given array
+     *
+     * @param index  row index
+     * @param source source array
+     */
+    public void setRow(int index, double[] source) {
+        checkRow(index);
+        chunks()[index / rowsPerChunk].put((index % rowsPerChunk) * columnDimension, source, 0, columnDimension);
+    }
+
+    /**
+     * Gets the row at index as a view of the underlying chunk, no elements are copied
+     *
+     * @param index row index
+     * @return row view
+     */
+    @Override
+    public Vector getRow(int index) {
+        checkRow(index);
+        return new BufferViewVector(chunks()[index / rowsPerChunk], (index % rowsPerChunk) * columnDimension, columnDimension);
+    }
+
+    /**
+     * Gets a view of the row at index, which is the row itself
+     *
+     * @param index row index
+     * @return row view
+     */
+    @Override
+    public Vector rowView(int index) {
+        return getRow(index);
+    }
+
+    /**
+     * Gets the column at index as a view of this matrix, no elements are copied
+     *
+     * @param index column index
+     * @return column view
+     */
+    @Override
+    public Vector getColumn(int index) {
+        return new ColumnViewVector(this, index);
+    }
+
+    @Override
+    public void swapRows(int i, int j) {
+        if (i == j) return;
+
+        double[] first = new double[columnDimension];
+        double[] second = new double[columnDimension];
+        getRow(i, first);
+        getRow(j, second);
+        setRow(i, second);
+        setRow(j, first);
+    }
+
+    @Override
+    public void swapColumns(int i, int j) {
+        for (int row = 0; row < rowDimension; row++) {
+            double temp = get(row, i);
+            set(row, i, get(row, j));
+            set(row, j, temp);
+        }
+    }
+
+    @Override
+    public Vector[] columns() {
+        Vector[] columns = new Vector[columnDimension];
+        for (int i = 0; i < columnDimension; i++) {
+            columns[i] = getColumn(i);
+        }
+        return columns;
+    }
+
+    @Override
+    public Vector[] rows() {
+        Vector[] rows = new Vector[rowDimension];
+        for (int i = 0; i < rowDimension; i++) {
+            rows[i] = getRow(i);
+        }
+        return rows;
+    }
+
+    @Override
+    public double[][] toArray() {
+        double[][] array = new double[rowDimension][columnDimension];
+        for (int i = 0; i < rowDimension; i++) {
+            getRow(i, array[i]);
+        }
+        return array;
+    }
+}
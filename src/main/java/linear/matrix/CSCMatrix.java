@@ -0,0 +1,39 @@
+package linear.matrix;
+
+/**
+ * Matrix class which stores non-zero elements in compressed sparse column (CSC) format
+ * <p>
+ * Element [i, j] is stored with major index j and minor index i, see {@code SparseMatrix}.
+ */
+public class CSCMatrix extends SparseMatrix {
+
+    public CSCMatrix(int rowDimension, int columnDimension, int[] pointers, int[] indices, double[] values) {
+        super(rowDimension, columnDimension, true, pointers, indices, values);
+    }
+
+    /**
+     * Constructs an empty matrix
+     *
+     * @param rowDimension    row dimension
+     * @param columnDimension column dimension
+     */
+    public CSCMatrix(int rowDimension, int columnDimension) {
+        this(rowDimension, columnDimension, new int[columnDimension + 1], new int[0], new double[0]);
+    }
+
+    /**
+     * Converts this matrix to CSR format
+     *
+     * @return CSR matrix with the same elements
+     */
+    public CSRMatrix toCSR() {
+        Storage storage = transposeStorage();
+        return new CSRMatrix(getRowDimension(), getColumnDimension(), storage.pointers(), storage.indices(), storage.values());
+    }
+
+    @Override
+    public CSCMatrix copy() {
+        Storage storage = copyStorage();
+        return new CSCMatrix(getRowDimension(), getColumnDimension(), storage.pointers(), storage.indices(), storage.values());
+    }
+}
@@ -0,0 +1,39 @@
+package linear.matrix;
+
+/**
+ * Matrix class which stores non-zero elements in compressed sparse row (CSR) format
+ * <p>
+ * Element [i, j] is stored with major index i and minor index j, see {@code SparseMatrix}.
+ */
+public class CSRMatrix extends SparseMatrix {
+
+    public CSRMatrix(int rowDimension, int columnDimension, int[] pointers, int[] indices, double[] values) {
+        super(rowDimension, columnDimension, false, pointers, indices, values);
+    }
+
+    /**
+     * Constructs an empty matrix
+     *
+     * @param rowDimension    row dimension
+     * @param columnDimension column dimension
+     */
+    public CSRMatrix(int rowDimension, int columnDimension) {
+        this(rowDimension, columnDimension, new int[rowDimension + 1], new int[0], new double[0]);
+    }
+
+    /**
+     * Converts this matrix to CSC format
+     *
+     * @return CSC matrix with the same elements
+     */
+    public CSCMatrix toCSC() {
+        Storage storage = transposeStorage();
+        return new CSCMatrix(getRowDimension(), getColumnDimension(), storage.pointers(), storage.indices(), storage.values());
+    }
+
+    @Override
+    public CSRMatrix copy() {
+        Storage storage = copyStorage();
+        return new CSRMatrix(getRowDimension(), getColumnDimension(), storage.pointers(), storage.indices(), storage.values());
+    }
+}
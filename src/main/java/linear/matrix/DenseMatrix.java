@@ -0,0 +1,281 @@
+package linear.matrix;
+
+import linear.Vectors;
+import linear.vector.StridedViewVector;
+import linear.vector.Vector;
+
+import java.util.Arrays;
+
+/**
+ * Matrix class which stores elements in a single contiguous array, in row-major order
+ * <p>
+ * Element [i, j] is stored at {@code data[offset + i * stride + j]}
+ */
+public class DenseMatrix extends AbstractMatrix {
+
+    private final double[] data;
+    private final int offset;
+    private final int stride;
+    private final int rowDimension;
+    private final int columnDimension;
+
+    public DenseMatrix(int rowDimension, int columnDimension, double[] data, int offset, int stride) {
+        if (rowDimension < 0 || columnDimension < 0 || offset < 0 || stride < columnDimension)
+            throw new IllegalArgumentException();
+        if (rowDimension > 0 && offset + (long) (rowDimension - 1) * stride + columnDimension > data.length)
+            throw new IllegalArgumentException("Array is too small for the given dimensions");
+
+        this.rowDimension = rowDimension;
+        this.columnDimension = columnDimension;
+        this.data = data;
+        this.offset = offset;
+        this.stride = stride;
+    }
+
+    public DenseMatrix(int rowDimension, int columnDimension, double[] data) {
+        this(rowDimension, columnDimension, data, 0, columnDimension);
+    }
+
+    public DenseMatrix(int rowDimension, int columnDimension) {
+        this(rowDimension, columnDimension, new double[rowDimension * columnDimension]);
+    }
+
+    public DenseMatrix(double[]... array) {
+        this(array.length, array[0].length);
+        for (int i = 0; i < rowDimension; i++) {
+            if (array[i].length != columnDimension) throw new IllegalArgumentException();
+            System.arraycopy(array[i], 0, data, i * columnDimension, columnDimension);
+        }
+    }
+
+    /**
+     * Creates a dense copy of the given matrix
+     *
+     * @param matrix matrix to be copied
+     * @return new dense matrix
+     */
+    public static DenseMatrix copyOf(Matrix matrix) {
+        if (matrix instanceof DenseMatrix dense) return dense.copy();
+
+        int rows = matrix.getRowDimension();
+        int columns = matrix.getColumnDimension();
+        DenseMatrix result = new DenseMatrix(rows, columns);
+        double[] data = result.data;
+        if (matrix instanceof BufferMatrix buffer) {
+            int rowsPerChunk = buffer.getRowsPerChunk();
+            for (int i = 0; i < rows; i++) {
+                buffer.getChunk(i / rowsPerChunk).get((i % rowsPerChunk) * columns, data, i * columns, columns);
+            }
+            return result;
+        }
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0, row = i * columns; j < columns; j++) {
+                data[row + j] = matrix.get(i, j);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the underlying array
+     *
+     * @return underlying array
+     */
+    public double[] getData() {
+        return data;
+    }
+
+    /**
+     * Gets the index of element [0, 0] in the underlying array
+     *
+     * @return offset
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Gets the distance between the starts of two consecutive rows in the underlying array
+     *
+     * @return row stride
+     */
+    public int getStride() {
+        return stride;
+    }
+
+    /**
+     * Gets the index of element [i, j] in the underlying array
+     *
+     * @param i row index
+     * @param j column index
+     * @return index in underlying array
+     */
+    public int index(int i, int j) {
+        return offset + i * stride + j;
+    }
+
+    @Override
+    public DenseMatrix copy() {
+        DenseMatrix result = new DenseMatrix(rowDimension, columnDimension);
+        if (stride == columnDimension) {
+            System.arraycopy(data, offset, result.data, 0, rowDimension * columnDimension);
+        } else {
+            for (int i = 0; i < rowDimension; i++) {
+                System.arraycopy(data, offset + i * stride, result.data, i * columnDimension, columnDimension);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public DenseMatrix newInstance(int rows, int columns) {
+        return new DenseMatrix(rows, columns);
+    }
+
+    @Override
+    public int getRowDimension() {
+        return rowDimension;
+    }
+
+    @Override
+    public int getColumnDimension() {
+        return columnDimension;
+    }
+
+    @Override
+    public double get(int i, int j) {
+        checkBounds(i, j);
+        return data[offset + i * stride + j];
+    }
+
+    @Override
+    public DenseMatrix set(int i, int j, double value) {
+        checkBounds(i, j);
+        data[offset + i * stride + j] = value;
+        return this;
+    }
+
+    /**
+     * Checks indices explicitly, since the array of a view (or of a matrix with padded rows) holds elements
+     * outside of the matrix which would otherwise be accessed silently
+     */
+    private void checkBounds(int i, int j) {
+        if (i < 0 || i >= rowDimension || j < 0 || j >= columnDimension)
+            throw new IndexOutOfBoundsException("Index [" + i + ", " + j + "] is out of matrix bounds");
+    }
+
+    @Override
+    public Vector getRow(int index) {
+        if (index < 0 || index >= rowDimension)
+            throw new IndexOutOfBoundsException("Row index " + index + " is out of matrix bounds");
+
+        int start = offset + index * stride;
+        return Vectors.asVector(Arrays.copyOfRange(data, start, start + columnDimension));
+    }
+
+    @Override
+    public Vector getColumn(int index) {
+        if (index < 0 || index >= columnDimension)
+            throw new IndexOutOfBoundsException("Column index " + index + " is out of matrix bounds");
+
+        double[] column = new double[rowDimension];
+        for (int i = 0, k = offset + index; i < rowDimension; i++, k += stride) {
+            column[i] = data[k];
+        }
+        return Vectors.asVector(column);
+    }
+
+    /**
+     * Gets a view of the row at index which shares the underlying array
+     *
+     * @param index row index
+     * @return view of the row
+     */
+    @Override
+    public StridedViewVector rowView(int index) {
+        if (index < 0 || index >= rowDimension)
+            throw new IndexOutOfBoundsException("Row index " + index + " is out of matrix bounds");
+
+        return new StridedViewVector(data, offset + index * stride, 1, columnDimension);
+    }
+
+    /**
+     * Gets a view of the column at index which shares the underlying array
+     *
+     * @param index column index
+     * @return view of the column
+     */
+    @Override
+    public StridedViewVector columnView(int index) {
+        if (index < 0 || index >= columnDimension)
+            throw new IndexOutOfBoundsException("Column index " + index + " is out of matrix bounds");
+
+        return new StridedViewVector(data, offset + index, stride, rowDimension);
+    }
+
+    /**
+     * Gets a view of the given block which shares the underlying array, so it is a dense matrix itself
+     *
+     * @param rowStart    first row, inclusive
+     * @param rowEnd      last row, exclusive
+     * @param columnStart first column, inclusive
+     * @param columnEnd   last column, exclusive
+     * @return view of the block
+     */
+    @Override
+    public DenseMatrix subMatrix(int rowStart, int rowEnd, int columnStart, int columnEnd) {
+        BlockViewMatrix.checkRange(this, rowStart, rowEnd, columnStart, columnEnd);
+
+        return new DenseMatrix(rowEnd - rowStart, columnEnd - columnStart, data, index(rowStart, columnStart), stride);
+    }
+
+    @Override
+    public void swapRows(int i, int j) {
+        if (i == j) return;
+
+        for (int a = offset + i * stride, b = offset + j * stride, end = a + columnDimension; a < end; a++, b++) {
+            double temp = data[a];
+            data[a] = data[b];
+            data[b] = temp;
+        }
+    }
+
+    @Override
+    public void swapColumns(int i, int j) {
+        if (i == j) return;
+
+        for (int row = 0, k = offset; row < rowDimension; row++, k += stride) {
+            double temp = data[k + i];
+            data[k + i] = data[k + j];
+            data[k + j] = temp;
+        }
+    }
+
+    @Override
+    public Vector[] columns() {
+        Vector[] columns = new Vector[columnDimension];
+        for (int i = 0; i < columnDimension; i++) {
+            columns[i] = getColumn(i);
+        }
+        return columns;
+    }
+
+    @Override
+    public Vector[] rows() {
+        Vector[] rows = new Vector[rowDimension];
+        for (int i = 0; i < rowDimension; i++) {
+            rows[i] = getRow(i);
+        }
+        return rows;
+    }
+
+    @Override
+    public double[][] toArray() {
+        double[][] array = new double[rowDimension][];
+        for (int i = 0; i < rowDimension; i++) {
+            int start = offset + i * stride;
+            array[i] = Arrays.copyOfRange(data, start, start + columnDimension);
+        }
+        return array;
+    }
+}
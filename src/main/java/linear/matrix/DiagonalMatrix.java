@@ -0,0 +1,35 @@
+package linear.matrix;
+
+import java.util.Arrays;
+
+/**
+ * Square matrix class which stores only the elements of the main diagonal
+ * <p>
+ * This is a band matrix with zero lower and upper bandwidth, so the underlying array holds the diagonal.
+ */
+public class DiagonalMatrix extends BandMatrix {
+
+    public DiagonalMatrix(double... diagonal) {
+        super(diagonal.length, diagonal.length, 0, 0, diagonal);
+    }
+
+    public DiagonalMatrix(int dimension) {
+        this(new double[dimension]);
+    }
+
+    @Override
+    public DiagonalMatrix copy() {
+        double[] diagonal = getData();
+        return new DiagonalMatrix(Arrays.copyOf(diagonal, diagonal.length));
+    }
+
+    /**
+     * Gets the transpose of this matrix, which is this matrix itself
+     *
+     * @return this matrix
+     */
+    @Override
+    public DiagonalMatrix transpose() {
+        return this;
+    }
+}
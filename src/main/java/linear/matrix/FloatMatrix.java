@@ -0,0 +1,258 @@
+package linear.matrix;
+
+import linear.vector.FloatVector;
+import linear.vector.Vector;
+
+import java.util.Arrays;
+
+/**
+ * Matrix class which stores elements in single precision, in a single contiguous array in row-major order
+ * <p>
+ * Element [i, j] is stored at {@code data[offset + i * stride + j]}, values are rounded to float when set and
+ * widened to double when read. Meant for large data operands, where it halves the memory footprint and the
+ * bandwidth needed to stream the matrix, while the kernels in {@code LinearAlgebra} accumulate in double.
+ * Copies and views stay in single precision, new instances (which hold results of operations) are dense
+ * double precision matrices.
+ */
+public class FloatMatrix extends AbstractMatrix {
+
+    private final float[] data;
+    private final int offset;
+    private final int stride;
+    private final int rowDimension;
+    private final int columnDimension;
+
+    public FloatMatrix(int rowDimension, int columnDimension, float[] data, int offset, int stride) {
+        if (rowDimension < 0 || columnDimension < 0 || offset < 0 || stride < columnDimension)
+            throw new IllegalArgumentException();
+        if (rowDimension > 0 && offset + (long) (rowDimension - 1) * stride + columnDimension > data.length)
+            throw new IllegalArgumentException("Array is too small for the given dimensions");
+
+        this.rowDimension = rowDimension;
+        this.columnDimension = columnDimension;
+        this.data = data;
+        this.offset = offset;
+        this.stride = stride;
+    }
+
+    public FloatMatrix(int rowDimension, int columnDimension, float[] data) {
+        this(rowDimension, columnDimension, data, 0, columnDimension);
+    }
+
+    public FloatMatrix(int rowDimension, int columnDimension) {
+        this(rowDimension, columnDimension, new float[rowDimension * columnDimension]);
+    }
+
+    /**
+     * Creates a single precision copy of the given matrix, rounding every element to float
+     *
+     * @param matrix matrix to be copied
+     * @return new float matrix
+     */
+    public static FloatMatrix copyOf(Matrix matrix) {
+        if (matrix instanceof FloatMatrix floatMatrix) return floatMatrix.copy();
+
+        int rows = matrix.getRowDimension();
+        int columns = matrix.getColumnDimension();
+        FloatMatrix result = new FloatMatrix(rows, columns);
+        float[] data = result.data;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0, row = i * columns; j < columns; j++) {
+                data[row + j] = (float) matrix.get(i, j);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the underlying array
+     *
+     * @return underlying array
+     */
+    public float[] getData() {
+        return data;
+    }
+
+    /**
+     * Gets the index of element [0, 0] in the underlying array
+     *
+     * @return offset
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Gets the distance between the starts of two consecutive rows in the underlying array
+     *
+     * @return row stride
+     */
+    public int getStride() {
+        return stride;
+    }
+
+    /**
+     * Gets the index of element [i, j] in the underlying array
+     *
+     * @param i row index
+     * @param j column index
+     * @return index in underlying array
+     */
+    public int index(int i, int j) {
+        return offset + i * stride + j;
+    }
+
+    /**
+     * Creates a double precision copy of this matrix
+     *
+     * @return new dense matrix
+     */
+    public DenseMatrix toDense() {
+        DenseMatrix result = new DenseMatrix(rowDimension, columnDimension);
+        double[] target = result.getData();
+        for (int i = 0; i < rowDimension; i++) {
+            for (int j = 0, k = offset + i * stride, row = i * columnDimension; j < columnDimension; j++, k++) {
+                target[row + j] = data[k];
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public FloatMatrix copy() {
+        FloatMatrix result = new FloatMatrix(rowDimension, columnDimension);
+        if (stride == columnDimension) {
+            System.arraycopy(data, offset, result.data, 0, rowDimension * columnDimension);
+        } else {
+            for (int i = 0; i < rowDimension; i++) {
+                System.arraycopy(data, offset + i * stride, result.data, i * columnDimension, columnDimension);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public DenseMatrix newInstance(int rows, int columns) {
+        return new DenseMatrix(rows, columns);
+    }
+
+    @Override
+    public int getRowDimension() {
+        return rowDimension;
+    }
+
+    @Override
+    public int getColumnDimension() {
+        return columnDimension;
+    }
+
+    @Override
+    public double get(int i, int j) {
+        checkBounds(i, j);
+        return data[offset + i * stride + j];
+    }
+
+    @Override
+    public FloatMatrix set(int i, int j, double value) {
+        checkBounds(i, j);
+        data[offset + i * stride + j] = (float) value;
+        return this;
+    }
+
+    /**
+     * Checks indices explicitly, since the array of a view holds elements outside of the matrix which would
+     * otherwise be accessed silently
+     */
+    private void checkBounds(int i, int j) {
+        if (i < 0 || i >= rowDimension || j < 0 || j >= columnDimension)
+            throw new IndexOutOfBoundsException("Index [" + i + ", " + j + "] is out of matrix bounds");
+    }
+
+    @Override
+    public Vector getRow(int index) {
+        if (index < 0 || index >= rowDimension)
+            throw new IndexOutOfBoundsException("Row index " + index + " is out of matrix bounds");
+
+        int start = offset + index * stride;
+        return new FloatVector(Arrays.copyOfRange(data, start, start + columnDimension));
+    }
+
+    @Override
+    public Vector getColumn(int index) {
+        if (index < 0 || index >= columnDimension)
+            throw new IndexOutOfBoundsException("Column index " + index + " is out of matrix bounds");
+
+        float[] column = new float[rowDimension];
+        for (int i = 0, k = offset + index; i < rowDimension; i++, k += stride) {
+            column[i] = data[k];
+        }
+        return new FloatVector(column);
+    }
+
+    /**
+     * Gets a view of the given block which shares the underlying array, so it is a float matrix itself
+     *
+     * @param rowStart    first row, inclusive
+     * @param rowEnd      last row, exclusive
+     * @param columnStart first column, inclusive
+     * @param columnEnd   last column, exclusive
+     * @return view of the block
+     */
+    @Override
+    public FloatMatrix subMatrix(int rowStart, int rowEnd, int columnStart, int columnEnd) {
+        BlockViewMatrix.checkRange(this, rowStart, rowEnd, columnStart, columnEnd);
+
+        return new FloatMatrix(rowEnd - rowStart, columnEnd - columnStart, data, index(rowStart, columnStart), stride);
+    }
+
+    @Override
+    public void swapRows(int i, int j) {
+        if (i == j) return;
+
+        for (int a = offset + i * stride, b = offset + j * stride, end = a + columnDimension; a < end; a++, b++) {
+            float temp = data[a];
+            data[a] = data[b];
+            data[b] = temp;
+        }
+    }
+
+    @Override
+    public void swapColumns(int i, int j) {
+        if (i == j) return;
+
+        for (int row = 0, k = offset; row < rowDimension; row++, k += stride) {
+            float temp = data[k + i];
+            data[k + i] = data[k + j];
+            data[k + j] = temp;
+        }
+    }
+
+    @Override
+    public Vector[] columns() {
+        Vector[] columns = new Vector[columnDimension];
+        for (int i = 0; i < columnDimension; i++) {
+            columns[i] = getColumn(i);
+        }
+        return columns;
+    }
+
+    @Override
+    public Vector[] rows() {
+        Vector[] rows = new Vector[rowDimension];
+        for (int i = 0; i < rowDimension; i++) {
+            rows[i] = getRow(i);
+        }
+        return rows;
+    }
+
+    @Override
+    public double[][] toArray() {
+        double[][] array = new double[rowDimension][columnDimension];
+        for (int i = 0; i < rowDimension; i++) {
+            for (int j = 0, k = offset + i * stride; j < columnDimension; j++, k++) {
+                array[i][j] = data[k];
+            }
+        }
+        return array;
+    }
+}
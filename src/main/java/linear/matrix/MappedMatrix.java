@@ -0,0 +1,137 @@
+package linear.matrix;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Matrix class backed by a memory-mapped file holding little-endian doubles in row-major order
+ * <p>
+ * Only the pages which are accessed are loaded into memory, so the matrix can be larger than the available RAM.
+ * Rows are best accessed in storage order. New instances and copies are regular heap matrices.
+ */
+public class MappedMatrix extends BufferMatrix {
+
+    private final Path path;
+    private final long position;
+    private final FileChannel.MapMode mode;
+    private final List<MappedByteBuffer> mappings;
+
+    private MappedMatrix(Path path, long position, FileChannel.MapMode mode, int rowDimension, int columnDimension,
+                         int rowsPerChunk, List<MappedByteBuffer> mappings, DoubleBuffer[] chunks) {
+        super(rowDimension, columnDimension, rowsPerChunk, chunks);
+        this.path = path;
+        this.position = position;
+        this.mode = mode;
+        this.mappings = mappings;
+    }
+
+    /**
+     * Maps a matrix stored in the given file
+     *
+     * @param path            file path
+     * @param rowDimension    row dimension
+     * @param columnDimension column dimension
+     * @param position        position of element [0, 0] in the file, in bytes
+     * @param mode            READ_ONLY or READ_WRITE
+     * @return new mapped matrix
+     * @throws IOException if file cannot be mapped
+     */
+    public static MappedMatrix open(Path path, int rowDimension, int columnDimension, long position,
+                                    FileChannel.MapMode mode) throws IOException {
+        if (mode == FileChannel.MapMode.PRIVATE) throw new IllegalArgumentException("Private mapping is not supported");
+
+        boolean writable = mode == FileChannel.MapMode.READ_WRITE;
+        try (FileChannel channel = writable
+                ? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(path, StandardOpenOption.READ)) {
+            long required = position + (long) rowDimension * columnDimension * Double.BYTES;
+            if (channel.size() < required) {
+                if (!writable) throw new IOException("File " + path + " is smaller than " + required + " bytes");
+                channel.write(ByteBuffer.allocate(1), required - 1);
+            }
+
+            int rowsPerChunk = rowsPerChunk(columnDimension);
+            int chunkCount = chunkCount(rowDimension, rowsPerChunk);
+            List<MappedByteBuffer> mappings = new ArrayList<>(chunkCount);
+            DoubleBuffer[] chunks = new DoubleBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                int rows = Math.min(rowsPerChunk, rowDimension - i * rowsPerChunk);
+                long start = position + (long) i * rowsPerChunk * columnDimension * Double.BYTES;
+                MappedByteBuffer mapping = channel.map(mode, start, (long) rows * columnDimension * Double.BYTES);
+                mappings.add(mapping);
+                chunks[i] = mapping.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+            }
+
+            return new MappedMatrix(path, position, mode, rowDimension, columnDimension, rowsPerChunk, mappings, chunks);
+        }
+    }
+
+    /**
+     * Maps a matrix stored from the start of the given file, for reading only
+     *
+     * @param path            file path
+     * @param rowDimension    row dimension
+     * @param columnDimension column dimension
+     * @return new mapped matrix
+     * @throws IOException if file cannot be mapped
+     */
+    public static MappedMatrix open(Path path, int rowDimension, int columnDimension) throws IOException {
+        return open(path, rowDimension, columnDimension, 0, FileChannel.MapMode.READ_ONLY);
+    }
+
+    /**
+     * Creates (or extends) the given file so it can hold a matrix of the given dimensions and maps it for writing
+     *
+     * @param path            file path
+     * @param rowDimension    row dimension
+     * @param columnDimension column dimension
+     * @return new mapped matrix
+     * @throws IOException if file cannot be created or mapped
+     */
+    public static MappedMatrix create(Path path, int rowDimension, int columnDimension) throws IOException {
+        Files.newByteChannel(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE).close();
+        return open(path, rowDimension, columnDimension, 0, FileChannel.MapMode.READ_WRITE);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public boolean isReadOnly() {
+        return mode == FileChannel.MapMode.READ_ONLY;
+    }
+
+    /**
+     * Writes all changes made to this matrix to the underlying file
+     */
+    public void force() {
+        if (isReadOnly()) return;
+
+        for (MappedByteBuffer mapping : mappings) {
+            mapping.force();
+        }
+    }
+
+    @Override
+    public DenseMatrix copy() {
+        return DenseMatrix.copyOf(this);
+    }
+
+    @Override
+    public DenseMatrix newInstance(int rows, int columns) {
+        return new DenseMatrix(rows, columns);
+    }
+}
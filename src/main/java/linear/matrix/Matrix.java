@@ -1,19 +1,27 @@
 package linear.matrix;
 
 import util.Copyable;
+import util.IntIntDoubleConsumer;
 import util.Matchable;
 
 import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
 import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
 
+import linear.expression.MatrixExpression;
 import linear.linalg.LinearAlgebra;
 import linear.linalg.Mutability;
+import linear.operator.LinearOperator;
+import linear.vector.ColumnViewVector;
 import linear.vector.Vector;
 
 /**
  * Represents a matrix that holds real numbers (double precision)
  */
-public interface Matrix extends Iterable<Vector>, Matchable, Copyable<Matrix> {
+public interface Matrix extends LinearOperator, Iterable<Vector>, Matchable, Copyable<Matrix> {
 
     /**
      * Creates a new matrix of this type
@@ -63,6 +71,40 @@ public interface Matrix extends Iterable<Vector>, Matchable, Copyable<Matrix> {
      */
     Vector getColumn(int index);
 
+    /**
+     * Gets a view of the row at index, changes are written through to this matrix
+     *
+     * @param index row index
+     * @return view of the row
+     */
+    default Vector rowView(int index) {
+        return new ColumnViewVector(new TransposedViewMatrix(this), index);
+    }
+
+    /**
+     * Gets a view of the column at index, changes are written through to this matrix
+     *
+     * @param index column index
+     * @return view of the column
+     */
+    default Vector columnView(int index) {
+        return new ColumnViewVector(this, index);
+    }
+
+    /**
+     * Gets a view of rows [rowStart, rowEnd) and columns [columnStart, columnEnd) of this matrix,
+     * changes are written through to this matrix
+     *
+     * @param rowStart    first row, inclusive
+     * @param rowEnd      last row, exclusive
+     * @param columnStart first column, inclusive
+     * @param columnEnd   last column, exclusive
+     * @return view of the block
+     */
+    default Matrix subMatrix(int rowStart, int rowEnd, int columnStart, int columnEnd) {
+        return new BlockViewMatrix(this, rowStart, rowEnd, columnStart, columnEnd);
+    }
+
     /**
      * Sets the element at index [i, j]
      *
@@ -73,7 +115,45 @@ public interface Matrix extends Iterable<Vector>, Matchable, Copyable<Matrix> {
      */
     Matrix set(int i, int j, double value);
 
-    Iterator<Double> elementIterator();
+    /**
+     * Gets an iterator over elements of this matrix in row-major order which does not box them
+     *
+     * @return primitive iterator
+     */
+    PrimitiveIterator.OfDouble elementIterator();
+
+    /**
+     * Gets a spliterator over elements of this matrix in row-major order, which splits only on row boundaries
+     *
+     * @return primitive spliterator
+     */
+    default Spliterator.OfDouble elementSpliterator() {
+        return new MatrixSpliterator(this, 0, getRowDimension());
+    }
+
+    /**
+     * Creates a sequential stream of elements of this matrix in row-major order
+     *
+     * @return stream of elements
+     */
+    default DoubleStream elementStream() {
+        return StreamSupport.doubleStream(elementSpliterator(), false);
+    }
+
+    /**
+     * Performs action for every element of this matrix, in row-major order
+     *
+     * @param action action to be performed
+     */
+    default void forEachIndexed(IntIntDoubleConsumer action) {
+        int rowDimension = getRowDimension();
+        int columnDimension = getColumnDimension();
+        for (int i = 0; i < rowDimension; i++) {
+            for (int j = 0; j < columnDimension; j++) {
+                action.accept(i, j, get(i, j));
+            }
+        }
+    }
 
     /**
      * Swaps rows at index i and j
@@ -141,6 +221,40 @@ public interface Matrix extends Iterable<Vector>, Matchable, Copyable<Matrix> {
         return LinearAlgebra.multiply(this, other);
     }
 
+    /**
+     * Performs matrix-vector multiplication
+     *
+     * @param vector second operand in matrix-vector multiplication
+     * @return new vector
+     */
+    default Vector multiply(Vector vector) {
+        return LinearAlgebra.multiply(this, vector);
+    }
+
+    /**
+     * Computes out = this * in
+     *
+     * @param in  vector the matrix is applied to
+     * @param out result vector, overwritten
+     * @return result vector
+     */
+    @Override
+    default Vector apply(Vector in, Vector out) {
+        return LinearAlgebra.multiply(this, in, out);
+    }
+
+    /**
+     * Computes out = this^T * in, reading the matrix in storage order where possible
+     *
+     * @param in  vector the transposed matrix is applied to
+     * @param out result vector, overwritten
+     * @return result vector
+     */
+    @Override
+    default Vector applyTranspose(Vector in, Vector out) {
+        return LinearAlgebra.multiply(in, this, out);
+    }
+
     /**
      * Performs matrix-scalar multiplication
      *
@@ -168,6 +282,15 @@ public interface Matrix extends Iterable<Vector>, Matchable, Copyable<Matrix> {
         return LinearAlgebra.apply(this, function, Mutability.IMMUTABLE);
     }
 
+    /**
+     * Creates a lazily evaluated expression of this matrix, operations on which are fused into a single pass
+     *
+     * @return new expression
+     */
+    default MatrixExpression lazy() {
+        return MatrixExpression.of(this);
+    }
+
     /**
      * Turns this matrix into vector array by columns
      *
@@ -0,0 +1,68 @@
+package linear.matrix;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Spliterator over matrix elements in row-major order, which splits only on row boundaries
+ */
+class MatrixSpliterator implements Spliterator.OfDouble {
+
+    private final Matrix matrix;
+    private final int columnDimension;
+    private final int endRow;
+
+    private int row;
+    private int column;
+
+    MatrixSpliterator(Matrix matrix, int startRow, int endRow) {
+        this.matrix = matrix;
+        this.columnDimension = matrix.getColumnDimension();
+        this.row = (columnDimension == 0) ? endRow : startRow;
+        this.endRow = endRow;
+    }
+
+    @Override
+    public OfDouble trySplit() {
+        if (column != 0) return null;
+
+        int start = row;
+        int middle = (start + endRow) >>> 1;
+        if (middle <= start) return null;
+
+        row = middle;
+        return new MatrixSpliterator(matrix, start, middle);
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        if (row >= endRow) return false;
+
+        action.accept(matrix.get(row, column++));
+        if (column == columnDimension) {
+            column = 0;
+            row++;
+        }
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        for (; row < endRow; row++) {
+            for (; column < columnDimension; column++) {
+                action.accept(matrix.get(row, column));
+            }
+            column = 0;
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return (long) (endRow - row) * columnDimension - column;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+}
@@ -0,0 +1,62 @@
+package linear.matrix;
+
+import linear.memory.OffHeapArena;
+
+import java.nio.DoubleBuffer;
+import java.util.Objects;
+
+/**
+ * Matrix class which stores elements in off-heap memory owned by an {@code OffHeapArena}
+ * <p>
+ * New instances and copies are allocated from the same arena, so they share its lifetime.
+ */
+public class OffHeapMatrix extends BufferMatrix {
+
+    private final OffHeapArena arena;
+
+    public OffHeapMatrix(OffHeapArena arena, int rowDimension, int columnDimension) {
+        this(arena, rowDimension, columnDimension, rowsPerChunk(columnDimension));
+    }
+
+    private OffHeapMatrix(OffHeapArena arena, int rowDimension, int columnDimension, int rowsPerChunk) {
+        super(rowDimension, columnDimension, rowsPerChunk, allocate(arena, rowDimension, columnDimension, rowsPerChunk));
+        this.arena = arena;
+        arena.onClose(this::release);
+    }
+
+    private static DoubleBuffer[] allocate(OffHeapArena arena, int rowDimension, int columnDimension, int rowsPerChunk) {
+        Objects.requireNonNull(arena);
+
+        DoubleBuffer[] chunks = new DoubleBuffer[chunkCount(rowDimension, rowsPerChunk)];
+        for (int i = 0, n = chunks.length; i < n; i++) {
+            int rows = Math.min(rowsPerChunk, rowDimension - i * rowsPerChunk);
+            chunks[i] = arena.allocate(rows * columnDimension);
+        }
+        return chunks;
+    }
+
+    /**
+     * Gets the arena which owns the memory of this matrix
+     *
+     * @return arena
+     */
+    public OffHeapArena getArena() {
+        return arena;
+    }
+
+    @Override
+    public OffHeapMatrix copy() {
+        int rows = getRowDimension();
+        int columns = getColumnDimension();
+        OffHeapMatrix copy = new OffHeapMatrix(arena, rows, columns, getRowsPerChunk());
+        for (int i = 0, n = getChunkCount(); i < n; i++) {
+            copy.getChunk(i).put(0, getChunk(i), 0, getChunk(i).capacity());
+        }
+        return copy;
+    }
+
+    @Override
+    public OffHeapMatrix newInstance(int rows, int columns) {
+        return new OffHeapMatrix(arena, rows, columns);
+    }
+}
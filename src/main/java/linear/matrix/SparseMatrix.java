@@ -0,0 +1,372 @@
+package linear.matrix;
+
+import linear.vector.SparseVector;
+import linear.vector.Vector;
+
+import java.util.Arrays;
+
+/**
+ * Abstract matrix class which stores only the non-zero elements in compressed sparse format
+ * <p>
+ * Elements are grouped by their major index (row for CSR, column for CSC). Minor indices of the elements with major
+ * index p are stored in ascending order in {@code indices[pointers[p]], ..., indices[pointers[p + 1] - 1]},
+ * and their values at the same positions in {@code values}. Setting an element which is not stored inserts it,
+ * which takes time proportional to the number of non-zero elements. New instances are dense.
+ */
+public abstract class SparseMatrix extends AbstractMatrix {
+
+    private final int rowDimension;
+    private final int columnDimension;
+    private final boolean columnCompressed;
+
+    private int[] pointers;
+    private int[] indices;
+    private double[] values;
+
+    protected SparseMatrix(int rowDimension, int columnDimension, boolean columnCompressed,
+                           int[] pointers, int[] indices, double[] values) {
+        int majorDimension = columnCompressed ? columnDimension : rowDimension;
+        if (pointers.length != majorDimension + 1)
+            throw new IllegalArgumentException("Expected " + (majorDimension + 1) + " pointers, got " + pointers.length);
+        if (indices.length < pointers[majorDimension] || values.length < pointers[majorDimension])
+            throw new IllegalArgumentException("Indices and values must hold " + pointers[majorDimension] + " elements");
+
+        this.rowDimension = rowDimension;
+        this.columnDimension = columnDimension;
+        this.columnCompressed = columnCompressed;
+        this.pointers = pointers;
+        this.indices = indices;
+        this.values = values;
+    }
+
+    /**
+     * Tests whether elements are grouped by columns (CSC) rather than by rows (CSR)
+     *
+     * @return true if column compressed, false if row compressed
+     */
+    public boolean isColumnCompressed() {
+        return columnCompressed;
+    }
+
+    /**
+     * Gets the number of stored elements
+     *
+     * @return number of non-zero elements
+     */
+    public int getNonZeroCount() {
+        return pointers[pointers.length - 1];
+    }
+
+    /**
+     * Gets the underlying pointer array, of length major dimension + 1
+     *
+     * @return pointers
+     */
+    public int[] getPointers() {
+        return pointers;
+    }
+
+    /**
+     * Gets the underlying array of minor indices, only the first {@code getNonZeroCount()} elements are valid
+     *
+     * @return indices
+     */
+    public int[] getIndices() {
+        return indices;
+    }
+
+    /**
+     * Gets the underlying array of values, only the first {@code getNonZeroCount()} elements are valid
+     *
+     * @return values
+     */
+    public double[] getValues() {
+        return values;
+    }
+
+    @Override
+    public int getRowDimension() {
+        return rowDimension;
+    }
+
+    @Override
+    public int getColumnDimension() {
+        return columnDimension;
+    }
+
+    @Override
+    public abstract SparseMatrix copy();
+
+    @Override
+    public DenseMatrix newInstance(int rows, int columns) {
+        return new DenseMatrix(rows, columns);
+    }
+
+    @Override
+    public double get(int i, int j) {
+        checkBounds(i, j);
+
+        int position = columnCompressed ? find(j, i) : find(i, j);
+        return (position < 0) ? 0. : values[position];
+    }
+
+    @Override
+    public SparseMatrix set(int i, int j, double value) {
+        checkBounds(i, j);
+
+        int major = columnCompressed ? j : i;
+        int minor = columnCompressed ? i : j;
+        int position = find(major, minor);
+        if (position >= 0) {
+            values[position] = value;
+        } else if (value != 0.) {
+            insert(major, minor, -position - 1, value);
+        }
+        return this;
+    }
+
+    private void checkBounds(int i, int j) {
+        if (i < 0 || i >= rowDimension || j < 0 || j >= columnDimension)
+            throw new IndexOutOfBoundsException("Index [" + i + ", " + j + "] is out of matrix bounds");
+    }
+
+    /**
+     * Finds position of element in the underlying arrays
+     *
+     * @param major major index
+     * @param minor minor index
+     * @return position if stored, otherwise (-(insertion position) - 1)
+     */
+    private int find(int major, int minor) {
+        return Arrays.binarySearch(indices, pointers[major], pointers[major + 1], minor);
+    }
+
+    private void insert(int major, int minor, int position, double value) {
+        int size = getNonZeroCount();
+        if (size == indices.length) {
+            int capacity = Math.max(8, size + (size >> 1));
+            indices = Arrays.copyOf(indices, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        System.arraycopy(indices, position, indices, position + 1, size - position);
+        System.arraycopy(values, position, values, position + 1, size - position);
+        indices[position] = minor;
+        values[position] = value;
+        for (int p = major + 1; p < pointers.length; p++) {
+            pointers[p]++;
+        }
+    }
+
+    private Vector majorVector(int major) {
+        int start = pointers[major];
+        int end = pointers[major + 1];
+        return new SparseVector(columnCompressed ? rowDimension : columnDimension,
+                Arrays.copyOfRange(indices, start, end), Arrays.copyOfRange(values, start, end), end - start);
+    }
+
+    private Vector minorVector(int minor) {
+        SparseVector vector = new SparseVector(pointers.length - 1);
+        for (int p = 0, n = pointers.length - 1; p < n; p++) {
+            int position = find(p, minor);
+            if (position >= 0) {
+                vector.set(p, values[position]);
+            }
+        }
+        return vector;
+    }
+
+    /**
+     * Gets a sparse copy of the row at index
+     *
+     * @param index row index
+     * @return row
+     */
+    @Override
+    public Vector getRow(int index) {
+        if (index < 0 || index >= rowDimension)
+            throw new IndexOutOfBoundsException("Row index " + index + " is out of matrix bounds");
+
+        return columnCompressed ? minorVector(index) : majorVector(index);
+    }
+
+    /**
+     * Gets a sparse copy of the column at index
+     *
+     * @param index column index
+     * @return column
+     */
+    @Override
+    public Vector getColumn(int index) {
+        if (index < 0 || index >= columnDimension)
+            throw new IndexOutOfBoundsException("Column index " + index + " is out of matrix bounds");
+
+        return columnCompressed ? majorVector(index) : minorVector(index);
+    }
+
+    @Override
+    public void swapRows(int i, int j) {
+        if (columnCompressed) {
+            swapMinor(i, j);
+        } else {
+            swapMajor(i, j);
+        }
+    }
+
+    @Override
+    public void swapColumns(int i, int j) {
+        if (columnCompressed) {
+            swapMajor(i, j);
+        } else {
+            swapMinor(i, j);
+        }
+    }
+
+    private void swapMajor(int a, int b) {
+        if (a == b) return;
+
+        int first = Math.min(a, b);
+        int second = Math.max(a, b);
+        int firstStart = pointers[first], firstEnd = pointers[first + 1];
+        int secondStart = pointers[second], secondEnd = pointers[second + 1];
+        int firstLength = firstEnd - firstStart;
+        int secondLength = secondEnd - secondStart;
+
+        int[] swappedIndices = new int[secondEnd - firstStart];
+        double[] swappedValues = new double[secondEnd - firstStart];
+        int k = 0;
+        System.arraycopy(indices, secondStart, swappedIndices, k, secondLength);
+        System.arraycopy(values, secondStart, swappedValues, k, secondLength);
+        k += secondLength;
+        System.arraycopy(indices, firstEnd, swappedIndices, k, secondStart - firstEnd);
+        System.arraycopy(values, firstEnd, swappedValues, k, secondStart - firstEnd);
+        k += secondStart - firstEnd;
+        System.arraycopy(indices, firstStart, swappedIndices, k, firstLength);
+        System.arraycopy(values, firstStart, swappedValues, k, firstLength);
+
+        System.arraycopy(swappedIndices, 0, indices, firstStart, swappedIndices.length);
+        System.arraycopy(swappedValues, 0, values, firstStart, swappedValues.length);
+
+        int shift = secondLength - firstLength;
+        for (int p = first + 1; p <= second; p++) {
+            pointers[p] += shift;
+        }
+    }
+
+    private void swapMinor(int a, int b) {
+        if (a == b) return;
+
+        for (int p = 0, n = pointers.length - 1; p < n; p++) {
+            int positionA = find(p, a);
+            int positionB = find(p, b);
+            if (positionA >= 0 && positionB >= 0) {
+                double temp = values[positionA];
+                values[positionA] = values[positionB];
+                values[positionB] = temp;
+            } else if (positionA >= 0) {
+                move(positionA, -positionB - 1, b);
+            } else if (positionB >= 0) {
+                move(positionB, -positionA - 1, a);
+            }
+        }
+    }
+
+    /**
+     * Moves the element at position, within its major segment, to insertion position of the new minor index
+     */
+    private void move(int from, int insertion, int minor) {
+        double value = values[from];
+        int to = (insertion > from) ? insertion - 1 : insertion;
+        if (to > from) {
+            System.arraycopy(indices, from + 1, indices, from, to - from);
+            System.arraycopy(values, from + 1, values, from, to - from);
+        } else if (to < from) {
+            System.arraycopy(indices, to, indices, to + 1, from - to);
+            System.arraycopy(values, to, values, to + 1, from - to);
+        }
+        indices[to] = minor;
+        values[to] = value;
+    }
+
+    @Override
+    public Vector[] columns() {
+        Vector[] columns = new Vector[columnDimension];
+        for (int i = 0; i < columnDimension; i++) {
+            columns[i] = getColumn(i);
+        }
+        return columns;
+    }
+
+    @Override
+    public Vector[] rows() {
+        Vector[] rows = new Vector[rowDimension];
+        for (int i = 0; i < rowDimension; i++) {
+            rows[i] = getRow(i);
+        }
+        return rows;
+    }
+
+    @Override
+    public double[][] toArray() {
+        double[][] array = new double[rowDimension][columnDimension];
+        for (int p = 0, n = pointers.length - 1; p < n; p++) {
+            for (int k = pointers[p], end = pointers[p + 1]; k < end; k++) {
+                if (columnCompressed) {
+                    array[indices[k]][p] = values[k];
+                } else {
+                    array[p][indices[k]] = values[k];
+                }
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Copies the underlying arrays, trimmed to the number of non-zero elements
+     *
+     * @return copied pointers, indices and values
+     */
+    protected Storage copyStorage() {
+        int size = getNonZeroCount();
+        return new Storage(pointers.clone(), Arrays.copyOf(indices, size), Arrays.copyOf(values, size));
+    }
+
+    /**
+     * Regroups the stored elements by their minor index, which gives the storage of the same matrix in the other
+     * compressed format, in time proportional to the number of non-zero elements
+     *
+     * @return transposed pointers, indices and values
+     */
+    protected Storage transposeStorage() {
+        int majorDimension = pointers.length - 1;
+        int minorDimension = columnCompressed ? rowDimension : columnDimension;
+        int size = getNonZeroCount();
+
+        int[] transposedPointers = new int[minorDimension + 1];
+        for (int k = 0; k < size; k++) {
+            transposedPointers[indices[k] + 1]++;
+        }
+        for (int q = 0; q < minorDimension; q++) {
+            transposedPointers[q + 1] += transposedPointers[q];
+        }
+
+        int[] next = Arrays.copyOf(transposedPointers, minorDimension);
+        int[] transposedIndices = new int[size];
+        double[] transposedValues = new double[size];
+        for (int p = 0; p < majorDimension; p++) {
+            for (int k = pointers[p], end = pointers[p + 1]; k < end; k++) {
+                int position = next[indices[k]]++;
+                transposedIndices[position] = p;
+                transposedValues[position] = values[k];
+            }
+        }
+
+        return new Storage(transposedPointers, transposedIndices, transposedValues);
+    }
+
+    /**
+     * Compressed storage arrays
+     */
+    protected record Storage(int[] pointers, int[] indices, double[] values) {
+    }
+}
@@ -0,0 +1,144 @@
+package linear.matrix;
+
+import java.util.Arrays;
+
+/**
+ * Builder of sparse matrices from (row, column, value) triplets
+ * <p>
+ * Triplets can be added in any order. Values of triplets with the same row and column are summed,
+ * and elements which end up equal to zero are not stored.
+ */
+public class SparseMatrixBuilder {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int rowDimension;
+    private final int columnDimension;
+
+    private int[] rows = new int[INITIAL_CAPACITY];
+    private int[] columns = new int[INITIAL_CAPACITY];
+    private double[] values = new double[INITIAL_CAPACITY];
+    private int size;
+
+    public SparseMatrixBuilder(int rowDimension, int columnDimension) {
+        if (rowDimension < 0 || columnDimension < 0)
+            throw new IllegalArgumentException("Matrix dimensions must not be negative");
+
+        this.rowDimension = rowDimension;
+        this.columnDimension = columnDimension;
+    }
+
+    /**
+     * Adds value to element [i, j]
+     *
+     * @param i     row index
+     * @param j     column index
+     * @param value value
+     * @return this builder
+     */
+    public SparseMatrixBuilder add(int i, int j, double value) {
+        if (i < 0 || i >= rowDimension || j < 0 || j >= columnDimension)
+            throw new IndexOutOfBoundsException("Index [" + i + ", " + j + "] is out of matrix bounds");
+
+        if (size == rows.length) {
+            int capacity = size + (size >> 1);
+            rows = Arrays.copyOf(rows, capacity);
+            columns = Arrays.copyOf(columns, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        rows[size] = i;
+        columns[size] = j;
+        values[size] = value;
+        size++;
+        return this;
+    }
+
+    /**
+     * Gets the number of added triplets
+     *
+     * @return number of triplets
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Builds matrix in compressed sparse row format
+     *
+     * @return CSR matrix
+     */
+    public CSRMatrix buildCSR() {
+        SparseMatrix.Storage storage = compress(rows, columns, rowDimension, columnDimension);
+        return new CSRMatrix(rowDimension, columnDimension, storage.pointers(), storage.indices(), storage.values());
+    }
+
+    /**
+     * Builds matrix in compressed sparse column format
+     *
+     * @return CSC matrix
+     */
+    public CSCMatrix buildCSC() {
+        SparseMatrix.Storage storage = compress(columns, rows, columnDimension, rowDimension);
+        return new CSCMatrix(rowDimension, columnDimension, storage.pointers(), storage.indices(), storage.values());
+    }
+
+    /**
+     * Sorts triplets by (major, minor) with two stable counting sorts and merges duplicates,
+     * in time proportional to the number of triplets and the dimensions
+     */
+    private SparseMatrix.Storage compress(int[] majors, int[] minors, int majorDimension, int minorDimension) {
+        int[] byMinor = sort(minors, minorDimension, null);
+        int[] order = sort(majors, majorDimension, byMinor);
+
+        int[] pointers = new int[majorDimension + 1];
+        int[] indices = new int[size];
+        double[] compressed = new double[size];
+        int count = 0;
+        for (int k = 0; k < size; ) {
+            int major = majors[order[k]];
+            int minor = minors[order[k]];
+            double sum = 0.;
+            for (; k < size && majors[order[k]] == major && minors[order[k]] == minor; k++) {
+                sum += values[order[k]];
+            }
+
+            if (sum != 0.) {
+                indices[count] = minor;
+                compressed[count] = sum;
+                count++;
+                pointers[major + 1] = count;
+            }
+        }
+        for (int p = 0; p < majorDimension; p++) {
+            pointers[p + 1] = Math.max(pointers[p + 1], pointers[p]);
+        }
+
+        return new SparseMatrix.Storage(pointers, Arrays.copyOf(indices, count), Arrays.copyOf(compressed, count));
+    }
+
+    /**
+     * Stable counting sort of triplet positions by key
+     *
+     * @param keys      keys of triplets
+     * @param dimension number of distinct keys
+     * @param input     positions in input order, or null for natural order
+     * @return sorted positions
+     */
+    private int[] sort(int[] keys, int dimension, int[] input) {
+        int[] counts = new int[dimension + 1];
+        for (int k = 0; k < size; k++) {
+            counts[keys[k] + 1]++;
+        }
+        for (int d = 0; d < dimension; d++) {
+            counts[d + 1] += counts[d];
+        }
+
+        int[] sorted = new int[size];
+        for (int k = 0; k < size; k++) {
+            int position = (input == null) ? k : input[k];
+            sorted[counts[keys[position]]++] = position;
+        }
+        return sorted;
+    }
+}
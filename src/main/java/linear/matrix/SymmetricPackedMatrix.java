@@ -0,0 +1,178 @@
+package linear.matrix;
+
+import linear.Vectors;
+import linear.vector.Vector;
+
+import java.util.Arrays;
+
+/**
+ * Symmetric matrix class which stores only the lower triangle, row by row in a single array
+ * <p>
+ * Elements [i, j] and [j, i] with {@code i >= j} share index {@code i * (i + 1) / 2 + j} of the underlying array,
+ * so setting one of them sets both. New instances are dense.
+ */
+public class SymmetricPackedMatrix extends AbstractMatrix {
+
+    private final int dimension;
+    private final double[] data;
+
+    public SymmetricPackedMatrix(int dimension, double[] data) {
+        if (dimension < 0) throw new IllegalArgumentException();
+        if (data.length != (long) dimension * (dimension + 1) / 2)
+            throw new IllegalArgumentException("Expected " + (long) dimension * (dimension + 1) / 2 + " elements");
+
+        this.dimension = dimension;
+        this.data = data;
+    }
+
+    public SymmetricPackedMatrix(int dimension) {
+        this(dimension, new double[dimension * (dimension + 1) / 2]);
+    }
+
+    /**
+     * Creates a packed copy of the lower triangle of the given square matrix
+     *
+     * @param matrix matrix to be copied
+     * @return new symmetric packed matrix
+     */
+    public static SymmetricPackedMatrix copyOf(Matrix matrix) {
+        int dimension = matrix.getRowDimension();
+        if (dimension != matrix.getColumnDimension()) throw new IllegalArgumentException("Matrix must be square");
+
+        SymmetricPackedMatrix result = new SymmetricPackedMatrix(dimension);
+        for (int i = 0, k = 0; i < dimension; i++) {
+            for (int j = 0; j <= i; j++, k++) {
+                result.data[k] = matrix.get(i, j);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the underlying array
+     *
+     * @return underlying array
+     */
+    public double[] getData() {
+        return data;
+    }
+
+    /**
+     * Gets the index of element [i, j] in the underlying array
+     *
+     * @param i row index
+     * @param j column index
+     * @return index in underlying array
+     */
+    public int index(int i, int j) {
+        return (i >= j) ? i * (i + 1) / 2 + j : j * (j + 1) / 2 + i;
+    }
+
+    @Override
+    public SymmetricPackedMatrix copy() {
+        return new SymmetricPackedMatrix(dimension, Arrays.copyOf(data, data.length));
+    }
+
+    @Override
+    public DenseMatrix newInstance(int rows, int columns) {
+        return new DenseMatrix(rows, columns);
+    }
+
+    @Override
+    public int getRowDimension() {
+        return dimension;
+    }
+
+    @Override
+    public int getColumnDimension() {
+        return dimension;
+    }
+
+    @Override
+    public double get(int i, int j) {
+        checkBounds(i, j);
+
+        return data[index(i, j)];
+    }
+
+    @Override
+    public SymmetricPackedMatrix set(int i, int j, double value) {
+        checkBounds(i, j);
+
+        data[index(i, j)] = value;
+        return this;
+    }
+
+    private void checkBounds(int i, int j) {
+        if (i < 0 || i >= dimension || j < 0 || j >= dimension)
+            throw new IndexOutOfBoundsException("Index [" + i + ", " + j + "] is out of matrix bounds");
+    }
+
+    @Override
+    public Vector getRow(int index) {
+        if (index < 0 || index >= dimension)
+            throw new IndexOutOfBoundsException("Row index " + index + " is out of matrix bounds");
+
+        double[] row = new double[dimension];
+        for (int j = 0; j < dimension; j++) {
+            row[j] = data[index(index, j)];
+        }
+        return Vectors.asVector(row);
+    }
+
+    @Override
+    public Vector getColumn(int index) {
+        return getRow(index);
+    }
+
+    /**
+     * Swapping only rows would break symmetry, so this operation is not supported
+     */
+    @Override
+    public void swapRows(int i, int j) {
+        if (i != j) throw new UnsupportedOperationException("Swapping rows of a symmetric packed matrix breaks symmetry");
+    }
+
+    /**
+     * Swapping only columns would break symmetry, so this operation is not supported
+     */
+    @Override
+    public void swapColumns(int i, int j) {
+        if (i != j) throw new UnsupportedOperationException("Swapping columns of a symmetric packed matrix breaks symmetry");
+    }
+
+    /**
+     * Gets the transpose of this matrix, which is this matrix itself
+     *
+     * @return this matrix
+     */
+    @Override
+    public SymmetricPackedMatrix transpose() {
+        return this;
+    }
+
+    @Override
+    public Vector[] columns() {
+        return rows();
+    }
+
+    @Override
+    public Vector[] rows() {
+        Vector[] rows = new Vector[dimension];
+        for (int i = 0; i < dimension; i++) {
+            rows[i] = getRow(i);
+        }
+        return rows;
+    }
+
+    @Override
+    public double[][] toArray() {
+        double[][] array = new double[dimension][dimension];
+        for (int i = 0, k = 0; i < dimension; i++) {
+            for (int j = 0; j <= i; j++, k++) {
+                array[i][j] = array[j][i] = data[k];
+            }
+        }
+        return array;
+    }
+}
@@ -13,6 +13,15 @@ public class TransposedViewMatrix extends AbstractMatrix {
         this.view = view;
     }
 
+    /**
+     * Gets the matrix this is a transposed view of
+     *
+     * @return viewed matrix
+     */
+    public Matrix getView() {
+        return view;
+    }
+
     @Override
     public Matrix copy() {
         return new TransposedViewMatrix(view.copy());
@@ -0,0 +1,99 @@
+package linear.memory;
+
+import linear.matrix.OffHeapMatrix;
+import linear.vector.OffHeapVector;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Owner of off-heap memory used by {@code OffHeapMatrix} and {@code OffHeapVector} objects
+ * <p>
+ * All memory allocated through an arena stays valid until the arena is closed. Closing the arena releases every
+ * matrix and vector allocated from it, after which accessing them fails with {@code IllegalStateException} and
+ * the native memory is returned as soon as the garbage collector reclaims the released buffers.
+ * Arenas are not thread-safe and are meant to be created and closed by the same thread.
+ */
+public final class OffHeapArena implements AutoCloseable {
+
+    private final List<Runnable> releaseActions = new ArrayList<>();
+    private boolean open = true;
+    private long allocatedBytes;
+
+    /**
+     * Allocates a new matrix owned by this arena
+     *
+     * @param rows    row dimension
+     * @param columns column dimension
+     * @return new matrix
+     */
+    public OffHeapMatrix matrix(int rows, int columns) {
+        return new OffHeapMatrix(this, rows, columns);
+    }
+
+    /**
+     * Allocates a new vector owned by this arena
+     *
+     * @param dimension dimension
+     * @return new vector
+     */
+    public OffHeapVector vector(int dimension) {
+        return new OffHeapVector(this, dimension);
+    }
+
+    /**
+     * Allocates a zero-initialized off-heap buffer in native byte order
+     *
+     * @param elements number of elements
+     * @return new buffer
+     */
+    public DoubleBuffer allocate(int elements) {
+        checkOpen();
+        if (elements < 0 || elements > Integer.MAX_VALUE / Double.BYTES)
+            throw new IllegalArgumentException("Invalid buffer size: " + elements);
+
+        DoubleBuffer buffer = ByteBuffer.allocateDirect(elements * Double.BYTES).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+        allocatedBytes += (long) elements * Double.BYTES;
+        return buffer;
+    }
+
+    /**
+     * Registers an action to be performed when this arena is closed
+     *
+     * @param action release action
+     */
+    public void onClose(Runnable action) {
+        checkOpen();
+        releaseActions.add(action);
+    }
+
+    /**
+     * Gets the total number of bytes allocated through this arena
+     *
+     * @return allocated bytes
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        if (!open) return;
+
+        open = false;
+        releaseActions.forEach(Runnable::run);
+        releaseActions.clear();
+        allocatedBytes = 0;
+    }
+
+    private void checkOpen() {
+        if (!open) throw new IllegalStateException("Arena is already closed");
+    }
+}
@@ -0,0 +1,160 @@
+package linear.memory;
+
+import linear.matrix.DenseMatrix;
+import linear.matrix.Matrix;
+import linear.vector.ArrayVector;
+import linear.vector.Vector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Arena of heap vectors and matrices for temporaries of an iterative algorithm
+ * <p>
+ * Vectors and matrices taken from a workspace stay valid until the next {@link #reset()}, after which they are
+ * handed out again, so an algorithm which resets its workspace at every iteration boundary allocates temporaries
+ * only during its first iteration. Temporaries are zero-filled when taken. Nothing taken from a workspace may be
+ * kept across a reset (e.g. returned to the caller). Workspaces are not thread-safe and are meant to be used by
+ * a single thread, typically one per optimizer.
+ */
+public final class Workspace {
+
+    private final List<Pool<ArrayVector>> vectors = new ArrayList<>();
+    private final List<Pool<DenseMatrix>> matrices = new ArrayList<>();
+    private long allocatedBytes;
+
+    /**
+     * Takes a zero-filled vector from this workspace
+     *
+     * @param dimension dimension
+     * @return vector valid until the next reset
+     */
+    public ArrayVector vector(int dimension) {
+        Pool<ArrayVector> pool = pool(vectors, dimension, 1);
+        if (pool.used < pool.items.size()) {
+            ArrayVector vector = pool.items.get(pool.used++);
+            Arrays.fill(vector.getData(), 0.);
+            return vector;
+        }
+
+        ArrayVector vector = new ArrayVector(dimension);
+        allocatedBytes += (long) dimension * Double.BYTES;
+        pool.items.add(vector);
+        pool.used++;
+        return vector;
+    }
+
+    /**
+     * Takes a zero-filled matrix from this workspace
+     *
+     * @param rows    row dimension
+     * @param columns column dimension
+     * @return matrix valid until the next reset
+     */
+    public DenseMatrix matrix(int rows, int columns) {
+        Pool<DenseMatrix> pool = pool(matrices, rows, columns);
+        if (pool.used < pool.items.size()) {
+            DenseMatrix matrix = pool.items.get(pool.used++);
+            Arrays.fill(matrix.getData(), 0.);
+            return matrix;
+        }
+
+        DenseMatrix matrix = new DenseMatrix(rows, columns);
+        allocatedBytes += (long) rows * columns * Double.BYTES;
+        pool.items.add(matrix);
+        pool.used++;
+        return matrix;
+    }
+
+    /**
+     * Takes a vector from this workspace and copies the given vector into it
+     *
+     * @param vector vector to be copied
+     * @return copy valid until the next reset
+     */
+    public ArrayVector copyOf(Vector vector) {
+        int dimension = vector.getDimension();
+        ArrayVector copy = vector(dimension);
+        if (vector instanceof ArrayVector array) {
+            System.arraycopy(array.getData(), 0, copy.getData(), 0, dimension);
+        } else {
+            for (int i = 0; i < dimension; i++) {
+                copy.set(i, vector.get(i));
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Takes a matrix from this workspace and copies the given matrix into it
+     *
+     * @param matrix matrix to be copied
+     * @return copy valid until the next reset
+     */
+    public DenseMatrix copyOf(Matrix matrix) {
+        int rows = matrix.getRowDimension();
+        int columns = matrix.getColumnDimension();
+        DenseMatrix copy = matrix(rows, columns);
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                copy.set(i, j, matrix.get(i, j));
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Marks every vector and matrix taken from this workspace as free, invalidating them
+     */
+    public void reset() {
+        for (Pool<ArrayVector> pool : vectors) {
+            pool.used = 0;
+        }
+        for (Pool<DenseMatrix> pool : matrices) {
+            pool.used = 0;
+        }
+    }
+
+    /**
+     * Gets the total number of bytes of element storage allocated by this workspace, which stops growing once
+     * the algorithm using it reaches a steady state
+     *
+     * @return allocated bytes
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Finds the pool of items with the given dimensions, an algorithm uses only a few distinct shapes
+     * so pools are searched linearly
+     */
+    private static <T> Pool<T> pool(List<Pool<T>> pools, int rows, int columns) {
+        if (rows < 0 || columns < 0) throw new IllegalArgumentException("Invalid dimensions: " + rows + " x " + columns);
+
+        for (int i = 0, n = pools.size(); i < n; i++) {
+            Pool<T> pool = pools.get(i);
+            if (pool.rows == rows && pool.columns == columns) return pool;
+        }
+        Pool<T> pool = new Pool<>(rows, columns);
+        pools.add(pool);
+        return pool;
+    }
+
+    /**
+     * Items of the same dimensions, first {@code used} of which are taken
+     */
+    private static final class Pool<T> {
+
+        private final int rows;
+        private final int columns;
+        private final List<T> items = new ArrayList<>();
+        private int used;
+
+        private Pool(int rows, int columns) {
+            this.rows = rows;
+            this.columns = columns;
+        }
+    }
+}
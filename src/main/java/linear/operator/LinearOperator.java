@@ -0,0 +1,78 @@
+package linear.operator;
+
+import linear.vector.Vector;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Represents a linear map which is known only through its action on vectors, such as a matrix or a
+ * Hessian-vector product, so it can be used by iterative solvers without ever being formed
+ */
+public interface LinearOperator {
+
+    /**
+     * Gets the dimension of the operator's range
+     *
+     * @return row dimension
+     */
+    int getRowDimension();
+
+    /**
+     * Gets the dimension of the operator's domain
+     *
+     * @return column dimension
+     */
+    int getColumnDimension();
+
+    /**
+     * Computes out = A * in
+     *
+     * @param in  vector the operator is applied to
+     * @param out result vector, overwritten, must not be the same object as in
+     * @return result vector
+     */
+    Vector apply(Vector in, Vector out);
+
+    /**
+     * Computes out = A^T * in, operators which do not support it throw {@code UnsupportedOperationException}
+     *
+     * @param in  vector the transposed operator is applied to
+     * @param out result vector, overwritten, must not be the same object as in
+     * @return result vector
+     */
+    default Vector applyTranspose(Vector in, Vector out) {
+        throw new UnsupportedOperationException("Operator does not support transposed application");
+    }
+
+    /**
+     * Creates a symmetric operator from the given product, which is used for transposed application as well
+     *
+     * @param dimension dimension of the operator
+     * @param product   action storing A * in into out, called as {@code product.accept(in, out)}
+     * @return new operator
+     */
+    static LinearOperator symmetric(int dimension, BiConsumer<Vector, Vector> product) {
+        return new LinearOperator() {
+            @Override
+            public int getRowDimension() {
+                return dimension;
+            }
+
+            @Override
+            public int getColumnDimension() {
+                return dimension;
+            }
+
+            @Override
+            public Vector apply(Vector in, Vector out) {
+                product.accept(in, out);
+                return out;
+            }
+
+            @Override
+            public Vector applyTranspose(Vector in, Vector out) {
+                return apply(in, out);
+            }
+        };
+    }
+}
@@ -1,7 +1,7 @@
 package linear.vector;
 
 import linear.linalg.LinearAlgebra;
-import linear.matrix.ArrayMatrix;
+import linear.matrix.DenseMatrix;
 import linear.matrix.Matrix;
 
 import java.util.Iterator;
@@ -22,7 +22,7 @@ public abstract class AbstractVector implements Vector {
     @Override
     public Matrix asMatrix() {
         int dimension = getDimension();
-        Matrix result = new ArrayMatrix(1, dimension);
+        Matrix result = new DenseMatrix(1, dimension);
         for (int i = 0; i < dimension; i++) {
             result.set(0, i, get(i));
         }
@@ -31,17 +31,17 @@ public abstract class AbstractVector implements Vector {
 
     @Override
     public boolean anyMatch(DoublePredicate predicate) {
-        return LinearAlgebra.anyMatch(iterator(), predicate);
+        return LinearAlgebra.anyMatch(doubleIterator(), predicate);
     }
 
     @Override
     public boolean allMatch(DoublePredicate predicate) {
-        return LinearAlgebra.allMatch(iterator(), predicate);
+        return LinearAlgebra.allMatch(doubleIterator(), predicate);
     }
 
     @Override
     public Iterator<Double> iterator() {
-        return new AbstractVectorIterator(this);
+        return doubleIterator();
     }
 
     @Override
@@ -71,26 +71,4 @@ public abstract class AbstractVector implements Vector {
 
         return vector.toString();
     }
-
-    private static class AbstractVectorIterator implements Iterator<Double> {
-
-        private final Vector vector;
-        private final int dimension;
-        private int count;
-
-        public AbstractVectorIterator(Vector vector) {
-            this.vector = vector;
-            dimension = vector.getDimension();
-        }
-
-        @Override
-        public boolean hasNext() {
-            return count < dimension;
-        }
-
-        @Override
-        public Double next() {
-            return vector.get(count++);
-        }
-    }
 }
@@ -1,9 +1,11 @@
 package linear.vector;
 
+import linear.matrix.DenseMatrix;
 import linear.matrix.Matrix;
-import linear.matrix.ArrayMatrix;
 
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.Spliterator;
 import java.util.stream.IntStream;
 
 /**
@@ -25,6 +27,15 @@ public class ArrayVector extends AbstractVector {
         array = IntStream.range(start, end).asDoubleStream().toArray();
     }
 
+    /**
+     * Gets the underlying array
+     *
+     * @return underlying array
+     */
+    public double[] getData() {
+        return array;
+    }
+
     @Override
     public ArrayVector copy() {
         int dimension = getDimension();
@@ -38,6 +49,11 @@ public class ArrayVector extends AbstractVector {
         return new ArrayVector(new double[dimension]);
     }
 
+    @Override
+    public Spliterator.OfDouble spliterator() {
+        return Arrays.spliterator(array);
+    }
+
     @Override
     public int getDimension() {
         return array.length;
@@ -54,8 +70,22 @@ public class ArrayVector extends AbstractVector {
         return this;
     }
 
+    /**
+     * Gets a view of elements [from, to) of this vector which shares the underlying array
+     *
+     * @param from first index, inclusive
+     * @param to   last index, exclusive
+     * @return view of the range
+     */
+    @Override
+    public StridedViewVector slice(int from, int to) {
+        SliceViewVector.checkRange(array.length, from, to);
+
+        return new StridedViewVector(array, from, 1, to - from);
+    }
+
     @Override
     public Matrix asMatrix() {
-        return new ArrayMatrix(new double[][]{array});
+        return new DenseMatrix(1, array.length, array);
     }
 }
@@ -0,0 +1,70 @@
+package linear.vector;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Vector class that serves as a view of a contiguous region of a buffer
+ * <p>
+ * Changes are written through to the buffer. New instances and copies are regular heap vectors.
+ */
+public class BufferViewVector extends AbstractVector {
+
+    private final DoubleBuffer buffer;
+    private final int offset;
+    private final int dimension;
+
+    public BufferViewVector(DoubleBuffer buffer, int offset, int dimension) {
+        if (offset < 0 || offset + dimension > buffer.capacity())
+            throw new IndexOutOfBoundsException("Region [" + offset + ", " + (offset + dimension) + ") is out of buffer bounds");
+
+        this.buffer = buffer;
+        this.offset = offset;
+        this.dimension = dimension;
+    }
+
+    /**
+     * Gets the underlying buffer
+     *
+     * @return buffer
+     */
+    public DoubleBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Gets the index of the first element in the underlying buffer
+     *
+     * @return offset
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    @Override
+    public ArrayVector copy() {
+        double[] array = new double[dimension];
+        buffer.get(offset, array, 0, dimension);
+        return new ArrayVector(array);
+    }
+
+    @Override
+    public ArrayVector newInstance(int dimension) {
+        return new ArrayVector(dimension);
+    }
+
+    @Override
+    public int getDimension() {
+        return dimension;
+    }
+
+    @Override
+    public double get(int i) {
+        return buffer.get(offset + i);
+    }
+
+    @Override
+    public BufferViewVector set(int i, double value) {
+        buffer.put(offset + i, value);
+        return this;
+    }
+}
@@ -0,0 +1,62 @@
+package linear.vector;
+
+import linear.matrix.Matrix;
+
+/**
+ * Vector class that serves as a view of a matrix column
+ * <p>
+ * Changes are written through to the matrix. New instances and copies are regular heap vectors.
+ */
+public class ColumnViewVector extends AbstractVector {
+
+    private final Matrix matrix;
+    private final int column;
+
+    public ColumnViewVector(Matrix matrix, int column) {
+        if (column < 0 || column >= matrix.getColumnDimension())
+            throw new IndexOutOfBoundsException("Column index " + column + " is out of matrix bounds");
+
+        this.matrix = matrix;
+        this.column = column;
+    }
+
+    /**
+     * Gets the matrix whose column this is a view of
+     *
+     * @return viewed matrix
+     */
+    public Matrix getMatrix() {
+        return matrix;
+    }
+
+    @Override
+    public ArrayVector copy() {
+        int dimension = getDimension();
+        double[] array = new double[dimension];
+        for (int i = 0; i < dimension; i++) {
+            array[i] = matrix.get(i, column);
+        }
+        return new ArrayVector(array);
+    }
+
+    @Override
+    public ArrayVector newInstance(int dimension) {
+        return new ArrayVector(dimension);
+    }
+
+    @Override
+    public int getDimension() {
+        return matrix.getRowDimension();
+    }
+
+    @Override
+    public double get(int i) {
+        return matrix.get(i, column);
+    }
+
+    @Override
+    public ColumnViewVector set(int i, double value) {
+        matrix.set(i, column, value);
+        return this;
+    }
+}
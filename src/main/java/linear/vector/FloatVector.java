@@ -0,0 +1,81 @@
+package linear.vector;
+
+import linear.matrix.FloatMatrix;
+import linear.matrix.Matrix;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Vector class which uses a single precision array to store elements
+ * <p>
+ * Values are rounded to float when set and widened to double when read. Copies stay in single precision,
+ * new instances (which hold results of operations) are double precision array vectors.
+ */
+public class FloatVector extends AbstractVector {
+
+    private final float[] array;
+
+    public FloatVector(int dimension) {
+        this(new float[dimension]);
+    }
+
+    public FloatVector(float[] array) {
+        this.array = Objects.requireNonNull(array);
+    }
+
+    /**
+     * Creates a single precision copy of the given vector, rounding every element to float
+     *
+     * @param vector vector to be copied
+     * @return new float vector
+     */
+    public static FloatVector copyOf(Vector vector) {
+        int dimension = vector.getDimension();
+        float[] array = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            array[i] = (float) vector.get(i);
+        }
+        return new FloatVector(array);
+    }
+
+    /**
+     * Gets the underlying array
+     *
+     * @return underlying array
+     */
+    public float[] getData() {
+        return array;
+    }
+
+    @Override
+    public FloatVector copy() {
+        return new FloatVector(Arrays.copyOf(array, array.length));
+    }
+
+    @Override
+    public ArrayVector newInstance(int dimension) {
+        return new ArrayVector(dimension);
+    }
+
+    @Override
+    public int getDimension() {
+        return array.length;
+    }
+
+    @Override
+    public double get(int i) {
+        return array[i];
+    }
+
+    @Override
+    public FloatVector set(int i, double value) {
+        array[i] = (float) value;
+        return this;
+    }
+
+    @Override
+    public Matrix asMatrix() {
+        return new FloatMatrix(1, array.length, array);
+    }
+}
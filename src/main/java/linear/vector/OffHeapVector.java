@@ -0,0 +1,73 @@
+package linear.vector;
+
+import linear.memory.OffHeapArena;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Vector class which stores elements in off-heap memory owned by an {@code OffHeapArena}
+ * <p>
+ * New instances and copies are allocated from the same arena, so they share its lifetime.
+ */
+public class OffHeapVector extends AbstractVector {
+
+    private final OffHeapArena arena;
+    private final int dimension;
+
+    private DoubleBuffer buffer;
+
+    public OffHeapVector(OffHeapArena arena, int dimension) {
+        this.arena = arena;
+        this.dimension = dimension;
+        buffer = arena.allocate(dimension);
+        arena.onClose(() -> buffer = null);
+    }
+
+    /**
+     * Gets the arena which owns the memory of this vector
+     *
+     * @return arena
+     */
+    public OffHeapArena getArena() {
+        return arena;
+    }
+
+    /**
+     * Gets the underlying buffer
+     *
+     * @return buffer
+     */
+    public DoubleBuffer getBuffer() {
+        DoubleBuffer buffer = this.buffer;
+        if (buffer == null) throw new IllegalStateException("Vector memory has already been released");
+        return buffer;
+    }
+
+    @Override
+    public OffHeapVector copy() {
+        OffHeapVector copy = new OffHeapVector(arena, dimension);
+        copy.getBuffer().put(0, getBuffer(), 0, dimension);
+        return copy;
+    }
+
+    @Override
+    public OffHeapVector newInstance(int dimension) {
+        return new OffHeapVector(arena, dimension);
+    }
+
+    @Override
+    public int getDimension() {
+        return dimension;
+    }
+
+    @Override
+    public double get(int i) {
+        return getBuffer().get(i);
+    }
+
+    @Override
+    public OffHeapVector set(int i, double value) {
+        getBuffer().put(i, value);
+        return this;
+    }
+}
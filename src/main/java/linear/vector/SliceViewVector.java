@@ -0,0 +1,92 @@
+package linear.vector;
+
+/**
+ * Vector class that serves as a view of a contiguous range of elements of another vector
+ * <p>
+ * Changes are written through to the viewed vector. New instances and copies are of the viewed vector's type.
+ */
+public class SliceViewVector extends AbstractVector {
+
+    private final Vector vector;
+    private final int from;
+    private final int dimension;
+
+    public SliceViewVector(Vector vector, int from, int to) {
+        checkRange(vector.getDimension(), from, to);
+
+        this.vector = vector;
+        this.from = from;
+        this.dimension = to - from;
+    }
+
+    /**
+     * Gets the vector this is a view of
+     *
+     * @return viewed vector
+     */
+    public Vector getView() {
+        return vector;
+    }
+
+    /**
+     * Gets the index of the first element in the viewed vector
+     *
+     * @return offset
+     */
+    public int getOffset() {
+        return from;
+    }
+
+    @Override
+    public Vector copy() {
+        Vector copy = vector.newInstance(dimension);
+        for (int i = 0; i < dimension; i++) {
+            copy.set(i, vector.get(from + i));
+        }
+        return copy;
+    }
+
+    @Override
+    public Vector newInstance(int dimension) {
+        return vector.newInstance(dimension);
+    }
+
+    @Override
+    public int getDimension() {
+        return dimension;
+    }
+
+    @Override
+    public double get(int i) {
+        checkIndex(i);
+
+        return vector.get(from + i);
+    }
+
+    @Override
+    public SliceViewVector set(int i, double value) {
+        checkIndex(i);
+
+        vector.set(from + i, value);
+        return this;
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= dimension) throw new IndexOutOfBoundsException("Index " + i + " is out of vector bounds");
+    }
+
+    @Override
+    public SliceViewVector slice(int from, int to) {
+        checkRange(dimension, from, to);
+
+        return new SliceViewVector(vector, this.from + from, this.from + to);
+    }
+
+    /**
+     * Checks that [from, to) is a valid range of indices of a vector with the given dimension
+     */
+    static void checkRange(int dimension, int from, int to) {
+        if (from < 0 || to > dimension || from > to)
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") is out of vector bounds");
+    }
+}
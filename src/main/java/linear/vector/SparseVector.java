@@ -0,0 +1,147 @@
+package linear.vector;
+
+import linear.matrix.CSRMatrix;
+import linear.matrix.Matrix;
+import util.IntDoubleConsumer;
+
+import java.util.Arrays;
+
+/**
+ * Vector class which stores only the non-zero elements, as sorted arrays of indices and values
+ * <p>
+ * Setting an element which is not stored inserts it, which takes time proportional to the number of
+ * non-zero elements, except when it is appended after the last stored element.
+ */
+public class SparseVector extends AbstractVector {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final int dimension;
+
+    private int[] indices;
+    private double[] values;
+    private int size;
+
+    public SparseVector(int dimension) {
+        this(dimension, new int[0], new double[0], 0);
+    }
+
+    /**
+     * Constructs a sparse vector from the given arrays, which are used directly
+     *
+     * @param dimension dimension
+     * @param indices   indices of non-zero elements, strictly ascending
+     * @param values    values of non-zero elements
+     * @param size      number of non-zero elements
+     */
+    public SparseVector(int dimension, int[] indices, double[] values, int size) {
+        if (size > indices.length || size > values.length)
+            throw new IllegalArgumentException("Indices and values must hold " + size + " elements");
+        for (int k = 0; k < size; k++) {
+            if (indices[k] < 0 || indices[k] >= dimension || (k > 0 && indices[k] <= indices[k - 1]))
+                throw new IllegalArgumentException("Indices must be strictly ascending and within vector bounds");
+        }
+
+        this.dimension = dimension;
+        this.indices = indices;
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * Gets the number of stored elements
+     *
+     * @return number of non-zero elements
+     */
+    public int getNonZeroCount() {
+        return size;
+    }
+
+    /**
+     * Gets the underlying array of indices, only the first {@code getNonZeroCount()} elements are valid
+     *
+     * @return indices
+     */
+    public int[] getIndices() {
+        return indices;
+    }
+
+    /**
+     * Gets the underlying array of values, only the first {@code getNonZeroCount()} elements are valid
+     *
+     * @return values
+     */
+    public double[] getValues() {
+        return values;
+    }
+
+    /**
+     * Performs action for every stored element of this vector, in order of indices
+     *
+     * @param action action to be performed
+     */
+    public void forEachNonZero(IntDoubleConsumer action) {
+        for (int k = 0; k < size; k++) {
+            action.accept(indices[k], values[k]);
+        }
+    }
+
+    @Override
+    public SparseVector copy() {
+        return new SparseVector(dimension, Arrays.copyOf(indices, size), Arrays.copyOf(values, size), size);
+    }
+
+    @Override
+    public SparseVector newInstance(int dimension) {
+        return new SparseVector(dimension);
+    }
+
+    @Override
+    public int getDimension() {
+        return dimension;
+    }
+
+    @Override
+    public double get(int i) {
+        checkBounds(i);
+
+        int position = Arrays.binarySearch(indices, 0, size, i);
+        return (position < 0) ? 0. : values[position];
+    }
+
+    @Override
+    public SparseVector set(int i, double value) {
+        checkBounds(i);
+
+        int position = (size > 0 && indices[size - 1] < i) ? -size - 1 : Arrays.binarySearch(indices, 0, size, i);
+        if (position >= 0) {
+            values[position] = value;
+        } else if (value != 0.) {
+            insert(-position - 1, i, value);
+        }
+        return this;
+    }
+
+    private void checkBounds(int i) {
+        if (i < 0 || i >= dimension) throw new IndexOutOfBoundsException("Index " + i + " is out of vector bounds");
+    }
+
+    private void insert(int position, int index, double value) {
+        if (size == indices.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, size + (size >> 1));
+            indices = Arrays.copyOf(indices, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        System.arraycopy(indices, position, indices, position + 1, size - position);
+        System.arraycopy(values, position, values, position + 1, size - position);
+        indices[position] = index;
+        values[position] = value;
+        size++;
+    }
+
+    @Override
+    public Matrix asMatrix() {
+        return new CSRMatrix(1, dimension, new int[]{0, size}, Arrays.copyOf(indices, size), Arrays.copyOf(values, size));
+    }
+}
@@ -0,0 +1,110 @@
+package linear.vector;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+
+/**
+ * Vector class that serves as a view of evenly spaced elements of an array, such as a slice of an array vector
+ * (stride 1) or a column of a dense matrix (stride equal to the row stride)
+ * <p>
+ * Element i is stored at {@code data[offset + i * stride]}. Changes are written through to the array.
+ * New instances and copies are regular heap vectors.
+ */
+public class StridedViewVector extends AbstractVector {
+
+    private final double[] data;
+    private final int offset;
+    private final int stride;
+    private final int dimension;
+
+    public StridedViewVector(double[] data, int offset, int stride, int dimension) {
+        if (offset < 0 || stride < 1 || dimension < 0)
+            throw new IllegalArgumentException();
+        if (dimension > 0 && offset + (long) (dimension - 1) * stride >= data.length)
+            throw new IndexOutOfBoundsException("Array is too small for the given dimension and stride");
+
+        this.data = data;
+        this.offset = offset;
+        this.stride = stride;
+        this.dimension = dimension;
+    }
+
+    /**
+     * Gets the underlying array
+     *
+     * @return underlying array
+     */
+    public double[] getData() {
+        return data;
+    }
+
+    /**
+     * Gets the index of the first element in the underlying array
+     *
+     * @return offset
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Gets the distance between two consecutive elements in the underlying array
+     *
+     * @return stride
+     */
+    public int getStride() {
+        return stride;
+    }
+
+    @Override
+    public ArrayVector copy() {
+        if (stride == 1) return new ArrayVector(Arrays.copyOfRange(data, offset, offset + dimension));
+
+        double[] array = new double[dimension];
+        for (int i = 0, k = offset; i < dimension; i++, k += stride) {
+            array[i] = data[k];
+        }
+        return new ArrayVector(array);
+    }
+
+    @Override
+    public ArrayVector newInstance(int dimension) {
+        return new ArrayVector(dimension);
+    }
+
+    @Override
+    public Spliterator.OfDouble spliterator() {
+        return (stride == 1) ? Arrays.spliterator(data, offset, offset + dimension) : super.spliterator();
+    }
+
+    @Override
+    public int getDimension() {
+        return dimension;
+    }
+
+    @Override
+    public double get(int i) {
+        checkIndex(i);
+
+        return data[offset + i * stride];
+    }
+
+    @Override
+    public StridedViewVector set(int i, double value) {
+        checkIndex(i);
+
+        data[offset + i * stride] = value;
+        return this;
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= dimension) throw new IndexOutOfBoundsException("Index " + i + " is out of vector bounds");
+    }
+
+    @Override
+    public StridedViewVector slice(int from, int to) {
+        SliceViewVector.checkRange(dimension, from, to);
+
+        return new StridedViewVector(data, offset + from * stride, stride, to - from);
+    }
+}
@@ -2,10 +2,17 @@ package linear.vector;
 
 import linear.matrix.Matrix;
 import util.Copyable;
+import util.IntDoubleConsumer;
 import util.Matchable;
 
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
 
+import linear.expression.VectorExpression;
 import linear.linalg.LinearAlgebra;
 import linear.linalg.Mutability;
 
@@ -55,6 +62,56 @@ public interface Vector extends Iterable<Double>, Copyable<Vector>, Matchable {
      */
     void swap(int i, int j);
 
+    /**
+     * Gets an iterator over elements of this vector which does not box them
+     *
+     * @return primitive iterator
+     */
+    default PrimitiveIterator.OfDouble doubleIterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Gets a spliterator over elements of this vector which splits the index range in halves
+     *
+     * @return primitive spliterator
+     */
+    @Override
+    default Spliterator.OfDouble spliterator() {
+        return new VectorSpliterator(this, 0, getDimension());
+    }
+
+    /**
+     * Creates a sequential stream of elements of this vector
+     *
+     * @return stream of elements
+     */
+    default DoubleStream doubleStream() {
+        return StreamSupport.doubleStream(spliterator(), false);
+    }
+
+    /**
+     * Performs action for every element of this vector, in order of indices
+     *
+     * @param action action to be performed
+     */
+    default void forEachIndexed(IntDoubleConsumer action) {
+        for (int i = 0, n = getDimension(); i < n; i++) {
+            action.accept(i, get(i));
+        }
+    }
+
+    /**
+     * Gets a view of elements [from, to) of this vector, changes are written through to this vector
+     *
+     * @param from first index, inclusive
+     * @param to   last index, exclusive
+     * @return view of the range
+     */
+    default Vector slice(int from, int to) {
+        return new SliceViewVector(this, from, to);
+    }
+
     /**
      * Performs vector addition
      *
@@ -145,6 +202,15 @@ public interface Vector extends Iterable<Double>, Copyable<Vector>, Matchable {
         return LinearAlgebra.apply(this, function, Mutability.IMMUTABLE);
     }
 
+    /**
+     * Creates a lazily evaluated expression of this vector, operations on which are fused into a single pass
+     *
+     * @return new expression
+     */
+    default VectorExpression lazy() {
+        return VectorExpression.of(this);
+    }
+
     /**
      * Transforms this vector to matrix equivalent
      *
@@ -0,0 +1,57 @@
+package linear.vector;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Spliterator over a range of vector elements, which splits the range in halves
+ */
+class VectorSpliterator implements Spliterator.OfDouble {
+
+    private final Vector vector;
+    private final int end;
+
+    private int index;
+
+    VectorSpliterator(Vector vector, int start, int end) {
+        this.vector = vector;
+        this.index = start;
+        this.end = end;
+    }
+
+    @Override
+    public OfDouble trySplit() {
+        int start = index;
+        int middle = (start + end) >>> 1;
+        if (middle <= start) return null;
+
+        index = middle;
+        return new VectorSpliterator(vector, start, middle);
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        if (index >= end) return false;
+
+        action.accept(vector.get(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        for (int i = index; i < end; i++) {
+            action.accept(vector.get(i));
+        }
+        index = end;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+}
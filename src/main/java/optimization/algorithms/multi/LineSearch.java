@@ -7,11 +7,6 @@ import functions.MultivariateFunction;
 
 import java.util.Objects;
 
-import static linear.linalg.LinearAlgebra.multiply;
-import static linear.linalg.LinearAlgebra.add;
-import static linear.linalg.Mutability.IMMUTABLE;
-import static linear.linalg.Mutability.MUTABLE;
-
 /**
  * Implementation of the line search algorithm
  */
@@ -21,16 +16,31 @@ public final class LineSearch implements UnivariateOptimizer {
     private final Vector x;
     private final Vector direction;
 
+    private final Vector point;
+
     public LineSearch(MultivariateFunction function, Vector x, Vector direction) {
+        this(function, x, direction, x.newInstance(x.getDimension()));
+    }
+
+    /**
+     * Creates a line search which evaluates points along the line in the given vector, instead of allocating one
+     *
+     * @param function  function to be minimized
+     * @param x         starting point
+     * @param direction search direction
+     * @param point     vector to be overwritten with evaluated points
+     */
+    public LineSearch(MultivariateFunction function, Vector x, Vector direction, Vector point) {
         this.function = Objects.requireNonNull(function);
         this.x = Objects.requireNonNull(x);
         this.direction = Objects.requireNonNull(direction);
+        this.point = Objects.requireNonNull(point);
     }
 
     @Override
     public double search(double l0) {
         return new GoldenSectionSearch(
-                lambda -> function.valueAt(add(multiply(direction, lambda, IMMUTABLE), x, MUTABLE)))
+                lambda -> function.valueAt(x.lazy().plus(direction.lazy().scale(lambda)).evaluateInto(point)))
                 .search(l0);
     }
 
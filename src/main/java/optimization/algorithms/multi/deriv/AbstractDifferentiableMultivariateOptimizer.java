@@ -1,5 +1,6 @@
 package optimization.algorithms.multi.deriv;
 
+import linear.memory.Workspace;
 import linear.vector.Vector;
 import optimization.algorithms.multi.LineSearch;
 import optimization.algorithms.multi.noderiv.MultivariateOptimizer;
@@ -17,6 +18,12 @@ public abstract class AbstractDifferentiableMultivariateOptimizer implements Mul
 
     protected final DifferentiableMultivariateCostFunction function;
 
+    /**
+     * Workspace for temporaries of a single iteration, reset at the start of every iteration
+     * (which makes optimizers confined to one thread)
+     */
+    protected final Workspace workspace = new Workspace();
+
     protected double epsilon = DEFAULT_EPSILON;
     protected int divergenceLimit = DEFAULT_DIVERGENCE_LIMIT;
     protected boolean computeOptimalStep = DEFAULT_COMPUTE_OPTIMAL_STEP;
@@ -71,6 +78,8 @@ public abstract class AbstractDifferentiableMultivariateOptimizer implements Mul
             if (count > divergenceLimit)
                 throw new DivergenceLimitReachedException(divergenceLimit, "minimum found: [" + x + "]");
 
+            workspace.reset();
+
             Vector direction = computeDirection(x, function.gradient(x));
             double norm = norm(direction);
 
@@ -78,7 +87,7 @@ public abstract class AbstractDifferentiableMultivariateOptimizer implements Mul
 
             direction = multiply(direction, 1. / norm, MUTABLE);
             if (computeOptimalStep) {
-                double coefficient = new LineSearch(function, x, direction).search(0);
+                double coefficient = new LineSearch(function, x, direction, workspace.vector(x.getDimension())).search(0);
                 direction = multiply(direction, coefficient, MUTABLE);
             }
 
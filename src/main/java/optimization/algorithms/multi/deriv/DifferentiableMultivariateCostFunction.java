@@ -1,9 +1,11 @@
 package optimization.algorithms.multi.deriv;
 
 import functions.MultivariableMatrixFunction;
+import functions.MultivariableOperatorFunction;
 import functions.MultivariableVectorFunction;
 import functions.MultivariateFunction;
 import linear.matrix.Matrix;
+import linear.operator.LinearOperator;
 import linear.vector.Vector;
 import optimization.algorithms.multi.MultivariateCostFunction;
 
@@ -16,14 +18,35 @@ public class DifferentiableMultivariateCostFunction extends MultivariateCostFunc
 
     protected final MultivariableVectorFunction gradient;
     protected final MultivariableMatrixFunction hessian;
+    protected final MultivariableOperatorFunction hessianOperator;
 
     protected int gradientEvalCounter;
     protected int hessianEvalCounter;
 
     public DifferentiableMultivariateCostFunction(MultivariateFunction function, MultivariableVectorFunction gradient, MultivariableMatrixFunction hessian) {
+        this(function, gradient, Objects.requireNonNull(hessian), null);
+    }
+
+    private DifferentiableMultivariateCostFunction(MultivariateFunction function, MultivariableVectorFunction gradient,
+                                                   MultivariableMatrixFunction hessian, MultivariableOperatorFunction hessianOperator) {
         super(function);
         this.gradient = Objects.requireNonNull(gradient);
-        this.hessian = Objects.requireNonNull(hessian);
+        this.hessian = hessian;
+        this.hessianOperator = hessianOperator;
+    }
+
+    /**
+     * Creates a cost function whose Hessian is given only as an operator (e.g. through Hessian-vector products),
+     * so it is never formed as a matrix
+     *
+     * @param function        function
+     * @param gradient        gradient
+     * @param hessianOperator Hessian operator
+     * @return new cost function
+     */
+    public static DifferentiableMultivariateCostFunction matrixFree(MultivariateFunction function, MultivariableVectorFunction gradient,
+                                                                    MultivariableOperatorFunction hessianOperator) {
+        return new DifferentiableMultivariateCostFunction(function, gradient, null, Objects.requireNonNull(hessianOperator));
     }
 
     public int getGradientEvaluationCount() {
@@ -45,8 +68,32 @@ public class DifferentiableMultivariateCostFunction extends MultivariateCostFunc
         return gradient.valueAt(x);
     }
 
+    /**
+     * Tests whether the Hessian is available as a matrix, rather than only as an operator
+     *
+     * @return true if {@link #hessian(Vector)} is supported, false otherwise
+     */
+    public boolean hasHessianMatrix() {
+        return hessian != null;
+    }
+
     public Matrix hessian(Vector x) {
+        if (hessian == null) throw new UnsupportedOperationException("Hessian is available only as an operator");
+
         hessianEvalCounter++;
         return hessian.valueAt(x);
     }
+
+    /**
+     * Gets the Hessian as an operator, which is the Hessian matrix itself if it is available
+     *
+     * @param x point
+     * @return Hessian operator
+     */
+    public LinearOperator hessianOperator(Vector x) {
+        if (hessianOperator == null) return hessian(x);
+
+        hessianEvalCounter++;
+        return hessianOperator.valueAt(x);
+    }
 }
@@ -3,7 +3,6 @@ package optimization.algorithms.multi.deriv;
 import linear.vector.Vector;
 
 import static linear.linalg.LinearAlgebra.*;
-import static linear.linalg.Mutability.*;
 
 /**
  * Implementation of the gradient descent algorithm
@@ -20,7 +19,7 @@ public final class GradientDescent extends AbstractDifferentiableMultivariateOpt
 
     @Override
     protected Vector computeDirection(Vector x, Vector gradient) {
-        return multiply(gradient, -1., IMMUTABLE);
+        return multiply(gradient, -1., workspace);
     }
 
     @Override
@@ -1,16 +1,35 @@
 package optimization.algorithms.multi.deriv;
 
+import linear.Matrices;
+import linear.decompose.CholeskyDecomposer;
+import linear.decompose.EigenDecomposer;
 import linear.decompose.LUPDecomposer;
+import linear.exceptions.NonPositiveDefiniteMatrixException;
+import linear.iterative.AbstractIterativeSolver;
+import linear.iterative.ConjugateGradientSolver;
+import linear.iterative.JacobiPreconditioner;
+import linear.iterative.MinresSolver;
+import linear.matrix.Matrix;
+import linear.matrix.SparseMatrix;
+import linear.operator.LinearOperator;
 import linear.vector.Vector;
 
+import static linear.linalg.LinearAlgebra.inner;
 import static linear.linalg.LinearAlgebra.multiply;
-import static linear.linalg.Mutability.IMMUTABLE;
+import static linear.linalg.LinearAlgebra.norm;
 
 /**
  * Implementation of the Newton-Raphson algorithm
  */
 public final class NewtonRaphson extends AbstractDifferentiableMultivariateOptimizer {
 
+    /**
+     * Smallest magnitude of an eigenvalue of the modified Hessian, relative to the largest one
+     */
+    private static final double MIN_RELATIVE_EIGENVALUE = 1e-8;
+
+    private boolean modifyHessian;
+
     public NewtonRaphson(DifferentiableMultivariateCostFunction function) {
         super(function);
     }
@@ -19,9 +38,97 @@ public final class NewtonRaphson extends AbstractDifferentiableMultivariateOptim
         super(function, epsilon, maxIter, computeOptimalStep);
     }
 
+    public boolean isModifyHessian() {
+        return modifyHessian;
+    }
+
+    /**
+     * Sets whether a symmetric Hessian which is not positive definite is replaced by a positive definite one,
+     * which makes every Newton direction a descent direction
+     *
+     * @param modifyHessian true if indefinite Hessians should be modified, false if they should be used as they are
+     */
+    public void setModifyHessian(boolean modifyHessian) {
+        this.modifyHessian = modifyHessian;
+    }
+
+    /**
+     * Solves H * d = -g for the direction, using Cholesky decomposition when the Hessian is symmetric positive definite
+     * and falling back to LUP decomposition otherwise (or to the modified Hessian, if enabled)
+     * <p>
+     * Hessians given only as operators, and sparse Hessians, are never decomposed: the system is solved inexactly
+     * with the conjugate gradient method, switching to MINRES when the Hessian turns out to be indefinite.
+     */
     @Override
     protected Vector computeDirection(Vector x, Vector gradient) {
-        return new LUPDecomposer(function.hessian(x)).solver().solve(multiply(gradient, -1, IMMUTABLE));
+        Vector b = multiply(gradient, -1, workspace);
+        if (!function.hasHessianMatrix()) return solveIteratively(function.hessianOperator(x), null, b);
+
+        Matrix hessian = function.hessian(x);
+        if (hessian instanceof SparseMatrix) return solveIteratively(hessian, jacobi(hessian), b);
+
+        if (Matrices.isSymmetricMatrix(hessian)) {
+            try {
+                return new CholeskyDecomposer(hessian).solver().solve(b);
+            } catch (NonPositiveDefiniteMatrixException ignored) {
+                if (modifyHessian) return solveModified(hessian, b);
+            }
+        }
+        return new LUPDecomposer(hessian).solver().solve(b);
+    }
+
+    /**
+     * Solves H' * d = b, where H' has the eigenvectors of H and the absolute values of its eigenvalues, bounded
+     * away from zero relative to the largest one
+     */
+    private Vector solveModified(Matrix hessian, Vector b) {
+        EigenDecomposer decomposer = new EigenDecomposer(hessian);
+        Vector eigenvalues = decomposer.getEigenvalues();
+        Matrix V = decomposer.getV();
+
+        int n = eigenvalues.getDimension();
+        double bound = Math.max(Math.abs(eigenvalues.get(0)), Math.abs(eigenvalues.get(n - 1)));
+        double floor = MIN_RELATIVE_EIGENVALUE * Math.max(1., bound);
+
+        Vector y = multiply(b, V, workspace);
+        for (int i = 0; i < n; i++) {
+            y.set(i, y.get(i) / Math.max(Math.abs(eigenvalues.get(i)), floor));
+        }
+        return multiply(V, y, workspace);
+    }
+
+    /**
+     * Solves H * d = b with relative accuracy min(0.5, sqrt(||b||)), which is tightened as the gradient vanishes
+     * so the convergence of Newton's method is kept superlinear
+     * <p>
+     * A solve which does not converge within the iteration limit gives its last iterate, which is still taken as
+     * the step as long as it is a descent direction; otherwise the steepest descent direction b is used.
+     */
+    private static Vector solveIteratively(LinearOperator hessian, LinearOperator preconditioner, Vector b) {
+        double tolerance = Math.min(0.5, Math.sqrt(norm(b)));
+        int maxIterations = Math.max(1, hessian.getRowDimension());
+
+        AbstractIterativeSolver solver = new ConjugateGradientSolver(hessian, preconditioner, tolerance, maxIterations);
+        solver.setReturnLastIterate(true);
+        Vector direction;
+        try {
+            direction = solver.solve(b);
+        } catch (NonPositiveDefiniteMatrixException ignored) {
+            solver = new MinresSolver(hessian, preconditioner, tolerance, maxIterations);
+            solver.setReturnLastIterate(true);
+            direction = solver.solve(b);
+        }
+        return inner(direction, b) > 0. ? direction : b;
+    }
+
+    /**
+     * Gets the Jacobi preconditioner of the Hessian, if its diagonal is positive (so the preconditioner is positive definite)
+     */
+    private static LinearOperator jacobi(Matrix hessian) {
+        for (int i = 0, n = hessian.getRowDimension(); i < n; i++) {
+            if (!(hessian.get(i, i) > 0.)) return null;
+        }
+        return new JacobiPreconditioner(hessian);
     }
 
     @Override
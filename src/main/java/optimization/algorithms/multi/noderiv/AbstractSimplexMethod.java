@@ -7,7 +7,6 @@ import optimization.algorithms.multi.MultivariateCostFunction;
 import java.util.Arrays;
 
 import static linear.linalg.LinearAlgebra.*;
-import static linear.linalg.Mutability.IMMUTABLE;
 import static linear.linalg.Mutability.MUTABLE;
 
 /**
@@ -40,34 +39,76 @@ public abstract class AbstractSimplexMethod extends AbstractMultivariateOptimize
     protected abstract Vector optimize(Vector[] X, double[] fX);
 
     protected Vector centroid(Vector[] simplex, int h) {
+        return centroid(simplex, h, Vectors.empty(simplex[0].getDimension()));
+    }
+
+    /**
+     * Computes centroid of all simplex points except the one at index h into the given vector
+     *
+     * @param simplex simplex points
+     * @param h       index of the excluded point
+     * @param result  vector to be overwritten with the centroid
+     * @return result vector
+     */
+    protected Vector centroid(Vector[] simplex, int h, Vector result) {
         int n = simplex.length;
-        Vector centroid = Vectors.empty(simplex[0].getDimension());
+        Vectors.fill(result, 0.);
         for (int i = 0; i < n; i++) {
             if (i == h) continue;
-            add(centroid, simplex[i], MUTABLE);
+            add(result, simplex[i], result);
         }
-        return multiply(centroid, 1. / (n - 1), MUTABLE);
+        return multiply(result, 1. / (n - 1), result);
     }
 
     protected Vector reflection(Vector xc, Vector xh, double alpha) {
-        return subtract(
-                multiply(xc, 1 + alpha, IMMUTABLE),
-                multiply(xh, alpha, IMMUTABLE),
-                MUTABLE);
+        return reflection(xc, xh, alpha, xc.newInstance(xc.getDimension()));
+    }
+
+    /**
+     * Computes (1 + alpha) * xc - alpha * xh into the given vector
+     *
+     * @param xc     centroid
+     * @param xh     reflected point
+     * @param alpha  reflection coefficient
+     * @param result vector to be overwritten, may be the same object as xc or xh
+     * @return result vector
+     */
+    protected Vector reflection(Vector xc, Vector xh, double alpha, Vector result) {
+        return xc.lazy().scale(1 + alpha).minus(xh.lazy().scale(alpha)).evaluateInto(result);
     }
 
     protected Vector expansion(Vector xc, Vector xr, double gamma) {
-        return add(
-                multiply(xc, 1 - gamma, IMMUTABLE),
-                multiply(xr, gamma, IMMUTABLE),
-                MUTABLE);
+        return expansion(xc, xr, gamma, xc.newInstance(xc.getDimension()));
+    }
+
+    /**
+     * Computes (1 - gamma) * xc + gamma * xr into the given vector
+     *
+     * @param xc     centroid
+     * @param xr     reflected point
+     * @param gamma  expansion coefficient
+     * @param result vector to be overwritten, may be the same object as xc or xr
+     * @return result vector
+     */
+    protected Vector expansion(Vector xc, Vector xr, double gamma, Vector result) {
+        return xc.lazy().scale(1 - gamma).plus(xr.lazy().scale(gamma)).evaluateInto(result);
     }
 
     protected Vector contraction(Vector xc, Vector xh, double beta) {
-        return add(
-                multiply(xc, 1 - beta, IMMUTABLE),
-                multiply(xh, beta, IMMUTABLE),
-                MUTABLE);
+        return contraction(xc, xh, beta, xc.newInstance(xc.getDimension()));
+    }
+
+    /**
+     * Computes (1 - beta) * xc + beta * xh into the given vector
+     *
+     * @param xc     centroid
+     * @param xh     contracted point
+     * @param beta   contraction coefficient
+     * @param result vector to be overwritten, may be the same object as xc or xh
+     * @return result vector
+     */
+    protected Vector contraction(Vector xc, Vector xh, double beta, Vector result) {
+        return xc.lazy().scale(1 - beta).plus(xh.lazy().scale(beta)).evaluateInto(result);
     }
 
     protected Vector shrink(Vector xi, Vector xl, double sigma) {
@@ -77,6 +118,20 @@ public abstract class AbstractSimplexMethod extends AbstractMultivariateOptimize
                 MUTABLE);
     }
 
+    /**
+     * Stores point at index of the simplex
+     *
+     * @param simplex simplex points
+     * @param index   index
+     * @param point   new point
+     * @return point previously stored at index, which is no longer used by the simplex and can serve as a buffer
+     */
+    protected Vector replace(Vector[] simplex, int index, Vector point) {
+        Vector previous = simplex[index];
+        simplex[index] = point;
+        return previous;
+    }
+
     protected boolean testConvergence(double[] fX, double fxc) {
         double val = 0.;
         for (double fx : fX) {
@@ -77,10 +77,12 @@ public class BoxMethod extends AbstractSimplexMethod {
         Vector[] simplex = new ArrayVector[size];
         simplex[0] = x0.copy();
         Vector centroid = x0.copy();
+        Vector difference = x0.newInstance(n);
         for (int i = 1; i < size; i++) {
             Vector candidate = adjust(buildCandidate(x0, explicitConstraints), centroid, implicitConstraints);
             simplex[i] = candidate;
-            centroid = add(multiply(subtract(candidate, centroid, IMMUTABLE), 1. / (i + 1), MUTABLE), centroid, MUTABLE);
+            multiply(subtract(candidate, centroid, difference), 1. / (i + 1), difference);
+            add(centroid, difference, centroid);
         }
 
         return simplex;
@@ -129,6 +131,10 @@ public class BoxMethod extends AbstractSimplexMethod {
 
     @Override
     protected Vector optimize(Vector[] X, double[] fX) {
+        int dimension = X[0].getDimension();
+        Vector xc = X[0].newInstance(dimension);
+        Vector xr = X[0].newInstance(dimension);
+
         Vector min = X[argMin(fX)];
         double best = function.valueAt(min);
         int count = 0;
@@ -140,11 +146,11 @@ public class BoxMethod extends AbstractSimplexMethod {
             int h = worst.first();
             int h2 = worst.second();
 
-            Vector xc = centroid(X, h);
+            centroid(X, h, xc);
 
             if (testConvergence(fX, function.valueAt(xc))) break;
 
-            Vector xr = reflection(xc, X[h], alpha);
+            reflection(xc, X[h], alpha, xr);
 
             xr = adjust(xr, explicitConstraints);
             xr = adjust(xr, xc, implicitConstraints);
@@ -152,8 +158,9 @@ public class BoxMethod extends AbstractSimplexMethod {
                 xr = shift(xr, xc);
             }
 
-            X[h] = xr;
-            fX[h] = function.valueAt(xr);
+            double fxr = function.valueAt(xr);
+            xr = replace(X, h, xr);
+            fX[h] = fxr;
 
             min = X[argMin(fX)];
             double value = function.valueAt(min);
@@ -21,8 +21,11 @@ public class CoordinateDescent extends AbstractMultivariateOptimizer {
     public Vector search(Vector x0) {
         Vector x = x0.copy();
         int dimension = x0.getDimension();
+        Vector snapshot = x0.newInstance(dimension);
         while (true) {
-            Vector snapshot = x.copy();
+            for (int i = 0; i < dimension; i++) {
+                snapshot.set(i, x.get(i));
+            }
             for (int i = 0; i < dimension; i++) {
                 final int nthDimension = i;
                 final double xi = x.get(nthDimension);
@@ -3,9 +3,6 @@ package optimization.algorithms.multi.noderiv;
 import linear.vector.Vector;
 import optimization.algorithms.multi.MultivariateCostFunction;
 
-import static linear.linalg.LinearAlgebra.*;
-import static linear.linalg.Mutability.*;
-
 /**
  * Implementation of the Hooke-Jeeves algorithm
  */
@@ -34,29 +31,34 @@ public final class HookeJeeves extends AbstractMultivariateOptimizer {
 
     @Override
     public Vector search(Vector x0) {
-        Vector xp = x0;
-        Vector xb = x0;
-
+        // base, pattern and explored points rotate between three buffers, so iterations allocate nothing
+        Vector xb = x0.copy();
+        Vector xp = x0.copy();
+        Vector xn = x0.newInstance(x0.getDimension());
         double fxb = function.valueAt(xb);
         double dx = delta;
         while (dx >= epsilon) {
-            Vector xn = explore(xp, dx);
+            explore(xp, dx, xn);
             double fxn = function.valueAt(xn);
             if (fxn < fxb) {
-                xp = subtract(multiply(xn, 2, IMMUTABLE), xb, MUTABLE);
+                xn.lazy().scale(2).minus(xb).evaluateInto(xp);
+                Vector previous = xb;
                 xb = xn;
+                xn = previous;
                 fxb = fxn;
             } else {
                 dx /= 2;
-                xp = xb;
+                copy(xb, xp);
             }
         }
-
         return xb;
     }
 
-    private Vector explore(Vector xp, double dx) {
-        Vector x = xp.copy();
+    /**
+     * Explores the neighbourhood of xp one coordinate at a time, storing the best point found into x
+     */
+    private void explore(Vector xp, double dx, Vector x) {
+        copy(xp, x);
         double fxInitial = function.valueAt(x);
         for (int i = 0, n = x.getDimension(); i < n; i++) {
             double xi = x.get(i);
@@ -74,7 +76,12 @@ public final class HookeJeeves extends AbstractMultivariateOptimizer {
                 fxInitial = fxNew;
             }
         }
-        return x;
+    }
+
+    private static void copy(Vector source, Vector destination) {
+        for (int i = 0, n = source.getDimension(); i < n; i++) {
+            destination.set(i, source.get(i));
+        }
     }
 
     @Override
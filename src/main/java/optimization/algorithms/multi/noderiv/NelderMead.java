@@ -93,26 +93,32 @@ public class NelderMead extends AbstractSimplexMethod {
 
     @Override
     protected Vector optimize(Vector[] X, double[] fX) {
+        int dimension = X[0].getDimension();
+        Vector xc = X[0].newInstance(dimension);
+        Vector xr = X[0].newInstance(dimension);
+        Vector xe = X[0].newInstance(dimension);
+        Vector xk = X[0].newInstance(dimension);
+
         while (true) {
             IntPair worstAndBest = worstAndBest(fX);
             int h = worstAndBest.first();
             int l = worstAndBest.second();
 
-            Vector xc = centroid(X, h);
+            centroid(X, h, xc);
 
             if (testConvergence(fX, function.valueAt(xc))) break;
 
-            Vector xr = reflection(xc, X[h], alpha);
+            reflection(xc, X[h], alpha, xr);
 
             double fxr = function.valueAt(xr);
             if (fxr < fX[l]) {
-                Vector xe = expansion(xc, xr, gamma);
+                expansion(xc, xr, gamma, xe);
                 double fxe = function.valueAt(xe);
                 if (fxe < fX[l]) {
-                    X[h] = xe;
+                    xe = replace(X, h, xe);
                     fX[h] = fxe;
                 } else {
-                    X[h] = xr;
+                    xr = replace(X, h, xr);
                     fX[h] = fxr;
                 }
             } else {
@@ -126,13 +132,13 @@ public class NelderMead extends AbstractSimplexMethod {
                 }
                 if (isConditionMet) {
                     if (fxr < fX[h]) {
-                        X[h] = xr;
+                        xr = replace(X, h, xr);
                         fX[h] = fxr;
                     }
-                    Vector xk = contraction(xc, X[h], beta);
+                    contraction(xc, X[h], beta, xk);
                     double fxk = function.valueAt(xk);
                     if (fxk < fX[h]) {
-                        X[h] = xk;
+                        xk = replace(X, h, xk);
                         fX[h] = fxk;
                     } else {
                         Vector xl = X[l];
@@ -143,7 +149,7 @@ public class NelderMead extends AbstractSimplexMethod {
                         }
                     }
                 } else {
-                    X[h] = xr;
+                    xr = replace(X, h, xr);
                     fX[h] = fxr;
                 }
             }
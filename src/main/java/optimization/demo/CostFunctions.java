@@ -1,6 +1,7 @@
 package optimization.demo;
 
-import linear.matrix.ArrayMatrix;
+import linear.matrix.DenseMatrix;
+import linear.matrix.DiagonalMatrix;
 import linear.vector.Vector;
 import optimization.algorithms.multi.deriv.DifferentiableMultivariateCostFunction;
 
@@ -29,7 +30,7 @@ public class CostFunctions {
                 x -> {
                     double x1 = x.get(0);
                     double x2 = x.get(1);
-                    return new ArrayMatrix(new double[][]{
+                    return new DenseMatrix(new double[][]{
                             {-400 * x2 + 1200 * Math.pow(x1, 2) + 2, -400 * x1},
                             {-400 * x1, 200}
                     });
@@ -46,10 +47,7 @@ public class CostFunctions {
         return new DifferentiableMultivariateCostFunction(
                 x -> Math.pow(x.get(0) - 4, 2) + 4 * Math.pow(x.get(1) - 2, 2),
                 x -> Vector.of(2 * (x.get(0) - 4), 8 * (x.get(1) - 2)),
-                x -> new ArrayMatrix(new double[][]{
-                        {2, 0},
-                        {0, 8},
-                })
+                x -> new DiagonalMatrix(2, 8)
         );
     }
 
@@ -62,10 +60,7 @@ public class CostFunctions {
         return new DifferentiableMultivariateCostFunction(
                 x -> Math.pow(x.get(0) - 2, 2) + 4 * Math.pow(x.get(1) + 3, 2),
                 x -> Vector.of(2 * (x.get(0) - 2), 2 * (x.get(1) + 3)),
-                x -> new ArrayMatrix(new double[][]{
-                        {2, 0},
-                        {0, 2},
-                })
+                x -> new DiagonalMatrix(2, 2)
         );
     }
 
@@ -78,9 +73,7 @@ public class CostFunctions {
         return new DifferentiableMultivariateCostFunction(
                 x -> Math.pow(x.get(0) - 3, 2) + Math.pow(x.get(1), 2),
                 x -> Vector.of(2 * (x.get(0) - 3), 2 * x.get(1)),
-                x -> new ArrayMatrix(new double[][]{
-                        {2, 0},
-                        {0, 2}})
+                x -> new DiagonalMatrix(2, 2)
         );
     }
 }
@@ -0,0 +1,16 @@
+package util;
+
+/**
+ * Represents an operation that accepts an index and a real number (double precision) and returns no result
+ */
+@FunctionalInterface
+public interface IntDoubleConsumer {
+
+    /**
+     * Performs this operation on the given arguments
+     *
+     * @param index index
+     * @param value value
+     */
+    void accept(int index, double value);
+}
@@ -0,0 +1,17 @@
+package util;
+
+/**
+ * Represents an operation that accepts a pair of indices and a real number (double precision) and returns no result
+ */
+@FunctionalInterface
+public interface IntIntDoubleConsumer {
+
+    /**
+     * Performs this operation on the given arguments
+     *
+     * @param i     first index
+     * @param j     second index
+     * @param value value
+     */
+    void accept(int i, int j, double value);
+}
@@ -0,0 +1,132 @@
+package linear;
+
+import linear.matrix.DenseMatrix;
+import linear.matrix.Matrix;
+import linear.vector.ArrayVector;
+import linear.vector.Vector;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Factories of random test matrices and assertions on matrix and vector elements
+ */
+public final class TestMatrices {
+
+    private TestMatrices() {
+    }
+
+    public static DenseMatrix random(int rows, int columns, long seed) {
+        Random random = new Random(seed);
+        DenseMatrix matrix = new DenseMatrix(rows, columns);
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                matrix.set(i, j, random.nextGaussian());
+            }
+        }
+        return matrix;
+    }
+
+    public static Vector randomVector(int dimension, long seed) {
+        Random random = new Random(seed);
+        Vector vector = new ArrayVector(dimension);
+        for (int i = 0; i < dimension; i++) {
+            vector.set(i, random.nextGaussian());
+        }
+        return vector;
+    }
+
+    /**
+     * Creates a random symmetric positive definite matrix B * B^T + n * I
+     */
+    public static DenseMatrix randomSpd(int dimension, long seed) {
+        DenseMatrix b = random(dimension, dimension, seed);
+        DenseMatrix matrix = new DenseMatrix(dimension, dimension);
+        for (int i = 0; i < dimension; i++) {
+            for (int j = 0; j < dimension; j++) {
+                double sum = (i == j) ? dimension : 0.;
+                for (int k = 0; k < dimension; k++) {
+                    sum += b.get(i, k) * b.get(j, k);
+                }
+                matrix.set(i, j, sum);
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Creates a random symmetric matrix
+     */
+    public static DenseMatrix randomSymmetric(int dimension, long seed) {
+        DenseMatrix b = random(dimension, dimension, seed);
+        DenseMatrix matrix = new DenseMatrix(dimension, dimension);
+        for (int i = 0; i < dimension; i++) {
+            for (int j = 0; j < dimension; j++) {
+                matrix.set(i, j, b.get(i, j) + b.get(j, i));
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Computes the product element by element, independently of the kernels under test
+     */
+    public static DenseMatrix product(Matrix a, Matrix b) {
+        int rows = a.getRowDimension();
+        int columns = b.getColumnDimension();
+        DenseMatrix result = new DenseMatrix(rows, columns);
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                double sum = 0.;
+                for (int k = 0; k < a.getColumnDimension(); k++) {
+                    sum += a.get(i, k) * b.get(k, j);
+                }
+                result.set(i, j, sum);
+            }
+        }
+        return result;
+    }
+
+    public static Vector product(Matrix a, Vector x) {
+        Vector result = new ArrayVector(a.getRowDimension());
+        for (int i = 0; i < a.getRowDimension(); i++) {
+            double sum = 0.;
+            for (int j = 0; j < a.getColumnDimension(); j++) {
+                sum += a.get(i, j) * x.get(j);
+            }
+            result.set(i, sum);
+        }
+        return result;
+    }
+
+    public static DenseMatrix transpose(Matrix matrix) {
+        DenseMatrix result = new DenseMatrix(matrix.getColumnDimension(), matrix.getRowDimension());
+        for (int i = 0; i < matrix.getRowDimension(); i++) {
+            for (int j = 0; j < matrix.getColumnDimension(); j++) {
+                result.set(j, i, matrix.get(i, j));
+            }
+        }
+        return result;
+    }
+
+    public static void assertMatrixEquals(Matrix expected, Matrix actual, double tolerance) {
+        assertEquals(expected.getRowDimension(), actual.getRowDimension(), "row dimension");
+        assertEquals(expected.getColumnDimension(), actual.getColumnDimension(), "column dimension");
+        for (int i = 0; i < expected.getRowDimension(); i++) {
+            for (int j = 0; j < expected.getColumnDimension(); j++) {
+                if (Math.abs(expected.get(i, j) - actual.get(i, j)) > tolerance)
+                    fail("Element [" + i + ", " + j + "] expected " + expected.get(i, j) + " but was " + actual.get(i, j));
+            }
+        }
+    }
+
+    public static void assertVectorEquals(Vector expected, Vector actual, double tolerance) {
+        assertEquals(expected.getDimension(), actual.getDimension(), "dimension");
+        for (int i = 0; i < expected.getDimension(); i++) {
+            if (Math.abs(expected.get(i) - actual.get(i)) > tolerance)
+                fail("Element [" + i + "] expected " + expected.get(i) + " but was " + actual.get(i));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package linear.decompose;
+
+import linear.exceptions.NonPositiveDefiniteMatrixException;
+import linear.matrix.BandMatrix;
+import linear.matrix.DenseMatrix;
+import linear.matrix.Matrix;
+import linear.matrix.SymmetricPackedMatrix;
+import linear.vector.Vector;
+import org.junit.jupiter.api.Test;
+
+import static linear.TestMatrices.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CholeskyDecomposerTest {
+
+    private static void assertReconstructs(Matrix expected, CholeskyDecomposer decomposer) {
+        Matrix L = decomposer.getL();
+        for (int i = 0; i < L.getRowDimension(); i++) {
+            for (int j = i + 1; j < L.getColumnDimension(); j++) {
+                assertEquals(0., L.get(i, j), "upper triangle of L");
+            }
+        }
+        assertMatrixEquals(expected, product(L, transpose(L)), 1e-8);
+    }
+
+    private static DenseMatrix plusOuter(Matrix matrix, Vector u, double sign) {
+        DenseMatrix result = DenseMatrix.copyOf(matrix);
+        for (int i = 0; i < result.getRowDimension(); i++) {
+            for (int j = 0; j < result.getColumnDimension(); j++) {
+                result.set(i, j, result.get(i, j) + sign * u.get(i) * u.get(j));
+            }
+        }
+        return result;
+    }
+
+    @Test
+    void reconstructsDenseMatrix() {
+        DenseMatrix matrix = randomSpd(150, 1);
+
+        assertReconstructs(matrix, new CholeskyDecomposer(matrix));
+    }
+
+    @Test
+    void reconstructsPackedMatrix() {
+        DenseMatrix matrix = randomSpd(30, 2);
+
+        assertReconstructs(matrix, new CholeskyDecomposer(SymmetricPackedMatrix.copyOf(matrix)));
+    }
+
+    @Test
+    void reconstructsBandMatrix() {
+        int n = 50;
+        BandMatrix band = new BandMatrix(n, 2, 2);
+        DenseMatrix dense = new DenseMatrix(n, n);
+        for (int i = 0; i < n; i++) {
+            for (int j = Math.max(0, i - 2); j <= Math.min(n - 1, i + 2); j++) {
+                double value = (i == j) ? 6. : -1.;
+                band.set(i, j, value);
+                dense.set(i, j, value);
+            }
+        }
+
+        assertReconstructs(dense, new CholeskyDecomposer(band));
+    }
+
+    @Test
+    void updateMatchesDecompositionOfUpdatedMatrix() {
+        DenseMatrix matrix = randomSpd(40, 3);
+        Vector u = randomVector(40, 4);
+        CholeskyDecomposer decomposer = new CholeskyDecomposer(matrix);
+
+        decomposer.update(u);
+
+        DenseMatrix updated = plusOuter(matrix, u, 1.);
+        assertReconstructs(updated, decomposer);
+        Vector x = randomVector(40, 5);
+        assertVectorEquals(x, decomposer.solver().solve(product(updated, x)), 1e-8);
+    }
+
+    @Test
+    void downdateUndoesUpdate() {
+        DenseMatrix matrix = randomSpd(40, 6);
+        Vector u = randomVector(40, 7);
+        CholeskyDecomposer decomposer = new CholeskyDecomposer(matrix);
+
+        decomposer.update(u);
+        decomposer.downdate(u);
+
+        assertReconstructs(matrix, decomposer);
+    }
+
+    @Test
+    void rejectedDowndateLeavesDecompositionValid() {
+        DenseMatrix matrix = new DenseMatrix(new double[][]{{4, 1}, {1, 3}});
+        CholeskyDecomposer decomposer = new CholeskyDecomposer(matrix);
+        Vector u = linear.Vectors.asVector(3., 0.);
+
+        assertThrows(NonPositiveDefiniteMatrixException.class, () -> decomposer.downdate(u));
+        assertReconstructs(matrix, decomposer);
+    }
+
+    @Test
+    void computesDeterminant() {
+        DenseMatrix matrix = new DenseMatrix(new double[][]{{4, 2}, {2, 3}});
+
+        assertEquals(8., new CholeskyDecomposer(matrix).getDeterminant(), 1e-12);
+    }
+
+    @Test
+    void rejectsIndefiniteMatrix() {
+        DenseMatrix matrix = new DenseMatrix(new double[][]{{1, 2}, {2, 1}});
+
+        assertThrows(NonPositiveDefiniteMatrixException.class, () -> new CholeskyDecomposer(matrix));
+    }
+}
@@ -0,0 +1,67 @@
+package linear.decompose;
+
+import linear.matrix.DenseMatrix;
+import linear.matrix.Matrix;
+import linear.vector.Vector;
+import org.junit.jupiter.api.Test;
+
+import static linear.TestMatrices.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EigenDecomposerTest {
+
+    @Test
+    void reconstructsSymmetricMatrix() {
+        DenseMatrix matrix = randomSymmetric(60, 1);
+        EigenDecomposer decomposer = new EigenDecomposer(matrix);
+        Matrix V = decomposer.getV();
+
+        assertTrue(decomposer.hasEigenvectors());
+        assertMatrixEquals(matrix, product(product(V, decomposer.getD()), transpose(V)), 1e-9);
+        Matrix VtV = product(transpose(V), V);
+        for (int i = 0; i < VtV.getRowDimension(); i++) {
+            for (int j = 0; j < VtV.getColumnDimension(); j++) {
+                assertEquals((i == j) ? 1. : 0., VtV.get(i, j), 1e-10, "orthogonality of V");
+            }
+        }
+    }
+
+    @Test
+    void sortsEigenvaluesInAscendingOrder() {
+        Vector eigenvalues = new EigenDecomposer(randomSymmetric(30, 2)).getEigenvalues();
+
+        for (int i = 1; i < eigenvalues.getDimension(); i++) {
+            assertTrue(eigenvalues.get(i - 1) <= eigenvalues.get(i));
+        }
+    }
+
+    @Test
+    void eigenvaluesWithoutEigenvectorsAreSame() {
+        DenseMatrix matrix = randomSymmetric(40, 3);
+        Vector expected = new EigenDecomposer(DenseMatrix.copyOf(matrix)).getEigenvalues();
+        EigenDecomposer decomposer = new EigenDecomposer(matrix, false);
+
+        assertFalse(decomposer.hasEigenvectors());
+        assertVectorEquals(expected, decomposer.getEigenvalues(), 1e-10);
+    }
+
+    @Test
+    void findsKnownEigenvalues() {
+        DenseMatrix matrix = new DenseMatrix(new double[][]{{2, -1, 0}, {-1, 2, -1}, {0, -1, 2}});
+        Vector eigenvalues = new EigenDecomposer(matrix).getEigenvalues();
+
+        assertEquals(2. - Math.sqrt(2.), eigenvalues.get(0), 1e-12);
+        assertEquals(2., eigenvalues.get(1), 1e-12);
+        assertEquals(2. + Math.sqrt(2.), eigenvalues.get(2), 1e-12);
+    }
+
+    @Test
+    void solvesLinearSystem() {
+        DenseMatrix matrix = randomSpd(50, 4);
+        Vector x = randomVector(50, 5);
+
+        assertVectorEquals(x, new EigenDecomposer(matrix).solver().solve(product(matrix, x)), 1e-8);
+    }
+}
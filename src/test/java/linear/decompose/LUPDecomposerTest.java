@@ -0,0 +1,93 @@
+package linear.decompose;
+
+import linear.Matrices;
+import linear.Vectors;
+import linear.exceptions.SingularMatrixException;
+import linear.matrix.DenseMatrix;
+import linear.matrix.Matrix;
+import linear.matrix.OffHeapMatrix;
+import linear.memory.OffHeapArena;
+import linear.vector.Vector;
+import org.junit.jupiter.api.Test;
+
+import static linear.TestMatrices.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LUPDecomposerTest {
+
+    private static void assertReconstructs(Matrix matrix) {
+        LUPDecomposer decomposer = new LUPDecomposer(matrix);
+        Matrix L = decomposer.getL();
+        Matrix U = decomposer.getU();
+        Vector pivot = decomposer.getPivot();
+
+        int n = matrix.getRowDimension();
+        DenseMatrix permuted = new DenseMatrix(n, n);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                permuted.set(i, j, matrix.get((int) pivot.get(i), j));
+            }
+        }
+        assertMatrixEquals(permuted, product(L, U), 1e-9);
+        for (int i = 0; i < n; i++) {
+            assertEquals(1., L.get(i, i), 1e-12);
+        }
+    }
+
+    @Test
+    void reconstructsSmallMatrix() {
+        assertReconstructs(random(7, 7, 1));
+    }
+
+    @Test
+    void reconstructsMatrixLargerThanBlock() {
+        assertReconstructs(random(150, 150, 2));
+    }
+
+    @Test
+    void reconstructsOffHeapMatrix() {
+        DenseMatrix matrix = random(90, 90, 3);
+        try (OffHeapArena arena = new OffHeapArena()) {
+            OffHeapMatrix offHeap = new OffHeapMatrix(arena, 90, 90);
+            for (int i = 0; i < 90; i++) {
+                for (int j = 0; j < 90; j++) {
+                    offHeap.set(i, j, matrix.get(i, j));
+                }
+            }
+            assertReconstructs(offHeap);
+        }
+    }
+
+    @Test
+    void solvesLinearSystem() {
+        DenseMatrix matrix = random(120, 120, 4);
+        Vector x = randomVector(120, 5);
+        Vector b = product(matrix, x);
+
+        assertVectorEquals(x, new LUPDecomposer(matrix).solver().solve(b), 1e-8);
+    }
+
+    @Test
+    void invertsMatrix() {
+        DenseMatrix matrix = random(40, 40, 6);
+        Matrix inverse = new LUPDecomposer(matrix).solver().invert();
+
+        assertMatrixEquals(Matrices.identity(40), product(matrix, inverse), 1e-9);
+    }
+
+    @Test
+    void computesDeterminant() {
+        DenseMatrix matrix = new DenseMatrix(new double[][]{{0, 2, 1}, {1, 1, 0}, {3, 0, 1}});
+
+        assertEquals(-5., new LUPDecomposer(matrix).getDeterminant(), 1e-12);
+    }
+
+    @Test
+    void rejectsSingularMatrix() {
+        DenseMatrix matrix = new DenseMatrix(new double[][]{{1, 2}, {2, 4}});
+
+        assertThrows(SingularMatrixException.class,
+                () -> new LUPDecomposer(matrix).solver().solve(Vectors.ones(2)));
+    }
+}
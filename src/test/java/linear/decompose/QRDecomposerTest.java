@@ -0,0 +1,62 @@
+package linear.decompose;
+
+import linear.matrix.DenseMatrix;
+import linear.matrix.Matrix;
+import linear.vector.Vector;
+import org.junit.jupiter.api.Test;
+
+import static linear.TestMatrices.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class QRDecomposerTest {
+
+    private static void assertReconstructs(DenseMatrix matrix) {
+        QRDecomposer decomposer = new QRDecomposer(DenseMatrix.copyOf(matrix));
+        Matrix Q = decomposer.getQ();
+        Matrix R = decomposer.getR();
+
+        for (int i = 0; i < R.getRowDimension(); i++) {
+            for (int j = 0; j < Math.min(i, R.getColumnDimension()); j++) {
+                assertEquals(0., R.get(i, j), 1e-12, "lower triangle of R");
+            }
+        }
+        Matrix QtQ = product(transpose(Q), Q);
+        for (int i = 0; i < QtQ.getRowDimension(); i++) {
+            for (int j = 0; j < QtQ.getColumnDimension(); j++) {
+                assertEquals((i == j) ? 1. : 0., QtQ.get(i, j), 1e-10, "orthogonality of Q");
+            }
+        }
+        assertMatrixEquals(matrix, product(Q, R), 1e-9);
+    }
+
+    @Test
+    void reconstructsSquareMatrix() {
+        assertReconstructs(random(20, 20, 1));
+    }
+
+    @Test
+    void reconstructsMatrixWiderThanPanel() {
+        assertReconstructs(random(130, 130, 2));
+    }
+
+    @Test
+    void reconstructsTallMatrix() {
+        assertReconstructs(random(90, 40, 3));
+    }
+
+    @Test
+    void solvesLinearSystem() {
+        DenseMatrix matrix = random(100, 100, 4);
+        Vector x = randomVector(100, 5);
+
+        assertVectorEquals(x, new QRDecomposer(matrix).solver().solve(product(matrix, x)), 1e-8);
+    }
+
+    @Test
+    void determinantMatchesLUP() {
+        DenseMatrix matrix = random(12, 12, 6);
+        double expected = new LUPDecomposer(DenseMatrix.copyOf(matrix)).getDeterminant();
+
+        assertEquals(expected, new QRDecomposer(matrix).getDeterminant(), 1e-9 * Math.abs(expected));
+    }
+}
@@ -0,0 +1,135 @@
+package linear.expression;
+
+import linear.matrix.DenseMatrix;
+import linear.matrix.Matrix;
+import linear.vector.ArrayVector;
+import linear.vector.StridedViewVector;
+import linear.vector.Vector;
+import org.junit.jupiter.api.Test;
+
+import static linear.TestMatrices.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Evaluation into a target which shares storage with an operand must give the same result as evaluation into
+ * a fresh matrix or vector
+ */
+class AliasingTest {
+
+    private static DenseMatrix symmetricPart(Matrix matrix) {
+        int n = matrix.getRowDimension();
+        DenseMatrix expected = new DenseMatrix(n, n);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                expected.set(i, j, matrix.get(i, j) + matrix.get(j, i));
+            }
+        }
+        return expected;
+    }
+
+    private static Vector range(int n) {
+        Vector vector = new ArrayVector(n);
+        for (int i = 0; i < n; i++) {
+            vector.set(i, i);
+        }
+        return vector;
+    }
+
+    @Test
+    void linearCombinationWithTransposeOfTarget() {
+        DenseMatrix original = random(7, 7, 1);
+        DenseMatrix matrix = original.copy();
+
+        matrix.lazy().plus(matrix.transpose()).evaluateInto(matrix);
+
+        assertMatrixEquals(symmetricPart(original), matrix, 1e-15);
+    }
+
+    @Test
+    void zippedExpressionWithTransposeOfTarget() {
+        DenseMatrix original = random(7, 7, 2);
+        DenseMatrix matrix = original.copy();
+
+        matrix.lazy().combine(MatrixExpression.of(matrix.transpose()), Double::sum).evaluateInto(matrix);
+
+        assertMatrixEquals(symmetricPart(original), matrix, 1e-15);
+    }
+
+    @Test
+    void evaluationIntoTransposedView() {
+        DenseMatrix original = random(7, 7, 3);
+        DenseMatrix matrix = original.copy();
+        Matrix transposed = matrix.transpose();
+
+        MatrixExpression.of(transposed).plus(matrix).evaluateInto(transposed);
+
+        assertMatrixEquals(symmetricPart(original), transposed, 1e-15);
+    }
+
+    @Test
+    void overlappingBlocks() {
+        int n = 7;
+        DenseMatrix original = random(n, n, 4);
+        DenseMatrix matrix = original.copy();
+        Matrix below = matrix.subMatrix(1, n, 0, n - 1);
+        Matrix right = matrix.subMatrix(0, n - 1, 1, n);
+
+        MatrixExpression.of(below).plus(right).evaluateInto(right);
+
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = 0; j < n - 1; j++) {
+                assertEquals(original.get(i + 1, j) + original.get(i, j + 1), right.get(i, j), 1e-15);
+            }
+        }
+    }
+
+    @Test
+    void targetItselfIsNotCopied() {
+        DenseMatrix original = random(5, 5, 5);
+        DenseMatrix matrix = original.copy();
+
+        matrix.lazy().plus(matrix).scale(0.5).evaluateInto(matrix);
+
+        assertMatrixEquals(original, matrix, 1e-15);
+    }
+
+    @Test
+    void overlappingSlices() {
+        Vector vector = range(10);
+        Vector head = vector.slice(0, 9);
+        Vector tail = vector.slice(1, 10);
+
+        VectorExpression.of(head).plus(tail).evaluateInto(tail);
+
+        for (int i = 0; i < 9; i++) {
+            assertEquals(2 * i + 1, tail.get(i));
+        }
+    }
+
+    @Test
+    void overlappingStridedViews() {
+        ArrayVector vector = (ArrayVector) range(10);
+        Vector even = new StridedViewVector(vector.getData(), 0, 2, 5);
+        Vector head = new StridedViewVector(vector.getData(), 0, 1, 5);
+
+        VectorExpression.of(head).plus(even).evaluateInto(even);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(3 * i, even.get(i));
+        }
+    }
+
+    @Test
+    void mappedRowViewIntoColumnView() {
+        int n = 6;
+        DenseMatrix original = random(n, n, 6);
+        DenseMatrix matrix = original.copy();
+        Vector column = matrix.columnView(0);
+
+        VectorExpression.of(matrix.rowView(0)).map(x -> 2. * x).evaluateInto(column);
+
+        for (int i = 0; i < n; i++) {
+            assertEquals(2. * original.get(0, i), matrix.get(i, 0), 1e-15);
+        }
+    }
+}
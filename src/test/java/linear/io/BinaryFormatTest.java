@@ -0,0 +1,166 @@
+package linear.io;
+
+import linear.linalg.Parallelism;
+import linear.matrix.DenseMatrix;
+import linear.matrix.FloatMatrix;
+import linear.matrix.Matrix;
+import linear.matrix.OffHeapMatrix;
+import linear.memory.OffHeapArena;
+import linear.vector.Vector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static linear.TestMatrices.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryFormatTest {
+
+    @TempDir
+    Path directory;
+
+    private static byte[] toBytes(Matrix matrix, boolean columns) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (columns) {
+            BinaryFormat.writeColumns(matrix, Channels.newChannel(out));
+        } else {
+            BinaryFormat.write(matrix, Channels.newChannel(out));
+        }
+        return out.toByteArray();
+    }
+
+    private Path file(Matrix matrix, boolean columns) throws IOException {
+        Path path = directory.resolve(columns ? "columns.bin" : "rows.bin");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (columns) {
+                BinaryFormat.writeColumns(matrix, channel);
+            } else {
+                BinaryFormat.write(matrix, channel);
+            }
+        }
+        return path;
+    }
+
+    @Test
+    void roundTripsRowMajorMatrix() throws IOException {
+        DenseMatrix matrix = random(37, 11, 1);
+        byte[] bytes = toBytes(matrix, false);
+
+        assertEquals(BinaryFormat.HEADER_BYTES + 37 * 11 * Double.BYTES, bytes.length);
+        assertMatrixEquals(matrix, BinaryFormat.read(Channels.newChannel(new ByteArrayInputStream(bytes))), 0.);
+    }
+
+    @Test
+    void roundTripsColumnMajorMatrix() throws IOException {
+        DenseMatrix matrix = random(23, 9, 2);
+        byte[] bytes = toBytes(matrix, true);
+
+        assertMatrixEquals(matrix, BinaryFormat.read(Channels.newChannel(new ByteArrayInputStream(bytes))), 0.);
+    }
+
+    @Test
+    void roundTripsFloatMatrix() throws IOException {
+        FloatMatrix matrix = FloatMatrix.copyOf(random(15, 6, 3));
+        byte[] bytes = toBytes(matrix, false);
+
+        assertEquals(BinaryFormat.HEADER_BYTES + 15 * 6 * Float.BYTES, bytes.length);
+        Matrix read = BinaryFormat.read(Channels.newChannel(new ByteArrayInputStream(bytes)));
+        assertInstanceOf(FloatMatrix.class, read);
+        assertMatrixEquals(matrix, read, 0.);
+    }
+
+    @Test
+    void roundTripsVector() throws IOException {
+        Vector vector = randomVector(100, 4);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryFormat.write(vector, Channels.newChannel(out));
+
+        Vector read = BinaryFormat.readVector(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())));
+
+        assertVectorEquals(vector, read, 0.);
+    }
+
+    @Test
+    void readsFileIntoArena() throws IOException {
+        DenseMatrix matrix = random(40, 20, 5);
+        Path path = file(matrix, false);
+
+        try (OffHeapArena arena = new OffHeapArena();
+             FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Matrix read = BinaryFormat.read(channel, arena);
+            assertMatrixEquals(matrix, read, 0.);
+        }
+    }
+
+    @Test
+    void mapsFile() throws IOException {
+        DenseMatrix matrix = random(30, 12, 6);
+
+        assertMatrixEquals(matrix, BinaryFormat.map(file(matrix, false)), 0.);
+        assertMatrixEquals(matrix, BinaryFormat.map(file(matrix, true)), 0.);
+    }
+
+    @Test
+    void readsSelectedColumns() throws IOException {
+        DenseMatrix matrix = random(50, 10, 7);
+        int[] selection = {7, 2, 9};
+        DenseMatrix expected = new DenseMatrix(50, selection.length);
+        for (int i = 0; i < 50; i++) {
+            for (int k = 0; k < selection.length; k++) {
+                expected.set(i, k, matrix.get(i, selection[k]));
+            }
+        }
+
+        assertMatrixEquals(expected, BinaryFormat.readColumns(file(matrix, true), selection), 0.);
+        assertMatrixEquals(expected, BinaryFormat.readColumns(file(matrix, false), selection), 0.);
+        assertMatrixEquals(matrix, BinaryFormat.readColumns(file(matrix, true)), 0.);
+    }
+
+    @Test
+    void readsSelectedColumnsInParallelBlocks() throws IOException {
+        int rows = 300_000;
+        DenseMatrix matrix = random(rows, 3, 8);
+        Path path = file(matrix, true);
+
+        boolean enabled = Parallelism.isEnabled();
+        int threshold = Parallelism.getThreshold();
+        Parallelism.setEnabled(true);
+        Parallelism.setThreshold(1);
+        try (OffHeapArena arena = new OffHeapArena()) {
+            DenseMatrix onHeap = BinaryFormat.readColumns(path, 2, 0);
+            OffHeapMatrix offHeap = BinaryFormat.readColumns(path, arena, 1);
+            for (int i = 0; i < rows; i++) {
+                assertEquals(matrix.get(i, 2), onHeap.get(i, 0));
+                assertEquals(matrix.get(i, 0), onHeap.get(i, 1));
+                assertEquals(matrix.get(i, 1), offHeap.get(i, 0));
+            }
+        } finally {
+            Parallelism.setEnabled(enabled);
+            Parallelism.setThreshold(threshold);
+        }
+    }
+
+    @Test
+    void rejectsForeignData() throws IOException {
+        Path path = directory.resolve("foreign.bin");
+        Files.write(path, new byte[64]);
+
+        assertThrows(IOException.class, () -> BinaryFormat.read(path));
+    }
+
+    @Test
+    void rejectsColumnOutOfBounds() throws IOException {
+        Path path = file(random(5, 3, 9), true);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> BinaryFormat.readColumns(path, 3));
+    }
+}
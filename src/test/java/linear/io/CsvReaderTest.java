@@ -0,0 +1,101 @@
+package linear.io;
+
+import linear.linalg.Parallelism;
+import linear.matrix.DenseMatrix;
+import linear.matrix.OffHeapMatrix;
+import linear.memory.OffHeapArena;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static linear.TestMatrices.assertMatrixEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTest {
+
+    @TempDir
+    Path directory;
+
+    private static DenseMatrix read(CsvReader reader, String text) throws IOException {
+        return reader.read(Channels.newChannel(new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII))));
+    }
+
+    @Test
+    void readsRowsAndColumns() throws IOException {
+        DenseMatrix matrix = read(new CsvReader(), "1,2,3\n4.5,-6e2,7E-1\n");
+
+        assertMatrixEquals(new DenseMatrix(new double[][]{{1, 2, 3}, {4.5, -600, 0.7}}), matrix, 0.);
+    }
+
+    @Test
+    void skipsHeaderAndBlankLines() throws IOException {
+        DenseMatrix matrix = read(new CsvReader(';', true), "a;b\r\n\r\n1;2\r\n\n3;4");
+
+        assertMatrixEquals(new DenseMatrix(new double[][]{{1, 2}, {3, 4}}), matrix, 0.);
+    }
+
+    @Test
+    void readsQuotedAndEmptyFields() throws IOException {
+        DenseMatrix matrix = read(new CsvReader(), " \"1.5\" ,,  2 \n3,\"\",4\n");
+
+        assertEquals(1.5, matrix.get(0, 0));
+        assertTrue(Double.isNaN(matrix.get(0, 1)));
+        assertEquals(2., matrix.get(0, 2));
+        assertTrue(Double.isNaN(matrix.get(1, 1)));
+        assertEquals(4., matrix.get(1, 2));
+    }
+
+    @Test
+    void rejectsRaggedLines() {
+        assertThrows(IOException.class, () -> read(new CsvReader(), "1,2\n3\n"));
+    }
+
+    @Test
+    void rejectsNonNumericField() {
+        assertThrows(IOException.class, () -> read(new CsvReader(), "1,x\n"));
+    }
+
+    @Test
+    void roundTripsFileInParallelSegments() throws IOException {
+        int rows = 200_000;
+        int columns = 4;
+        Random random = new Random(1);
+        DenseMatrix expected = new DenseMatrix(rows, columns);
+        StringBuilder text = new StringBuilder("w,x,y,z\n");
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                double value = random.nextGaussian() * Math.pow(10, random.nextInt(20) - 10);
+                expected.set(i, j, value);
+                text.append(value).append((j < columns - 1) ? ',' : '\n');
+            }
+        }
+        Path path = directory.resolve("data.csv");
+        Files.writeString(path, text, StandardCharsets.US_ASCII);
+
+        boolean enabled = Parallelism.isEnabled();
+        int threshold = Parallelism.getThreshold();
+        Parallelism.setEnabled(true);
+        Parallelism.setThreshold(1);
+        try (OffHeapArena arena = new OffHeapArena()) {
+            CsvReader reader = new CsvReader(',', true);
+            assertMatrixEquals(expected, reader.read(path), 0.);
+            OffHeapMatrix offHeap = reader.read(path, arena);
+            assertMatrixEquals(expected, offHeap, 0.);
+        } finally {
+            Parallelism.setEnabled(enabled);
+            Parallelism.setThreshold(threshold);
+        }
+    }
+
+    @Test
+    void rejectsInvalidDelimiter() {
+        assertThrows(IllegalArgumentException.class, () -> new CsvReader('"', false));
+    }
+}
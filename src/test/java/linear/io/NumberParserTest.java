@@ -0,0 +1,83 @@
+package linear.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NumberParserTest {
+
+    private static double parse(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        return NumberParser.parse(bytes, 0, bytes.length);
+    }
+
+    private static void assertParsedAsJdk(String text) {
+        double expected = Double.parseDouble(text);
+        double actual = parse(text);
+        assertEquals(Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(actual), text);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "0", "-0", "+0.0", "1", "-1", "3.14159", ".5", "5.", "1e10", "1E-10", "-2.5e+3", "123456789012345678",
+            "1234567890123456789012", "0.1", "0.2", "0.3", "9007199254740993", "1e22", "1e23", "4.9e-324",
+            "2.2250738585072011e-308", "2.2250738585072014e-308", "1.7976931348623157e308", "1e309", "1e-400",
+            "0.000000000000000000000000000001", "7.2057594037927933e16", "NaN", "Infinity", "-Infinity",
+            "2.4703282292062327e-324", "2.4703282292062328e-324", "8.98846567431158e307", "179769313486231580793728971"
+    })
+    void matchesJdkOnEdgeCases(String text) {
+        assertParsedAsJdk(text);
+    }
+
+    @Test
+    void matchesJdkOnRandomDoubles() {
+        Random random = new Random(1);
+        for (int i = 0; i < 200_000; i++) {
+            double value = Double.longBitsToDouble(random.nextLong());
+            if (Double.isNaN(value)) continue;
+            assertParsedAsJdk(Double.toString(value));
+        }
+    }
+
+    @Test
+    void matchesJdkOnRandomDecimals() {
+        Random random = new Random(2);
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder text = new StringBuilder();
+            if (random.nextBoolean()) text.append('-');
+            int digits = 1 + random.nextInt(25);
+            int point = random.nextInt(digits + 1);
+            for (int d = 0; d < digits; d++) {
+                if (d == point) text.append('.');
+                text.append((char) ('0' + random.nextInt(10)));
+            }
+            text.append('e').append(random.nextInt(700) - 350);
+            assertParsedAsJdk(text.toString());
+        }
+    }
+
+    @Test
+    void ignoresWhitespaceAndQuotes() {
+        assertEquals(2.5, parse("  \"2.5\"\t"));
+        assertTrue(Double.isNaN(parse("   ")));
+        assertTrue(Double.isNaN(parse("\"\"")));
+    }
+
+    @Test
+    void parsesRangeInsideLargerText() {
+        byte[] bytes = "12,345.5,6".getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals(345.5, NumberParser.parse(bytes, 3, 8));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"abc", "1.2.3", "1e", "--1", "1e+", "0x10", "1,5"})
+    void rejectsMalformedNumbers(String text) {
+        assertThrows(NumberFormatException.class, () -> parse(text));
+    }
+}
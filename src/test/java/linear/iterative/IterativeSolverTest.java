@@ -0,0 +1,207 @@
+package linear.iterative;
+
+import linear.exceptions.NonConvergenceException;
+import linear.exceptions.NonPositiveDefiniteMatrixException;
+import linear.matrix.CSRMatrix;
+import linear.matrix.DenseMatrix;
+import linear.matrix.Matrix;
+import linear.matrix.SparseMatrixBuilder;
+import linear.operator.LinearOperator;
+import linear.vector.ArrayVector;
+import linear.vector.Vector;
+import org.junit.jupiter.api.Test;
+
+import static linear.TestMatrices.*;
+import static linear.Vectors.asVector;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IterativeSolverTest {
+
+    /**
+     * Creates the five-point Laplacian on a square grid with the given number of points per side
+     */
+    private static CSRMatrix laplacian(int side) {
+        int n = side * side;
+        SparseMatrixBuilder builder = new SparseMatrixBuilder(n, n);
+        for (int i = 0; i < side; i++) {
+            for (int j = 0; j < side; j++) {
+                int k = i * side + j;
+                builder.add(k, k, 4.);
+                if (i > 0) builder.add(k, k - side, -1.);
+                if (i < side - 1) builder.add(k, k + side, -1.);
+                if (j > 0) builder.add(k, k - 1, -1.);
+                if (j < side - 1) builder.add(k, k + 1, -1.);
+            }
+        }
+        return builder.buildCSR();
+    }
+
+    private static double relativeResidual(Matrix matrix, Vector x, Vector b) {
+        Vector r = product(matrix, x);
+        double residual = 0.;
+        double norm = 0.;
+        for (int i = 0; i < b.getDimension(); i++) {
+            residual += (b.get(i) - r.get(i)) * (b.get(i) - r.get(i));
+            norm += b.get(i) * b.get(i);
+        }
+        return Math.sqrt(residual / norm);
+    }
+
+    @Test
+    void conjugateGradientsSolveSparseSystem() {
+        CSRMatrix matrix = laplacian(20);
+        Vector b = randomVector(400, 1);
+        ConjugateGradientSolver solver = new ConjugateGradientSolver(matrix, null, 1e-10, 1000);
+
+        Vector x = solver.solve(b);
+
+        assertTrue(relativeResidual(matrix, x, b) <= 1e-9);
+        assertTrue(solver.getResidual() <= 1e-10);
+    }
+
+    @Test
+    void preconditionersReduceIterations() {
+        CSRMatrix matrix = laplacian(30);
+        Vector b = randomVector(900, 2);
+        ConjugateGradientSolver plain = new ConjugateGradientSolver(matrix, null, 1e-10, 2000);
+        ConjugateGradientSolver jacobi = new ConjugateGradientSolver(matrix, new JacobiPreconditioner(matrix), 1e-10, 2000);
+        ConjugateGradientSolver cholesky = new ConjugateGradientSolver(
+                matrix, new IncompleteCholeskyPreconditioner(matrix), 1e-10, 2000);
+
+        plain.solve(b);
+        Vector x = jacobi.solve(b);
+        Vector y = cholesky.solve(b);
+
+        assertTrue(relativeResidual(matrix, x, b) <= 1e-9);
+        assertTrue(relativeResidual(matrix, y, b) <= 1e-9);
+        assertTrue(jacobi.getIterationCount() <= plain.getIterationCount());
+        assertTrue(cholesky.getIterationCount() < plain.getIterationCount());
+    }
+
+    @Test
+    void incompleteCholeskyOfTridiagonalMatrixIsExact() {
+        int n = 50;
+        SparseMatrixBuilder builder = new SparseMatrixBuilder(n, n);
+        for (int i = 0; i < n; i++) {
+            builder.add(i, i, 3.);
+            if (i > 0) builder.add(i, i - 1, -1.);
+            if (i < n - 1) builder.add(i, i + 1, -1.);
+        }
+        CSRMatrix matrix = builder.buildCSR();
+        Vector x = randomVector(n, 3);
+
+        Vector y = new IncompleteCholeskyPreconditioner(matrix).apply(product(matrix, x), new ArrayVector(n));
+
+        assertVectorEquals(x, y, 1e-10);
+    }
+
+    @Test
+    void jacobiPreconditionerDividesByDiagonal() {
+        DenseMatrix matrix = new DenseMatrix(new double[][]{{2, 1}, {1, 4}});
+
+        Vector y = new JacobiPreconditioner(matrix).apply(asVector(2., 2.), new ArrayVector(2));
+
+        assertVectorEquals(asVector(1., 0.5), y, 0.);
+    }
+
+    @Test
+    void conjugateGradientsRejectIndefiniteOperator() {
+        DenseMatrix matrix = new DenseMatrix(new double[][]{{1, 0}, {0, -1}});
+        ConjugateGradientSolver solver = new ConjugateGradientSolver(matrix);
+
+        assertThrows(NonPositiveDefiniteMatrixException.class, () -> solver.solve(asVector(1., 1.)));
+    }
+
+    @Test
+    void minresSolvesIndefiniteSystem() {
+        DenseMatrix matrix = randomSymmetric(60, 4);
+        Vector expected = randomVector(60, 5);
+        Vector b = product(matrix, expected);
+        MinresSolver solver = new MinresSolver(matrix, null, 1e-12, 1000);
+
+        assertVectorEquals(expected, solver.solve(b), 1e-6);
+    }
+
+    @Test
+    void minresSolvesPreconditionedSystem() {
+        CSRMatrix matrix = laplacian(15);
+        Vector b = randomVector(225, 6);
+        MinresSolver solver = new MinresSolver(matrix, new JacobiPreconditioner(matrix), 1e-10, 1000);
+
+        assertTrue(relativeResidual(matrix, solver.solve(b), b) <= 1e-8);
+    }
+
+    @Test
+    void gmresSolvesNonSymmetricSystem() {
+        int n = 80;
+        DenseMatrix matrix = random(n, n, 7);
+        for (int i = 0; i < n; i++) {
+            matrix.set(i, i, matrix.get(i, i) + 2. * Math.sqrt(n));
+        }
+        Vector expected = randomVector(n, 8);
+        GmresSolver solver = new GmresSolver(matrix, null, 1e-12, 1000, 20);
+
+        assertVectorEquals(expected, solver.solve(product(matrix, expected)), 1e-8);
+    }
+
+    @Test
+    void gmresSolvesMatrixFreeOperator() {
+        int n = 100;
+        LinearOperator operator = new LinearOperator() {
+            @Override
+            public int getRowDimension() {
+                return n;
+            }
+
+            @Override
+            public int getColumnDimension() {
+                return n;
+            }
+
+            @Override
+            public Vector apply(Vector in, Vector out) {
+                for (int i = 0; i < n; i++) {
+                    out.set(i, 3. * in.get(i) - ((i > 0) ? in.get(i - 1) : 0.));
+                }
+                return out;
+            }
+        };
+        Vector b = randomVector(n, 9);
+
+        Vector x = new GmresSolver(operator).solve(b);
+
+        assertVectorEquals(b, operator.apply(x, new ArrayVector(n)), 1e-8);
+    }
+
+    @Test
+    void nonConvergenceThrowsUnlessLastIterateIsReturned() {
+        CSRMatrix matrix = laplacian(20);
+        Vector b = randomVector(400, 10);
+        ConjugateGradientSolver solver = new ConjugateGradientSolver(matrix, null, 1e-12, 3);
+
+        NonConvergenceException exception = assertThrows(NonConvergenceException.class, () -> solver.solve(b));
+        assertNotNull(exception.getMessage());
+
+        solver.setReturnLastIterate(true);
+        Vector x = solver.solve(b);
+        assertEquals(3, solver.getIterationCount());
+        assertTrue(relativeResidual(matrix, x, b) < 1.);
+    }
+
+    @Test
+    void symmetricOperatorIsSolvedMatrixFree() {
+        int n = 40;
+        LinearOperator operator = LinearOperator.symmetric(n, (in, out) -> {
+            for (int i = 0; i < n; i++) {
+                out.set(i, (i + 1.) * in.get(i));
+            }
+        });
+        Vector b = randomVector(n, 11);
+
+        Vector x = new ConjugateGradientSolver(operator).solve(b);
+
+        for (int i = 0; i < n; i++) {
+            assertEquals(b.get(i) / (i + 1.), x.get(i), 1e-8);
+        }
+    }
+}
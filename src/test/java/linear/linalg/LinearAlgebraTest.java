@@ -0,0 +1,158 @@
+package linear.linalg;
+
+import linear.matrix.CSCMatrix;
+import linear.matrix.CSRMatrix;
+import linear.matrix.DenseMatrix;
+import linear.matrix.Matrix;
+import linear.matrix.SparseMatrixBuilder;
+import linear.vector.ArrayVector;
+import linear.vector.SparseVector;
+import linear.vector.Vector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static linear.TestMatrices.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinearAlgebraTest {
+
+    private boolean enabled;
+    private int threshold;
+
+    @BeforeEach
+    void enableParallelism() {
+        enabled = Parallelism.isEnabled();
+        threshold = Parallelism.getThreshold();
+        Parallelism.setEnabled(true);
+        Parallelism.setThreshold(1);
+    }
+
+    @AfterEach
+    void restoreParallelism() {
+        Parallelism.setEnabled(enabled);
+        Parallelism.setThreshold(threshold);
+    }
+
+    private static SparseMatrixBuilder randomSparse(int rows, int columns, double density, long seed) {
+        Random random = new Random(seed);
+        SparseMatrixBuilder builder = new SparseMatrixBuilder(rows, columns);
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                if (random.nextDouble() < density) builder.add(i, j, random.nextGaussian());
+            }
+        }
+        return builder;
+    }
+
+    @Test
+    void multipliesSparseMatricesInEveryLayout() {
+        SparseMatrixBuilder a = randomSparse(40, 30, 0.1, 1);
+        SparseMatrixBuilder b = randomSparse(30, 50, 0.1, 2);
+        CSRMatrix aRows = a.buildCSR();
+        CSCMatrix aColumns = a.buildCSC();
+        CSRMatrix bRows = b.buildCSR();
+        CSCMatrix bColumns = b.buildCSC();
+        DenseMatrix expected = product(aRows, bRows);
+
+        for (Matrix left : new Matrix[]{aRows, aColumns}) {
+            for (Matrix right : new Matrix[]{bRows, bColumns}) {
+                assertMatrixEquals(expected, LinearAlgebra.multiply(left, right), 1e-12);
+            }
+        }
+    }
+
+    @Test
+    void multipliesTransposedSparseMatrices() {
+        CSRMatrix a = randomSparse(30, 40, 0.1, 3).buildCSR();
+        CSCMatrix b = randomSparse(50, 30, 0.1, 4).buildCSC();
+        DenseMatrix expected = product(transpose(a), transpose(b));
+
+        assertMatrixEquals(expected, LinearAlgebra.multiply(a.transpose(), b.transpose()), 1e-12);
+    }
+
+    @Test
+    void addingDenseToSparseReturnsDenseResult() {
+        int n = 50;
+        CSRMatrix sparse = randomSparse(n, n, 0.05, 5).buildCSR();
+        DenseMatrix dense = random(n, n, 6);
+        int nonZeros = sparse.getNonZeroCount();
+        DenseMatrix expected = new DenseMatrix(n, n);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                expected.set(i, j, sparse.get(i, j) + dense.get(i, j));
+            }
+        }
+
+        Matrix sum = LinearAlgebra.add(sparse, dense, Mutability.MUTABLE);
+
+        assertInstanceOf(DenseMatrix.class, sum);
+        assertMatrixEquals(expected, sum, 1e-15);
+        assertEquals(nonZeros, sparse.getNonZeroCount());
+    }
+
+    @Test
+    void addingDenseToSparseVectorReturnsDenseResult() {
+        SparseVector sparse = new SparseVector(1000);
+        for (int i = 0; i < 1000; i += 100) {
+            sparse.set(i, 1.);
+        }
+        Vector dense = randomVector(1000, 7);
+
+        Vector sum = LinearAlgebra.add(sparse, dense, Mutability.MUTABLE);
+        Vector difference = LinearAlgebra.subtract(sparse, dense, Mutability.MUTABLE);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(sparse.get(i) + dense.get(i), sum.get(i));
+            assertEquals(sparse.get(i) - dense.get(i), difference.get(i));
+        }
+        assertEquals(10, sparse.getNonZeroCount());
+    }
+
+    @Test
+    void addingToDenseMatrixOverwritesIt() {
+        DenseMatrix dense = random(10, 10, 8);
+        CSRMatrix sparse = randomSparse(10, 10, 0.2, 9).buildCSR();
+
+        assertSame(dense, LinearAlgebra.add(dense, sparse, Mutability.MUTABLE));
+    }
+
+    @Test
+    void applyCallsOperatorInOrder() {
+        int[] counter = {0};
+        DenseMatrix matrix = new DenseMatrix(300, 300);
+
+        LinearAlgebra.apply(matrix, x -> counter[0]++, Mutability.MUTABLE);
+
+        for (int i = 0; i < 300; i++) {
+            for (int j = 0; j < 300; j++) {
+                assertEquals(i * 300 + j, matrix.get(i, j));
+            }
+        }
+    }
+
+    @Test
+    void applyToVectorCallsOperatorInOrder() {
+        int[] counter = {0};
+        Vector vector = new ArrayVector(100_000);
+
+        LinearAlgebra.apply(vector, x -> counter[0]++, Mutability.MUTABLE);
+
+        for (int i = 0; i < vector.getDimension(); i++) {
+            assertEquals(i, vector.get(i));
+        }
+    }
+
+    @Test
+    void parallelApplyMatchesApply() {
+        DenseMatrix matrix = random(300, 300, 10);
+        DenseMatrix other = random(300, 300, 11);
+
+        Matrix expected = LinearAlgebra.apply(matrix, other, (x, y) -> x * y + 1., Mutability.IMMUTABLE);
+        Matrix actual = LinearAlgebra.parallelApply(matrix, other, (x, y) -> x * y + 1., new DenseMatrix(300, 300));
+
+        assertMatrixEquals(expected, actual, 0.);
+    }
+}
@@ -0,0 +1,66 @@
+package linear.matrix;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BandMatrixTest {
+
+    private static BandMatrix tridiagonal(int n) {
+        BandMatrix matrix = new BandMatrix(n, 1, 1);
+        for (int i = 0; i < n; i++) {
+            for (int j = Math.max(0, i - 1); j < Math.min(n, i + 2); j++) {
+                matrix.set(i, j, 10 * i + j + 1);
+            }
+        }
+        return matrix;
+    }
+
+    @Test
+    void rejectedRowSwapLeavesMatrixUnchanged() {
+        BandMatrix matrix = tridiagonal(5);
+        double[] before = matrix.getData().clone();
+
+        assertThrows(IllegalArgumentException.class, () -> matrix.swapRows(0, 2));
+        assertArrayEquals(before, matrix.getData());
+    }
+
+    @Test
+    void rejectedColumnSwapLeavesMatrixUnchanged() {
+        BandMatrix matrix = tridiagonal(5);
+        double[] before = matrix.getData().clone();
+
+        assertThrows(IllegalArgumentException.class, () -> matrix.swapColumns(1, 4));
+        assertArrayEquals(before, matrix.getData());
+    }
+
+    @Test
+    void swapsRowsInsideBand() {
+        BandMatrix matrix = new BandMatrix(4, 2, 2);
+        matrix.set(0, 0, 1.);
+        matrix.set(1, 1, 2.);
+        matrix.set(0, 2, 3.);
+
+        matrix.swapRows(0, 1);
+
+        assertEquals(2., matrix.get(0, 1));
+        assertEquals(1., matrix.get(1, 0));
+        assertEquals(3., matrix.get(1, 2));
+        assertEquals(0., matrix.get(0, 0));
+    }
+
+    @Test
+    void rejectsBandLargerThanArray() {
+        assertThrows(IllegalArgumentException.class, () -> new BandMatrix(100_000, 100_000, 30_000, 30_000));
+        assertThrows(IllegalArgumentException.class, () -> new BandMatrix(3, 3, Integer.MAX_VALUE, 1));
+    }
+
+    @Test
+    void readsZeroOutsideBand() {
+        BandMatrix matrix = tridiagonal(5);
+
+        assertEquals(0., matrix.get(0, 3));
+        assertThrows(IllegalArgumentException.class, () -> matrix.set(0, 3, 1.));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(5, 4));
+    }
+}
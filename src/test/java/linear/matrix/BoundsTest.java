@@ -0,0 +1,80 @@
+package linear.matrix;
+
+import linear.memory.OffHeapArena;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Element access outside of a matrix must fail instead of reaching neighbouring storage, which for views and
+ * chunked buffers is still inside the backing array
+ */
+class BoundsTest {
+
+    private static void assertOutOfBounds(Executable executable) {
+        assertThrows(IndexOutOfBoundsException.class, executable);
+    }
+
+    private static void assertChecksBounds(Matrix matrix) {
+        int rows = matrix.getRowDimension();
+        int columns = matrix.getColumnDimension();
+
+        assertOutOfBounds(() -> matrix.get(0, columns));
+        assertOutOfBounds(() -> matrix.get(rows, 0));
+        assertOutOfBounds(() -> matrix.get(-1, 0));
+        assertOutOfBounds(() -> matrix.get(0, -1));
+        assertOutOfBounds(() -> matrix.set(0, columns, 1.));
+        assertOutOfBounds(() -> matrix.set(rows, 0, 1.));
+        assertOutOfBounds(() -> matrix.getRow(rows));
+        assertOutOfBounds(() -> matrix.getColumn(columns));
+    }
+
+    private static DenseMatrix filled(int rows, int columns) {
+        DenseMatrix matrix = new DenseMatrix(rows, columns);
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                matrix.set(i, j, i * columns + j);
+            }
+        }
+        return matrix;
+    }
+
+    @Test
+    void denseMatrixChecksBounds() {
+        assertChecksBounds(filled(3, 4));
+    }
+
+    @Test
+    void denseSubMatrixChecksBounds() {
+        DenseMatrix matrix = filled(5, 5);
+        DenseMatrix block = new DenseMatrix(2, 2, matrix.getData(), 6, 5);
+
+        assertChecksBounds(block);
+        assertEquals(6., block.get(0, 0));
+        assertEquals(12., block.get(1, 1));
+    }
+
+    @Test
+    void offHeapMatrixChecksBounds() {
+        try (OffHeapArena arena = new OffHeapArena()) {
+            OffHeapMatrix matrix = new OffHeapMatrix(arena, 3, 3);
+            matrix.set(1, 1, 5.);
+
+            assertChecksBounds(matrix);
+            assertOutOfBounds(() -> matrix.getRow(3, new double[3]));
+            assertEquals(5., matrix.get(1, 1));
+            assertEquals(0., matrix.get(2, 2));
+        }
+    }
+
+    @Test
+    void floatMatrixChecksBounds() {
+        FloatMatrix matrix = FloatMatrix.copyOf(filled(3, 3));
+        FloatMatrix block = matrix.subMatrix(1, 3, 1, 3);
+
+        assertChecksBounds(matrix);
+        assertChecksBounds(block);
+        assertEquals(8., block.get(1, 1));
+    }
+}